@@ -0,0 +1,187 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import com.abbos.multicloudstorageengine.config.EncryptionConfig;
+import com.abbos.multicloudstorageengine.config.MemoryStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.EncryptingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor;
+import com.abbos.multicloudstorageengine.provider.encryption.KeyStoreMasterKeyProvider;
+import com.abbos.multicloudstorageengine.provider.memory.MemoryStorageProvider;
+import com.abbos.multicloudstorageengine.provider.memory.OffHeapObjectStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.KeyGenerator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput overhead of client-side envelope encryption.
+ * <p>
+ * The provider operations run against the in-memory provider, so that the cost of transport does not hide
+ * the cost of the cipher, once directly and once through the {@link EncryptingStorageProvider}; the ratio
+ * of the two scores of an operation is the overhead of encryption. {@code encrypt} and {@code decrypt}
+ * measure the {@link Encryptor} alone and do not depend on {@code encrypted}. The master key lives in a
+ * keystore generated for the run. Results depend on the AES and GHASH intrinsics of the JVM, which can be
+ * checked by comparing a run with
+ * {@code -XX:+UnlockDiagnosticVMOptions -XX:-UseAESIntrinsics -XX:-UseGHASHIntrinsics}:
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -jar target/benchmarks.jar EncryptionBenchmark -p objectSize=1MB,64MB -p chunkSize=64KB,1MB -prof gc
+ * </pre>
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:15
+ **/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EncryptionBenchmark {
+
+    private static final String FIXTURE = "fixture/object";
+    private static final String SINK = "sink/object";
+    private static final String MASTER_KEY_ALIAS = "benchmark";
+
+    @State(Scope.Benchmark)
+    public static class Environment {
+
+        /**
+         * Size of the uploaded and downloaded objects, with a {@code KB}, {@code MB} or {@code GB} suffix.
+         */
+        @Param({"64KB", "1MB", "64MB"})
+        public String objectSize;
+
+        /**
+         * Plaintext bytes per authenticated chunk.
+         */
+        @Param({"64KB", "1MB"})
+        public String chunkSize;
+
+        /**
+         * Whether the provider operations go through the encryption stage.
+         */
+        @Param({"false", "true"})
+        public boolean encrypted;
+
+        Path keyStore;
+        ExecutorService executor;
+        Encryptor encryptor;
+        StorageProvider provider;
+        ExecutionContext context;
+        byte[] data;
+        byte[] ciphertext;
+        int size;
+        long rangeOffset;
+        long rangeLength;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, GeneralSecurityException {
+            size = Math.toIntExact(S3Environment.parseSize(objectSize));
+            data = new byte[size];
+            ThreadLocalRandom.current().nextBytes(data);
+            rangeLength = Math.min(size, 64 * 1024);
+            rangeOffset = (size - rangeLength) / 2;
+
+            char[] password = "benchmark".toCharArray();
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            KeyStore store = KeyStore.getInstance("PKCS12");
+            store.load(null, password);
+            store.setEntry(MASTER_KEY_ALIAS, new KeyStore.SecretKeyEntry(generator.generateKey()),
+                    new KeyStore.PasswordProtection(password));
+            keyStore = Files.createTempFile("encryption-benchmark", ".p12");
+            try (OutputStream out = Files.newOutputStream(keyStore)) {
+                store.store(out, password);
+            }
+
+            EncryptionConfig encryptionConfig = new EncryptionConfig();
+            encryptionConfig.setChunkSize(Math.toIntExact(S3Environment.parseSize(chunkSize)));
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            encryptor = new Encryptor(encryptionConfig,
+                    new KeyStoreMasterKeyProvider(keyStore, "PKCS12", password, MASTER_KEY_ALIAS), executor);
+            ciphertext = encryptor.encrypt(data);
+
+            MemoryStorageConfig memoryConfig = new MemoryStorageConfig();
+            memoryConfig.setMaxSize(4L * size + (64L << 20));
+            StorageProvider memory = new MemoryStorageProvider(new OffHeapObjectStore(memoryConfig), memoryConfig);
+            provider = encrypted ? new EncryptingStorageProvider(memory, encryptor) : memory;
+            context = new ExecutionContext.Builder()
+                    .timeout(Duration.ofMinutes(10))
+                    .maxRetries(0)
+                    .build();
+            provider.upload(FIXTURE, data, context);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            if (executor != null) {
+                executor.close();
+            }
+            if (keyStore != null) {
+                Files.deleteIfExists(keyStore);
+            }
+            data = null;
+            ciphertext = null;
+        }
+    }
+
+    @Benchmark
+    public byte[] encrypt(Environment env) {
+        return env.encryptor.encrypt(env.data);
+    }
+
+    @Benchmark
+    public byte[] decrypt(Environment env) {
+        return env.encryptor.decrypt(env.ciphertext);
+    }
+
+    @Benchmark
+    public void upload(Environment env) {
+        env.provider.upload(SINK, env.data, env.context);
+    }
+
+    @Benchmark
+    public void uploadStream(Environment env) {
+        env.provider.upload(SINK, new ByteArrayInputStream(env.data), env.size, env.context);
+    }
+
+    @Benchmark
+    public byte[] download(Environment env) {
+        return env.provider.download(FIXTURE, env.context);
+    }
+
+    @Benchmark
+    public void downloadStream(Environment env) {
+        env.provider.download(FIXTURE, OutputStream.nullOutputStream(), env.context);
+    }
+
+    @Benchmark
+    public byte[] downloadRange(Environment env) {
+        return env.provider.download(FIXTURE, env.rangeOffset, env.rangeLength, env.context);
+    }
+}
@@ -0,0 +1,66 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput and latency of the {@link com.abbos.multicloudstorageengine.provider.aws.S3AsyncStorageProvider}
+ * against the {@link S3StandIn}, on the Netty client with native multipart transfers.
+ * <p>
+ * Each invocation starts {@link S3Environment#concurrency} operations without waiting and then joins
+ * them all, so the score counts batches as in {@link S3StorageProviderBenchmark}.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:15
+ **/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class S3AsyncStorageProviderBenchmark {
+
+    @Benchmark
+    public void upload(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.asyncProvider.upload(env.sinkKey(i), env.data, env.context));
+    }
+
+    @Benchmark
+    public void download(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.asyncProvider.download(S3Environment.FIXTURE, env.context));
+    }
+
+    @Benchmark
+    public void downloadStream(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.asyncProvider.download(S3Environment.FIXTURE, OutputStream.nullOutputStream(),
+                env.context));
+    }
+
+    @Benchmark
+    public void downloadRange(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.asyncProvider.download(S3Environment.FIXTURE, env.rangeOffset, env.rangeLength,
+                env.context));
+    }
+
+    private static void run(S3Environment env, Blackhole blackhole, IntFunction<CompletableFuture<?>> operation) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[env.concurrency];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = operation.apply(i);
+        }
+        for (CompletableFuture<?> future : futures) {
+            blackhole.consume(future.join());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.context.Pair;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.provider.aws.S3AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.aws.S3ReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.aws.S3StorageProvider;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared state of the S3 benchmarks: an {@link S3StandIn}, the clients and providers pointed at it, and
+ * a seeded object of the benchmarked size.
+ * <p>
+ * The clients are built like the ones in
+ * {@link com.abbos.multicloudstorageengine.config.ApplicationConfiguration}, with retries left to the
+ * providers, and the providers run without resilience or instrumentation so that only the transfer path
+ * is measured. Checksums are computed only where S3 requires them, because the stand-in does not verify
+ * them. A combination of parameters whose objects would not fit in the heap fails its setup, which makes
+ * JMH skip it and carry on with the next one.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:05
+ **/
+@State(Scope.Benchmark)
+public class S3Environment {
+
+    static final String BUCKET = "benchmark";
+    static final String FIXTURE = "fixture/object";
+
+    /**
+     * Size of the uploaded and downloaded objects, with a {@code KB}, {@code MB} or {@code GB} suffix.
+     */
+    @Param({"1KB", "64KB", "1MB", "16MB", "256MB", "1GB"})
+    public String objectSize;
+
+    /**
+     * Operations in flight at once within one benchmark invocation.
+     */
+    @Param({"1", "16", "64"})
+    public int concurrency;
+
+    S3StandIn standIn;
+    S3Client s3Client;
+    S3AsyncClient s3AsyncClient;
+    ExecutorService executor;
+    S3StorageProvider syncProvider;
+    S3AsyncStorageProvider asyncProvider;
+    S3ReactiveStorageProvider reactiveProvider;
+    ExecutionContext context;
+    byte[] data;
+    int size;
+    long rangeOffset;
+    long rangeLength;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        size = Math.toIntExact(parseSize(objectSize));
+        // the payload, the copy kept by the stand-in and one downloaded copy per operation in flight
+        long required = (long) size * (concurrency + 2);
+        if (required > Runtime.getRuntime().maxMemory()) {
+            throw new IllegalStateException("%s objects at concurrency %d need %d MB of heap, more than the %d MB available"
+                    .formatted(objectSize, concurrency, required >> 20, Runtime.getRuntime().maxMemory() >> 20));
+        }
+        data = new byte[size];
+        ThreadLocalRandom.current().nextBytes(data);
+        rangeLength = Math.min(size, 64 * 1024);
+        rangeOffset = (size - rangeLength) / 2;
+
+        standIn = new S3StandIn();
+        standIn.put(BUCKET, FIXTURE, data);
+
+        S3Config s3Config = new S3Config();
+        s3Config.setBucketName(BUCKET);
+        s3Config.setRegion(Region.US_EAST_1.id());
+        s3Config.setAccessKey("benchmark");
+        s3Config.setSecretKey("benchmark");
+        s3Config.setAsyncMaxConcurrency(Math.max(64, concurrency * 8));
+
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(s3Config.getAccessKey(), s3Config.getSecretKey()));
+        s3Client = S3Client.builder()
+                .endpointOverride(standIn.endpoint())
+                .forcePathStyle(true)
+                .credentialsProvider(credentials)
+                .region(Region.of(s3Config.getRegion()))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(s3Config.getAsyncMaxConcurrency()))
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+                .overrideConfiguration(o -> o.retryStrategy(AwsRetryStrategy.doNotRetry()))
+                .build();
+        s3AsyncClient = S3AsyncClient.builder()
+                .endpointOverride(standIn.endpoint())
+                .forcePathStyle(true)
+                .credentialsProvider(credentials)
+                .region(Region.of(s3Config.getRegion()))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(s3Config.getAsyncMaxConcurrency())
+                        .maxPendingConnectionAcquires(Integer.MAX_VALUE))
+                .multipartEnabled(true)
+                .multipartConfiguration(m -> m
+                        .thresholdInBytes(s3Config.getMultipartThreshold())
+                        .minimumPartSizeInBytes(s3Config.getMultipartPartSize()))
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+                .overrideConfiguration(o -> o.retryStrategy(AwsRetryStrategy.doNotRetry()))
+                .build();
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        syncProvider = new S3StorageProvider(s3Client, s3Config, executor, ResilienceRegistry.disabled(),
+                StorageInstrumentation.disabled());
+        asyncProvider = new S3AsyncStorageProvider(s3AsyncClient, s3Config, executor, null,
+                ResilienceRegistry.disabled(), StorageInstrumentation.disabled());
+        reactiveProvider = new S3ReactiveStorageProvider(s3AsyncClient, s3Config, StorageInstrumentation.disabled());
+        context = new ExecutionContext.Builder()
+                .timeout(Duration.ofMinutes(10))
+                .maxRetries(0)
+                .priority(ExecutionContext.Priority.MEDIUM)
+                .metadata(List.of(Pair.ofNonNull(MetadataKey.CONTENT_TYPE, "application/octet-stream")))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+        if (executor != null) {
+            executor.close();
+        }
+        if (standIn != null) {
+            standIn.close();
+        }
+        data = null;
+    }
+
+    /**
+     * @return a key whose uploads the stand-in discards
+     */
+    String sinkKey(int index) {
+        return S3StandIn.SINK_PREFIX + "object-" + index;
+    }
+
+    static long parseSize(String size) {
+        String value = size.trim().toUpperCase(Locale.ROOT);
+        long unit = 1;
+        if (value.endsWith("GB")) {
+            unit = 1L << 30;
+        } else if (value.endsWith("MB")) {
+            unit = 1L << 20;
+        } else if (value.endsWith("KB")) {
+            unit = 1L << 10;
+        }
+        String digits = unit == 1 ? value.replaceAll("B$", "") : value.substring(0, value.length() - 2);
+        return Long.parseLong(digits.trim()) * unit;
+    }
+}
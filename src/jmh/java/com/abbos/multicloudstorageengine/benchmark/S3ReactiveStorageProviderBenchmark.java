@@ -0,0 +1,66 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput and latency of the {@link com.abbos.multicloudstorageengine.provider.aws.S3ReactiveStorageProvider}
+ * against the {@link S3StandIn}.
+ * <p>
+ * Each invocation merges {@link S3Environment#concurrency} operations and blocks until all of them
+ * complete, so the score counts batches as in {@link S3StorageProviderBenchmark}. {@code downloadStream}
+ * consumes the body buffer by buffer without aggregating it, which is the path to compare against
+ * {@code download} for the allocation rate.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:20
+ **/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class S3ReactiveStorageProviderBenchmark {
+
+    @Benchmark
+    public void upload(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.reactiveProvider.upload(env.sinkKey(i), env.data, env.context));
+    }
+
+    @Benchmark
+    public void uploadStream(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.reactiveProvider.upload(env.sinkKey(i),
+                Flux.just(ByteBuffer.wrap(env.data).asReadOnlyBuffer()), env.size, env.context));
+    }
+
+    @Benchmark
+    public void download(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.reactiveProvider.download(S3Environment.FIXTURE, env.context));
+    }
+
+    @Benchmark
+    public void downloadStream(S3Environment env, Blackhole blackhole) {
+        run(env, blackhole, i -> env.reactiveProvider.downloadStream(S3Environment.FIXTURE, env.context)
+                .reduce(0L, (total, buffer) -> total + buffer.remaining()));
+    }
+
+    private static void run(S3Environment env, Blackhole blackhole, IntFunction<Mono<?>> operation) {
+        Flux.range(0, env.concurrency)
+                .flatMap(operation::apply, env.concurrency)
+                .doOnNext(blackhole::consume)
+                .blockLast();
+    }
+}
@@ -0,0 +1,462 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the part of the S3 REST API the S3 providers use, served over plain HTTP on the
+ * loopback interface with path-style addressing.
+ * <p>
+ * It supports put, get with byte ranges and part numbers, head, delete, batch delete and multipart uploads,
+ * including the {@code aws-chunked} bodies the SDK sends over plain HTTP. Checksums sent as
+ * {@code x-amz-checksum-*} headers or trailers are stored and returned when checksum mode is enabled, but
+ * neither they nor signatures are verified.
+ * Objects written under {@link #SINK_PREFIX} are read and discarded instead of stored, so that upload
+ * benchmarks neither grow the heap nor charge the stand-in's copies to the allocation rate of the client.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:00
+ **/
+public final class S3StandIn implements Closeable {
+
+    /**
+     * Keys under this prefix are accepted but not stored.
+     */
+    public static final String SINK_PREFIX = "sink/";
+
+    private static final byte[] DISCARD = new byte[64 * 1024];
+    private static final Pattern KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+    private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final String CHECKSUM_PREFIX = "x-amz-checksum-";
+    private static final String LAST_MODIFIED = DateTimeFormatter.RFC_1123_DATE_TIME
+            .format(ZonedDateTime.now(ZoneOffset.UTC).withNano(0));
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    static {
+        // the server writes headers and body separately; with Nagle's algorithm every response would wait
+        // for the client's delayed acknowledgement
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    public S3StandIn() throws IOException {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * @return the endpoint to configure the S3 clients with
+     */
+    public URI endpoint() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    /**
+     * Stores an object directly, without going through HTTP, with the CRC-64/NVME checksum S3 computes for
+     * objects uploaded without one.
+     *
+     * @param bucket the bucket
+     * @param key    the key
+     * @param data   the content, kept by reference
+     */
+    public void put(String bucket, String key, byte[] data) {
+        String checksum = Checksummer.compute(ChecksumAlgorithm.CRC64NVME, data, 0, data.length).getValue();
+        objects.put(bucket + '/' + key, new StoredObject(data, null, etag(), Map.of(CHECKSUM_PREFIX + "crc64nvme", checksum)));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+        objects.clear();
+        uploads.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            int slash = path.indexOf('/', 1);
+            String bucket = slash < 0 ? path.substring(1) : path.substring(1, slash);
+            String key = slash < 0 ? "" : path.substring(slash + 1);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("partNumber")) {
+                        uploadPart(exchange, key, query);
+                    } else {
+                        putObject(exchange, bucket, key);
+                    }
+                }
+                case "GET" -> getObject(exchange, bucket + '/' + key, query, true);
+                case "HEAD" -> getObject(exchange, bucket + '/' + key, query, false);
+                case "DELETE" -> {
+                    drain(exchange);
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(bucket + '/' + key);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "POST" -> {
+                    if (query.containsKey("delete")) {
+                        deleteObjects(exchange, bucket);
+                    } else if (query.containsKey("uploads")) {
+                        createUpload(exchange, bucket, key);
+                    } else {
+                        completeUpload(exchange, bucket, key, query);
+                    }
+                }
+                default -> error(exchange, 405, "MethodNotAllowed", exchange.getRequestMethod());
+            }
+        } catch (RuntimeException e) {
+            error(exchange, 500, "InternalError", String.valueOf(e));
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String bucket, String key) throws IOException {
+        String etag = etag();
+        if (key.startsWith(SINK_PREFIX)) {
+            drain(exchange);
+        } else {
+            Map<String, String> checksums = checksums(exchange.getRequestHeaders());
+            byte[] data = body(exchange, checksums);
+            objects.put(bucket + '/' + key, new StoredObject(data, null, etag, checksums));
+        }
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String id, Map<String, String> query, boolean withBody)
+            throws IOException {
+        drain(exchange);
+        StoredObject object = objects.get(id);
+        if (object == null) {
+            if (withBody) {
+                error(exchange, 404, "NoSuchKey", id);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+            return;
+        }
+        long length = object.data.length;
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        String partNumber = query.get("partNumber");
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (partNumber != null) {
+            int part = Integer.parseInt(partNumber);
+            int parts = object.partEnds != null ? object.partEnds.length : 1;
+            if (part < 1 || part > parts) {
+                error(exchange, 416, "InvalidPartNumber", partNumber);
+                return;
+            }
+            if (object.partEnds != null) {
+                start = part == 1 ? 0 : object.partEnds[part - 2];
+                end = object.partEnds[part - 1] - 1;
+                partial = true;
+                exchange.getResponseHeaders().set("x-amz-mp-parts-count", Integer.toString(parts));
+            }
+        } else if (range != null) {
+            Matcher matcher = RANGE.matcher(range);
+            if (matcher.matches()) {
+                if (matcher.group(1).isEmpty()) {
+                    start = Math.max(0, length - Long.parseLong(matcher.group(2)));
+                } else {
+                    start = Long.parseLong(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, Long.parseLong(matcher.group(2)));
+                    }
+                }
+                if (start >= length) {
+                    error(exchange, 416, "InvalidRange", range);
+                    return;
+                }
+                partial = true;
+            }
+        }
+        long count = end - start + 1;
+        var headers = exchange.getResponseHeaders();
+        headers.set("ETag", object.etag);
+        headers.set("Last-Modified", LAST_MODIFIED);
+        headers.set("Content-Type", "application/octet-stream");
+        headers.set("Accept-Ranges", "bytes");
+        if (partial) {
+            headers.set("Content-Range", "bytes " + start + "-" + end + "/" + length);
+        } else if ("ENABLED".equals(exchange.getRequestHeaders().getFirst("x-amz-checksum-mode"))) {
+            object.checksums.forEach(headers::set);
+        }
+        int status = partial ? 206 : 200;
+        if (!withBody) {
+            headers.set("Content-Length", Long.toString(count));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, count == 0 ? -1 : count);
+        if (count > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(object.data, (int) start, (int) count);
+            }
+        }
+    }
+
+    private void deleteObjects(HttpExchange exchange, String bucket) throws IOException {
+        String request = new String(body(exchange, new HashMap<>()), StandardCharsets.UTF_8);
+        boolean quiet = request.contains("<Quiet>true</Quiet>");
+        StringBuilder response = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><DeleteResult>");
+        Matcher matcher = KEY.matcher(request);
+        while (matcher.find()) {
+            String key = unescape(matcher.group(1));
+            objects.remove(bucket + '/' + key);
+            if (!quiet) {
+                response.append("<Deleted><Key>").append(escape(key)).append("</Key></Deleted>");
+            }
+        }
+        xml(exchange, response.append("</DeleteResult>").toString());
+    }
+
+    private void createUpload(HttpExchange exchange, String bucket, String key) throws IOException {
+        drain(exchange);
+        String uploadId = Long.toHexString(ids.incrementAndGet());
+        uploads.put(uploadId, new Upload(key.startsWith(SINK_PREFIX)));
+        xml(exchange, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><InitiateMultipartUploadResult><Bucket>" + bucket
+                + "</Bucket><Key>" + escape(key) + "</Key><UploadId>" + uploadId
+                + "</UploadId></InitiateMultipartUploadResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, String key, Map<String, String> query) throws IOException {
+        Upload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            drain(exchange);
+            error(exchange, 404, "NoSuchUpload", key);
+            return;
+        }
+        int partNumber = Integer.parseInt(query.get("partNumber"));
+        if (upload.sink) {
+            upload.parts.put(partNumber, new byte[0]);
+            drain(exchange);
+        } else {
+            upload.parts.put(partNumber, body(exchange, new HashMap<>()));
+        }
+        exchange.getResponseHeaders().set("ETag", etag());
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void completeUpload(HttpExchange exchange, String bucket, String key, Map<String, String> query)
+            throws IOException {
+        String request = new String(body(exchange, new HashMap<>()), StandardCharsets.UTF_8);
+        Upload upload = uploads.remove(query.get("uploadId"));
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload", key);
+            return;
+        }
+        List<byte[]> parts = new ArrayList<>();
+        Matcher matcher = PART_NUMBER.matcher(request);
+        while (matcher.find()) {
+            byte[] part = upload.parts.get(Integer.parseInt(matcher.group(1)));
+            if (part == null) {
+                error(exchange, 400, "InvalidPart", matcher.group(1));
+                return;
+            }
+            parts.add(part);
+        }
+        String etag = "\"" + Long.toHexString(ids.incrementAndGet()) + "-" + parts.size() + "\"";
+        if (!upload.sink) {
+            long total = 0;
+            long[] partEnds = new long[parts.size()];
+            for (int i = 0; i < parts.size(); i++) {
+                total += parts.get(i).length;
+                partEnds[i] = total;
+            }
+            byte[] data = new byte[Math.toIntExact(total)];
+            for (int i = 0; i < parts.size(); i++) {
+                byte[] part = parts.get(i);
+                System.arraycopy(part, 0, data, (int) (partEnds[i] - part.length), part.length);
+            }
+            objects.put(bucket + '/' + key, new StoredObject(data, partEnds, etag, checksums(exchange.getRequestHeaders())));
+        }
+        xml(exchange, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><CompleteMultipartUploadResult><Location>"
+                + endpoint() + "/" + bucket + "/" + escape(key) + "</Location><Bucket>" + bucket + "</Bucket><Key>"
+                + escape(key) + "</Key><ETag>" + escape(etag) + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    private String etag() {
+        return "\"" + Long.toHexString(ids.incrementAndGet()) + "\"";
+    }
+
+    private static boolean isChunked(HttpExchange exchange) {
+        var headers = exchange.getRequestHeaders();
+        String sha = headers.getFirst("x-amz-content-sha256");
+        String encoding = headers.getFirst("Content-Encoding");
+        return (sha != null && sha.startsWith("STREAMING-")) || (encoding != null && encoding.contains("aws-chunked"));
+    }
+
+    /**
+     * Reads the request body, decoding {@code aws-chunked} bodies and adding their checksum trailers to
+     * {@code checksums}.
+     */
+    private static byte[] body(HttpExchange exchange, Map<String, String> checksums) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        if (!isChunked(exchange)) {
+            return in.readAllBytes();
+        }
+        String decoded = exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(decoded != null ? Integer.parseInt(decoded) : 8192);
+        for (int size = chunkSize(in); size > 0; size = chunkSize(in)) {
+            out.write(in.readNBytes(size));
+            line(in);
+        }
+        for (String trailer = line(in); !trailer.isEmpty(); trailer = line(in)) {
+            int colon = trailer.indexOf(':');
+            String name = colon < 0 ? "" : trailer.substring(0, colon).trim().toLowerCase();
+            if (name.startsWith(CHECKSUM_PREFIX)) {
+                checksums.put(name, trailer.substring(colon + 1).trim());
+            }
+        }
+        in.transferTo(OutputStream.nullOutputStream());
+        return out.toByteArray();
+    }
+
+    /**
+     * @return the checksum values among the request headers, keyed by lower-case header name
+     */
+    private static Map<String, String> checksums(Headers headers) {
+        Map<String, String> checksums = new HashMap<>();
+        headers.forEach((name, values) -> {
+            String header = name.toLowerCase();
+            if (header.startsWith(CHECKSUM_PREFIX) && !header.equals("x-amz-checksum-algorithm")
+                    && !header.equals("x-amz-checksum-type") && !header.equals("x-amz-checksum-mode")) {
+                checksums.put(header, values.getFirst());
+            }
+        });
+        return checksums;
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            while (in.read(DISCARD) >= 0) {
+                // the content of sink objects is not kept
+            }
+        }
+    }
+
+    private static int chunkSize(InputStream in) throws IOException {
+        String header = line(in);
+        int semicolon = header.indexOf(';');
+        return Integer.parseInt(semicolon < 0 ? header.trim() : header.substring(0, semicolon).trim(), 16);
+    }
+
+    private static String line(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = in.read(); c != '\n'; c = in.read()) {
+            if (c < 0) {
+                throw new EOFException("Truncated aws-chunked body");
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static void xml(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String code, String message) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code><Message>"
+                + escape(message) + "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            query.put(name, eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String unescape(String text) {
+        return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * A stored object; {@code partEnds} holds the end offsets of its parts if it was uploaded in parts.
+     */
+    private record StoredObject(byte[] data, long[] partEnds, String etag, Map<String, String> checksums) {
+    }
+
+    /**
+     * A multipart upload in progress.
+     */
+    private static final class Upload {
+        private final boolean sink;
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+
+        private Upload(boolean sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.abbos.multicloudstorageengine.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput and latency of the blocking {@link com.abbos.multicloudstorageengine.provider.aws.S3StorageProvider}
+ * against the {@link S3StandIn}.
+ * <p>
+ * Each invocation runs {@link S3Environment#concurrency} operations at once on virtual threads, so the
+ * throughput score counts batches and the sample-time percentiles are the latency of a whole batch; at a
+ * concurrency of one they are per operation. Objects above the multipart threshold go through the
+ * multipart uploader and the parallel ranged downloader, exactly as in production. Allocation rate per
+ * operation is reported by the GC profiler:
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -jar target/benchmarks.jar S3StorageProviderBenchmark -p objectSize=1MB -p concurrency=1,16 -prof gc
+ * </pre>
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:10
+ **/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class S3StorageProviderBenchmark {
+
+    @Benchmark
+    public void upload(S3Environment env, Blackhole blackhole) throws Exception {
+        run(env, blackhole, i -> {
+            env.syncProvider.upload(env.sinkKey(i), env.data, env.context);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void uploadStream(S3Environment env, Blackhole blackhole) throws Exception {
+        run(env, blackhole, i -> {
+            env.syncProvider.upload(env.sinkKey(i), new ByteArrayInputStream(env.data), env.size, env.context);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void download(S3Environment env, Blackhole blackhole) throws Exception {
+        run(env, blackhole, i -> env.syncProvider.download(S3Environment.FIXTURE, env.context));
+    }
+
+    @Benchmark
+    public void downloadStream(S3Environment env, Blackhole blackhole) throws Exception {
+        run(env, blackhole, i -> {
+            env.syncProvider.download(S3Environment.FIXTURE, OutputStream.nullOutputStream(), env.context);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void downloadRange(S3Environment env, Blackhole blackhole) throws Exception {
+        run(env, blackhole, i -> env.syncProvider.download(S3Environment.FIXTURE, env.rangeOffset, env.rangeLength,
+                env.context));
+    }
+
+    private static void run(S3Environment env, Blackhole blackhole, IntFunction<Object> operation) throws Exception {
+        if (env.concurrency == 1) {
+            blackhole.consume(operation.apply(0));
+            return;
+        }
+        List<Future<Object>> futures = new ArrayList<>(env.concurrency);
+        for (int i = 0; i < env.concurrency; i++) {
+            int index = i;
+            futures.add(env.executor.submit(() -> operation.apply(index)));
+        }
+        for (Future<Object> future : futures) {
+            try {
+                blackhole.consume(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+}
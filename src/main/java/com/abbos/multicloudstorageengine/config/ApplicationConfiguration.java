@@ -1,23 +1,76 @@
 package com.abbos.multicloudstorageengine.config;
 
+import com.abbos.multicloudstorageengine.config.PackageRoutingConfig.PackageOverride;
+import com.abbos.multicloudstorageengine.context.ExecutionContext.Priority;
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import com.abbos.multicloudstorageengine.exception.MissingConfigurationException;
+import com.abbos.multicloudstorageengine.logging.AsyncLogging;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.aws.S3StorageProvider;
+import com.abbos.multicloudstorageengine.provider.azure.AzureBlobStorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.CachingAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.CachingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.MetadataCache;
+import com.abbos.multicloudstorageengine.provider.cache.MetadataCachingAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.MetadataCachingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.ObjectCache;
+import com.abbos.multicloudstorageengine.provider.compression.CompressingAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.compression.CompressingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.compression.Compressor;
+import com.abbos.multicloudstorageengine.provider.deduplication.DeduplicatingAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.deduplication.DeduplicatingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.deduplication.Deduplicator;
+import com.abbos.multicloudstorageengine.provider.encryption.EncryptingAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.EncryptingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor;
+import com.abbos.multicloudstorageengine.provider.encryption.KeyStoreMasterKeyProvider;
+import com.abbos.multicloudstorageengine.provider.gcp.GCSStorageProvider;
+import com.abbos.multicloudstorageengine.provider.local.LocalFileStore;
+import com.abbos.multicloudstorageengine.provider.local.LocalStorageProvider;
+import com.abbos.multicloudstorageengine.provider.memory.MemoryStorageProvider;
+import com.abbos.multicloudstorageengine.provider.memory.OffHeapObjectStore;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.replication.ReplicatingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceEvent;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.abbos.multicloudstorageengine.provider.routing.PackageRoutingStorageProvider;
+import com.abbos.multicloudstorageengine.provider.routing.RoutingStorageProvider;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
  * Configuration class for multi-cloud storage integration.
@@ -46,6 +99,307 @@ public class ApplicationConfiguration {
         return Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /**
+     * Creates the bounded, priority-aware scheduler in front of the "storageExecutor". Asynchronous
+     * providers queue their operations here per {@link Priority} instead of submitting them unbounded.
+     * Its slots and queues are published through the {@link StorageInstrumentation} when metrics are enabled.
+     *
+     * @return a {@link PriorityScheduler} configured from {@link SchedulerConfig}
+     */
+    @Bean(name = "storageScheduler")
+    public PriorityScheduler storageScheduler(SchedulerConfig schedulerConfig, @Qualifier("storageExecutor") Executor executor,
+                                              @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        PriorityScheduler scheduler = new PriorityScheduler(executor,
+                schedulerConfig.getMaxConcurrency(),
+                schedulerConfig.getQueueCapacity(),
+                Map.of(Priority.HIGH, schedulerConfig.getHighWeight(),
+                        Priority.MEDIUM, schedulerConfig.getMediumWeight(),
+                        Priority.LOW, schedulerConfig.getLowWeight()));
+        instrumentation.monitor(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * Creates the registry of per-provider circuit breakers and bulkheads. State changes are published as
+     * {@link ResilienceEvent}s on the application context. Without {@link ResilienceConfig} every call is let through.
+     *
+     * @return a {@link ResilienceRegistry} configured from {@link ResilienceConfig}
+     */
+    @Bean(name = "storageResilience")
+    public ResilienceRegistry storageResilience(ObjectProvider<ResilienceConfig> resilienceConfig,
+                                                ApplicationEventPublisher eventPublisher) {
+        ResilienceConfig config = resilienceConfig.getIfAvailable();
+        return config != null ? new ResilienceRegistry(config, eventPublisher::publishEvent) : ResilienceRegistry.disabled();
+    }
+
+    /**
+     * Puts the engine's log writes behind a Logback {@code AsyncAppender} when {@link LoggingConfig} asks for it,
+     * so that provider threads never wait on log I/O. The original appenders are restored on shutdown.
+     *
+     * @return an {@link AsyncLogging} configured from {@link LoggingConfig}
+     */
+    @Bean(name = "storageAsyncLogging")
+    @ConditionalOnBean(LoggingConfig.class)
+    public AsyncLogging storageAsyncLogging(LoggingConfig loggingConfig) {
+        return AsyncLogging.install(loggingConfig);
+    }
+
+    /**
+     * Creates the metrics and tracing instrumentation of the providers, recording into the application's
+     * {@link MeterRegistry} and {@link OpenTelemetry}, or the global ones when the application defines none.
+     * Providers count their retries through it. The providers composed by the replicating, routing and package
+     * routing beans are wrapped with {@link StorageInstrumentation#instrument(StorageProvider)} when it is enabled;
+     * to time providers used directly, wrap them with it or its async and reactive overloads.
+     * Without {@link ObservabilityConfig} nothing is recorded.
+     *
+     * @return a {@link StorageInstrumentation} configured from {@link ObservabilityConfig}
+     */
+    @Bean(name = "storageInstrumentation")
+    public StorageInstrumentation storageInstrumentation(ObjectProvider<ObservabilityConfig> observabilityConfig,
+                                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                                         ObjectProvider<OpenTelemetry> openTelemetry) {
+        ObservabilityConfig config = observabilityConfig.getIfAvailable();
+        if (config == null) {
+            return StorageInstrumentation.disabled();
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Tracer tracer = openTelemetry.getIfAvailable(GlobalOpenTelemetry::get).getTracer("multi-cloud-storage-engine");
+        return new StorageInstrumentation(config, registry, tracer);
+    }
+
+    /**
+     * Creates the tiered object cache shared by the caching provider decorators. Providers are not
+     * wrapped automatically; wrap the ones serving hot objects with {@link CachingStorageProvider} or
+     * {@link CachingAsyncStorageProvider}. Its counters are published through the {@link StorageInstrumentation}
+     * when metrics are enabled.
+     *
+     * @return an {@link ObjectCache} configured from {@link CacheConfig}
+     */
+    @Bean
+    @ConditionalOnBean(CacheConfig.class)
+    public ObjectCache objectCache(CacheConfig cacheConfig, @Qualifier("storageExecutor") Executor executor,
+                                   @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        ObjectCache cache = new ObjectCache(cacheConfig, executor);
+        instrumentation.monitor(cache);
+        return cache;
+    }
+
+    /**
+     * Creates the object metadata cache shared by the metadata caching provider decorators. Providers are not
+     * wrapped automatically; wrap them with {@link MetadataCachingStorageProvider} or
+     * {@link MetadataCachingAsyncStorageProvider}, or enable metadata caching per package. Its hits and misses
+     * are published through the {@link StorageInstrumentation} when metrics are enabled.
+     *
+     * @return a {@link MetadataCache} configured from {@link MetadataCacheConfig}
+     */
+    @Bean
+    @ConditionalOnBean(MetadataCacheConfig.class)
+    public MetadataCache metadataCache(MetadataCacheConfig metadataCacheConfig,
+                                       @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        MetadataCache cache = new MetadataCache(metadataCacheConfig);
+        instrumentation.monitor(cache);
+        return cache;
+    }
+
+    /**
+     * Creates the compression stage shared by the compressing provider decorators. Providers are not
+     * wrapped automatically; wrap them with {@link CompressingStorageProvider} or
+     * {@link CompressingAsyncStorageProvider}, or enable compression per package.
+     *
+     * @return a {@link Compressor} configured from {@link CompressionConfig}
+     */
+    @Bean
+    @ConditionalOnBean(CompressionConfig.class)
+    public Compressor compressor(CompressionConfig compressionConfig, @Qualifier("storageExecutor") Executor executor) {
+        return new Compressor(compressionConfig, executor);
+    }
+
+    /**
+     * Creates the content-addressed deduplication stage shared by the deduplicating provider decorators,
+     * opening its index from the configured directory. Providers are not wrapped automatically; wrap them with
+     * {@link DeduplicatingStorageProvider} or {@link DeduplicatingAsyncStorageProvider}, or enable deduplication
+     * per package.
+     *
+     * @return a {@link Deduplicator} configured from {@link DeduplicationConfig}
+     */
+    @Bean
+    @ConditionalOnBean(DeduplicationConfig.class)
+    public Deduplicator deduplicator(DeduplicationConfig deduplicationConfig, @Qualifier("storageExecutor") Executor executor) {
+        return new Deduplicator(deduplicationConfig, executor);
+    }
+
+    /**
+     * Creates the envelope encryption stage shared by the encrypting provider decorators, with its master
+     * keys loaded from the configured keystore. Providers are not wrapped automatically; wrap them with
+     * {@link EncryptingStorageProvider} or {@link EncryptingAsyncStorageProvider}, or enable encryption per package.
+     *
+     * @return an {@link Encryptor} configured from {@link EncryptionConfig}
+     */
+    @Bean
+    @ConditionalOnBean(EncryptionConfig.class)
+    public Encryptor encryptor(EncryptionConfig encryptionConfig, @Qualifier("storageExecutor") Executor executor) {
+        KeyStoreMasterKeyProvider masterKeys = new KeyStoreMasterKeyProvider(
+                Path.of(encryptionConfig.getKeyStorePath()),
+                encryptionConfig.getKeyStoreType(),
+                encryptionConfig.getKeyStorePassword().toCharArray(),
+                encryptionConfig.getMasterKeyAlias());
+        return new Encryptor(encryptionConfig, masterKeys, executor);
+    }
+
+    /**
+     * Creates the replicating provider over the blocking providers named in {@link ReplicationConfig}.
+     * When no secondaries are configured, every enabled provider other than the primary is used.
+     *
+     * @return a {@link ReplicatingStorageProvider}, closed with the application context
+     */
+    @Bean
+    @ConditionalOnBean(ReplicationConfig.class)
+    public ReplicatingStorageProvider replicatingStorageProvider(ReplicationConfig replicationConfig,
+                                                                 ObjectProvider<S3StorageProvider> s3,
+                                                                 ObjectProvider<GCSStorageProvider> gcs,
+                                                                 ObjectProvider<AzureBlobStorageProvider> azureBlob,
+                                                                 ObjectProvider<LocalStorageProvider> local,
+                                                                 ObjectProvider<MemoryStorageProvider> memory,
+                                                                 @Qualifier("storageExecutor") Executor executor,
+                                                                 @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        Map<String, StorageProvider> enabled = new LinkedHashMap<>();
+        s3.ifAvailable(provider -> enabled.put("aws", instrumentation.instrument(provider)));
+        gcs.ifAvailable(provider -> enabled.put("gcs", instrumentation.instrument(provider)));
+        azureBlob.ifAvailable(provider -> enabled.put("azure-blob", instrumentation.instrument(provider)));
+        local.ifAvailable(provider -> enabled.put("local", instrumentation.instrument(provider)));
+        memory.ifAvailable(provider -> enabled.put("memory", instrumentation.instrument(provider)));
+        StorageProvider primary = enabled.remove(replicationConfig.getPrimary());
+        if (primary == null) {
+            throw new MissingConfigurationException("multi-cloud.storage." + replicationConfig.getPrimary()
+                    + " (replication primary is not enabled)");
+        }
+        Map<String, StorageProvider> secondaries = enabled;
+        if (!replicationConfig.getSecondaries().isEmpty()) {
+            secondaries = new LinkedHashMap<>();
+            for (String name : replicationConfig.getSecondaries()) {
+                StorageProvider secondary = enabled.get(name);
+                if (secondary == null) {
+                    throw new MissingConfigurationException("multi-cloud.storage." + name
+                            + " (replication secondary is not enabled)");
+                }
+                secondaries.put(name, secondary);
+            }
+        }
+        return new ReplicatingStorageProvider(primary, secondaries, replicationConfig, executor);
+    }
+
+    /**
+     * Creates the latency-aware read router over every enabled blocking provider. Writes and entity tags
+     * go to the replicating provider, which keeps the replicas in sync.
+     *
+     * @return a {@link RoutingStorageProvider} configured from {@link RoutingConfig}
+     */
+    @Bean
+    @ConditionalOnBean(RoutingConfig.class)
+    public RoutingStorageProvider routingStorageProvider(RoutingConfig routingConfig,
+                                                         ObjectProvider<ReplicatingStorageProvider> replicating,
+                                                         ObjectProvider<S3StorageProvider> s3,
+                                                         ObjectProvider<GCSStorageProvider> gcs,
+                                                         ObjectProvider<AzureBlobStorageProvider> azureBlob,
+                                                         ObjectProvider<LocalStorageProvider> local,
+                                                         ObjectProvider<MemoryStorageProvider> memory,
+                                                         @Qualifier("storageExecutor") Executor executor,
+                                                         @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        ReplicatingStorageProvider writer = replicating.getIfAvailable();
+        if (writer == null) {
+            throw new MissingConfigurationException("multi-cloud.storage.replication (read routing requires replication)");
+        }
+        Map<String, StorageProvider> replicas = new LinkedHashMap<>();
+        s3.ifAvailable(provider -> replicas.put("aws", instrumentation.instrument(provider)));
+        gcs.ifAvailable(provider -> replicas.put("gcs", instrumentation.instrument(provider)));
+        azureBlob.ifAvailable(provider -> replicas.put("azure-blob", instrumentation.instrument(provider)));
+        local.ifAvailable(provider -> replicas.put("local", instrumentation.instrument(provider)));
+        memory.ifAvailable(provider -> replicas.put("memory", instrumentation.instrument(provider)));
+        return new RoutingStorageProvider(writer, replicas, routingConfig, executor);
+    }
+
+    /**
+     * Creates the facade routing keys to the blocking providers by the {@code packages} they list. Packages
+     * with overrides get their own provider instance with the overridden tuning, are stored through the
+     * {@link Compressor} and the {@link Encryptor} when they enable compression or encryption, are deduplicated by the
+     * {@link Deduplicator} when they enable deduplication and are read through the {@link ObjectCache} when they enable caching,
+     * concurrent misses of a key being coalesced into one provider call.
+     * Their stats are served by the {@link MetadataCache} when they enable metadata caching.
+     *
+     * @return a {@link PackageRoutingStorageProvider} configured from {@link PackageRoutingConfig}
+     */
+    @Bean
+    @ConditionalOnBean(PackageRoutingConfig.class)
+    public PackageRoutingStorageProvider packageRoutingStorageProvider(PackageRoutingConfig packageRoutingConfig,
+                                                                       ObjectProvider<S3Config> s3Config,
+                                                                       ObjectProvider<S3StorageProvider> s3,
+                                                                       ObjectProvider<GCSConfig> gcsConfig,
+                                                                       ObjectProvider<GCSStorageProvider> gcs,
+                                                                       ObjectProvider<AzureBlobConfig> azureBlobConfig,
+                                                                       ObjectProvider<AzureBlobStorageProvider> azureBlob,
+                                                                       ObjectProvider<LocalStorageConfig> localConfig,
+                                                                       ObjectProvider<LocalStorageProvider> local,
+                                                                       ObjectProvider<MemoryStorageConfig> memoryConfig,
+                                                                       ObjectProvider<MemoryStorageProvider> memory,
+                                                                       ObjectProvider<ObjectCache> objectCache,
+                                                                       ObjectProvider<Compressor> compressor,
+                                                                       ObjectProvider<Encryptor> encryptor,
+                                                                       ObjectProvider<Deduplicator> deduplicator,
+                                                                       ObjectProvider<MetadataCache> metadataCache,
+                                                                       @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        Map<String, StorageProvider> enabled = new LinkedHashMap<>();
+        Map<String, StorageProvider> packages = new LinkedHashMap<>();
+        ObjectCache cache = objectCache.getIfAvailable();
+        Compressor compression = compressor.getIfAvailable();
+        Encryptor encryption = encryptor.getIfAvailable();
+        Deduplicator deduplication = deduplicator.getIfAvailable();
+        MetadataCache metadata = metadataCache.getIfAvailable();
+        s3.ifAvailable(provider -> {
+            enabled.put("aws", instrumentation.instrument(provider));
+            addPackages(packages, s3Config.getObject().getPackages(), enabled.get("aws"), packageRoutingConfig, cache, compression, encryption, deduplication,
+                    metadata, instrumentation, override -> provider.withTransferTuning(override.getPartSize(), override.getConcurrency()));
+        });
+        gcs.ifAvailable(provider -> {
+            enabled.put("gcs", instrumentation.instrument(provider));
+            addPackages(packages, gcsConfig.getObject().getPackages(), enabled.get("gcs"), packageRoutingConfig, cache, compression, encryption, deduplication,
+                    metadata, instrumentation, override -> provider.withTransferTuning(override.getPartSize()));
+        });
+        azureBlob.ifAvailable(provider -> {
+            enabled.put("azure-blob", instrumentation.instrument(provider));
+            addPackages(packages, azureBlobConfig.getObject().getPackages(), enabled.get("azure-blob"), packageRoutingConfig, cache, compression, encryption, deduplication,
+                    metadata, instrumentation, override -> provider.withTransferTuning(override.getPartSize(), override.getConcurrency()));
+        });
+        // transfer tuning does not apply to local providers, so their overrides only enable the caches, compression, encryption and deduplication
+        local.ifAvailable(provider -> {
+            enabled.put("local", instrumentation.instrument(provider));
+            addPackages(packages, localConfig.getObject().getPackages(), enabled.get("local"), packageRoutingConfig, cache, compression, encryption, deduplication,
+                    metadata, instrumentation, override -> provider);
+        });
+        memory.ifAvailable(provider -> {
+            enabled.put("memory", instrumentation.instrument(provider));
+            addPackages(packages, memoryConfig.getObject().getPackages(), enabled.get("memory"), packageRoutingConfig, cache, compression, encryption, deduplication,
+                    metadata, instrumentation, override -> provider);
+        });
+        for (String name : packageRoutingConfig.getOverrides().keySet()) {
+            if (!packages.containsKey(name)) {
+                throw new InvalidConfigurationException("Package override '" + name + "' is not listed by any enabled provider.");
+            }
+        }
+        StorageProvider fallback = null;
+        if (packageRoutingConfig.getDefaultProvider() != null) {
+            fallback = enabled.get(packageRoutingConfig.getDefaultProvider());
+            if (fallback == null) {
+                throw new MissingConfigurationException("multi-cloud.storage." + packageRoutingConfig.getDefaultProvider()
+                        + " (package routing default provider is not enabled)");
+            }
+        }
+        return new PackageRoutingStorageProvider(packages, fallback, packageRoutingConfig.isLogEnabled());
+    }
+
+    /**
+     * Creates the S3 client with SDK-level retries disabled: retries are driven by the provider layer
+     * from the {@code ExecutionContext} so that attempts are not multiplied by a second retry loop.
+     */
     @Bean
     @ConditionalOnBean(S3Config.class)
     public S3Client s3Client(S3Config s3Config) {
@@ -53,9 +407,66 @@ public class ApplicationConfiguration {
         return S3Client.builder()
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
                 .region(Region.of(s3Config.getRegion()))
+                .overrideConfiguration(o -> o.retryStrategy(AwsRetryStrategy.doNotRetry()))
+                .build();
+    }
+
+    /**
+     * Creates the non-blocking S3 client used by the async and reactive providers. With
+     * {@code crt-enabled} the AWS CRT client is used (requires {@code aws-crt} on the classpath);
+     * otherwise a Netty-based client is built. Both leave retries to the provider layer: the providers
+     * split uploads from the multipart threshold on into parts themselves and retry every part, so the
+     * CRT client, given the same threshold, never splits the single requests it is sent.
+     */
+    @Bean
+    @ConditionalOnBean(S3Config.class)
+    public S3AsyncClient s3AsyncClient(S3Config s3Config) {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(s3Config.getAccessKey(), s3Config.getSecretKey()));
+        if (s3Config.isCrtEnabled()) {
+            return S3AsyncClient.crtBuilder()
+                    .credentialsProvider(credentials)
+                    .region(Region.of(s3Config.getRegion()))
+                    .targetThroughputInGbps(s3Config.getTargetThroughputGbps())
+                    .maxConcurrency(s3Config.getAsyncMaxConcurrency())
+                    .minimumPartSizeInBytes(s3Config.getMultipartPartSize())
+                    .thresholdInBytes(s3Config.getMultipartThreshold())
+                    .retryConfiguration(r -> r.numRetries(0))
+                    .build();
+        }
+        return S3AsyncClient.builder()
+                .credentialsProvider(credentials)
+                .region(Region.of(s3Config.getRegion()))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(s3Config.getAsyncMaxConcurrency())
+                        .maxPendingConnectionAcquires(Integer.MAX_VALUE))
+                .overrideConfiguration(o -> o.retryStrategy(AwsRetryStrategy.doNotRetry()))
                 .build();
     }
 
+    /**
+     * Creates the off-heap object store shared by the in-memory providers, so that objects written
+     * through one execution model are visible through the others.
+     *
+     * @return an {@link OffHeapObjectStore} configured from {@link MemoryStorageConfig}
+     */
+    @Bean
+    @ConditionalOnBean(MemoryStorageConfig.class)
+    public OffHeapObjectStore offHeapObjectStore(MemoryStorageConfig memoryConfig) {
+        return new OffHeapObjectStore(memoryConfig);
+    }
+
+    /**
+     * Creates the file store of the local filesystem providers, creating its root directory if needed.
+     *
+     * @return a {@link LocalFileStore} configured from {@link LocalStorageConfig}
+     */
+    @Bean
+    @ConditionalOnBean(LocalStorageConfig.class)
+    public LocalFileStore localFileStore(LocalStorageConfig localConfig) {
+        return new LocalFileStore(localConfig);
+    }
+
     @Bean
     @ConditionalOnBean(GCSConfig.class)
     public Storage gcsClient(GCSConfig gcsConfig) throws IOException {
@@ -69,14 +480,78 @@ public class ApplicationConfiguration {
     @Bean
     @ConditionalOnBean(AzureBlobConfig.class)
     public BlobServiceClient azureBlobClient(AzureBlobConfig azureConfig) {
-        String connectionString = String.format(
+        return new BlobServiceClientBuilder()
+                .connectionString(azureConnectionString(azureConfig))
+                .buildClient();
+    }
+
+    @Bean
+    @ConditionalOnBean(AzureBlobConfig.class)
+    public BlobServiceAsyncClient azureBlobAsyncClient(AzureBlobConfig azureConfig) {
+        return new BlobServiceClientBuilder()
+                .connectionString(azureConnectionString(azureConfig))
+                .buildAsyncClient();
+    }
+
+    private static void addPackages(Map<String, StorageProvider> packages, List<String> names, StorageProvider provider,
+                                    PackageRoutingConfig packageRoutingConfig, ObjectCache cache, Compressor compressor,
+                                    Encryptor encryptor, Deduplicator deduplicator, MetadataCache metadataCache,
+                                    StorageInstrumentation instrumentation, Function<PackageOverride, StorageProvider> tuned) {
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            if (packages.containsKey(name)) {
+                throw new InvalidConfigurationException("Package '" + name + "' is listed by more than one provider.");
+            }
+            StorageProvider target = provider;
+            PackageOverride override = packageRoutingConfig.getOverrides().get(name);
+            if (override != null) {
+                if (override.getPartSize() != null || override.getConcurrency() != null) {
+                    target = instrumentation.instrument(tuned.apply(override));
+                }
+                if (Boolean.TRUE.equals(override.getEncryptionEnabled())) {
+                    if (encryptor == null) {
+                        throw new MissingConfigurationException("multi-cloud.storage.encryption (package '" + name + "' enables encryption)");
+                    }
+                    target = new EncryptingStorageProvider(target, encryptor);
+                }
+                if (Boolean.TRUE.equals(override.getCompressionEnabled())) {
+                    if (compressor == null) {
+                        throw new MissingConfigurationException("multi-cloud.storage.compression (package '" + name + "' enables compression)");
+                    }
+                    target = new CompressingStorageProvider(target, compressor);
+                }
+                // deduplication hashes the content before it is compressed and encrypted, so that equal content
+                // is still recognized when each upload is encrypted under a fresh data key
+                if (Boolean.TRUE.equals(override.getDeduplicationEnabled())) {
+                    if (deduplicator == null) {
+                        throw new MissingConfigurationException("multi-cloud.storage.deduplication (package '" + name + "' enables deduplication)");
+                    }
+                    target = new DeduplicatingStorageProvider(target, deduplicator);
+                }
+                if (Boolean.TRUE.equals(override.getCacheEnabled())) {
+                    if (cache == null) {
+                        throw new MissingConfigurationException("multi-cloud.storage.cache (package '" + name + "' enables caching)");
+                    }
+                    target = new CachingStorageProvider(target, cache);
+                }
+                if (Boolean.TRUE.equals(override.getMetadataCacheEnabled())) {
+                    if (metadataCache == null) {
+                        throw new MissingConfigurationException("multi-cloud.storage.metadata-cache (package '" + name + "' enables metadata caching)");
+                    }
+                    target = new MetadataCachingStorageProvider(target, metadataCache);
+                }
+            }
+            packages.put(name, target);
+        }
+    }
+
+    private static String azureConnectionString(AzureBlobConfig azureConfig) {
+        return String.format(
                 "DefaultEndpointsProtocol=https;AccountName=%s;AccountKey=%s;EndpointSuffix=core.windows.net",
                 azureConfig.getAccountName(),
                 azureConfig.getAccountKey()
         );
-
-        return new BlobServiceClientBuilder()
-                .connectionString(connectionString)
-                .buildClient();
     }
-}
\ No newline at end of file
+}
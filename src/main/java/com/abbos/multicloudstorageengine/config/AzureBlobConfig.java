@@ -20,6 +20,9 @@ import java.util.List;
 @ConditionalOnProperty(prefix = "multi-cloud.storage.azure-blob", name = "enabled", havingValue = "true", matchIfMissing = false)
 public class AzureBlobConfig implements CloudConfig {
 
+    private static final long MAX_BLOCK_SIZE = 4000L * 1024 * 1024;
+    private static final long MAX_SINGLE_UPLOAD_SIZE = 5000L * 1024 * 1024;
+
     private boolean enabled;
     private String accountName;
     private String accountKey;
@@ -27,12 +30,30 @@ public class AzureBlobConfig implements CloudConfig {
     private String baseUrl;
     private List<String> packages = Collections.emptyList();
     private boolean logEnabled = false;
+    private long blockSize = 8 * 1024 * 1024;
+    private int maxConcurrency = 8;
+    private long maxSingleUploadSize = 16 * 1024 * 1024;
+    private int downloadRetries = 5;
+    private boolean rateLimitEnabled = false;
+    private int readRateLimit = 2_000;
+    private int writeRateLimit = 2_000;
+    private int rateLimitPrefixDepth = 1;
+    private boolean checksumEnabled = true;
 
     @PostConstruct
     public void validate() {
         validateField(accountName, "Azure Account Name");
         validateField(accountKey, "Azure Account Key");
         validateField(containerName, "Azure Container Name");
+        validateRange(blockSize, 64 * 1024, MAX_BLOCK_SIZE, "Azure block size");
+        validateRange(maxConcurrency, 1, 256, "Azure max concurrency");
+        validateRange(maxSingleUploadSize, 0, MAX_SINGLE_UPLOAD_SIZE, "Azure max single upload size");
+        validateRange(downloadRetries, 0, 100, "Azure download retries");
+        if (rateLimitEnabled) {
+            validateRange(readRateLimit, 1, 1_000_000, "Azure read rate limit");
+            validateRange(writeRateLimit, 1, 1_000_000, "Azure write rate limit");
+            validateRange(rateLimitPrefixDepth, 0, 64, "Azure rate limit prefix depth");
+        }
     }
 
     public boolean isEnabled() {
@@ -90,4 +111,105 @@ public class AzureBlobConfig implements CloudConfig {
     public void setLogEnabled(boolean logEnabled) {
         this.logEnabled = logEnabled;
     }
+
+    public long getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(long blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public long getMaxSingleUploadSize() {
+        return maxSingleUploadSize;
+    }
+
+    public void setMaxSingleUploadSize(long maxSingleUploadSize) {
+        this.maxSingleUploadSize = maxSingleUploadSize;
+    }
+
+    public int getDownloadRetries() {
+        return downloadRetries;
+    }
+
+    public void setDownloadRetries(int downloadRetries) {
+        this.downloadRetries = downloadRetries;
+    }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    public void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public int getReadRateLimit() {
+        return readRateLimit;
+    }
+
+    public void setReadRateLimit(int readRateLimit) {
+        this.readRateLimit = readRateLimit;
+    }
+
+    public int getWriteRateLimit() {
+        return writeRateLimit;
+    }
+
+    public void setWriteRateLimit(int writeRateLimit) {
+        this.writeRateLimit = writeRateLimit;
+    }
+
+    public int getRateLimitPrefixDepth() {
+        return rateLimitPrefixDepth;
+    }
+
+    public void setRateLimitPrefixDepth(int rateLimitPrefixDepth) {
+        this.rateLimitPrefixDepth = rateLimitPrefixDepth;
+    }
+
+    public boolean isChecksumEnabled() {
+        return checksumEnabled;
+    }
+
+    public void setChecksumEnabled(boolean checksumEnabled) {
+        this.checksumEnabled = checksumEnabled;
+    }
+
+    /**
+     * Creates a validated copy with different transfer tuning, used for packages that override it.
+     *
+     * @param blockSize      the block and download range size, or {@code null} to keep the current one
+     * @param maxConcurrency the number of blocks or ranges transferred in parallel, or {@code null} to keep the current one
+     * @return a new configuration sharing every other setting with this one
+     */
+    public AzureBlobConfig withTransferTuning(Long blockSize, Integer maxConcurrency) {
+        AzureBlobConfig copy = new AzureBlobConfig();
+        copy.enabled = enabled;
+        copy.accountName = accountName;
+        copy.accountKey = accountKey;
+        copy.containerName = containerName;
+        copy.baseUrl = baseUrl;
+        copy.packages = packages;
+        copy.logEnabled = logEnabled;
+        copy.blockSize = blockSize != null ? blockSize : this.blockSize;
+        copy.maxConcurrency = maxConcurrency != null ? maxConcurrency : this.maxConcurrency;
+        copy.maxSingleUploadSize = maxSingleUploadSize;
+        copy.downloadRetries = downloadRetries;
+        copy.rateLimitEnabled = rateLimitEnabled;
+        copy.readRateLimit = readRateLimit;
+        copy.writeRateLimit = writeRateLimit;
+        copy.rateLimitPrefixDepth = rateLimitPrefixDepth;
+        copy.checksumEnabled = checksumEnabled;
+        copy.validate();
+        return copy;
+    }
 }
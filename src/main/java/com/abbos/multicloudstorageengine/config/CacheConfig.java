@@ -0,0 +1,157 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read-through object cache, bound to 'multi-cloud.storage.cache' prefix.
+ * Entries are served without contacting the provider for {@code ttl}; afterwards they are revalidated
+ * against the entity tag of the stored object when {@code revalidate} is on, and downloaded again otherwise.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:10
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.cache")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.cache", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class CacheConfig implements CloudConfig {
+
+    /**
+     * Eviction policy of the memory tier.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Frequency-aware admission and eviction; resists scans of one-off keys.
+         */
+        TINY_LFU,
+        /**
+         * Least recently used.
+         */
+        LRU
+    }
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.TINY_LFU;
+    private long maxMemorySize = 64L * 1024 * 1024;
+    private boolean offHeap = false;
+    private int maxEntrySize = 4 * 1024 * 1024;
+    private Duration ttl = Duration.ofSeconds(30);
+    private boolean revalidate = true;
+    private boolean writeThrough = true;
+    private boolean diskEnabled = false;
+    private String diskPath = Path.of(System.getProperty("java.io.tmpdir"), "multi-cloud-storage-cache").toString();
+    private long maxDiskSize = 1024L * 1024 * 1024;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(maxMemorySize, 1024 * 1024, Long.MAX_VALUE, "Cache max memory size");
+        validateRange(maxEntrySize, 1, Math.min(maxMemorySize, Integer.MAX_VALUE - 8), "Cache max entry size");
+        validateRange(ttl.toMillis(), 1, Long.MAX_VALUE, "Cache TTL in milliseconds");
+        if (diskEnabled) {
+            validateField(diskPath, "Cache disk path");
+            validateRange(maxDiskSize, maxEntrySize, Long.MAX_VALUE, "Cache max disk size");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    public void setMaxMemorySize(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    public int getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(int maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public boolean isRevalidate() {
+        return revalidate;
+    }
+
+    public void setRevalidate(boolean revalidate) {
+        this.revalidate = revalidate;
+    }
+
+    public boolean isWriteThrough() {
+        return writeThrough;
+    }
+
+    public void setWriteThrough(boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
+
+    public boolean isDiskEnabled() {
+        return diskEnabled;
+    }
+
+    public void setDiskEnabled(boolean diskEnabled) {
+        this.diskEnabled = diskEnabled;
+    }
+
+    public String getDiskPath() {
+        return diskPath;
+    }
+
+    public void setDiskPath(String diskPath) {
+        this.diskPath = diskPath;
+    }
+
+    public long getMaxDiskSize() {
+        return maxDiskSize;
+    }
+
+    public void setMaxDiskSize(long maxDiskSize) {
+        this.maxDiskSize = maxDiskSize;
+    }
+}
@@ -1,5 +1,6 @@
 package com.abbos.multicloudstorageengine.config;
 
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
 import com.abbos.multicloudstorageengine.exception.MissingConfigurationException;
 
 /**
@@ -24,4 +25,34 @@ public interface CloudConfig {
             throw new MissingConfigurationException(fieldName + " is required but not provided.");
         }
     }
+
+    /**
+     * Validates that a numeric configuration field lies within the inclusive range {@code [min, max]}.
+     *
+     * @param value     the field value to check
+     * @param min       the smallest allowed value
+     * @param max       the largest allowed value
+     * @param fieldName the name of the field for error messaging
+     * @throws InvalidConfigurationException if the value is out of range
+     */
+    default void validateRange(long value, long min, long max, String fieldName) {
+        if (value < min || value > max) {
+            throw new InvalidConfigurationException(fieldName + " must be between " + min + " and " + max + " but was " + value + ".");
+        }
+    }
+
+    /**
+     * Validates that a fractional configuration field lies within the inclusive range {@code [min, max]}.
+     *
+     * @param value     the field value to check
+     * @param min       the smallest allowed value
+     * @param max       the largest allowed value
+     * @param fieldName the name of the field for error messaging
+     * @throws InvalidConfigurationException if the value is out of range or not a number
+     */
+    default void validateRange(double value, double min, double max, String fieldName) {
+        if (!(value >= min && value <= max)) {
+            throw new InvalidConfigurationException(fieldName + " must be between " + min + " and " + max + " but was " + value + ".");
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package com.abbos.multicloudstorageengine.config;
+
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration properties for the compression stage, bound to 'multi-cloud.storage.compression' prefix.
+ * Textual objects are compressed with {@code textCodec} and other objects with {@code binaryCodec}, unless
+ * they are smaller than {@code minSize}, their type is already compressed, or the first {@code sampleSize}
+ * bytes do not shrink below {@code maxRatio} of their size.
+ * <p>
+ * The first of {@code dictionaries} compresses small objects of the {@code dictionaryTypes} with zstd;
+ * the others remain readable so that a dictionary can be replaced without rewriting stored objects.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:15
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.compression")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.compression", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class CompressionConfig implements CloudConfig {
+
+    /**
+     * Compression codec.
+     */
+    public enum Codec {
+        /**
+         * Zstandard; the best ratio at a speed close to LZ4, and the only codec using dictionaries.
+         */
+        ZSTD,
+        /**
+         * LZ4 frame format; the fastest to compress and decompress, with a lower ratio.
+         */
+        LZ4,
+        /**
+         * Gzip; slower than both, for objects also read by tools that only understand gzip.
+         */
+        GZIP
+    }
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private Codec textCodec = Codec.ZSTD;
+    private Codec binaryCodec = Codec.LZ4;
+    private int zstdLevel = 3;
+    private int gzipLevel = 6;
+    private int minSize = 1024;
+    private int sampleSize = 64 * 1024;
+    private double maxRatio = 0.9;
+    private int spoolThreshold = 8 * 1024 * 1024;
+    private String spoolDirectory = Path.of(System.getProperty("java.io.tmpdir")).toString();
+    private List<String> dictionaries = Collections.emptyList();
+    private List<FileType> dictionaryTypes = List.of(FileType.JSON);
+    private int dictionaryMaxSize = 64 * 1024;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(zstdLevel, 1, 22, "Compression zstd level");
+        validateRange(gzipLevel, 1, 9, "Compression gzip level");
+        validateRange(minSize, 0, Integer.MAX_VALUE, "Compression min size");
+        validateRange(sampleSize, 1024, 16 * 1024 * 1024, "Compression sample size");
+        validateRange(maxRatio, 0.01, 1.0, "Compression max ratio");
+        validateRange(spoolThreshold, 0, Integer.MAX_VALUE - 8, "Compression spool threshold");
+        validateField(spoolDirectory, "Compression spool directory");
+        validateRange(dictionaryMaxSize, 0, Integer.MAX_VALUE, "Compression dictionary max size");
+        for (String dictionary : dictionaries) {
+            validateField(dictionary, "Compression dictionary path");
+        }
+        if (!dictionaries.isEmpty() && textCodec != Codec.ZSTD && binaryCodec != Codec.ZSTD) {
+            throw new InvalidConfigurationException("Compression dictionaries require the zstd codec.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public Codec getTextCodec() {
+        return textCodec;
+    }
+
+    public void setTextCodec(Codec textCodec) {
+        this.textCodec = textCodec;
+    }
+
+    public Codec getBinaryCodec() {
+        return binaryCodec;
+    }
+
+    public void setBinaryCodec(Codec binaryCodec) {
+        this.binaryCodec = binaryCodec;
+    }
+
+    public int getZstdLevel() {
+        return zstdLevel;
+    }
+
+    public void setZstdLevel(int zstdLevel) {
+        this.zstdLevel = zstdLevel;
+    }
+
+    public int getGzipLevel() {
+        return gzipLevel;
+    }
+
+    public void setGzipLevel(int gzipLevel) {
+        this.gzipLevel = gzipLevel;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public double getMaxRatio() {
+        return maxRatio;
+    }
+
+    public void setMaxRatio(double maxRatio) {
+        this.maxRatio = maxRatio;
+    }
+
+    public int getSpoolThreshold() {
+        return spoolThreshold;
+    }
+
+    public void setSpoolThreshold(int spoolThreshold) {
+        this.spoolThreshold = spoolThreshold;
+    }
+
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public List<String> getDictionaries() {
+        return dictionaries;
+    }
+
+    public void setDictionaries(List<String> dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    public List<FileType> getDictionaryTypes() {
+        return dictionaryTypes;
+    }
+
+    public void setDictionaryTypes(List<FileType> dictionaryTypes) {
+        this.dictionaryTypes = dictionaryTypes;
+    }
+
+    public int getDictionaryMaxSize() {
+        return dictionaryMaxSize;
+    }
+
+    public void setDictionaryMaxSize(int dictionaryMaxSize) {
+        this.dictionaryMaxSize = dictionaryMaxSize;
+    }
+}
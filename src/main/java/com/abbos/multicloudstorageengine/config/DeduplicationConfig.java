@@ -0,0 +1,130 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for content-addressed deduplication, bound to 'multi-cloud.storage.deduplication' prefix.
+ * Objects of at least {@code minSize} bytes are stored once per distinct content below {@code contentPrefix},
+ * in a namespace drawn by the index; their keys hold small references to it. The index of stored content and its reference counts is kept in
+ * {@code indexDirectory}, with a Bloom filter sized for {@code expectedObjects} distinct contents at
+ * {@code falsePositiveRate} in front of it.
+ * <p>
+ * Streams are hashed before they are uploaded, so they are spooled while they are read: in memory up to
+ * {@code spoolThreshold} bytes, then to a file in {@code spoolDirectory}.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:55
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.deduplication")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.deduplication", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class DeduplicationConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private int minSize = 64 * 1024;
+    private String contentPrefix = ".content/";
+    private String indexDirectory = Path.of(System.getProperty("java.io.tmpdir"), "multi-cloud-storage-deduplication").toString();
+    private boolean fsync = true;
+    private long expectedObjects = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private int spoolThreshold = 8 * 1024 * 1024;
+    private String spoolDirectory = Path.of(System.getProperty("java.io.tmpdir")).toString();
+
+    @PostConstruct
+    public void validate() {
+        validateRange(minSize, 0, Integer.MAX_VALUE, "Deduplication min size");
+        validateField(contentPrefix, "Deduplication content prefix");
+        validateField(indexDirectory, "Deduplication index directory");
+        validateRange(expectedObjects, 1, 1_000_000_000, "Deduplication expected objects");
+        validateRange(falsePositiveRate, 0.000001, 0.5, "Deduplication false positive rate");
+        validateRange(spoolThreshold, 0, Integer.MAX_VALUE - 8, "Deduplication spool threshold");
+        validateField(spoolDirectory, "Deduplication spool directory");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public String getContentPrefix() {
+        return contentPrefix;
+    }
+
+    public void setContentPrefix(String contentPrefix) {
+        this.contentPrefix = contentPrefix;
+    }
+
+    public String getIndexDirectory() {
+        return indexDirectory;
+    }
+
+    public void setIndexDirectory(String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    public long getExpectedObjects() {
+        return expectedObjects;
+    }
+
+    public void setExpectedObjects(long expectedObjects) {
+        this.expectedObjects = expectedObjects;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getSpoolThreshold() {
+        return spoolThreshold;
+    }
+
+    public void setSpoolThreshold(int spoolThreshold) {
+        this.spoolThreshold = spoolThreshold;
+    }
+
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+}
@@ -0,0 +1,108 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for client-side envelope encryption, bound to 'multi-cloud.storage.encryption' prefix.
+ * Every object is encrypted with its own data key, which is wrapped by the master key named {@code masterKeyAlias}
+ * in the keystore at {@code keyStorePath}; the other AES keys of the keystore remain usable for reading, so the
+ * master key can be rotated without re-encrypting stored objects.
+ * <p>
+ * Objects are encrypted in chunks of {@code chunkSize} bytes, each authenticated on its own, so that range reads
+ * only fetch and decrypt the chunks they cover. Objects without an encryption header are rejected unless
+ * {@code plaintextReadsAllowed} is set, which is meant for migrating existing data.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:15
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.encryption")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.encryption", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class EncryptionConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private String keyStorePath;
+    private String keyStoreType = "PKCS12";
+    private String keyStorePassword;
+    private String masterKeyAlias;
+    private int chunkSize = 64 * 1024;
+    private boolean plaintextReadsAllowed = false;
+
+    @PostConstruct
+    public void validate() {
+        validateField(keyStorePath, "Encryption key store path");
+        validateField(keyStoreType, "Encryption key store type");
+        validateField(keyStorePassword, "Encryption key store password");
+        validateField(masterKeyAlias, "Encryption master key alias");
+        validateRange(chunkSize, 4 * 1024, 16 * 1024 * 1024, "Encryption chunk size");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public String getKeyStorePath() {
+        return keyStorePath;
+    }
+
+    public void setKeyStorePath(String keyStorePath) {
+        this.keyStorePath = keyStorePath;
+    }
+
+    public String getKeyStoreType() {
+        return keyStoreType;
+    }
+
+    public void setKeyStoreType(String keyStoreType) {
+        this.keyStoreType = keyStoreType;
+    }
+
+    public String getKeyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public void setKeyStorePassword(String keyStorePassword) {
+        this.keyStorePassword = keyStorePassword;
+    }
+
+    public String getMasterKeyAlias() {
+        return masterKeyAlias;
+    }
+
+    public void setMasterKeyAlias(String masterKeyAlias) {
+        this.masterKeyAlias = masterKeyAlias;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isPlaintextReadsAllowed() {
+        return plaintextReadsAllowed;
+    }
+
+    public void setPlaintextReadsAllowed(boolean plaintextReadsAllowed) {
+        this.plaintextReadsAllowed = plaintextReadsAllowed;
+    }
+}
@@ -1,5 +1,6 @@
 package com.abbos.multicloudstorageengine.config;
 
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -19,6 +20,9 @@ import java.util.List;
 @ConfigurationProperties(prefix = "multi-cloud.storage.gcs")
 @ConditionalOnProperty(prefix = "multi-cloud.storage.gcs", name = "enabled", havingValue = "true", matchIfMissing = false)
 public class GCSConfig implements CloudConfig {
+
+    private static final int CHUNK_GRANULARITY = 256 * 1024;
+
     private boolean enabled;
     private String projectId;
     private String credentialsPath;
@@ -26,12 +30,31 @@ public class GCSConfig implements CloudConfig {
     private List<String> packages = Collections.emptyList();
     private String baseUrl;
     private boolean logEnabled;
+    private int uploadChunkSize = 16 * 1024 * 1024;
+    private int downloadChunkSize = 2 * 1024 * 1024;
+    private int resumeAttempts = 5;
+    private boolean rateLimitEnabled = false;
+    private int readRateLimit = 5_000;
+    private int writeRateLimit = 1_000;
+    private int rateLimitPrefixDepth = 1;
+    private boolean checksumEnabled = true;
 
     @PostConstruct
     public void validate() {
         validateField(projectId, "GCS Project ID");
         validateField(credentialsPath, "GCS Credentials Path");
         validateField(bucketName, "GCS Bucket name");
+        validateRange(uploadChunkSize, CHUNK_GRANULARITY, 512 * 1024 * 1024, "GCS upload chunk size");
+        if (uploadChunkSize % CHUNK_GRANULARITY != 0) {
+            throw new InvalidConfigurationException("GCS upload chunk size must be a multiple of 256 KiB but was " + uploadChunkSize + ".");
+        }
+        validateRange(downloadChunkSize, 64 * 1024, 512 * 1024 * 1024, "GCS download chunk size");
+        validateRange(resumeAttempts, 0, 100, "GCS resume attempts");
+        if (rateLimitEnabled) {
+            validateRange(readRateLimit, 1, 1_000_000, "GCS read rate limit");
+            validateRange(writeRateLimit, 1, 1_000_000, "GCS write rate limit");
+            validateRange(rateLimitPrefixDepth, 0, 64, "GCS rate limit prefix depth");
+        }
     }
 
     public boolean isEnabled() {
@@ -89,4 +112,100 @@ public class GCSConfig implements CloudConfig {
     public void setBucketName(String bucketName) {
         this.bucketName = bucketName;
     }
+
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public void setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
+    public int getDownloadChunkSize() {
+        return downloadChunkSize;
+    }
+
+    public void setDownloadChunkSize(int downloadChunkSize) {
+        this.downloadChunkSize = downloadChunkSize;
+    }
+
+    public int getResumeAttempts() {
+        return resumeAttempts;
+    }
+
+    public void setResumeAttempts(int resumeAttempts) {
+        this.resumeAttempts = resumeAttempts;
+    }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    public void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public int getReadRateLimit() {
+        return readRateLimit;
+    }
+
+    public void setReadRateLimit(int readRateLimit) {
+        this.readRateLimit = readRateLimit;
+    }
+
+    public int getWriteRateLimit() {
+        return writeRateLimit;
+    }
+
+    public void setWriteRateLimit(int writeRateLimit) {
+        this.writeRateLimit = writeRateLimit;
+    }
+
+    public int getRateLimitPrefixDepth() {
+        return rateLimitPrefixDepth;
+    }
+
+    public void setRateLimitPrefixDepth(int rateLimitPrefixDepth) {
+        this.rateLimitPrefixDepth = rateLimitPrefixDepth;
+    }
+
+    public boolean isChecksumEnabled() {
+        return checksumEnabled;
+    }
+
+    public void setChecksumEnabled(boolean checksumEnabled) {
+        this.checksumEnabled = checksumEnabled;
+    }
+
+    /**
+     * Creates a validated copy with a different chunk size, used for packages that override it. GCS
+     * transfers one chunk at a time, so there is no concurrency to tune.
+     *
+     * @param chunkSize the upload and download chunk size, or {@code null} to keep the current ones
+     * @return a new configuration sharing every other setting with this one
+     */
+    public GCSConfig withTransferTuning(Long chunkSize) {
+        GCSConfig copy = new GCSConfig();
+        copy.enabled = enabled;
+        copy.projectId = projectId;
+        copy.credentialsPath = credentialsPath;
+        copy.bucketName = bucketName;
+        copy.packages = packages;
+        copy.baseUrl = baseUrl;
+        copy.logEnabled = logEnabled;
+        copy.uploadChunkSize = uploadChunkSize;
+        copy.downloadChunkSize = downloadChunkSize;
+        copy.resumeAttempts = resumeAttempts;
+        copy.rateLimitEnabled = rateLimitEnabled;
+        copy.readRateLimit = readRateLimit;
+        copy.writeRateLimit = writeRateLimit;
+        copy.rateLimitPrefixDepth = rateLimitPrefixDepth;
+        copy.checksumEnabled = checksumEnabled;
+        if (chunkSize != null) {
+            copy.uploadChunkSize = Math.toIntExact(chunkSize);
+            copy.downloadChunkSize = Math.toIntExact(chunkSize);
+        }
+        copy.validate();
+        return copy;
+    }
 }
\ No newline at end of file
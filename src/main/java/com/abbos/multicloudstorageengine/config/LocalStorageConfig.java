@@ -0,0 +1,87 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Configuration properties for the local filesystem storage provider, bound to 'multi-cloud.storage.local' prefix.
+ * <p>
+ * Every key is a file below {@code rootDirectory}, with {@code /} separating directories. Writes go to a
+ * temporary file that is renamed over the target once complete; with {@code fsync} the file and its
+ * directory are forced to disk before the rename is reported, which survives a crash at the price of
+ * write latency.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:30
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.local")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.local", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class LocalStorageConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled = false;
+    private List<String> packages;
+    private String rootDirectory;
+    private boolean fsync = true;
+    private int chunkSize = 64 * 1024;
+
+    @PostConstruct
+    public void validate() {
+        validateField(rootDirectory, "Local storage root directory");
+        validateRange(chunkSize, 4 * 1024, 64 * 1024 * 1024, "Local storage chunk size");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    public void setPackages(List<String> packages) {
+        this.packages = packages;
+    }
+
+    public String getRootDirectory() {
+        return rootDirectory;
+    }
+
+    public void setRootDirectory(String rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,104 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the logging of the storage engine, bound to 'multi-cloud.storage.logging'
+ * prefix.
+ * <p>
+ * With {@code async} on, every event logged under {@code com.abbos.multicloudstorageengine} is handed to a
+ * Logback {@code AsyncAppender} that writes it to the appenders the engine's loggers were using, so that
+ * provider threads never wait for a log write. The queue holds {@code queue-size} events; once fewer than
+ * {@code discarding-threshold} slots remain, DEBUG and INFO events are dropped, and with
+ * {@code never-block} every event is dropped rather than blocking the caller when the queue is full.
+ * A threshold of {@code -1} selects Logback's default of a fifth of the queue. Queued events are flushed
+ * for at most {@code max-flush-time} at shutdown. Without this configuration, or with Logback not bound to
+ * SLF4J, logging stays synchronous.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:45
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.logging")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.logging", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class LoggingConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean async = true;
+    private int queueSize = 1024;
+    private int discardingThreshold = -1;
+    private boolean neverBlock = true;
+    private boolean includeCallerData = false;
+    private Duration maxFlushTime = Duration.ofSeconds(1);
+
+    @PostConstruct
+    public void validate() {
+        if (async) {
+            validateRange(queueSize, 1, 1 << 20, "Logging queue size");
+            validateRange(discardingThreshold, -1, queueSize, "Logging discarding threshold");
+            validateRange(maxFlushTime.toMillis(), 0, Integer.MAX_VALUE, "Logging max flush time in milliseconds");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public boolean isNeverBlock() {
+        return neverBlock;
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public Duration getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(Duration maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+}
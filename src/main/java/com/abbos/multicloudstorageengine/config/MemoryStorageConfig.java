@@ -0,0 +1,87 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Configuration properties for the off-heap in-memory storage provider, bound to 'multi-cloud.storage.memory' prefix.
+ * <p>
+ * Object content lives in direct buffers outside the Java heap, bounded in total by {@code maxSize}; the
+ * JVM must allow at least as much direct memory ({@code -XX:MaxDirectMemorySize}). The key index is split
+ * into {@code stripes} independently locked segments, rounded up to a power of two.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:30
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.memory")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.memory", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class MemoryStorageConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled = false;
+    private List<String> packages;
+    private long maxSize = 256L * 1024 * 1024;
+    private int stripes = 64;
+    private int chunkSize = 64 * 1024;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(maxSize, 1024 * 1024, Long.MAX_VALUE, "Memory storage max size");
+        validateRange(stripes, 1, 1 << 16, "Memory storage stripes");
+        validateRange(chunkSize, 4 * 1024, 64 * 1024 * 1024, "Memory storage chunk size");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    public void setPackages(List<String> packages) {
+        this.packages = packages;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
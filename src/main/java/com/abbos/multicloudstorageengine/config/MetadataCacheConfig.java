@@ -0,0 +1,75 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the object metadata cache, bound to 'multi-cloud.storage.metadata-cache' prefix.
+ * Up to {@code maxEntries} stats are served without contacting the provider for {@code ttl}. With
+ * {@code cacheMisses} on, keys found absent are remembered for as long, so repeated existence checks of
+ * missing keys cost one request per TTL as well.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:50
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.metadata-cache")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.metadata-cache", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class MetadataCacheConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private Duration ttl = Duration.ofSeconds(30);
+    private int maxEntries = 100_000;
+    private boolean cacheMisses = true;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(ttl.toMillis(), 1, Long.MAX_VALUE, "Metadata cache TTL in milliseconds");
+        validateRange(maxEntries, 1, Integer.MAX_VALUE, "Metadata cache max entries");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isCacheMisses() {
+        return cacheMisses;
+    }
+
+    public void setCacheMisses(boolean cacheMisses) {
+        this.cacheMisses = cacheMisses;
+    }
+}
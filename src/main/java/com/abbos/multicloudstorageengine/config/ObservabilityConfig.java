@@ -0,0 +1,90 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Configuration properties for provider metrics and tracing, bound to 'multi-cloud.storage.observability'
+ * prefix.
+ * <p>
+ * Metrics are recorded to the application's Micrometer {@code MeterRegistry}, or the global registry if
+ * there is none, and spans to the application's {@code OpenTelemetry}, or the global instance. Without this
+ * configuration, or with both {@code metrics-enabled} and {@code tracing-enabled} off, providers are not
+ * instrumented at all. Spans carry the object key unless {@code key-attribute-enabled} is off, for keys
+ * that are sensitive; metrics never do.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:00
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.observability")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.observability", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class ObservabilityConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean metricsEnabled = true;
+    private boolean tracingEnabled = true;
+    private boolean percentileHistogram = true;
+    private List<Double> percentiles = List.of(0.5, 0.95, 0.99);
+    private boolean keyAttributeEnabled = true;
+
+    @PostConstruct
+    public void validate() {
+        for (Double percentile : percentiles) {
+            validateRange(percentile, 0.0, 1.0, "Observability percentile");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    public void setTracingEnabled(boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+    }
+
+    public boolean isPercentileHistogram() {
+        return percentileHistogram;
+    }
+
+    public void setPercentileHistogram(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    public List<Double> getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(List<Double> percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    public boolean isKeyAttributeEnabled() {
+        return keyAttributeEnabled;
+    }
+
+    public void setKeyAttributeEnabled(boolean keyAttributeEnabled) {
+        this.keyAttributeEnabled = keyAttributeEnabled;
+    }
+}
@@ -0,0 +1,173 @@
+package com.abbos.multicloudstorageengine.config;
+
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for routing keys by package, bound to 'multi-cloud.storage.package-routing' prefix.
+ * <p>
+ * The packages themselves are the {@code packages} lists of the provider configurations: a key is stored
+ * by the provider listing the longest package it falls under, and by {@code default-provider} when it falls
+ * under none. {@code overrides} tunes individual packages; as package names usually contain {@code /} or
+ * {@code .}, their keys are written in brackets, e.g. {@code overrides[archive/logs].part-size}.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:20
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.package-routing")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.package-routing", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class PackageRoutingConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private String defaultProvider;
+    private Map<String, PackageOverride> overrides = new LinkedHashMap<>();
+
+    /**
+     * Settings of a single package that differ from those of its provider. Unset values are inherited.
+     */
+    public static class PackageOverride {
+        private Long partSize;
+        private Integer concurrency;
+        private Boolean cacheEnabled;
+        private Boolean compressionEnabled;
+        private Boolean encryptionEnabled;
+        private Boolean deduplicationEnabled;
+        private Boolean metadataCacheEnabled;
+
+        /**
+         * @return the part, block or chunk size of transfers in this package
+         */
+        public Long getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(Long partSize) {
+            this.partSize = partSize;
+        }
+
+        /**
+         * @return the number of parts transferred in parallel; ignored by GCS, which transfers one chunk at a time
+         */
+        public Integer getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        /**
+         * @return whether reads in this package go through the object cache
+         */
+        public Boolean getCacheEnabled() {
+            return cacheEnabled;
+        }
+
+        public void setCacheEnabled(Boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+        }
+
+        /**
+         * @return whether objects in this package are stored through the compression stage
+         */
+        public Boolean getCompressionEnabled() {
+            return compressionEnabled;
+        }
+
+        public void setCompressionEnabled(Boolean compressionEnabled) {
+            this.compressionEnabled = compressionEnabled;
+        }
+
+        /**
+         * @return whether objects in this package are stored through the encryption stage
+         */
+        public Boolean getEncryptionEnabled() {
+            return encryptionEnabled;
+        }
+
+        public void setEncryptionEnabled(Boolean encryptionEnabled) {
+            this.encryptionEnabled = encryptionEnabled;
+        }
+
+        /**
+         * @return whether objects in this package are stored through the deduplication stage
+         */
+        public Boolean getDeduplicationEnabled() {
+            return deduplicationEnabled;
+        }
+
+        public void setDeduplicationEnabled(Boolean deduplicationEnabled) {
+            this.deduplicationEnabled = deduplicationEnabled;
+        }
+
+        /**
+         * @return whether stats of objects in this package are served by the metadata cache
+         */
+        public Boolean getMetadataCacheEnabled() {
+            return metadataCacheEnabled;
+        }
+
+        public void setMetadataCacheEnabled(Boolean metadataCacheEnabled) {
+            this.metadataCacheEnabled = metadataCacheEnabled;
+        }
+    }
+
+    @PostConstruct
+    public void validate() {
+        if (defaultProvider != null && !ReplicationConfig.PROVIDERS.contains(defaultProvider)) {
+            throw new InvalidConfigurationException("Package routing default provider must be one of "
+                    + ReplicationConfig.PROVIDERS + " but was '" + defaultProvider + "'.");
+        }
+        overrides.forEach((name, override) -> {
+            validateField(name, "Package routing override package");
+            if (override.getPartSize() != null) {
+                validateRange(override.getPartSize(), 64 * 1024, Long.MAX_VALUE, "Package '" + name + "' part size");
+            }
+            if (override.getConcurrency() != null) {
+                validateRange(override.getConcurrency(), 1, 1024, "Package '" + name + "' concurrency");
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public String getDefaultProvider() {
+        return defaultProvider;
+    }
+
+    public void setDefaultProvider(String defaultProvider) {
+        this.defaultProvider = defaultProvider;
+    }
+
+    public Map<String, PackageOverride> getOverrides() {
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    public void setOverrides(Map<String, PackageOverride> overrides) {
+        this.overrides = overrides != null ? overrides : new LinkedHashMap<>();
+    }
+}
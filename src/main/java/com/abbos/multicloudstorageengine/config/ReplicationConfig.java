@@ -0,0 +1,229 @@
+package com.abbos.multicloudstorageengine.config;
+
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration properties for cross-provider replication, bound to 'multi-cloud.storage.replication' prefix.
+ * {@code primary} and {@code secondaries} name the providers by their configuration prefix ({@code aws},
+ * {@code gcs} or {@code azure-blob}); when no secondaries are listed every other enabled provider is used.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  22:10
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.replication")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.replication", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class ReplicationConfig implements CloudConfig {
+
+    /**
+     * The provider names accepted by {@code primary} and {@code secondaries}.
+     */
+    public static final Set<String> PROVIDERS = Set.of("aws", "gcs", "azure-blob");
+
+    /**
+     * When a write returns relative to its replication.
+     */
+    public enum Mode {
+        /**
+         * After the primary and every secondary have stored the object.
+         */
+        SYNC,
+        /**
+         * After the primary and {@code write-quorum} secondaries have stored the object.
+         */
+        QUORUM,
+        /**
+         * After the primary has stored the object; secondaries are updated in the background from the journal.
+         */
+        ASYNC
+    }
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private Mode mode = Mode.ASYNC;
+    private String primary;
+    private List<String> secondaries = new ArrayList<>();
+    private int writeQuorum = 1;
+    private String journalPath = Path.of(System.getProperty("java.io.tmpdir"), "multi-cloud-storage-replication").toString();
+    private int maxConcurrency = 16;
+    private Duration retryDelay = Duration.ofSeconds(1);
+    private Duration maxRetryDelay = Duration.ofMinutes(5);
+    private int maxAttempts = 20;
+    private Duration taskTimeout = Duration.ofMinutes(10);
+    private boolean readFailover = true;
+    private boolean repairEnabled = true;
+    private Duration repairInterval = Duration.ofMinutes(5);
+    private int repairBatchSize = 1000;
+    private int repairWindow = 100_000;
+
+    @PostConstruct
+    public void validate() {
+        validateField(primary, "Replication primary");
+        validateProvider(primary);
+        secondaries.forEach(this::validateProvider);
+        if (secondaries.contains(primary)) {
+            throw new InvalidConfigurationException("Replication primary '" + primary + "' cannot also be a secondary.");
+        }
+        validateField(journalPath, "Replication journal path");
+        validateRange(writeQuorum, 1, 16, "Replication write quorum");
+        validateRange(maxConcurrency, 1, 10_000, "Replication max concurrency");
+        validateRange(retryDelay.toMillis(), 1, maxRetryDelay.toMillis(), "Replication retry delay in milliseconds");
+        validateRange(maxAttempts, 1, Integer.MAX_VALUE, "Replication max attempts");
+        validateRange(taskTimeout.toMillis(), 1, Long.MAX_VALUE, "Replication task timeout in milliseconds");
+        validateRange(repairInterval.toMillis(), 1_000, Long.MAX_VALUE, "Replication repair interval in milliseconds");
+        validateRange(repairBatchSize, 1, repairWindow, "Replication repair batch size");
+        validateRange(repairWindow, 1, 10_000_000, "Replication repair window");
+    }
+
+    private void validateProvider(String name) {
+        if (!PROVIDERS.contains(name)) {
+            throw new InvalidConfigurationException("Replication provider must be one of " + PROVIDERS + " but was '" + name + "'.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public String getPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(String primary) {
+        this.primary = primary;
+    }
+
+    public List<String> getSecondaries() {
+        return secondaries;
+    }
+
+    public void setSecondaries(List<String> secondaries) {
+        this.secondaries = secondaries;
+    }
+
+    public int getWriteQuorum() {
+        return writeQuorum;
+    }
+
+    public void setWriteQuorum(int writeQuorum) {
+        this.writeQuorum = writeQuorum;
+    }
+
+    public String getJournalPath() {
+        return journalPath;
+    }
+
+    public void setJournalPath(String journalPath) {
+        this.journalPath = journalPath;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    public void setMaxRetryDelay(Duration maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getTaskTimeout() {
+        return taskTimeout;
+    }
+
+    public void setTaskTimeout(Duration taskTimeout) {
+        this.taskTimeout = taskTimeout;
+    }
+
+    public boolean isReadFailover() {
+        return readFailover;
+    }
+
+    public void setReadFailover(boolean readFailover) {
+        this.readFailover = readFailover;
+    }
+
+    public boolean isRepairEnabled() {
+        return repairEnabled;
+    }
+
+    public void setRepairEnabled(boolean repairEnabled) {
+        this.repairEnabled = repairEnabled;
+    }
+
+    public Duration getRepairInterval() {
+        return repairInterval;
+    }
+
+    public void setRepairInterval(Duration repairInterval) {
+        this.repairInterval = repairInterval;
+    }
+
+    public int getRepairBatchSize() {
+        return repairBatchSize;
+    }
+
+    public void setRepairBatchSize(int repairBatchSize) {
+        this.repairBatchSize = repairBatchSize;
+    }
+
+    public int getRepairWindow() {
+        return repairWindow;
+    }
+
+    public void setRepairWindow(int repairWindow) {
+        this.repairWindow = repairWindow;
+    }
+}
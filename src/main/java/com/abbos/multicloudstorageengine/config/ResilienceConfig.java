@@ -0,0 +1,159 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the per-provider circuit breaker and bulkhead, bound to
+ * 'multi-cloud.storage.resilience' prefix. Every provider gets its own instances with these settings.
+ * <p>
+ * The circuit opens once at least {@code minimum-calls} calls were made within {@code window} and the share
+ * of failed calls reaches {@code failure-rate-threshold}, or the share of calls slower than
+ * {@code slow-call-duration} reaches {@code slow-call-rate-threshold}. Only transient failures count; a
+ * missing object is a healthy answer. After {@code open-duration} the circuit lets {@code half-open-probes}
+ * calls through and closes when all of them succeed in time.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:50
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.resilience")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.resilience", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class ResilienceConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private boolean circuitBreakerEnabled = true;
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 0.8;
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+    private int minimumCalls = 20;
+    private Duration window = Duration.ofMinutes(1);
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenProbes = 5;
+    private boolean bulkheadEnabled = true;
+    private int maxConcurrentCalls = 256;
+    private Duration maxWait = Duration.ZERO;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(failureRateThreshold, 0.01, 1.0, "Resilience failure rate threshold");
+        validateRange(slowCallRateThreshold, 0.01, 1.0, "Resilience slow call rate threshold");
+        validateRange(slowCallDuration.toMillis(), 1, Long.MAX_VALUE, "Resilience slow call duration in milliseconds");
+        validateRange(minimumCalls, 1, 1_000_000, "Resilience minimum calls");
+        validateRange(window.toMillis(), 1000, Long.MAX_VALUE, "Resilience window in milliseconds");
+        validateRange(openDuration.toMillis(), 1, Long.MAX_VALUE, "Resilience open duration in milliseconds");
+        validateRange(halfOpenProbes, 1, 1000, "Resilience half-open probes");
+        validateRange(maxConcurrentCalls, 1, 1_000_000, "Resilience max concurrent calls");
+        validateRange(maxWait.toMillis(), 0, Long.MAX_VALUE, "Resilience max wait in milliseconds");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public boolean isBulkheadEnabled() {
+        return bulkheadEnabled;
+    }
+
+    public void setBulkheadEnabled(boolean bulkheadEnabled) {
+        this.bulkheadEnabled = bulkheadEnabled;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
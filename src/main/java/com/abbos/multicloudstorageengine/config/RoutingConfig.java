@@ -0,0 +1,145 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for latency-aware read routing across replicas, bound to
+ * 'multi-cloud.storage.routing' prefix. Reads go to the healthy replica with the lowest
+ * {@code rank-percentile} latency over the last {@code window}; a read still unanswered after that
+ * replica's {@code hedge-percentile} latency is duplicated to the next one, for at most
+ * {@code hedge-budget} of all reads. Percentiles and the budget are fractions between 0 and 1.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:20
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.routing")
+@ConditionalOnProperty(prefix = "multi-cloud.storage.routing", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class RoutingConfig implements CloudConfig {
+
+    private boolean enabled;
+    private boolean logEnabled;
+    private double rankPercentile = 0.5;
+    private boolean hedgeEnabled = true;
+    private double hedgePercentile = 0.95;
+    private Duration defaultHedgeDelay = Duration.ofMillis(100);
+    private Duration minHedgeDelay = Duration.ofMillis(5);
+    private double hedgeBudget = 0.1;
+    private int minSamples = 20;
+    private Duration window = Duration.ofMinutes(1);
+    private int failureThreshold = 3;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    @PostConstruct
+    public void validate() {
+        validateRange(rankPercentile, 0.01, 0.999, "Routing rank percentile");
+        validateRange(hedgePercentile, 0.01, 0.999, "Routing hedge percentile");
+        validateRange(hedgeBudget, 0, 1, "Routing hedge budget");
+        validateRange(minHedgeDelay.toMillis(), 0, defaultHedgeDelay.toMillis(), "Routing min hedge delay in milliseconds");
+        validateRange(minSamples, 1, 1_000_000, "Routing min samples");
+        validateRange(window.toMillis(), 1_000, Long.MAX_VALUE, "Routing window in milliseconds");
+        validateRange(failureThreshold, 1, 1_000, "Routing failure threshold");
+        validateRange(ejectionDuration.toMillis(), 0, Long.MAX_VALUE, "Routing ejection duration in milliseconds");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    public double getRankPercentile() {
+        return rankPercentile;
+    }
+
+    public void setRankPercentile(double rankPercentile) {
+        this.rankPercentile = rankPercentile;
+    }
+
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public Duration getDefaultHedgeDelay() {
+        return defaultHedgeDelay;
+    }
+
+    public void setDefaultHedgeDelay(Duration defaultHedgeDelay) {
+        this.defaultHedgeDelay = defaultHedgeDelay;
+    }
+
+    public Duration getMinHedgeDelay() {
+        return minHedgeDelay;
+    }
+
+    public void setMinHedgeDelay(Duration minHedgeDelay) {
+        this.minHedgeDelay = minHedgeDelay;
+    }
+
+    public double getHedgeBudget() {
+        return hedgeBudget;
+    }
+
+    public void setHedgeBudget(double hedgeBudget) {
+        this.hedgeBudget = hedgeBudget;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getEjectionDuration() {
+        return ejectionDuration;
+    }
+
+    public void setEjectionDuration(Duration ejectionDuration) {
+        this.ejectionDuration = ejectionDuration;
+    }
+}
@@ -1,5 +1,7 @@
 package com.abbos.multicloudstorageengine.config;
 
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -19,6 +21,10 @@ import java.util.List;
 @ConditionalOnProperty(prefix = "multi-cloud.storage.aws", name = "enabled", havingValue = "true", matchIfMissing = false)
 public class S3Config implements CloudConfig {
 
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = 1024L * 1024 * 1024;
+    private static final long MAX_SINGLE_PUT_SIZE = 5L * 1024 * 1024 * 1024;
+
     private boolean enabled;
     private String accessKey;
     private String secretKey;
@@ -27,6 +33,22 @@ public class S3Config implements CloudConfig {
     private List<String> packages;
     private String baseUrl;
     private boolean logEnabled = false;
+    private long multipartThreshold = 16L * 1024 * 1024;
+    private long multipartPartSize = 8L * 1024 * 1024;
+    private int multipartConcurrency = 8;
+    private int multipartPartRetries = 3;
+    private long parallelDownloadThreshold = 16L * 1024 * 1024;
+    private long downloadChunkSize = 8L * 1024 * 1024;
+    private int downloadConcurrency = 8;
+    private boolean crtEnabled = false;
+    private int asyncMaxConcurrency = 500;
+    private double targetThroughputGbps = 10.0;
+    private boolean rateLimitEnabled = false;
+    private int readRateLimit = 5_500;
+    private int writeRateLimit = 3_500;
+    private int rateLimitPrefixDepth = 1;
+    private boolean checksumEnabled = true;
+    private ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.CRC64NVME;
 
     @PostConstruct
     public void validate() {
@@ -34,6 +56,22 @@ public class S3Config implements CloudConfig {
         validateField(secretKey, "AWS Secret Key");
         validateField(region, "AWS Region");
         validateField(bucketName, "AWS Bucket name");
+        validateRange(multipartPartSize, MIN_PART_SIZE, MAX_PART_SIZE, "AWS multipart part size");
+        validateRange(multipartThreshold, multipartPartSize, MAX_SINGLE_PUT_SIZE, "AWS multipart threshold");
+        validateRange(multipartConcurrency, 1, 1024, "AWS multipart concurrency");
+        validateRange(multipartPartRetries, 0, 100, "AWS multipart part retries");
+        validateRange(downloadChunkSize, 64 * 1024, MAX_PART_SIZE, "AWS download chunk size");
+        validateRange(parallelDownloadThreshold, downloadChunkSize, Long.MAX_VALUE, "AWS parallel download threshold");
+        validateRange(downloadConcurrency, 1, 1024, "AWS download concurrency");
+        validateRange(asyncMaxConcurrency, 1, 100_000, "AWS async max concurrency");
+        if (rateLimitEnabled) {
+            validateRange(readRateLimit, 1, 1_000_000, "AWS read rate limit");
+            validateRange(writeRateLimit, 1, 1_000_000, "AWS write rate limit");
+            validateRange(rateLimitPrefixDepth, 0, 64, "AWS rate limit prefix depth");
+        }
+        if (checksumEnabled && (checksumAlgorithm == null || checksumAlgorithm == ChecksumAlgorithm.MD5)) {
+            throw new InvalidConfigurationException("AWS checksum algorithm must be CRC32, CRC32C, CRC64NVME or SHA256 but was " + checksumAlgorithm + ".");
+        }
     }
 
     public boolean isEnabled() {
@@ -99,4 +137,179 @@ public class S3Config implements CloudConfig {
     public void setBucketName(String bucketName) {
         this.bucketName = bucketName;
     }
+
+    public long getMultipartThreshold() {
+        return multipartThreshold;
+    }
+
+    public void setMultipartThreshold(long multipartThreshold) {
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    public long getMultipartPartSize() {
+        return multipartPartSize;
+    }
+
+    public void setMultipartPartSize(long multipartPartSize) {
+        this.multipartPartSize = multipartPartSize;
+    }
+
+    public int getMultipartConcurrency() {
+        return multipartConcurrency;
+    }
+
+    public void setMultipartConcurrency(int multipartConcurrency) {
+        this.multipartConcurrency = multipartConcurrency;
+    }
+
+    public int getMultipartPartRetries() {
+        return multipartPartRetries;
+    }
+
+    public void setMultipartPartRetries(int multipartPartRetries) {
+        this.multipartPartRetries = multipartPartRetries;
+    }
+
+    public long getParallelDownloadThreshold() {
+        return parallelDownloadThreshold;
+    }
+
+    public void setParallelDownloadThreshold(long parallelDownloadThreshold) {
+        this.parallelDownloadThreshold = parallelDownloadThreshold;
+    }
+
+    public long getDownloadChunkSize() {
+        return downloadChunkSize;
+    }
+
+    public void setDownloadChunkSize(long downloadChunkSize) {
+        this.downloadChunkSize = downloadChunkSize;
+    }
+
+    public int getDownloadConcurrency() {
+        return downloadConcurrency;
+    }
+
+    public void setDownloadConcurrency(int downloadConcurrency) {
+        this.downloadConcurrency = downloadConcurrency;
+    }
+
+    public boolean isCrtEnabled() {
+        return crtEnabled;
+    }
+
+    public void setCrtEnabled(boolean crtEnabled) {
+        this.crtEnabled = crtEnabled;
+    }
+
+    public int getAsyncMaxConcurrency() {
+        return asyncMaxConcurrency;
+    }
+
+    public void setAsyncMaxConcurrency(int asyncMaxConcurrency) {
+        this.asyncMaxConcurrency = asyncMaxConcurrency;
+    }
+
+    public double getTargetThroughputGbps() {
+        return targetThroughputGbps;
+    }
+
+    public void setTargetThroughputGbps(double targetThroughputGbps) {
+        this.targetThroughputGbps = targetThroughputGbps;
+    }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    public void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public int getReadRateLimit() {
+        return readRateLimit;
+    }
+
+    public void setReadRateLimit(int readRateLimit) {
+        this.readRateLimit = readRateLimit;
+    }
+
+    public int getWriteRateLimit() {
+        return writeRateLimit;
+    }
+
+    public void setWriteRateLimit(int writeRateLimit) {
+        this.writeRateLimit = writeRateLimit;
+    }
+
+    public int getRateLimitPrefixDepth() {
+        return rateLimitPrefixDepth;
+    }
+
+    public void setRateLimitPrefixDepth(int rateLimitPrefixDepth) {
+        this.rateLimitPrefixDepth = rateLimitPrefixDepth;
+    }
+
+    public boolean isChecksumEnabled() {
+        return checksumEnabled;
+    }
+
+    public void setChecksumEnabled(boolean checksumEnabled) {
+        this.checksumEnabled = checksumEnabled;
+    }
+
+    public ChecksumAlgorithm getChecksumAlgorithm() {
+        return checksumAlgorithm;
+    }
+
+    public void setChecksumAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
+
+    /**
+     * Creates a validated copy with different transfer tuning, used for packages that override it.
+     *
+     * @param partSize    the multipart part and download chunk size, or {@code null} to keep the current ones
+     * @param concurrency the multipart upload and download concurrency, or {@code null} to keep the current ones
+     * @return a new configuration sharing every other setting with this one
+     */
+    public S3Config withTransferTuning(Long partSize, Integer concurrency) {
+        S3Config copy = new S3Config();
+        copy.enabled = enabled;
+        copy.accessKey = accessKey;
+        copy.secretKey = secretKey;
+        copy.region = region;
+        copy.bucketName = bucketName;
+        copy.packages = packages;
+        copy.baseUrl = baseUrl;
+        copy.logEnabled = logEnabled;
+        copy.multipartThreshold = multipartThreshold;
+        copy.multipartPartSize = multipartPartSize;
+        copy.multipartConcurrency = multipartConcurrency;
+        copy.multipartPartRetries = multipartPartRetries;
+        copy.parallelDownloadThreshold = parallelDownloadThreshold;
+        copy.downloadChunkSize = downloadChunkSize;
+        copy.downloadConcurrency = downloadConcurrency;
+        copy.crtEnabled = crtEnabled;
+        copy.asyncMaxConcurrency = asyncMaxConcurrency;
+        copy.targetThroughputGbps = targetThroughputGbps;
+        copy.rateLimitEnabled = rateLimitEnabled;
+        copy.readRateLimit = readRateLimit;
+        copy.writeRateLimit = writeRateLimit;
+        copy.rateLimitPrefixDepth = rateLimitPrefixDepth;
+        copy.checksumEnabled = checksumEnabled;
+        copy.checksumAlgorithm = checksumAlgorithm;
+        if (partSize != null) {
+            copy.multipartPartSize = partSize;
+            copy.multipartThreshold = Math.max(multipartThreshold, partSize);
+            copy.downloadChunkSize = partSize;
+            copy.parallelDownloadThreshold = Math.max(parallelDownloadThreshold, partSize);
+        }
+        if (concurrency != null) {
+            copy.multipartConcurrency = concurrency;
+            copy.downloadConcurrency = concurrency;
+        }
+        copy.validate();
+        return copy;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.abbos.multicloudstorageengine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the priority-aware request scheduler, bound to
+ * 'multi-cloud.storage.scheduler' prefix. {@code maxConcurrency} should match the size of the
+ * upstream connection pool so that queueing happens in the scheduler rather than in the client;
+ * its default matches the default S3 asynchronous pool, {@code asyncMaxConcurrency}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  14:40
+ **/
+@Component
+@ConfigurationProperties(prefix = "multi-cloud.storage.scheduler")
+public class SchedulerConfig implements CloudConfig {
+
+    private int maxConcurrency = 500;
+    private int queueCapacity = 10_000;
+    private int highWeight = 8;
+    private int mediumWeight = 4;
+    private int lowWeight = 1;
+
+    @PostConstruct
+    public void validate() {
+        validateRange(maxConcurrency, 1, 100_000, "Scheduler max concurrency");
+        validateRange(queueCapacity, 0, Integer.MAX_VALUE, "Scheduler queue capacity");
+        validateRange(highWeight, 1, 1_000, "Scheduler HIGH weight");
+        validateRange(mediumWeight, 1, 1_000, "Scheduler MEDIUM weight");
+        validateRange(lowWeight, 1, 1_000, "Scheduler LOW weight");
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getHighWeight() {
+        return highWeight;
+    }
+
+    public void setHighWeight(int highWeight) {
+        this.highWeight = highWeight;
+    }
+
+    public int getMediumWeight() {
+        return mediumWeight;
+    }
+
+    public void setMediumWeight(int mediumWeight) {
+        this.mediumWeight = mediumWeight;
+    }
+
+    public int getLowWeight() {
+        return lowWeight;
+    }
+
+    public void setLowWeight(int lowWeight) {
+        this.lowWeight = lowWeight;
+    }
+}
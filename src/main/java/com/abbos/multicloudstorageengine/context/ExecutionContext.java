@@ -5,14 +5,23 @@ import com.abbos.multicloudstorageengine.enums.MetadataKey;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
- * Defines an immutable context for storage operations, encapsulating timeout, retry limits,
+ * Defines an immutable context for storage operations, encapsulating timeouts, retry limits,
  * priority, and metadata key-value pairs. This class is designed to provide a thread-safe,
  * immutable configuration for storage-related tasks in a multi-cloud environment.
  *
+ * <p>Besides the predefined {@link MetadataKey} pairs, a context may carry user-defined metadata, which
+ * uploads store with the object and {@code stat} reports back. Its names are restricted to lowercase
+ * letters, digits and underscores and its values to printable ASCII, within 2 KiB in total, so that every
+ * provider stores them unchanged. Names starting with {@value #RESERVED_PREFIX} are reserved for the
+ * storage stages of the engine.
+ *
  * <p>Instances of this class can be created using the {@link Builder} class or the static factory
  * methods {@link #of(Duration, int, Pair)}, {@link #of(Duration, int, List)}, and {@link #ofDefault()}.
  *
@@ -21,10 +30,18 @@ import java.util.Objects;
  */
 @SuppressWarnings("unused")
 public final class ExecutionContext {
+    /**
+     * Prefix of the user metadata names the storage stages of the engine record with objects.
+     */
+    public static final String RESERVED_PREFIX = "mcs_";
+    private static final Pattern USER_METADATA_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int MAX_USER_METADATA_SIZE = 2048;
     private final Duration timeout;
+    private final Duration attemptTimeout;
     private final int maxRetries;
     private final Priority priority;
     private final List<Pair<MetadataKey, Object>> metadata;
+    private final Map<String, String> userMetadata;
 
     /**
      * Priority levels for storage operations.
@@ -35,19 +52,24 @@ public final class ExecutionContext {
 
     private ExecutionContext(Builder builder) {
         this.timeout = Objects.requireNonNull(builder.timeout, "Timeout cannot be null");
+        this.attemptTimeout = builder.attemptTimeout != null ? builder.attemptTimeout : timeout;
         this.maxRetries = builder.maxRetries;
         this.priority = builder.priority != null ? builder.priority : Priority.MEDIUM;
         this.metadata = builder.metadata == null ?
                 Collections.emptyList() :
                 Collections.unmodifiableList(new ArrayList<>(builder.metadata));
+        this.userMetadata = builder.userMetadata == null ?
+                Collections.emptyMap() :
+                Collections.unmodifiableMap(new LinkedHashMap<>(builder.userMetadata));
         validate();
     }
 
     /**
      * Validates the configuration parameters to ensure they meet the required constraints.
      *
-     * @throws IllegalArgumentException if maxRetries is negative, timeout is zero or negative,
-     *                                  or metadata contains invalid key-value type pairings
+     * @throws IllegalArgumentException if maxRetries is negative, timeout is zero or negative, the attempt
+     *                                  timeout is not positive or exceeds the timeout, metadata contains
+     *                                  invalid key-value type pairings, or user metadata is not portable
      */
     private void validate() {
         if (maxRetries < 0) {
@@ -56,6 +78,9 @@ public final class ExecutionContext {
         if (timeout.isNegative() || timeout.isZero()) {
             throw new IllegalArgumentException("Timeout must be positive");
         }
+        if (attemptTimeout.isNegative() || attemptTimeout.isZero() || attemptTimeout.compareTo(timeout) > 0) {
+            throw new IllegalArgumentException("Attempt timeout must be positive and not exceed timeout");
+        }
         if (!metadata.isEmpty()) {
             for (Pair<MetadataKey, Object> pair : metadata) {
                 MetadataKey key = pair.getLeft();
@@ -66,6 +91,21 @@ public final class ExecutionContext {
                 }
             }
         }
+        int userMetadataSize = 0;
+        for (Map.Entry<String, String> entry : userMetadata.entrySet()) {
+            if (entry.getKey() == null || !USER_METADATA_NAME.matcher(entry.getKey()).matches()) {
+                throw new IllegalArgumentException("User metadata name must consist of lowercase letters, digits "
+                        + "and underscores and not start with a digit but was '" + entry.getKey() + "'");
+            }
+            if (entry.getValue() == null || !entry.getValue().chars().allMatch(c -> c >= 0x20 && c < 0x7F)) {
+                throw new IllegalArgumentException("User metadata value of '" + entry.getKey() + "' must be printable ASCII");
+            }
+            userMetadataSize += entry.getKey().length() + entry.getValue().length();
+        }
+        if (userMetadataSize > MAX_USER_METADATA_SIZE) {
+            throw new IllegalArgumentException("User metadata must not exceed " + MAX_USER_METADATA_SIZE
+                    + " bytes but was " + userMetadataSize);
+        }
     }
 
     /**
@@ -115,20 +155,50 @@ public final class ExecutionContext {
                 .build();
     }
 
+    /**
+     * Returns a copy of this context with one more user metadata entry, replacing an entry of the same name.
+     *
+     * @param name  the metadata name
+     * @param value the metadata value
+     * @return a new {@code ExecutionContext} instance
+     * @throws IllegalArgumentException if the resulting user metadata is not valid
+     */
+    public ExecutionContext withUserMetadata(String name, String value) {
+        return new Builder()
+                .timeout(timeout)
+                .attemptTimeout(attemptTimeout)
+                .maxRetries(maxRetries)
+                .priority(priority)
+                .metadata(metadata)
+                .userMetadata(userMetadata)
+                .addUserMetadata(name, value)
+                .build();
+    }
+
     /**
      * Builder class for constructing {@code ExecutionContext} instances in a fluent manner.
      */
     public static class Builder {
         private Duration timeout;
+        private Duration attemptTimeout;
         private int maxRetries;
         private Priority priority;
         protected List<Pair<MetadataKey, Object>> metadata;
+        private Map<String, String> userMetadata;
 
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
         }
 
+        /**
+         * Bounds a single attempt; defaults to the overall {@link #timeout(Duration)} when not set.
+         */
+        public Builder attemptTimeout(Duration attemptTimeout) {
+            this.attemptTimeout = attemptTimeout;
+            return this;
+        }
+
         public Builder maxRetries(final int maxRetries) {
             this.maxRetries = maxRetries;
             return this;
@@ -152,6 +222,22 @@ public final class ExecutionContext {
             return this;
         }
 
+        /**
+         * Sets the user-defined metadata stored with uploaded objects, replacing entries added before.
+         */
+        public Builder userMetadata(Map<String, String> userMetadata) {
+            this.userMetadata = userMetadata == null ? null : new LinkedHashMap<>(userMetadata);
+            return this;
+        }
+
+        public Builder addUserMetadata(String name, String value) {
+            if (this.userMetadata == null) {
+                this.userMetadata = new LinkedHashMap<>();
+            }
+            this.userMetadata.put(name, value);
+            return this;
+        }
+
         public ExecutionContext build() {
             return new ExecutionContext(this);
         }
@@ -161,6 +247,16 @@ public final class ExecutionContext {
         return timeout;
     }
 
+    /**
+     * Returns the time limit of a single attempt. The overall {@link #getTimeout()} bounds all
+     * attempts together, including the backoff between them.
+     *
+     * @return the per-attempt timeout, never longer than {@link #getTimeout()}
+     */
+    public Duration getAttemptTimeout() {
+        return attemptTimeout;
+    }
+
     public int getMaxRetries() {
         return maxRetries;
     }
@@ -173,6 +269,13 @@ public final class ExecutionContext {
         return metadata;
     }
 
+    /**
+     * @return the user-defined metadata stored with uploaded objects, in insertion order
+     */
+    public Map<String, String> getUserMetadata() {
+        return userMetadata;
+    }
+
     public Pair<MetadataKey, Object> getFirstMetadata() {
         if (metadata == null || metadata.isEmpty()) {
             throw new IllegalStateException("Metadata is empty or not initialized");
@@ -184,9 +287,11 @@ public final class ExecutionContext {
     public String toString() {
         return "ExecutionContext{" +
                 "timeout=" + timeout +
+                ", attemptTimeout=" + attemptTimeout +
                 ", maxRetries=" + maxRetries +
                 ", priority=" + priority +
                 ", metadata=" + metadata +
+                ", userMetadata=" + userMetadata +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.abbos.multicloudstorageengine.enums;
+
+/**
+ * Enumerates the integrity checksums the providers compute while content is transferred.
+ * <p>
+ * CRC-32, CRC-32C and CRC-64/NVME are combinable: the checksum of an object can be derived from the checksums of
+ * its parts and their lengths, so parts transferred in parallel never need to be read again as a whole.
+ * Digests are not; objects uploaded in parts carry a composite checksum computed over the digests of the
+ * parts instead.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:25
+ **/
+public enum ChecksumAlgorithm {
+    CRC32(true),
+    CRC32C(true),
+    CRC64NVME(true),
+    SHA256(false),
+    MD5(false);
+
+    private final boolean combinable;
+
+    ChecksumAlgorithm(boolean combinable) {
+        this.combinable = combinable;
+    }
+
+    /**
+     * @return {@code true} if the checksum of concatenated content can be computed from the checksums of its parts
+     */
+    public boolean isCombinable() {
+        return combinable;
+    }
+}
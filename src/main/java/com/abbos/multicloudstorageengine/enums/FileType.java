@@ -1,33 +1,84 @@
 package com.abbos.multicloudstorageengine.enums;
 
+import java.util.Locale;
+
 /**
- * Enumerates supported file types and their MIME content types.
+ * Enumerates supported file types, their MIME content types and whether their content is already compressed.
  * 
  * @author Aliabbos Ashurov
  * @since 2/March/2025  11:12
  **/
 public enum FileType {
-    JPEG("image/jpeg"),
-    PNG("image/png"),
-    GIF("image/gif"),
-    PDF("application/pdf"),
-    TXT("text/plain"),
-    HTML("text/html"),
-    XML("application/xml"),
-    JSON("application/json"),
-    MP4("video/mp4"),
-    MP3("audio/mpeg"),
-    ZIP("application/zip"),
-    CSV("text/csv"),
-    OCTET_STREAM("application/octet-stream"); // Default fallback
+    JPEG("image/jpeg", true, "jpg", "jpeg"),
+    PNG("image/png", true, "png"),
+    GIF("image/gif", true, "gif"),
+    PDF("application/pdf", true, "pdf"),
+    TXT("text/plain", false, "txt", "log"),
+    HTML("text/html", false, "html", "htm"),
+    XML("application/xml", false, "xml"),
+    JSON("application/json", false, "json"),
+    MP4("video/mp4", true, "mp4"),
+    MP3("audio/mpeg", true, "mp3"),
+    ZIP("application/zip", true, "zip"),
+    CSV("text/csv", false, "csv"),
+    OCTET_STREAM("application/octet-stream", false); // Default fallback
 
     private final String contentType;
+    private final boolean compressed;
+    private final String[] extensions;
 
-    FileType(String contentType) {
+    FileType(String contentType, boolean compressed, String... extensions) {
         this.contentType = contentType;
+        this.compressed = compressed;
+        this.extensions = extensions;
     }
 
     public String getContentType() {
         return contentType;
     }
+
+    /**
+     * @return {@code true} if the format compresses its content itself, so that compressing it again gains nothing
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * @param contentType a MIME content type, optionally with parameters such as {@code charset}
+     * @return the matching type, or {@link #OCTET_STREAM} if none matches
+     */
+    public static FileType fromContentType(String contentType) {
+        if (contentType == null) {
+            return OCTET_STREAM;
+        }
+        int parameters = contentType.indexOf(';');
+        String mime = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+        for (FileType type : values()) {
+            if (type.contentType.equals(mime)) {
+                return type;
+            }
+        }
+        return OCTET_STREAM;
+    }
+
+    /**
+     * @param key an object key or file name
+     * @return the type named by its extension, or {@link #OCTET_STREAM} if it has none or it is unknown
+     */
+    public static FileType fromKey(String key) {
+        int dot = key == null ? -1 : key.lastIndexOf('.');
+        if (dot < 0 || dot < key.lastIndexOf('/')) {
+            return OCTET_STREAM;
+        }
+        String extension = key.substring(dot + 1).toLowerCase(Locale.ROOT);
+        for (FileType type : values()) {
+            for (String candidate : type.extensions) {
+                if (candidate.equals(extension)) {
+                    return type;
+                }
+            }
+        }
+        return OCTET_STREAM;
+    }
 }
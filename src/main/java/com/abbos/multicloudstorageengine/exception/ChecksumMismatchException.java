@@ -0,0 +1,28 @@
+package com.abbos.multicloudstorageengine.exception;
+
+import com.abbos.multicloudstorageengine.model.Checksum;
+
+/**
+ * Exception for content whose checksum differs from the one the provider stored with it.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:25
+ **/
+public class ChecksumMismatchException extends FileStorageException {
+    private final Checksum expected;
+    private final Checksum actual;
+
+    public ChecksumMismatchException(String key, Checksum expected, Checksum actual) {
+        super("Checksum mismatch for key: %s :::: expected %s but computed %s".formatted(key, expected, actual));
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public Checksum getExpected() {
+        return expected;
+    }
+
+    public Checksum getActual() {
+        return actual;
+    }
+}
@@ -0,0 +1,13 @@
+package com.abbos.multicloudstorageengine.exception;
+
+/**
+ * Exception for configuration values that are present but out of their allowed range.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  10:05
+ **/
+public class InvalidConfigurationException extends FileStorageException {
+    public InvalidConfigurationException(String message) {
+        super("Invalid configuration: " + message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.abbos.multicloudstorageengine.exception;
+
+/**
+ * Exception for calls rejected without contacting the provider because its circuit is open or its
+ * concurrency limit is exhausted.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:55
+ **/
+public class ProviderUnavailableException extends FileStorageException {
+    public ProviderUnavailableException(String provider, String reason) {
+        super("Storage provider unavailable: " + provider + " (" + reason + ")");
+    }
+}
@@ -0,0 +1,151 @@
+package com.abbos.multicloudstorageengine.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.abbos.multicloudstorageengine.config.LoggingConfig;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Moves the log writes of the storage engine off the calling threads.
+ * <p>
+ * The appenders that events logged under {@code com.abbos.multicloudstorageengine} would reach, its own
+ * and those inherited from its ancestors, are placed behind one Logback {@link AsyncAppender} attached to
+ * that logger, which stops inheriting so that no event is written twice. Closing restores the original
+ * appenders after the queue has been flushed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:50
+ **/
+public final class AsyncLogging implements Closeable {
+
+    private static final String ROOT_PACKAGE = "com.abbos.multicloudstorageengine";
+    private static final String APPENDER_NAME = "STORAGE-ASYNC";
+    private static final AsyncLogging SYNCHRONOUS = new AsyncLogging(null, null, List.of(), true);
+
+    private final Logger logger;
+    private final AsyncAppender appender;
+    private final List<Appender<ILoggingEvent>> ownAppenders;
+    private final boolean additive;
+
+    private AsyncLogging(Logger logger, AsyncAppender appender, List<Appender<ILoggingEvent>> ownAppenders,
+                         boolean additive) {
+        this.logger = logger;
+        this.appender = appender;
+        this.ownAppenders = ownAppenders;
+        this.additive = additive;
+    }
+
+    /**
+     * Installs the asynchronous appender if the configuration asks for it and Logback is the bound
+     * SLF4J implementation.
+     *
+     * @param config the logging configuration
+     * @return the installed appender, or an instance doing nothing if logging stays synchronous
+     */
+    public static AsyncLogging install(LoggingConfig config) {
+        if (!config.isAsync() || !(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return SYNCHRONOUS;
+        }
+        Logger logger = context.getLogger(ROOT_PACKAGE);
+        List<Appender<ILoggingEvent>> ownAppenders = appenders(logger);
+        List<Appender<ILoggingEvent>> targets = new ArrayList<>(ownAppenders);
+        if (logger.isAdditive()) {
+            for (String name = parent(ROOT_PACKAGE); name != null; name = parent(name)) {
+                Logger ancestor = context.exists(name);
+                if (ancestor != null) {
+                    targets.addAll(appenders(ancestor));
+                    if (!ancestor.isAdditive()) {
+                        break;
+                    }
+                }
+            }
+        }
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setName(APPENDER_NAME);
+        appender.setQueueSize(config.getQueueSize());
+        if (config.getDiscardingThreshold() >= 0) {
+            appender.setDiscardingThreshold(config.getDiscardingThreshold());
+        }
+        appender.setNeverBlock(config.isNeverBlock());
+        appender.setIncludeCallerData(config.isIncludeCallerData());
+        appender.setMaxFlushTime((int) config.getMaxFlushTime().toMillis());
+        for (Appender<ILoggingEvent> target : targets) {
+            appender.addAppender(new Forwarder(target));
+        }
+        appender.start();
+
+        boolean additive = logger.isAdditive();
+        logger.addAppender(appender);
+        ownAppenders.forEach(logger::detachAppender);
+        logger.setAdditive(false);
+        return new AsyncLogging(logger, appender, ownAppenders, additive);
+    }
+
+    /**
+     * @return {@code true} if events are written asynchronously
+     */
+    public boolean isAsync() {
+        return appender != null;
+    }
+
+    /**
+     * Restores the original appenders and flushes the events still queued.
+     */
+    @Override
+    public void close() {
+        if (appender == null) {
+            return;
+        }
+        ownAppenders.forEach(logger::addAppender);
+        logger.setAdditive(additive);
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    private static List<Appender<ILoggingEvent>> appenders(Logger logger) {
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+            appenders.add(it.next());
+        }
+        return appenders;
+    }
+
+    private static String parent(String name) {
+        if (name.equals(Logger.ROOT_LOGGER_NAME)) {
+            return null;
+        }
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : Logger.ROOT_LOGGER_NAME;
+    }
+
+    /**
+     * Hands events to an appender shared with the rest of the configuration, which stopping the
+     * asynchronous appender must not stop.
+     */
+    private static final class Forwarder extends UnsynchronizedAppenderBase<ILoggingEvent> {
+        private final Appender<ILoggingEvent> target;
+
+        private Forwarder(Appender<ILoggingEvent> target) {
+            this.target = target;
+            setContext(target.getContext());
+            setName(target.getName());
+            start();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            target.doAppend(event);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.abbos.multicloudstorageengine.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Per-key outcome of a batch operation such as {@code deleteAll}, {@code uploadAll} or {@code downloadAll}.
+ * <p>
+ * Every requested key ends up either in {@link #getSucceeded()} with its result (which is {@code null}
+ * for operations without a result) or in {@link #getFailed()} with the failure that stopped it, so a
+ * partially failed batch can be retried for exactly the keys that did not go through.
+ * </p>
+ *
+ * @param <T> the type of the per-key result
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  19:10
+ */
+public final class BatchResult<T> {
+    private final Map<String, T> succeeded;
+    private final Map<String, Throwable> failed;
+
+    private BatchResult(Map<String, T> succeeded, Map<String, Throwable> failed) {
+        this.succeeded = Collections.unmodifiableMap(succeeded);
+        this.failed = Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * Creates a new {@link Builder} for assembling a {@code BatchResult}.
+     *
+     * @param <T> the type of the per-key result
+     * @return a new builder instance
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return the results of the keys that succeeded, in request order; values may be {@code null}
+     */
+    public Map<String, T> getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return the failures of the keys that did not succeed, in request order
+     */
+    public Map<String, Throwable> getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the keys that succeeded
+     */
+    public Set<String> getSucceededKeys() {
+        return succeeded.keySet();
+    }
+
+    /**
+     * Returns the result of a key that succeeded.
+     *
+     * @param key the key to look up
+     * @return the result, or an empty {@link Optional} if the key failed, has no result or was not requested
+     */
+    public Optional<T> get(String key) {
+        return Optional.ofNullable(succeeded.get(key));
+    }
+
+    /**
+     * @return {@code true} if every key succeeded
+     */
+    public boolean isSuccessful() {
+        return failed.isEmpty();
+    }
+
+    /**
+     * @return the number of keys covered by this result
+     */
+    public int size() {
+        return succeeded.size() + failed.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{succeeded=" + succeeded.size() + ", failed=" + failed.keySet() + "}";
+    }
+
+    /**
+     * Builder for assembling a {@link BatchResult}. A key recorded twice keeps its last outcome.
+     * Instances are not thread-safe.
+     *
+     * @param <T> the type of the per-key result
+     */
+    public static final class Builder<T> {
+        private final Map<String, T> succeeded = new LinkedHashMap<>();
+        private final Map<String, Throwable> failed = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Records a successful key.
+         *
+         * @param key   the key
+         * @param value the result of the key, or {@code null}
+         * @return this builder instance
+         */
+        public Builder<T> success(String key, T value) {
+            failed.remove(key);
+            succeeded.put(Objects.requireNonNull(key, "Key cannot be null"), value);
+            return this;
+        }
+
+        /**
+         * Records a failed key.
+         *
+         * @param key   the key
+         * @param cause the failure of the key
+         * @return this builder instance
+         */
+        public Builder<T> failure(String key, Throwable cause) {
+            succeeded.remove(key);
+            failed.put(Objects.requireNonNull(key, "Key cannot be null"), Objects.requireNonNull(cause, "Cause cannot be null"));
+            return this;
+        }
+
+        /**
+         * Builds the {@link BatchResult}.
+         *
+         * @return a new immutable {@code BatchResult}
+         */
+        public BatchResult<T> build() {
+            return new BatchResult<>(new LinkedHashMap<>(succeeded), new LinkedHashMap<>(failed));
+        }
+    }
+}
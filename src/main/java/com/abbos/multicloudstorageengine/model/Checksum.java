@@ -0,0 +1,72 @@
+package com.abbos.multicloudstorageengine.model;
+
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+
+import java.util.Objects;
+
+/**
+ * Represents the integrity checksum of a stored object, as the provider reports it.
+ * <p>
+ * The value is Base64-encoded, which is how every provider transmits it. A composite checksum, computed
+ * over the checksums of the parts of an object rather than over its content, carries the number of parts
+ * after a dash, as S3 reports it.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:25
+ **/
+public final class Checksum {
+    private final ChecksumAlgorithm algorithm;
+    private final String value;
+
+    private Checksum(ChecksumAlgorithm algorithm, String value) {
+        this.algorithm = Objects.requireNonNull(algorithm, "Checksum algorithm cannot be null");
+        this.value = Objects.requireNonNull(value, "Checksum value cannot be null");
+    }
+
+    /**
+     * Creates a checksum from its Base64-encoded value.
+     *
+     * @param algorithm the algorithm that computed the checksum
+     * @param value     the Base64-encoded checksum, with a {@code -parts} suffix if it is composite
+     * @return a new Checksum instance
+     */
+    public static Checksum of(ChecksumAlgorithm algorithm, String value) {
+        return new Checksum(algorithm, value);
+    }
+
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Checks if the checksum was computed over the checksums of the parts of the object.
+     *
+     * @return true if the checksum is composite, false if it covers the content itself
+     */
+    public boolean isComposite() {
+        return value.indexOf('-') >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Checksum that = (Checksum) o;
+        return algorithm == that.algorithm && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, value);
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + ":" + value;
+    }
+}
@@ -0,0 +1,219 @@
+package com.abbos.multicloudstorageengine.model;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Metadata of a stored object, as a {@code stat} of the object reports it without downloading its content.
+ * <p>
+ * The size is that of the content a download returns. Entity tag, modification time, content type and
+ * checksum are reported when the provider keeps them. User metadata holds the entries that were passed to
+ * the upload through {@link ExecutionContext#getUserMetadata()}; names are lowercase on every provider.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:45
+ **/
+public final class ObjectMetadata {
+    private final String key;
+    private final long size;
+    private final String eTag;
+    private final Instant lastModified;
+    private final String contentType;
+    private final Checksum checksum;
+    private final Map<String, String> userMetadata;
+
+    private ObjectMetadata(Builder builder) {
+        this.key = Objects.requireNonNull(builder.key, "Key cannot be null");
+        if (builder.size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        this.size = builder.size;
+        this.eTag = builder.eTag;
+        this.lastModified = builder.lastModified;
+        this.contentType = builder.contentType;
+        this.checksum = builder.checksum;
+        this.userMetadata = Collections.unmodifiableMap(new LinkedHashMap<>(builder.userMetadata));
+    }
+
+    /**
+     * Creates a new {@link Builder} for assembling the metadata of the given key.
+     *
+     * @param key  the key of the object
+     * @param size the size of the object in bytes
+     * @return a new builder instance
+     */
+    public static Builder builder(String key, long size) {
+        return new Builder(key, size);
+    }
+
+    /**
+     * Creates a builder initialized with this metadata, for decorators that report it differently than
+     * the provider they decorate.
+     *
+     * @return a new builder instance
+     */
+    public Builder toBuilder() {
+        return new Builder(key, size)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .contentType(contentType)
+                .checksum(checksum)
+                .userMetadata(userMetadata);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Optional<String> getETag() {
+        return Optional.ofNullable(eTag);
+    }
+
+    public Optional<Instant> getLastModified() {
+        return Optional.ofNullable(lastModified);
+    }
+
+    public Optional<String> getContentType() {
+        return Optional.ofNullable(contentType);
+    }
+
+    /**
+     * @return the checksum of the content, see {@link Checksum}
+     */
+    public Optional<Checksum> getChecksum() {
+        return Optional.ofNullable(checksum);
+    }
+
+    /**
+     * @return the user-defined metadata stored with the object
+     */
+    public Map<String, String> getUserMetadata() {
+        return userMetadata;
+    }
+
+    /**
+     * Returns one entry of the user-defined metadata.
+     *
+     * @param name the metadata name, matched case-insensitively
+     * @return the value, or an empty {@link Optional} if the object has no such entry
+     */
+    public Optional<String> getUserMetadata(String name) {
+        return Optional.ofNullable(userMetadata.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ObjectMetadata that = (ObjectMetadata) o;
+        return size == that.size && key.equals(that.key) && Objects.equals(eTag, that.eTag)
+                && Objects.equals(lastModified, that.lastModified) && Objects.equals(contentType, that.contentType)
+                && Objects.equals(checksum, that.checksum) && userMetadata.equals(that.userMetadata);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, size, eTag, lastModified, contentType, checksum, userMetadata);
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectMetadata{" +
+                "key='" + key + '\'' +
+                ", size=" + size +
+                ", eTag=" + eTag +
+                ", lastModified=" + lastModified +
+                ", contentType=" + contentType +
+                ", checksum=" + checksum +
+                ", userMetadata=" + userMetadata +
+                '}';
+    }
+
+    /**
+     * Builder class for constructing {@code ObjectMetadata} instances. Unset values are reported as absent.
+     */
+    public static final class Builder {
+        private String key;
+        private long size;
+        private String eTag;
+        private Instant lastModified;
+        private String contentType;
+        private Checksum checksum;
+        private final Map<String, String> userMetadata = new LinkedHashMap<>();
+
+        private Builder(String key, long size) {
+            this.key = key;
+            this.size = size;
+        }
+
+        public Builder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        public Builder size(long size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder eTag(String eTag) {
+            this.eTag = eTag;
+            return this;
+        }
+
+        public Builder lastModified(Instant lastModified) {
+            this.lastModified = lastModified;
+            return this;
+        }
+
+        public Builder contentType(String contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        public Builder checksum(Checksum checksum) {
+            this.checksum = checksum;
+            return this;
+        }
+
+        /**
+         * Replaces the user metadata; names are stored in lowercase.
+         */
+        public Builder userMetadata(Map<String, String> userMetadata) {
+            this.userMetadata.clear();
+            if (userMetadata != null) {
+                userMetadata.forEach(this::addUserMetadata);
+            }
+            return this;
+        }
+
+        public Builder addUserMetadata(String name, String value) {
+            this.userMetadata.put(name.toLowerCase(Locale.ROOT), Objects.requireNonNull(value, "Metadata value cannot be null"));
+            return this;
+        }
+
+        /**
+         * Removes one entry of the user metadata, such as one recorded by a storage stage for itself.
+         */
+        public Builder removeUserMetadata(String name) {
+            this.userMetadata.remove(name.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        public ObjectMetadata build() {
+            return new ObjectMetadata(this);
+        }
+    }
+}
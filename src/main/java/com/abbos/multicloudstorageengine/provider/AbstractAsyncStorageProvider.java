@@ -1,9 +1,18 @@
 package com.abbos.multicloudstorageengine.provider;
 
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.InvalidProviderException;
 import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.provider.resilience.ProviderResilience;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +27,10 @@ import java.util.function.Supplier;
  *     <li>Defines a common provider name.</li>
  *     <li>Enforces an asynchronous execution model.</li>
  *     <li>Provides a default implementation for {@code getCapabilities()}, indicating asynchronous support.</li>
+ *     <li>Retries failed operations with backoff within the limits of the {@link ExecutionContext}.</li>
+ *     <li>Optionally admits operations through a {@link PriorityScheduler} honoring {@link ExecutionContext#getPriority()}.</li>
+ *     <li>Guards every attempt with a per-provider circuit breaker and bulkhead.</li>
+ *     <li>Paces keyed attempts with an adaptive per-prefix rate limit.</li>
  * </ul>
  * <p>
  * Subclasses should extend this class to implement specific cloud storage functionality.
@@ -32,11 +45,38 @@ public abstract class AbstractAsyncStorageProvider implements AsyncStorageProvid
      */
     protected final String providerName;
 
+    /**
+     * Whether operational logging via {@link Loggable} is enabled.
+     */
+    protected final boolean logEnabled;
+
+    private final Logger logger;
+
     /**
      * The executor used for running asynchronous storage operations.
      */
     private final Executor executor;
 
+    /**
+     * The engine retrying failed operations within the limits of the {@link ExecutionContext}.
+     */
+    private final RetryExecutor retryExecutor;
+
+    /**
+     * The bounded scheduler admitting operations by priority, or {@code null} to submit directly to {@link #executor}.
+     */
+    private final PriorityScheduler scheduler;
+
+    /**
+     * The circuit breaker and bulkhead guarding every attempt.
+     */
+    private final ProviderResilience resilience;
+
+    /**
+     * The rate limit applied to keyed attempts.
+     */
+    private final RateLimiter rateLimiter;
+
     /**
      * Constructs an {@code AbstractAsyncStorageProvider} with the specified provider name and executor.
      *
@@ -44,8 +84,78 @@ public abstract class AbstractAsyncStorageProvider implements AsyncStorageProvid
      * @param executor     the {@link Executor} used to run asynchronous operations
      */
     protected AbstractAsyncStorageProvider(String providerName, Executor executor) {
+        this(providerName, executor, RetryExecutor.ofDefault());
+    }
+
+    /**
+     * Constructs an {@code AbstractAsyncStorageProvider} with a custom {@link RetryExecutor}.
+     *
+     * @param providerName  the name of the storage provider
+     * @param executor      the {@link Executor} used to run asynchronous operations
+     * @param retryExecutor the engine retrying failed operations
+     */
+    protected AbstractAsyncStorageProvider(String providerName, Executor executor, RetryExecutor retryExecutor) {
+        this(providerName, false, executor, retryExecutor, null);
+    }
+
+    /**
+     * Constructs an {@code AbstractAsyncStorageProvider} whose operations are admitted through a
+     * {@link PriorityScheduler}; retry pauses are scheduled on {@code executor}.
+     *
+     * @param providerName  the name of the storage provider
+     * @param logEnabled    whether operational logging is enabled
+     * @param executor      the {@link Executor} used for retry scheduling and unscheduled work
+     * @param retryExecutor the engine retrying failed operations
+     * @param scheduler     the bounded scheduler, or {@code null} to submit directly to {@code executor}
+     */
+    protected AbstractAsyncStorageProvider(String providerName, boolean logEnabled, Executor executor,
+                                           RetryExecutor retryExecutor, PriorityScheduler scheduler) {
+        this(providerName, logEnabled, executor, retryExecutor, scheduler, ProviderResilience.none());
+    }
+
+    /**
+     * Constructs an {@code AbstractAsyncStorageProvider} whose attempts are guarded by a circuit breaker
+     * and bulkhead.
+     *
+     * @param providerName  the name of the storage provider
+     * @param logEnabled    whether operational logging is enabled
+     * @param executor      the {@link Executor} used for retry scheduling and unscheduled work
+     * @param retryExecutor the engine retrying failed operations
+     * @param scheduler     the bounded scheduler, or {@code null} to submit directly to {@code executor}
+     * @param resilience    the circuit breaker and bulkhead guarding every attempt
+     */
+    protected AbstractAsyncStorageProvider(String providerName, boolean logEnabled, Executor executor,
+                                           RetryExecutor retryExecutor, PriorityScheduler scheduler,
+                                           ProviderResilience resilience) {
+        this(providerName, logEnabled, executor, retryExecutor, scheduler, resilience, RateLimiter.unlimited());
+    }
+
+    /**
+     * Constructs an {@code AbstractAsyncStorageProvider} whose keyed attempts are additionally paced by
+     * an adaptive rate limit.
+     *
+     * @param providerName  the name of the storage provider
+     * @param logEnabled    whether operational logging is enabled
+     * @param executor      the {@link Executor} used for retry scheduling and unscheduled work
+     * @param retryExecutor the engine retrying failed operations
+     * @param scheduler     the bounded scheduler, or {@code null} to submit directly to {@code executor}
+     * @param resilience    the circuit breaker and bulkhead guarding every attempt
+     * @param rateLimiter   the rate limit applied to keyed attempts
+     */
+    protected AbstractAsyncStorageProvider(String providerName, boolean logEnabled, Executor executor,
+                                           RetryExecutor retryExecutor, PriorityScheduler scheduler,
+                                           ProviderResilience resilience, RateLimiter rateLimiter) {
+        if (providerName == null) {
+            throw new InvalidProviderException("Provider name cannot be null");
+        }
         this.providerName = providerName;
+        this.logEnabled = logEnabled;
+        this.logger = LoggerFactory.getLogger(getClass());
         this.executor = executor;
+        this.retryExecutor = retryExecutor;
+        this.scheduler = scheduler;
+        this.resilience = resilience;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -53,6 +163,16 @@ public abstract class AbstractAsyncStorageProvider implements AsyncStorageProvid
         return providerName;
     }
 
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
     /**
      * @return {@link Capabilities}
      * @see Capabilities#onAsync()
@@ -72,5 +192,181 @@ public abstract class AbstractAsyncStorageProvider implements AsyncStorageProvid
     protected <T> CompletableFuture<T> executeAsync(Supplier<T> action) {
         return CompletableFuture.supplyAsync(action, executor);
     }
-}
 
+    /**
+     * Executes a blocking supplier asynchronously, retrying transient failures within the retry budget,
+     * attempt timeout and overall timeout of the context. Every attempt passes the circuit breaker and
+     * bulkhead once it is admitted by the scheduler; its attempt timeout starts when it is admitted.
+     *
+     * @param context the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param action  the supplier function to execute; it must be safe to repeat
+     * @param <T>     the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the first successful attempt
+     */
+    protected <T> CompletableFuture<T> executeAsync(ExecutionContext context, Supplier<T> action) {
+        return executeAsync(context, null, RateLimiter.Operation.READ, action);
+    }
+
+    /**
+     * Starts a natively asynchronous operation at the priority of the context. With a scheduler the
+     * operation holds a slot until the returned stage completes; without one it starts immediately. The
+     * operation passes the circuit breaker and bulkhead when it starts.
+     *
+     * @param context the {@link ExecutionContext} supplying the priority
+     * @param start   starts the operation and returns its completion
+     * @param <T>     the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the operation
+     */
+    protected <T> CompletableFuture<T> scheduleAsync(ExecutionContext context, Supplier<CompletableFuture<T>> start) {
+        return admit(context, 0, start);
+    }
+
+    /**
+     * Like {@link #executeAsync(ExecutionContext, Supplier)} for an action on a single key, with every
+     * attempt first waiting for the rate limit of the key's prefix without blocking a thread.
+     *
+     * @param context   the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param key       the key the action operates on, or {@code null} if it spans several keys and is not limited
+     * @param operation the class of request the action sends
+     * @param action    the supplier function to execute; it must be safe to repeat
+     * @param <T>       the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the first successful attempt
+     */
+    protected <T> CompletableFuture<T> executeAsync(ExecutionContext context, String key,
+                                                    RateLimiter.Operation operation, Supplier<T> action) {
+        Supplier<CompletableFuture<T>> start = scheduler != null
+                ? () -> CompletableFuture.completedFuture(action.get())
+                : () -> CompletableFuture.supplyAsync(action, executor);
+        return retryAsync(context, key, operation, start);
+    }
+
+    /**
+     * Like {@link #scheduleAsync(ExecutionContext, Supplier)} for an operation on a single key. The
+     * operation is started once the rate limit of the key's prefix allows, or fails with a
+     * {@link com.abbos.multicloudstorageengine.exception.ProviderUnavailableException} if that would take
+     * longer than the attempt timeout; a throttling response slows the prefix down.
+     *
+     * @param context   the {@link ExecutionContext} supplying the priority and attempt timeout
+     * @param key       the key the operation works on, or {@code null} if it spans several keys and is not limited
+     * @param operation the class of request the operation sends
+     * @param start     starts the operation and returns its completion
+     * @param <T>       the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the operation
+     */
+    protected <T> CompletableFuture<T> scheduleAsync(ExecutionContext context, String key,
+                                                     RateLimiter.Operation operation,
+                                                     Supplier<CompletableFuture<T>> start) {
+        return scheduleAsync(context, key, operation, 0, start);
+    }
+
+    /**
+     * Starts an operation on a single key like {@link #scheduleAsync(ExecutionContext, String, RateLimiter.Operation, Supplier)},
+     * retrying it within the retry budget and timeouts of the context. The attempt timeout of every attempt
+     * starts when the scheduler admits it, and an attempt still queued at the overall deadline is never started.
+     *
+     * @param context   the {@link ExecutionContext} supplying the priority, timeouts and the retry budget
+     * @param key       the key the operation works on, or {@code null} if it spans several keys and is not limited
+     * @param operation the class of request the operation sends
+     * @param start     starts an attempt and returns its completion; it must be safe to repeat
+     * @param <T>       the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the first successful attempt
+     */
+    protected <T> CompletableFuture<T> retryAsync(ExecutionContext context, String key, RateLimiter.Operation operation,
+                                                  Supplier<CompletableFuture<T>> start) {
+        return retryExecutor.executeQueuedAsync(context, this::isRetryable, executor,
+                remaining -> scheduleAsync(context, key, operation, System.nanoTime() + remaining.toNanos(), start));
+    }
+
+    /**
+     * @param deadline the {@link System#nanoTime()} by which the operation must have started, or {@code 0}
+     *                 to start it whenever admitted and without an attempt timeout
+     */
+    private <T> CompletableFuture<T> scheduleAsync(ExecutionContext context, String key, RateLimiter.Operation operation,
+                                                   long deadline, Supplier<CompletableFuture<T>> start) {
+        return rateLimiter.acquireAsync(key, operation, context.getAttemptTimeout(), executor,
+                () -> admit(context, deadline, () -> start.get().whenComplete((ignored, t) -> {
+                    if (t != null && isThrottled(RetryExecutor.unwrap(t))) {
+                        rateLimiter.onThrottled(key, operation);
+                    }
+                })));
+    }
+
+    /**
+     * Passes the operation through the scheduler, if any, and the circuit breaker and bulkhead. With a
+     * deadline, the operation fails with a {@link java.util.concurrent.TimeoutException} if it is not
+     * admitted by then, or if it runs longer than the attempt timeout once admitted.
+     */
+    private <T> CompletableFuture<T> admit(ExecutionContext context, long deadline, Supplier<CompletableFuture<T>> start) {
+        Supplier<CompletableFuture<T>> guarded = () -> resilience.callAsync(this::isRetryable, start);
+        if (deadline == 0) {
+            return scheduler != null ? scheduler.schedule(context.getPriority(), guarded) : guarded.get();
+        }
+        Duration maxWait = Duration.ofNanos(Math.max(1, deadline - System.nanoTime()));
+        Duration timeout = context.getAttemptTimeout().compareTo(maxWait) < 0 ? context.getAttemptTimeout() : maxWait;
+        if (scheduler != null) {
+            return scheduler.schedule(context.getPriority(), maxWait, timeout, guarded);
+        }
+        return guarded.get().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Applies the retry policy of the context to a natively asynchronous operation.
+     *
+     * @param context the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param attempt supplies a new attempt each time it is invoked
+     * @param <T>     the type of the result
+     * @return a {@link CompletableFuture} emitting the result of the first successful attempt
+     */
+    protected <T> CompletableFuture<T> retryAsync(ExecutionContext context, Supplier<CompletableFuture<T>> attempt) {
+        return retryExecutor.executeAsync(context, this::isRetryable, executor, attempt);
+    }
+
+    /**
+     * @return the {@link RetryExecutor} used by {@link #retryAsync(ExecutionContext, Supplier)}
+     */
+    protected RetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+
+    /**
+     * @return the executor running asynchronous work and retry pauses
+     */
+    protected Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the circuit breaker and bulkhead guarding every attempt
+     */
+    public ProviderResilience getResilience() {
+        return resilience;
+    }
+
+    /**
+     * @return the rate limit applied to keyed attempts
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Decides whether a failure is transient and worth retrying.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the operation may be retried
+     * @see RetryExecutor#isTransient(Throwable)
+     */
+    protected boolean isRetryable(Throwable t) {
+        return RetryExecutor.isTransient(t);
+    }
+
+    /**
+     * Decides whether a failure is a throttling response, telling the rate limiter to slow down.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the provider rejected the request for its rate
+     */
+    protected boolean isThrottled(Throwable t) {
+        return false;
+    }
+}
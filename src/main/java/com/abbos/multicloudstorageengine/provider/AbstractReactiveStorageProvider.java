@@ -1,6 +1,10 @@
 package com.abbos.multicloudstorageengine.provider;
 
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.InvalidProviderException;
 import com.abbos.multicloudstorageengine.model.Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
@@ -18,6 +22,7 @@ import java.util.concurrent.Callable;
  *     <li>Defines a common provider name.</li>
  *     <li>Enforces a reactive execution model.</li>
  *     <li>Provides a default implementation for {@code getCapabilities()}, indicating reactive support.</li>
+ *     <li>Retries failed operations with backoff within the limits of the {@link ExecutionContext}.</li>
  * </ul>
  * <p>
  * Subclasses should extend this class to implement specific cloud storage functionality.
@@ -32,13 +37,52 @@ public abstract class AbstractReactiveStorageProvider implements ReactiveStorage
      */
     protected final String providerName;
 
+    /**
+     * Whether operational logging via {@link Loggable} is enabled.
+     */
+    protected final boolean logEnabled;
+
+    private final Logger logger;
+
+    /**
+     * The engine retrying failed operations within the limits of the {@link ExecutionContext}.
+     */
+    private final RetryExecutor retryExecutor;
+
     /**
      * Constructs an {@code AbstractReactiveStorageProvider} with the specified provider name and scheduler.
      *
      * @param providerName the name of the storage provider (e.g., "AWS S3", "Google Cloud Storage", "Azure Blob Storage")
      */
     protected AbstractReactiveStorageProvider(String providerName) {
+        this(providerName, RetryExecutor.ofDefault());
+    }
+
+    /**
+     * Constructs an {@code AbstractReactiveStorageProvider} with a custom {@link RetryExecutor}.
+     *
+     * @param providerName  the name of the storage provider
+     * @param retryExecutor the engine retrying failed operations
+     */
+    protected AbstractReactiveStorageProvider(String providerName, RetryExecutor retryExecutor) {
+        this(providerName, false, retryExecutor);
+    }
+
+    /**
+     * Constructs an {@code AbstractReactiveStorageProvider} with logging configuration.
+     *
+     * @param providerName  the name of the storage provider
+     * @param logEnabled    whether operational logging is enabled
+     * @param retryExecutor the engine retrying failed operations
+     */
+    protected AbstractReactiveStorageProvider(String providerName, boolean logEnabled, RetryExecutor retryExecutor) {
+        if (providerName == null) {
+            throw new InvalidProviderException("Provider name cannot be null");
+        }
         this.providerName = providerName;
+        this.logEnabled = logEnabled;
+        this.logger = LoggerFactory.getLogger(getClass());
+        this.retryExecutor = retryExecutor;
     }
 
     @Override
@@ -46,6 +90,16 @@ public abstract class AbstractReactiveStorageProvider implements ReactiveStorage
         return providerName;
     }
 
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
     /**
      * @return {@link Capabilities}
      * @see Capabilities#onReactive()
@@ -65,4 +119,47 @@ public abstract class AbstractReactiveStorageProvider implements ReactiveStorage
     protected <T> Mono<T> executeReactive(Callable<T> action) {
         return Mono.fromCallable(action);
     }
+
+    /**
+     * Executes a callable operation within a reactive pipeline, retrying transient failures within the
+     * retry budget, attempt timeout and overall timeout of the context.
+     *
+     * @param context the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param action  the callable action to execute; it must be safe to repeat
+     * @param <T>     the type of the result
+     * @return a {@link Mono} emitting the result of the first successful attempt
+     */
+    protected <T> Mono<T> executeReactive(ExecutionContext context, Callable<T> action) {
+        return retryReactive(context, Mono.fromCallable(action));
+    }
+
+    /**
+     * Applies the retry policy of the context to a cold, natively reactive operation.
+     *
+     * @param context the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param source  the publisher performing one attempt per subscription
+     * @param <T>     the type of the result
+     * @return a {@link Mono} emitting the result of the first successful attempt
+     */
+    protected <T> Mono<T> retryReactive(ExecutionContext context, Mono<T> source) {
+        return retryExecutor.executeReactive(context, this::isRetryable, source);
+    }
+
+    /**
+     * @return the {@link RetryExecutor} used by {@link #retryReactive(ExecutionContext, Mono)}
+     */
+    protected RetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+
+    /**
+     * Decides whether a failure is transient and worth retrying.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the operation may be retried
+     * @see RetryExecutor#isTransient(Throwable)
+     */
+    protected boolean isRetryable(Throwable t) {
+        return RetryExecutor.isTransient(t);
+    }
 }
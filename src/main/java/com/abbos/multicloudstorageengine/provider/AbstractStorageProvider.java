@@ -1,9 +1,14 @@
 package com.abbos.multicloudstorageengine.provider;
 
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
 import com.abbos.multicloudstorageengine.exception.InvalidProviderException;
 import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.provider.resilience.ProviderResilience;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.logging.Logger;
+import java.util.concurrent.Callable;
 
 /**
  * An abstract base class for cloud storage providers, implementing the {@link StorageProvider} and {@link Loggable} interfaces.
@@ -13,6 +18,9 @@ import java.util.logging.Logger;
  *     <li>A unique provider name to identify the storage service.</li>
  *     <li>Default logging capabilities via {@link Loggable}, configurable through a logging toggle.</li>
  *     <li>A default implementation of {@link #getCapabilities()}, indicating no advanced features unless overridden.</li>
+ *     <li>Retry with backoff honoring the {@link ExecutionContext} timeouts and retry budget via {@link #execute}.</li>
+ *     <li>A per-provider circuit breaker and bulkhead around every attempt made by {@link #execute}.</li>
+ *     <li>An adaptive per-prefix rate limit in front of every keyed attempt, backing off on throttling responses.</li>
  * </ul>
  * Subclasses must extend this class to implement specific storage operations such as upload, download, and delete,
  * while inheriting basic provider identification and logging functionality.
@@ -25,14 +33,41 @@ public abstract class AbstractStorageProvider implements StorageProvider{
     private final Logger logger;
     protected final String providerName;
     protected final boolean logEnabled;
+    private final RetryExecutor retryExecutor;
+    private final ProviderResilience resilience;
+    private final RateLimiter rateLimiter;
 
     protected AbstractStorageProvider(String providerName, boolean logEnabled) {
+        this(providerName, logEnabled, RetryExecutor.ofDefault());
+    }
+
+    protected AbstractStorageProvider(String providerName, boolean logEnabled, RetryExecutor retryExecutor) {
+        this(providerName, logEnabled, retryExecutor, ProviderResilience.none());
+    }
+
+    protected AbstractStorageProvider(String providerName, boolean logEnabled, RetryExecutor retryExecutor,
+                                      ProviderResilience resilience) {
+        this(providerName, logEnabled, retryExecutor, resilience, RateLimiter.unlimited());
+    }
+
+    /**
+     * @param providerName  the name of the storage provider
+     * @param logEnabled    whether operational logging is enabled
+     * @param retryExecutor the engine retrying failed operations
+     * @param resilience    the circuit breaker and bulkhead guarding every attempt
+     * @param rateLimiter   the rate limit applied to keyed attempts
+     */
+    protected AbstractStorageProvider(String providerName, boolean logEnabled, RetryExecutor retryExecutor,
+                                      ProviderResilience resilience, RateLimiter rateLimiter) {
         if (providerName == null) {
             throw new InvalidProviderException("Provider name cannot be null");
         }
         this.providerName = providerName;
-        this.logger = Logger.getLogger(this.getClass().getName());
+        this.logger = LoggerFactory.getLogger(getClass());
         this.logEnabled = logEnabled;
+        this.retryExecutor = retryExecutor;
+        this.resilience = resilience;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -84,4 +119,110 @@ public abstract class AbstractStorageProvider implements StorageProvider{
     public boolean isLogEnabled() {
         return logEnabled;
     }
+
+    /**
+     * Executes a blocking action, retrying failures classified by {@link #isRetryable(Throwable)}
+     * within the retry budget and overall timeout of the context. Every attempt passes the circuit breaker
+     * and bulkhead of the provider; a rejected attempt fails fast and is not retried.
+     *
+     * @param context the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param action  the action to execute; it must be safe to repeat
+     * @param <T>     the type of the result
+     * @return the result of the first successful attempt
+     * @throws Exception the failure of the last attempt
+     */
+    protected <T> T execute(ExecutionContext context, Callable<T> action) throws Exception {
+        return retryExecutor.execute(context, this::isRetryable, () -> resilience.call(context, this::isRetryable, action));
+    }
+
+    /**
+     * Executes a blocking action on a single key like {@link #execute(ExecutionContext, Callable)}, with
+     * every attempt first waiting for the rate limit of the key's prefix. An attempt that would wait longer
+     * than the attempt timeout fails fast with a {@link com.abbos.multicloudstorageengine.exception.ProviderUnavailableException};
+     * attempts failing with a throttling response slow the prefix down.
+     *
+     * @param context   the {@link ExecutionContext} supplying timeouts and the retry budget
+     * @param key       the key the action operates on, or {@code null} if it spans several keys and is not limited
+     * @param operation the class of request the action sends
+     * @param action    the action to execute; it must be safe to repeat
+     * @param <T>       the type of the result
+     * @return the result of the first successful attempt
+     * @throws Exception the failure of the last attempt
+     */
+    protected <T> T execute(ExecutionContext context, String key, RateLimiter.Operation operation, Callable<T> action)
+            throws Exception {
+        return retryExecutor.execute(context, this::isRetryable, () -> attempt(context, key, operation, action));
+    }
+
+    /**
+     * Makes a single attempt of a blocking action on a single key, guarded like every attempt of
+     * {@link #execute(ExecutionContext, String, RateLimiter.Operation, Callable)} but never retried: for
+     * requests that cannot be repeated, and for the requests of transfers that retry them on their own terms.
+     *
+     * @param context   the {@link ExecutionContext} bounding the wait for the rate limit and the bulkhead
+     * @param key       the key the action operates on, or {@code null} if it spans several keys and is not limited
+     * @param operation the class of request the action sends
+     * @param action    the action to attempt
+     * @param <T>       the type of the result
+     * @return the result of the attempt
+     * @throws Exception the failure of the attempt
+     */
+    protected <T> T attempt(ExecutionContext context, String key, RateLimiter.Operation operation, Callable<T> action)
+            throws Exception {
+        rateLimiter.acquire(key, operation, context.getAttemptTimeout());
+        return resilience.call(context, this::isRetryable, () -> {
+            try {
+                return action.call();
+            } catch (Exception e) {
+                if (isThrottled(e)) {
+                    rateLimiter.onThrottled(key, operation);
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Decides whether a failure is transient and worth retrying. Subclasses should extend the
+     * default {@link RetryExecutor#isTransient(Throwable)} classification with provider-specific
+     * signals such as throttling responses.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the operation may be retried
+     */
+    protected boolean isRetryable(Throwable t) {
+        return RetryExecutor.isTransient(t);
+    }
+
+    /**
+     * Decides whether a failure is a throttling response, telling the rate limiter to slow down. Subclasses
+     * should recognize the provider's throttling status codes; the default recognizes none.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the provider rejected the request for its rate
+     */
+    protected boolean isThrottled(Throwable t) {
+        return false;
+    }
+
+    /**
+     * @return the {@link RetryExecutor} used by {@link #execute(ExecutionContext, Callable)}
+     */
+    protected RetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+
+    /**
+     * @return the circuit breaker and bulkhead guarding {@link #execute(ExecutionContext, Callable)}
+     */
+    public ProviderResilience getResilience() {
+        return resilience;
+    }
+
+    /**
+     * @return the rate limit applied by {@link #execute(ExecutionContext, String, RateLimiter.Operation, Callable)}
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package com.abbos.multicloudstorageengine.provider;
+
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fans single-key operations out over a batch of keys with bounded concurrency and collects a
+ * per-key {@link BatchResult}.
+ * <p>
+ * This is the fallback used by the batch methods of {@link StorageProvider}, {@link AsyncStorageProvider}
+ * and {@link ReactiveStorageProvider}; providers override those methods where the backend offers a
+ * native bulk primitive. Duplicate keys are processed once and results keep the request order.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  19:20
+ **/
+public final class BatchExecutor {
+
+    /**
+     * The number of single-key operations kept in flight by the fallback batch methods.
+     */
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    private BatchExecutor() {
+    }
+
+    /**
+     * Runs a blocking operation for every key, at most {@code concurrency} at a time on virtual threads.
+     *
+     * @param keys        the keys to process
+     * @param concurrency the maximum number of keys processed at once
+     * @param operation   the operation applied to each key
+     * @param <T>         the type of the per-key result
+     * @return the per-key outcomes
+     */
+    public static <T> BatchResult<T> fanOut(Collection<String> keys, int concurrency, KeyOperation<T> operation) {
+        List<String> distinct = distinct(keys);
+        Outcomes<T> outcomes = new Outcomes<>(distinct);
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < distinct.size(); i++) {
+                int index = i;
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        outcomes.success(index, operation.apply(distinct.get(index)));
+                    } catch (Throwable t) {
+                        outcomes.failure(index, t);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return outcomes.build();
+    }
+
+    /**
+     * Starts an asynchronous operation for every key, keeping at most {@code concurrency} in flight.
+     *
+     * @param keys        the keys to process
+     * @param concurrency the maximum number of keys in flight
+     * @param operation   starts the operation for a key
+     * @param <T>         the type of the per-key result
+     * @return a {@link CompletableFuture} completing with the per-key outcomes once every key has finished
+     */
+    public static <T> CompletableFuture<BatchResult<T>> fanOutAsync(Collection<String> keys, int concurrency,
+                                                                    Function<String, ? extends CompletableFuture<T>> operation) {
+        List<String> distinct = distinct(keys);
+        if (distinct.isEmpty()) {
+            return CompletableFuture.completedFuture(BatchResult.<T>builder().build());
+        }
+        Outcomes<T> outcomes = new Outcomes<>(distinct);
+        AsyncWindow<T> window = new AsyncWindow<>(distinct, outcomes, operation);
+        for (int i = 0; i < Math.min(concurrency, distinct.size()); i++) {
+            window.pump();
+        }
+        return window.done;
+    }
+
+    /**
+     * Subscribes to the operation of every key, keeping at most {@code concurrency} subscriptions active.
+     *
+     * @param keys        the keys to process
+     * @param concurrency the maximum number of keys in flight
+     * @param operation   creates the cold publisher for a key
+     * @param <T>         the type of the per-key result
+     * @return a {@link Mono} emitting the per-key outcomes once every key has finished
+     */
+    public static <T> Mono<BatchResult<T>> fanOutReactive(Collection<String> keys, int concurrency,
+                                                          Function<String, ? extends Mono<T>> operation) {
+        return Flux.fromIterable(distinct(keys))
+                .flatMapSequential(key -> Mono.defer(() -> operation.apply(key))
+                        .map(value -> new Outcome<>(key, value, null))
+                        .defaultIfEmpty(new Outcome<>(key, null, null))
+                        .onErrorResume(t -> Mono.just(new Outcome<>(key, null, t))), concurrency)
+                .collect(BatchResult::<T>builder, (builder, outcome) -> {
+                    if (outcome.failure() == null) {
+                        builder.success(outcome.key(), outcome.value());
+                    } else {
+                        builder.failure(outcome.key(), outcome.failure());
+                    }
+                })
+                .map(BatchResult.Builder::build);
+    }
+
+    /**
+     * Splits the distinct keys into consecutive chunks for native bulk requests.
+     *
+     * @param keys      the keys to split
+     * @param chunkSize the maximum number of keys per chunk
+     * @return the chunks in request order
+     */
+    public static List<List<String>> partition(Collection<String> keys, int chunkSize) {
+        List<String> distinct = distinct(keys);
+        List<List<String>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Splits the distinct keys into chunks like {@link #partition(Collection, int)}, never mixing keys of
+     * different groups in one chunk. Used to keep every bulk request within one rate limit prefix.
+     *
+     * @param keys      the keys to split
+     * @param chunkSize the maximum number of keys per chunk
+     * @param group     maps a key to its group
+     * @return the chunks, grouped in order of each group's first key
+     */
+    public static List<List<String>> partition(Collection<String> keys, int chunkSize, Function<String, String> group) {
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (String key : distinct(keys)) {
+            groups.computeIfAbsent(group.apply(key), ignored -> new ArrayList<>()).add(key);
+        }
+        List<List<String>> chunks = new ArrayList<>();
+        for (List<String> members : groups.values()) {
+            chunks.addAll(partition(members, chunkSize));
+        }
+        return chunks;
+    }
+
+    private static List<String> distinct(Collection<String> keys) {
+        return new ArrayList<>(new LinkedHashSet<>(keys));
+    }
+
+    /**
+     * A blocking single-key operation.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface KeyOperation<T> {
+        T apply(String key) throws Exception;
+    }
+
+    private record Outcome<T>(String key, T value, Throwable failure) {
+    }
+
+    /**
+     * Outcomes stored by request index so that results can be assembled in request order.
+     */
+    private static final class Outcomes<T> {
+        private final List<String> keys;
+        private final Object[] values;
+        private final Throwable[] failures;
+
+        private Outcomes(List<String> keys) {
+            this.keys = keys;
+            this.values = new Object[keys.size()];
+            this.failures = new Throwable[keys.size()];
+        }
+
+        private synchronized void success(int index, T value) {
+            values[index] = value;
+        }
+
+        private synchronized void failure(int index, Throwable failure) {
+            failures[index] = RetryExecutor.unwrap(failure);
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized BatchResult<T> build() {
+            BatchResult.Builder<T> builder = BatchResult.builder();
+            for (int i = 0; i < keys.size(); i++) {
+                if (failures[i] == null) {
+                    builder.success(keys.get(i), (T) values[i]);
+                } else {
+                    builder.failure(keys.get(i), failures[i]);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * A sliding window over the keys: every completion starts the next key. Operations that complete
+     * synchronously are drained in a loop rather than by recursion.
+     */
+    private static final class AsyncWindow<T> {
+        private final List<String> keys;
+        private final Outcomes<T> outcomes;
+        private final Function<String, ? extends CompletableFuture<T>> operation;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<BatchResult<T>> done = new CompletableFuture<>();
+
+        private AsyncWindow(List<String> keys, Outcomes<T> outcomes, Function<String, ? extends CompletableFuture<T>> operation) {
+            this.keys = keys;
+            this.outcomes = outcomes;
+            this.operation = operation;
+            this.remaining = new AtomicInteger(keys.size());
+        }
+
+        private void pump() {
+            while (true) {
+                int index = next.getAndIncrement();
+                if (index >= keys.size()) {
+                    return;
+                }
+                CompletableFuture<T> future;
+                try {
+                    future = operation.apply(keys.get(index));
+                } catch (Throwable t) {
+                    future = CompletableFuture.failedFuture(t);
+                }
+                if (!future.isDone()) {
+                    future.whenComplete((value, t) -> {
+                        record(index, value, t);
+                        pump();
+                    });
+                    return;
+                }
+                future.whenComplete((value, t) -> record(index, value, t));
+            }
+        }
+
+        private void record(int index, T value, Throwable t) {
+            if (t == null) {
+                outcomes.success(index, value);
+            } else {
+                outcomes.failure(index, t);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(outcomes.build());
+            }
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.abbos.multicloudstorageengine.provider;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import org.slf4j.Logger;
 
 /**
- * An interface providing default logging behavior using java.util.logging with an enable/disable toggle.
+ * An interface providing default logging behavior on SLF4J with an enable/disable toggle.
+ * <p>
+ * Messages use SLF4J {@code {}} placeholders and are only formatted once the level is known to be
+ * enabled. Overloads taking up to three arguments exist for every level, so a call on a disabled level
+ * allocates neither a varargs array nor a message; calls with more arguments should be guarded with
+ * {@link #isDebugEnabled()} on hot paths.
+ * </p>
  *
  * @author Aliabbos Ashurov
  * @since 17/March/2025  21:14
@@ -12,18 +17,75 @@ import java.util.logging.Logger;
 interface Loggable {
 
     boolean isLogEnabled();
-    
+
     Logger getLogger();
 
     /**
-     * Logs a message at the FINE level (equivalent to debug) if logging is enabled.
+     * @return {@code true} if logging is enabled and the logger accepts debug messages
+     */
+    default boolean isDebugEnabled() {
+        return isLogEnabled() && getLogger().isDebugEnabled();
+    }
+
+    /**
+     * Logs a message at the DEBUG level if logging is enabled.
      *
      * @param message the message to log
-     * @param args    optional arguments for message formatting
+     */
+    default void logDebug(String message) {
+        if (isDebugEnabled()) {
+            getLogger().debug(message);
+        }
+    }
+
+    /**
+     * Logs a message at the DEBUG level if logging is enabled.
+     *
+     * @param message the message to log, with a {@code {}} placeholder for the argument
+     * @param arg     the argument
+     */
+    default void logDebug(String message, Object arg) {
+        if (isDebugEnabled()) {
+            getLogger().debug(message, arg);
+        }
+    }
+
+    /**
+     * Logs a message at the DEBUG level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    default void logDebug(String message, Object arg1, Object arg2) {
+        if (isDebugEnabled()) {
+            getLogger().debug(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs a message at the DEBUG level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    default void logDebug(String message, Object arg1, Object arg2, Object arg3) {
+        if (isDebugEnabled()) {
+            getLogger().debug(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message at the DEBUG level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param args    the arguments
      */
     default void logDebug(String message, Object... args) {
-        if (isLogEnabled() && getLogger().isLoggable(Level.FINE)) {
-            getLogger().log(Level.FINE, String.format(message, args));
+        if (isDebugEnabled()) {
+            getLogger().debug(message, args);
         }
     }
 
@@ -31,36 +93,177 @@ interface Loggable {
      * Logs a message at the INFO level if logging is enabled.
      *
      * @param message the message to log
-     * @param args    optional arguments for message formatting
+     */
+    default void logInfo(String message) {
+        if (isLogEnabled() && getLogger().isInfoEnabled()) {
+            getLogger().info(message);
+        }
+    }
+
+    /**
+     * Logs a message at the INFO level if logging is enabled.
+     *
+     * @param message the message to log, with a {@code {}} placeholder for the argument
+     * @param arg     the argument
+     */
+    default void logInfo(String message, Object arg) {
+        if (isLogEnabled() && getLogger().isInfoEnabled()) {
+            getLogger().info(message, arg);
+        }
+    }
+
+    /**
+     * Logs a message at the INFO level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    default void logInfo(String message, Object arg1, Object arg2) {
+        if (isLogEnabled() && getLogger().isInfoEnabled()) {
+            getLogger().info(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs a message at the INFO level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    default void logInfo(String message, Object arg1, Object arg2, Object arg3) {
+        if (isLogEnabled() && getLogger().isInfoEnabled()) {
+            getLogger().info(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message at the INFO level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param args    the arguments
      */
     default void logInfo(String message, Object... args) {
-        if (isLogEnabled() && getLogger().isLoggable(Level.INFO)) {
-            getLogger().log(Level.INFO, String.format(message, args));
+        if (isLogEnabled() && getLogger().isInfoEnabled()) {
+            getLogger().info(message, args);
         }
     }
 
     /**
-     * Logs a message at the WARNING level if logging is enabled.
+     * Logs a message at the WARN level if logging is enabled.
      *
      * @param message the message to log
-     * @param args    optional arguments for message formatting
+     */
+    default void logWarn(String message) {
+        if (isLogEnabled() && getLogger().isWarnEnabled()) {
+            getLogger().warn(message);
+        }
+    }
+
+    /**
+     * Logs a message at the WARN level if logging is enabled.
+     *
+     * @param message the message to log, with a {@code {}} placeholder for the argument
+     * @param arg     the argument
+     */
+    default void logWarn(String message, Object arg) {
+        if (isLogEnabled() && getLogger().isWarnEnabled()) {
+            getLogger().warn(message, arg);
+        }
+    }
+
+    /**
+     * Logs a message at the WARN level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    default void logWarn(String message, Object arg1, Object arg2) {
+        if (isLogEnabled() && getLogger().isWarnEnabled()) {
+            getLogger().warn(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs a message at the WARN level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    default void logWarn(String message, Object arg1, Object arg2, Object arg3) {
+        if (isLogEnabled() && getLogger().isWarnEnabled()) {
+            getLogger().warn(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message at the WARN level if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param args    the arguments
      */
     default void logWarn(String message, Object... args) {
-        if (isLogEnabled() && getLogger().isLoggable(Level.WARNING)) {
-            getLogger().log(Level.WARNING, String.format(message, args));
+        if (isLogEnabled() && getLogger().isWarnEnabled()) {
+            getLogger().warn(message, args);
         }
     }
 
     /**
-     * Logs a message at the SEVERE level (equivalent to error) with a throwable if logging is enabled.
+     * Logs a message at the ERROR level with a throwable if logging is enabled.
      *
      * @param message the message to log
      * @param t       the throwable to log
-     * @param args    optional arguments for message formatting
      */
-    default void logError(String message, Throwable t, Object... args) {
-        if (isLogEnabled() && getLogger().isLoggable(Level.SEVERE)) {
-            getLogger().log(Level.SEVERE, String.format(message, args), t);
+    default void logError(String message, Throwable t) {
+        if (isLogEnabled() && getLogger().isErrorEnabled()) {
+            getLogger().error(message, t);
+        }
+    }
+
+    /**
+     * Logs a message at the ERROR level with a throwable if logging is enabled.
+     *
+     * @param message the message to log, with a {@code {}} placeholder for the argument
+     * @param t       the throwable to log
+     * @param arg     the argument
+     */
+    default void logError(String message, Throwable t, Object arg) {
+        if (isLogEnabled() && getLogger().isErrorEnabled()) {
+            getLogger().error(message, arg, t);
+        }
+    }
+
+    /**
+     * Logs a message at the ERROR level with a throwable if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param t       the throwable to log
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    default void logError(String message, Throwable t, Object arg1, Object arg2) {
+        if (isLogEnabled() && getLogger().isErrorEnabled()) {
+            getLogger().error(message, arg1, arg2, t);
+        }
+    }
+
+    /**
+     * Logs a message at the ERROR level with a throwable if logging is enabled.
+     *
+     * @param message the message to log, with {@code {}} placeholders for the arguments
+     * @param t       the throwable to log
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    default void logError(String message, Throwable t, Object arg1, Object arg2, Object arg3) {
+        if (isLogEnabled() && getLogger().isErrorEnabled()) {
+            getLogger().error(message, arg1, arg2, arg3, t);
         }
     }
 }
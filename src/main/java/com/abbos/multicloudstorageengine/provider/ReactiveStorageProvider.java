@@ -1,8 +1,25 @@
 package com.abbos.multicloudstorageengine.provider;
 
 import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Extends the {@link Provider} interface to define a reactive storage provider capable of performing
  * storage operations (upload, download, and delete) in a non-blocking, reactive manner.
@@ -46,4 +63,169 @@ public interface ReactiveStorageProvider extends Provider {
      * @throws IllegalArgumentException if key is null or empty
      */
     Mono<byte[]> download(String key, ExecutionContext context);
+
+    /**
+     * Uploads the content of the given stream under the specified key without buffering the whole
+     * object in memory. The stream is read until exhausted and is <b>not</b> closed by the provider.
+     *
+     * @param key           the unique identifier for the data in the storage system
+     * @param data          the stream supplying the object content
+     * @param contentLength the exact number of bytes the stream will supply
+     * @param context       the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} representing the asynchronous completion of the upload operation
+     * @throws IllegalArgumentException if key is null or empty, data is null or contentLength is negative
+     */
+    Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context);
+
+    /**
+     * Downloads the object stored under the specified key and writes it to the given stream as it
+     * arrives, keeping heap usage independent of the object size. The stream is <b>not</b> closed.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param out     the stream receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} completing once the whole object has been written to {@code out}
+     * @throws IllegalArgumentException if key is null or empty, or if out is null
+     */
+    Mono<Void> download(String key, OutputStream out, ExecutionContext context);
+
+    /**
+     * Channel variant of {@link #upload(String, InputStream, long, ExecutionContext)}.
+     *
+     * @param key           the unique identifier for the data in the storage system
+     * @param channel       the channel supplying the object content
+     * @param contentLength the exact number of bytes the channel will supply
+     * @param context       the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} representing the asynchronous completion of the upload operation
+     */
+    default Mono<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return upload(key, Channels.newInputStream(channel), contentLength, context);
+    }
+
+    /**
+     * Channel variant of {@link #download(String, OutputStream, ExecutionContext)}.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param channel the channel receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} completing once the whole object has been written to {@code channel}
+     */
+    default Mono<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return download(key, Channels.newOutputStream(channel), context);
+    }
+
+    /**
+     * Downloads a byte range of the object stored under the specified key.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param offset  the zero-based position of the first byte to read
+     * @param length  the number of bytes to read; fewer are returned if the object ends earlier
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} resolving to the requested range
+     * @throws IllegalArgumentException if key is null or empty, offset is negative or length is not positive
+     */
+    Mono<byte[]> download(String key, long offset, long length, ExecutionContext context);
+
+    /**
+     * Downloads the object stored under the specified key into a local file, replacing any existing
+     * content. Providers may override this to fetch byte ranges in parallel straight into the file.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param target  the file receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} completing once the file has been fully written
+     */
+    default Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return Mono.using(
+                () -> FileChannel.open(target, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+                channel -> download(key, (WritableByteChannel) channel, context),
+                channel -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Uploads the buffers emitted by {@code data} under the specified key. Buffers are requested only
+     * as fast as the provider can send them, so a slow upstream applies backpressure to the source.
+     *
+     * @param key           the unique identifier for the data in the storage system
+     * @param data          the publisher of the object content
+     * @param contentLength the exact number of bytes the publisher will emit
+     * @param context       the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} representing the asynchronous completion of the upload operation
+     * @throws IllegalArgumentException if key is null or empty, data is null or contentLength is negative
+     */
+    Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context);
+
+    /**
+     * Downloads the object stored under the specified key as a stream of buffers, honoring the
+     * demand of the subscriber so that only a bounded amount of data is held in memory.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Flux} emitting the object content in order
+     * @throws IllegalArgumentException if key is null or empty
+     */
+    Flux<ByteBuffer> downloadStream(String key, ExecutionContext context);
+
+    /**
+     * Returns the metadata of the object stored under the specified key without downloading it; cloud
+     * providers issue a single HEAD request.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} emitting the metadata, or completing empty if the object does not exist
+     */
+    Mono<ObjectMetadata> stat(String key, ExecutionContext context);
+
+    /**
+     * Checks whether an object is stored under the specified key without downloading it.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} emitting {@code true} if the object exists
+     */
+    default Mono<Boolean> exists(String key, ExecutionContext context) {
+        return stat(key, context).hasElement();
+    }
+
+    /**
+     * Deletes every given key. The default implementation deletes keys one by one with bounded
+     * concurrency; providers override it to use native bulk delete requests.
+     *
+     * @param keys    the keys to delete; duplicates are deleted once
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} emitting the per-key outcome; keys that did not exist count as deleted
+     */
+    default Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return BatchExecutor.fanOutReactive(keys, BatchExecutor.DEFAULT_CONCURRENCY, key -> delete(key, context));
+    }
+
+    /**
+     * Uploads every given payload under its key with bounded concurrency.
+     *
+     * @param objects the payloads keyed by their storage key
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} emitting the per-key outcome
+     */
+    default Mono<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return BatchExecutor.fanOutReactive(objects.keySet(), BatchExecutor.DEFAULT_CONCURRENCY,
+                key -> upload(key, objects.get(key), context));
+    }
+
+    /**
+     * Downloads every given key with bounded concurrency.
+     *
+     * @param keys    the keys to download; duplicates are downloaded once
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a {@link Mono} emitting the per-key outcome carrying the downloaded content
+     */
+    default Mono<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return BatchExecutor.fanOutReactive(keys, BatchExecutor.DEFAULT_CONCURRENCY, key -> download(key, context));
+    }
 }
@@ -0,0 +1,296 @@
+package com.abbos.multicloudstorageengine.provider;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retries storage operations with capped exponential backoff and full jitter.
+ * <p>
+ * Every execution is bounded twice: each attempt by {@link ExecutionContext#getAttemptTimeout()} and the
+ * whole operation, including the pauses between attempts, by {@link ExecutionContext#getTimeout()}. At most
+ * {@link ExecutionContext#getMaxRetries()} retries are made, and only for failures accepted by the supplied
+ * classifier; anything else fails immediately. A retry whose pause would overrun the overall deadline is
+ * not attempted.
+ * </p>
+ * <p>
+ * The same engine backs the blocking, {@link CompletableFuture} and Reactor execution models so that all
+ * three provider families behave identically under throttling.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  12:30
+ **/
+public final class RetryExecutor {
+
+    private static final RetryExecutor DEFAULT = new RetryExecutor(Duration.ofMillis(100), Duration.ofSeconds(5));
+
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Consumer<Throwable> retryListener;
+
+    /**
+     * Constructs a {@code RetryExecutor} with the given backoff bounds.
+     *
+     * @param baseDelay the nominal pause before the first retry, doubled on every further retry
+     * @param maxDelay  the upper bound of a single pause
+     */
+    public RetryExecutor(Duration baseDelay, Duration maxDelay) {
+        this(baseDelay, maxDelay, null);
+    }
+
+    private RetryExecutor(Duration baseDelay, Duration maxDelay, Consumer<Throwable> retryListener) {
+        if (baseDelay.isNegative() || baseDelay.isZero() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Base delay must be positive and not exceed max delay");
+        }
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.retryListener = retryListener;
+    }
+
+    /**
+     * @return the shared executor with a 100 ms base delay capped at 5 s
+     */
+    public static RetryExecutor ofDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates an executor with the same backoff that reports every retry it schedules, for example to
+     * count retries per provider.
+     *
+     * @param retryListener receives the failure that is about to be retried
+     * @return a new {@code RetryExecutor}
+     */
+    public RetryExecutor withRetryListener(Consumer<Throwable> retryListener) {
+        return new RetryExecutor(baseDelay, maxDelay, retryListener);
+    }
+
+    /**
+     * Executes a blocking action within the retry and deadline limits of the context.
+     * <p>
+     * A blocking attempt cannot be cut short from the outside, so providers are expected to pass
+     * {@link ExecutionContext#getAttemptTimeout()} on to their client; the overall deadline is enforced here.
+     * </p>
+     *
+     * @param context   the context supplying timeouts and the retry budget
+     * @param retryable decides whether a failure is transient
+     * @param action    the action to execute
+     * @param <T>       the type of the result
+     * @return the result of the first successful attempt
+     * @throws Exception the failure of the last attempt, with earlier failures attached as suppressed
+     */
+    public <T> T execute(ExecutionContext context, Predicate<Throwable> retryable, Callable<T> action) throws Exception {
+        return execute(context.getMaxRetries(), context.getTimeout(), retryable, action);
+    }
+
+    /**
+     * Executes a blocking action with an explicit retry budget and overall deadline.
+     *
+     * @param maxRetries the maximum number of retries after the first attempt
+     * @param timeout    the overall deadline measured from now
+     * @param retryable  decides whether a failure is transient
+     * @param action     the action to execute
+     * @param <T>        the type of the result
+     * @return the result of the first successful attempt
+     * @throws Exception the failure of the last attempt, with earlier failures attached as suppressed
+     */
+    public <T> T execute(int maxRetries, Duration timeout, Predicate<Throwable> retryable, Callable<T> action) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Exception failure = null;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return action.call();
+            } catch (Exception e) {
+                if (failure != null) {
+                    e.addSuppressed(failure);
+                }
+                failure = e;
+            }
+            long pause = pauseNanos(attempt, maxRetries, deadline, failure, retryable);
+            if (pause < 0) {
+                throw failure;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.addSuppressed(e);
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Executes an asynchronous action within the retry and deadline limits of the context. Each attempt
+     * is failed with a {@link TimeoutException} once the attempt timeout elapses, and retries are
+     * scheduled on {@code executor} without blocking a thread during the pause.
+     *
+     * @param context   the context supplying timeouts and the retry budget
+     * @param retryable decides whether a failure is transient
+     * @param executor  the executor on which retries are scheduled
+     * @param action    supplies a fresh attempt each time it is invoked
+     * @param <T>       the type of the result
+     * @return a {@link CompletableFuture} completing with the first successful result or the last failure
+     */
+    public <T> CompletableFuture<T> executeAsync(ExecutionContext context, Predicate<Throwable> retryable,
+                                                 Executor executor, Supplier<CompletableFuture<T>> action) {
+        long attemptTimeout = context.getAttemptTimeout().toNanos();
+        return executeQueuedAsync(context, retryable, executor, remaining -> action.get()
+                .orTimeout(Math.min(attemptTimeout, remaining.toNanos()), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Executes an asynchronous action whose attempts may wait before they start, for example in the queue
+     * of a scheduler, within the retry and deadline limits of the context. Each attempt receives the time
+     * left until the overall deadline; it must not start once that time has passed and is expected to apply
+     * {@link ExecutionContext#getAttemptTimeout()} itself from the moment it starts, so that waiting does not
+     * count against it. Only the overall deadline is enforced here.
+     *
+     * @param context   the context supplying timeouts and the retry budget
+     * @param retryable decides whether a failure is transient
+     * @param executor  the executor on which retries are scheduled
+     * @param action    supplies a fresh attempt each time it is invoked, given the time left
+     * @param <T>       the type of the result
+     * @return a {@link CompletableFuture} completing with the first successful result or the last failure
+     */
+    public <T> CompletableFuture<T> executeQueuedAsync(ExecutionContext context, Predicate<Throwable> retryable,
+                                                       Executor executor, Function<Duration, CompletableFuture<T>> action) {
+        return executeQueuedAsync(context.getMaxRetries(), context.getTimeout(), retryable, executor, action);
+    }
+
+    /**
+     * Like {@link #executeQueuedAsync(ExecutionContext, Predicate, Executor, Function)} with an explicit retry
+     * budget and overall deadline.
+     *
+     * @param maxRetries the maximum number of retries after the first attempt
+     * @param timeout    the overall deadline measured from now
+     * @param retryable  decides whether a failure is transient
+     * @param executor   the executor on which retries are scheduled
+     * @param action     supplies a fresh attempt each time it is invoked, given the time left
+     * @param <T>        the type of the result
+     * @return a {@link CompletableFuture} completing with the first successful result or the last failure
+     */
+    public <T> CompletableFuture<T> executeQueuedAsync(int maxRetries, Duration timeout, Predicate<Throwable> retryable,
+                                                       Executor executor, Function<Duration, CompletableFuture<T>> action) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(0, maxRetries, deadline, retryable, executor, action, result);
+        return result;
+    }
+
+    /**
+     * Applies the retry and deadline limits of the context to a Reactor pipeline. The source is
+     * re-subscribed for every attempt, so it must be cold.
+     *
+     * @param context   the context supplying timeouts and the retry budget
+     * @param retryable decides whether a failure is transient
+     * @param source    the cold publisher performing one attempt per subscription
+     * @param <T>       the type of the result
+     * @return a {@link Mono} emitting the first successful result or the last failure
+     */
+    public <T> Mono<T> executeReactive(ExecutionContext context, Predicate<Throwable> retryable, Mono<T> source) {
+        return source
+                .timeout(context.getAttemptTimeout())
+                .retryWhen(Retry.backoff(context.getMaxRetries(), baseDelay)
+                        .maxBackoff(maxDelay)
+                        .jitter(1.0)
+                        .filter(retryable)
+                        .doBeforeRetry(signal -> {
+                            if (retryListener != null) {
+                                retryListener.accept(signal.failure());
+                            }
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(context.getTimeout());
+    }
+
+    /**
+     * Default classification shared by all providers: I/O failures and timeouts are transient,
+     * everything else is fatal. Wrapper exceptions from futures are unwrapped first.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the failure is worth retrying
+     */
+    public static boolean isTransient(Throwable t) {
+        Throwable cause = unwrap(t);
+        return cause instanceof IOException
+                || cause instanceof UncheckedIOException
+                || cause instanceof TimeoutException;
+    }
+
+    /**
+     * Strips {@link CompletionException} and {@link ExecutionException} wrappers.
+     *
+     * @param t the failure to unwrap
+     * @return the innermost meaningful cause
+     */
+    public static Throwable unwrap(Throwable t) {
+        Throwable current = t;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private <T> void attemptAsync(int attempt, int maxRetries, long deadline, Predicate<Throwable> retryable,
+                                  Executor executor, Function<Duration, CompletableFuture<T>> action,
+                                  CompletableFuture<T> result) {
+        long remaining = Math.max(1, deadline - System.nanoTime());
+        CompletableFuture<T> future;
+        try {
+            future = action.apply(Duration.ofNanos(remaining));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.orTimeout(remaining, TimeUnit.NANOSECONDS).whenComplete((value, t) -> {
+            if (t == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable failure = unwrap(t);
+            long pause = pauseNanos(attempt, maxRetries, deadline, failure, retryable);
+            if (pause < 0) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            Executor delayed = CompletableFuture.delayedExecutor(pause, TimeUnit.NANOSECONDS, executor);
+            delayed.execute(() -> attemptAsync(attempt + 1, maxRetries, deadline, retryable, executor, action, result));
+        });
+    }
+
+    /**
+     * @return the pause before the next attempt in nanoseconds, or {@code -1} if no retry should be made
+     */
+    private long pauseNanos(int attempt, int maxRetries, long deadline, Throwable failure, Predicate<Throwable> retryable) {
+        if (attempt >= maxRetries || !retryable.test(failure)) {
+            return -1;
+        }
+        long ceiling = Math.min(maxDelay.toNanos(), baseDelay.toNanos() << Math.min(attempt, 20));
+        long pause = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (System.nanoTime() + pause >= deadline) {
+            return -1;
+        }
+        if (retryListener != null) {
+            retryListener.accept(failure);
+        }
+        return pause;
+    }
+}
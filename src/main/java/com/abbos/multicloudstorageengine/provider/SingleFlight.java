@@ -0,0 +1,231 @@
+package com.abbos.multicloudstorageengine.provider;
+
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collapses concurrent executions of the same keyed operation into one.
+ * <p>
+ * The first caller for a key becomes the leader and runs the operation; callers arriving while it is in
+ * flight wait for the leader and receive its outcome, success or failure, instead of repeating the call.
+ * A flight is forgotten as soon as it completes, so a later caller always starts a new one: nothing is
+ * cached beyond the lifetime of a single call. Followers are handed the result through the copier
+ * supplied at construction, which keeps mutable results such as byte arrays private to each caller.
+ * </p>
+ * <p>
+ * The blocking and {@link CompletableFuture} variants share one flight table, so a blocking caller may
+ * join a flight started asynchronously and vice versa. Flights are indexed by a group derived from their
+ * key, such as the object a read targets, so that all flights of a group are forgotten at once without
+ * scanning the others.
+ * </p>
+ *
+ * @param <K> the type of the flight key
+ * @param <T> the type of the result
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  21:30
+ **/
+public final class SingleFlight<K, T> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<T>> flights = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Set<K>> groups = new ConcurrentHashMap<>();
+    private final UnaryOperator<T> copier;
+    private final Function<? super K, ?> grouping;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param copier derives the value handed to each follower from the leader's result; use
+     *               {@link UnaryOperator#identity()} for immutable results
+     */
+    public SingleFlight(UnaryOperator<T> copier) {
+        this(copier, Function.identity());
+    }
+
+    /**
+     * @param copier   derives the value handed to each follower from the leader's result; use
+     *                 {@link UnaryOperator#identity()} for immutable results
+     * @param grouping derives the group of a flight key, by which {@link #forget(Object)} detaches flights
+     */
+    public SingleFlight(UnaryOperator<T> copier, Function<? super K, ?> grouping) {
+        this.copier = Objects.requireNonNull(copier, "Copier cannot be null");
+        this.grouping = Objects.requireNonNull(grouping, "Grouping cannot be null");
+    }
+
+    /**
+     * Runs a blocking operation, or waits for the identical one already in flight.
+     * <p>
+     * A follower waits at most {@code timeout}; the leader is bounded only by the operation itself.
+     * Failures of the leader are rethrown to every follower unchanged.
+     * </p>
+     *
+     * @param key     identifies operations that may share a result
+     * @param timeout the longest a follower waits for the leader
+     * @param action  the operation
+     * @return the result of the operation
+     * @throws FileStorageException if a follower times out or is interrupted while waiting
+     */
+    public T execute(K key, Duration timeout, Supplier<T> action) {
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> existing = register(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return copy(await(existing, timeout));
+        }
+        executions.increment();
+        try {
+            T result = action.get();
+            land(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            land(key, flight);
+            flight.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Starts an asynchronous operation, or joins the identical one already in flight. Cancelling the
+     * returned future detaches only the caller; the shared operation keeps running for the others.
+     *
+     * @param key    identifies operations that may share a result
+     * @param action starts the operation
+     * @return a {@link CompletableFuture} completing with the outcome of the operation
+     */
+    public CompletableFuture<T> executeAsync(K key, Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> existing = register(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.thenApply(this::copy);
+        }
+        executions.increment();
+        CompletableFuture<T> source;
+        try {
+            source = action.get();
+        } catch (Throwable t) {
+            source = CompletableFuture.failedFuture(t);
+        }
+        source.whenComplete((result, t) -> {
+            land(key, flight);
+            if (t == null) {
+                flight.complete(result);
+            } else {
+                flight.completeExceptionally(t);
+            }
+        });
+        return flight.copy();
+    }
+
+    /**
+     * Detaches the flights of a group, so that later callers start a new operation instead of joining one
+     * that may observe superseded state. Callers already waiting are unaffected.
+     *
+     * @param group the group to detach, as derived from flight keys by the grouping of this instance
+     */
+    public void forget(Object group) {
+        groups.computeIfPresent(group, (ignored, members) -> {
+            members.forEach(flights::remove);
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of operations actually run
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * @return the number of calls served by joining an operation already in flight
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of operations currently in flight
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * Registers a flight under the lock of its group, so that forgetting the group sees every flight of it.
+     *
+     * @return the flight already in flight for the key, or {@code null} if {@code flight} was registered
+     */
+    private CompletableFuture<T> register(K key, CompletableFuture<T> flight) {
+        CompletableFuture<T> existing = flights.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        List<CompletableFuture<T>> joined = new ArrayList<>(1);
+        groups.compute(grouping.apply(key), (group, members) -> {
+            CompletableFuture<T> other = flights.putIfAbsent(key, flight);
+            if (other != null) {
+                joined.add(other);
+                return members;
+            }
+            Set<K> registered = members != null ? members : new HashSet<>();
+            registered.add(key);
+            return registered;
+        });
+        return joined.isEmpty() ? null : joined.getFirst();
+    }
+
+    /**
+     * Removes a completed flight unless its group was forgotten meanwhile.
+     */
+    private void land(K key, CompletableFuture<T> flight) {
+        groups.computeIfPresent(grouping.apply(key), (group, members) -> {
+            if (flights.remove(key, flight)) {
+                members.remove(key);
+            }
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private T copy(T result) {
+        return result != null ? copier.apply(result) : null;
+    }
+
+    private static <T> T await(CompletableFuture<T> flight, Duration timeout) {
+        try {
+            return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new FileStorageException("Coalesced operation failed :::: %s".formatted(cause), cause);
+        } catch (TimeoutException e) {
+            throw new FileStorageException("Timed out after %s waiting for a coalesced operation".formatted(timeout), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Interrupted while waiting for a coalesced operation", e);
+        } catch (CancellationException e) {
+            throw new FileStorageException("Coalesced operation was cancelled", e);
+        }
+    }
+}
@@ -1,6 +1,23 @@
 package com.abbos.multicloudstorageengine.provider;
 
 import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Extends the {@link Provider} interface to define a synchronous storage provider capable of performing
@@ -45,4 +62,177 @@ public interface StorageProvider extends Provider {
      * @throws RuntimeException         if the download operation fails due to provider-specific issues
      */
     byte[] download(String key, ExecutionContext context);
+
+    /**
+     * Uploads the content of the given stream under the specified key without buffering the whole
+     * object in memory. The stream is read until exhausted and is <b>not</b> closed by the provider.
+     *
+     * @param key           the unique identifier for the data in the storage system
+     * @param data          the stream supplying the object content
+     * @param contentLength the exact number of bytes the stream will supply
+     * @param context       the {@link ExecutionContext} defining operational constraints
+     * @throws IllegalArgumentException if key is null or empty, data is null or contentLength is negative
+     * @throws RuntimeException         if the upload operation fails due to provider-specific issues
+     */
+    void upload(String key, InputStream data, long contentLength, ExecutionContext context);
+
+    /**
+     * Downloads the object stored under the specified key and writes it to the given stream as it
+     * arrives, keeping heap usage independent of the object size. The stream is <b>not</b> closed.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param out     the stream receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @throws IllegalArgumentException if key is null or empty, or if out is null
+     * @throws RuntimeException         if the download operation fails due to provider-specific issues
+     */
+    void download(String key, OutputStream out, ExecutionContext context);
+
+    /**
+     * Channel variant of {@link #upload(String, InputStream, long, ExecutionContext)}.
+     *
+     * @param key           the unique identifier for the data in the storage system
+     * @param channel       the channel supplying the object content
+     * @param contentLength the exact number of bytes the channel will supply
+     * @param context       the {@link ExecutionContext} defining operational constraints
+     */
+    default void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        upload(key, Channels.newInputStream(channel), contentLength, context);
+    }
+
+    /**
+     * Channel variant of {@link #download(String, OutputStream, ExecutionContext)}.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param channel the channel receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     */
+    default void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        download(key, Channels.newOutputStream(channel), context);
+    }
+
+    /**
+     * Downloads a byte range of the object stored under the specified key.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param offset  the zero-based position of the first byte to read
+     * @param length  the number of bytes to read; fewer are returned if the object ends earlier
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return a byte array containing the requested range
+     * @throws IllegalArgumentException if key is null or empty, offset is negative or length is not positive
+     * @throws RuntimeException         if the download operation fails due to provider-specific issues
+     */
+    byte[] download(String key, long offset, long length, ExecutionContext context);
+
+    /**
+     * Downloads the object stored under the specified key into a local file, replacing any existing
+     * content. Providers may override this to fetch byte ranges in parallel straight into the file.
+     *
+     * @param key     the unique identifier of the data to download
+     * @param target  the file receiving the object content
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @throws RuntimeException if the download operation fails
+     */
+    default void download(String key, Path target, ExecutionContext context) {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            download(key, (WritableByteChannel) channel, context);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the metadata of the object stored under the specified key without downloading it; cloud
+     * providers issue a single HEAD request.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the metadata, or an empty {@link Optional} if the object does not exist
+     * @throws RuntimeException if the lookup fails due to provider-specific issues
+     */
+    Optional<ObjectMetadata> stat(String key, ExecutionContext context);
+
+    /**
+     * Checks whether an object is stored under the specified key without downloading it.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return {@code true} if the object exists
+     * @throws RuntimeException if the lookup fails due to provider-specific issues
+     */
+    default boolean exists(String key, ExecutionContext context) {
+        return stat(key, context).isPresent();
+    }
+
+    /**
+     * Returns the entity tag of the object stored under the specified key without downloading it, so
+     * that cached copies can be revalidated. Tags are opaque: they only compare equal while the
+     * content is unchanged. The default implementation reads it from {@link #stat(String, ExecutionContext)}.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the entity tag, or an empty {@link Optional} if the object does not exist or the provider
+     * does not expose entity tags
+     * @throws RuntimeException if the lookup fails due to provider-specific issues
+     */
+    default Optional<String> getETag(String key, ExecutionContext context) {
+        return stat(key, context).flatMap(ObjectMetadata::getETag);
+    }
+
+    /**
+     * Returns the integrity checksum the provider stored with the object under the specified key,
+     * without downloading it. Providers verify downloads of whole objects against it, so a caller
+     * only needs it to compare objects across providers or with a local copy. The default implementation
+     * reads it from {@link #stat(String, ExecutionContext)}.
+     *
+     * @param key     the unique identifier of the object
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the checksum, or an empty {@link Optional} if the object does not exist or the provider
+     * does not store checksums
+     * @throws RuntimeException if the lookup fails due to provider-specific issues
+     */
+    default Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return stat(key, context).flatMap(ObjectMetadata::getChecksum);
+    }
+
+    /**
+     * Deletes every given key. The default implementation deletes keys one by one with bounded
+     * concurrency; providers override it to use native bulk delete requests.
+     *
+     * @param keys    the keys to delete; duplicates are deleted once
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the per-key outcome; keys that did not exist count as deleted
+     */
+    default BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return BatchExecutor.fanOut(keys, BatchExecutor.DEFAULT_CONCURRENCY, key -> {
+            delete(key, context);
+            return null;
+        });
+    }
+
+    /**
+     * Uploads every given payload under its key with bounded concurrency.
+     *
+     * @param objects the payloads keyed by their storage key
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the per-key outcome
+     */
+    default BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return BatchExecutor.fanOut(objects.keySet(), BatchExecutor.DEFAULT_CONCURRENCY, key -> {
+            upload(key, objects.get(key), context);
+            return null;
+        });
+    }
+
+    /**
+     * Downloads every given key with bounded concurrency.
+     *
+     * @param keys    the keys to download; duplicates are downloaded once
+     * @param context the {@link ExecutionContext} defining operational constraints
+     * @return the per-key outcome carrying the downloaded content
+     */
+    default BatchResult<byte[]> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return BatchExecutor.fanOut(keys, BatchExecutor.DEFAULT_CONCURRENCY, key -> download(key, context));
+    }
 }
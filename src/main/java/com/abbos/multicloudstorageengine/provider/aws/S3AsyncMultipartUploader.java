@@ -0,0 +1,350 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Splits a single object into parts and uploads them through the S3 multipart API of an {@link S3AsyncClient}.
+ * <p>
+ * The non-blocking counterpart of {@link S3MultipartUploader}: at most {@code concurrency} parts are in flight,
+ * which also bounds the memory used for stream and publisher uploads to {@code concurrency * partSize}, and
+ * no thread is held while a part is sent. Every part is retried independently; if a part still fails the
+ * in-flight parts are left to settle and the whole upload is aborted, otherwise it is completed atomically.
+ * Creating, completing and aborting the upload are retried like parts.
+ * </p>
+ * <p>
+ * If checksums are enabled, every part is checksummed on the executor before it is sent and S3 verifies it
+ * on arrival. For combinable algorithms the part checksums are combined, in part order, into the checksum of
+ * the whole object, which S3 verifies again when the upload is completed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  10:05
+ **/
+final class S3AsyncMultipartUploader {
+
+    private static final int MAX_PARTS = 10_000;
+    /**
+     * Upper bound for all attempts of one part; see {@link S3MultipartUploader}.
+     */
+    private static final Duration PART_DEADLINE = Duration.ofMinutes(15);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final long partSize;
+    private final int concurrency;
+    private final int partRetries;
+    private final Executor executor;
+    private final RetryExecutor retryExecutor;
+    private final Predicate<Throwable> retryable;
+    private final S3Support.AsyncAttempt attempt;
+    private final ChecksumAlgorithm checksumAlgorithm;
+
+    S3AsyncMultipartUploader(S3AsyncClient s3AsyncClient, S3Config s3Config, Executor executor,
+                             RetryExecutor retryExecutor, Predicate<Throwable> retryable, S3Support.AsyncAttempt attempt) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = s3Config.getBucketName();
+        this.partSize = s3Config.getMultipartPartSize();
+        this.concurrency = s3Config.getMultipartConcurrency();
+        this.partRetries = s3Config.getMultipartPartRetries();
+        this.executor = executor;
+        this.retryExecutor = retryExecutor;
+        this.retryable = retryable;
+        this.attempt = attempt;
+        this.checksumAlgorithm = S3Checksums.algorithm(s3Config);
+    }
+
+    /**
+     * Uploads an in-memory payload; parts are views over {@code data} and are never copied.
+     */
+    Mono<Void> upload(String key, ExecutionContext context, String contentType, Map<String, String> metadata, byte[] data) {
+        long size = partSizeFor(data.length);
+        int count = (int) ((data.length + size - 1) / size);
+        return run(key, context, contentType, metadata, Flux.range(0, count).map(index -> {
+            long offset = index * size;
+            return new Part(index + 1, data, (int) offset, (int) Math.min(size, data.length - offset));
+        }));
+    }
+
+    /**
+     * Uploads {@code contentLength} bytes read from {@code in}. The stream is read on the executor, one part
+     * at a time as slots for parts free up.
+     */
+    Mono<Void> upload(String key, ExecutionContext context, String contentType, Map<String, String> metadata,
+                      InputStream in, long contentLength) {
+        int size = Math.toIntExact(partSizeFor(contentLength));
+        Flux<Part> parts = Flux.<Part, Long>generate(() -> 0L, (read, sink) -> {
+            int length = (int) Math.min(size, contentLength - read);
+            byte[] buffer = new byte[length];
+            try {
+                int n = in.readNBytes(buffer, 0, length);
+                if (n < length) {
+                    sink.error(new IOException("Stream ended after %d of %d bytes".formatted(read + n, contentLength)));
+                    return read;
+                }
+            } catch (IOException e) {
+                sink.error(new UncheckedIOException(e));
+                return read;
+            }
+            sink.next(new Part((int) (read / size) + 1, buffer, 0, length));
+            if (read + length == contentLength) {
+                sink.complete();
+            }
+            return read + length;
+        }).subscribeOn(Schedulers.fromExecutor(executor));
+        return run(key, context, contentType, metadata, parts);
+    }
+
+    /**
+     * Uploads {@code contentLength} bytes emitted by {@code data}, gathering its buffers into parts.
+     */
+    Mono<Void> upload(String key, ExecutionContext context, String contentType, Map<String, String> metadata,
+                      Flux<ByteBuffer> data, long contentLength) {
+        int size = Math.toIntExact(partSizeFor(contentLength));
+        Flux<Part> parts = Flux.defer(() -> {
+            Gatherer gatherer = new Gatherer(size, contentLength);
+            return data.concatMapIterable(gatherer::add).concatWith(Mono.fromCallable(gatherer::finish));
+        });
+        return run(key, context, contentType, metadata, parts);
+    }
+
+    private long partSizeFor(long contentLength) {
+        long minimum = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(partSize, minimum);
+    }
+
+    private Mono<Void> run(String key, ExecutionContext context, String contentType, Map<String, String> metadata,
+                           Flux<Part> parts) {
+        CreateMultipartUploadRequest.Builder create = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .metadata(metadata)
+                .overrideConfiguration(S3Support.timeouts(context));
+        if (checksumAlgorithm != null) {
+            S3Checksums.apply(create, checksumAlgorithm);
+        }
+        return Mono.fromFuture(() -> request(context, key, () -> s3AsyncClient.createMultipartUpload(create.build())))
+                .onErrorMap(e -> new FileStorageException("Failed to start multipart upload for key: %s :::: %s"
+                        .formatted(key, RetryExecutor.unwrap(e)), RetryExecutor.unwrap(e)))
+                .flatMap(created -> {
+                    Session session = new Session(key, context, created.uploadId());
+                    return parts.takeWhile(part -> session.healthy())
+                            .flatMapDelayError(part -> Mono.fromFuture(() -> session.upload(part), true), concurrency, 1)
+                            .collectSortedList(Comparator.comparing(CompletedPart::partNumber))
+                            .flatMap(completed -> Mono.fromFuture(() -> request(context, key,
+                                    () -> s3AsyncClient.completeMultipartUpload(session.complete(completed)))))
+                            .then()
+                            .onErrorResume(e -> {
+                                Throwable cause = RetryExecutor.unwrap(e);
+                                session.fail(cause);
+                                return Mono.fromFuture(() -> abort(key, context, session.uploadId, cause))
+                                        .then(Mono.error(new FileStorageException("Multipart upload failed for key: %s :::: %s"
+                                                .formatted(key, cause), cause)));
+                            });
+                });
+    }
+
+    private CompletableFuture<Void> abort(String key, ExecutionContext context, String uploadId, Throwable cause) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        // Cleanup is not gated by the circuit: an upload failing because the provider looks unhealthy must
+        // still try to remove its parts.
+        return retryExecutor.executeQueuedAsync(partRetries, PART_DEADLINE, retryable, executor,
+                        remaining -> s3AsyncClient.abortMultipartUpload(request))
+                .handle((ignored, abortFailure) -> {
+                    if (abortFailure != null) {
+                        cause.addSuppressed(RetryExecutor.unwrap(abortFailure));
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Sends one of the requests framing the upload with the retry budget and deadline of a part.
+     */
+    private <T> CompletableFuture<T> request(ExecutionContext context, String key, Supplier<CompletableFuture<T>> request) {
+        return retryExecutor.executeQueuedAsync(partRetries, PART_DEADLINE, retryable, executor,
+                remaining -> attempt.call(context, key, Operation.WRITE, request));
+    }
+
+    /**
+     * A slice of the object, uploaded as the part with the given number.
+     */
+    private record Part(int number, byte[] data, int offset, int length) {
+    }
+
+    /**
+     * Tracks the parts of one multipart upload.
+     */
+    private final class Session {
+        private final String key;
+        private final ExecutionContext context;
+        private final String uploadId;
+        private final ConcurrentSkipListMap<Integer, PartChecksum> checksums = new ConcurrentSkipListMap<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Session(String key, ExecutionContext context, String uploadId) {
+            this.key = key;
+            this.context = context;
+            this.uploadId = uploadId;
+        }
+
+        boolean healthy() {
+            return failure.get() == null;
+        }
+
+        void fail(Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+
+        CompletableFuture<CompletedPart> upload(Part part) {
+            if (part.number() > MAX_PARTS) {
+                return CompletableFuture.failedFuture(
+                        new FileStorageException("Object exceeds the S3 limit of %d parts".formatted(MAX_PARTS)));
+            }
+            CompletableFuture<Checksum> checksum = checksumAlgorithm == null
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.supplyAsync(() -> Checksummer.compute(checksumAlgorithm, part.data(), part.offset(), part.length()), executor);
+            return checksum.thenCompose(value -> send(part, value)).whenComplete((ignored, t) -> {
+                if (t != null) {
+                    fail(RetryExecutor.unwrap(t));
+                }
+            });
+        }
+
+        private CompletableFuture<CompletedPart> send(Part part, Checksum checksum) {
+            UploadPartRequest.Builder request = UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(part.number())
+                    .contentLength((long) part.length());
+            if (checksum != null) {
+                S3Checksums.apply(request, checksum);
+                checksums.put(part.number(), new PartChecksum(checksum, part.length()));
+            }
+            return retryExecutor.executeQueuedAsync(partRetries, PART_DEADLINE, t -> healthy() && retryable.test(t), executor,
+                    remaining -> attempt.call(context, key, Operation.WRITE, () -> s3AsyncClient.uploadPart(request.build(),
+                            AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(part.data(), part.offset(), part.length()).slice()))))
+                    .thenApply(response -> {
+                        CompletedPart.Builder completed = CompletedPart.builder().partNumber(part.number()).eTag(response.eTag());
+                        if (checksum != null) {
+                            S3Checksums.apply(completed, checksum);
+                        }
+                        return completed.build();
+                    });
+        }
+
+        CompleteMultipartUploadRequest complete(List<CompletedPart> parts) {
+            CompleteMultipartUploadRequest.Builder complete = CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build());
+            if (checksumAlgorithm != null && checksumAlgorithm.isCombinable()) {
+                S3Checksums.apply(complete, checksum());
+            }
+            return complete.build();
+        }
+
+        /**
+         * Combines the checksums of the completed parts into the checksum of the whole object.
+         */
+        private Checksum checksum() {
+            Checksum checksum = null;
+            for (PartChecksum part : checksums.values()) {
+                checksum = checksum == null ? part.checksum() : Checksummer.combine(checksum, part.checksum(), part.length());
+            }
+            return checksum;
+        }
+    }
+
+    /**
+     * Gathers the buffers of a publisher into parts of a fixed size, checking that it emits exactly the
+     * announced number of bytes.
+     */
+    private static final class Gatherer {
+        private final int size;
+        private final long contentLength;
+        private long received;
+        private int number;
+        private byte[] current;
+        private int filled;
+
+        private Gatherer(int size, long contentLength) {
+            this.size = size;
+            this.contentLength = contentLength;
+        }
+
+        List<Part> add(ByteBuffer buffer) {
+            List<Part> parts = new ArrayList<>(1);
+            ByteBuffer source = buffer.duplicate();
+            received += source.remaining();
+            if (received > contentLength) {
+                throw new IllegalStateException("Publisher emitted more than %d bytes".formatted(contentLength));
+            }
+            while (source.hasRemaining()) {
+                if (current == null) {
+                    current = new byte[(int) Math.min(size, contentLength - (long) number * size)];
+                    filled = 0;
+                }
+                int n = Math.min(source.remaining(), current.length - filled);
+                source.get(current, filled, n);
+                filled += n;
+                if (filled == current.length) {
+                    parts.add(new Part(++number, current, 0, filled));
+                    current = null;
+                }
+            }
+            return parts;
+        }
+
+        Part finish() throws IOException {
+            if (received < contentLength) {
+                throw new IOException("Publisher ended after %d of %d bytes".formatted(received, contentLength));
+            }
+            return null;
+        }
+    }
+
+    private record PartChecksum(Checksum checksum, long length) {
+    }
+}
@@ -0,0 +1,367 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.checksum.ChecksummingInputStream;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking S3 provider built on {@link S3AsyncClient}.
+ * <p>
+ * Requests are issued without holding a thread while they are in flight: bodies are streamed through
+ * {@link AsyncRequestBody} and responses consumed through {@link AsyncResponseTransformer}, so the number
+ * of concurrent transfers is bounded by the HTTP client and the {@link PriorityScheduler}, not by threads.
+ * Uploads from the multipart threshold on are split into parts by a {@link S3AsyncMultipartUploader}, which
+ * retries every part on its own and schedules it like any other request.
+ * </p>
+ * <p>
+ * Uploads send the checksum configured in {@link S3Config}, for every part of a multipart upload; whole-object
+ * downloads are verified against the stored checksum as their buffers arrive and fail with a
+ * {@link ChecksumMismatchException}, a file failing verification being removed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  15:40
+ **/
+@Component
+@ConditionalOnBean(S3AsyncClient.class)
+public final class S3AsyncStorageProvider extends AbstractAsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "Amazon Simple Storage Service :: (S3 Async)";
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final long multipartThreshold;
+    private final boolean checksumEnabled;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final S3AsyncMultipartUploader multipartUploader;
+
+    public S3AsyncStorageProvider(S3AsyncClient s3AsyncClient, S3Config s3Config,
+                                  @Qualifier("storageExecutor") Executor executor,
+                                  @Qualifier("storageScheduler") PriorityScheduler scheduler,
+                                  @Qualifier("storageResilience") ResilienceRegistry resilience,
+                                  @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        super(PROVIDER_NAME, s3Config.isLogEnabled(), executor, instrumentation.retryExecutor(PROVIDER_NAME), scheduler,
+                resilience.forProvider(PROVIDER_NAME), S3Support.rateLimiter(PROVIDER_NAME, s3Config));
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = s3Config.getBucketName();
+        this.multipartThreshold = s3Config.getMultipartThreshold();
+        this.checksumEnabled = s3Config.isChecksumEnabled();
+        this.checksumAlgorithm = S3Checksums.algorithm(s3Config);
+        this.multipartUploader = new S3AsyncMultipartUploader(s3AsyncClient, s3Config, executor, getRetryExecutor(),
+                this::isRetryable, this::scheduleAsync);
+    }
+
+    /**
+     * Uploads below the multipart threshold are single requests, retried within the attempt timeout of the
+     * context. Larger ones are uploaded in parts, each retried on its own, and are not bounded by the attempt
+     * timeout since their duration depends on their size.
+     */
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        if (data.length >= multipartThreshold) {
+            return multipart(key, data.length,
+                    multipartUploader.upload(key, context, contentType(context), context.getUserMetadata(), data));
+        }
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .contentLength(getMetadataValue(context, MetadataKey.CONTENT_LENGTH, Long.class)
+                        .orElse((long) data.length))
+                .contentType(contentType(context))
+                .metadata(context.getUserMetadata())
+                .overrideConfiguration(S3Support.timeouts(context));
+        if (checksumAlgorithm != null) {
+            S3Checksums.apply(request, Checksummer.compute(checksumAlgorithm, data, 0, data.length));
+        }
+        return call(context, "upload", key, true,
+                () -> s3AsyncClient.putObject(request.build(), AsyncRequestBody.fromBytesUnsafe(data)).thenApply(r -> null));
+    }
+
+    /**
+     * Streams below the multipart threshold go in a single request that is not retried, since the stream
+     * can be read only once. Larger ones are uploaded in parts, each buffered so that it can be retried.
+     */
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        if (contentLength >= multipartThreshold) {
+            return multipart(key, contentLength,
+                    multipartUploader.upload(key, context, contentType(context), context.getUserMetadata(), data, contentLength));
+        }
+        PutObjectRequest request = S3Checksums.trailing(PutObjectRequest.builder(), checksumAlgorithm)
+                .key(key)
+                .bucket(bucketName)
+                .contentLength(contentLength)
+                .contentType(contentType(context))
+                .metadata(context.getUserMetadata())
+                .build();
+        return call(context, "upload", key, false,
+                () -> S3Support.putStream(s3AsyncClient, request, data, contentLength, getExecutor()).thenApply(r -> null));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        return call(context, "delete", key, true,
+                () -> s3AsyncClient.deleteObject(request).thenApply(r -> null));
+    }
+
+    /**
+     * Deletes the keys with {@code DeleteObjects} requests of up to 1000 keys of one rate limit prefix each,
+     * sent one after another and each paced by the rate limit of its prefix.
+     */
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (List<String> chunk : BatchExecutor.partition(keys, S3Support.MAX_DELETE_BATCH, getRateLimiter()::prefix)) {
+            DeleteObjectsRequest request = S3Support.deleteObjects(bucketName, chunk, context);
+            chain = chain.thenCompose(ignored -> call(context, "delete", chunk.size() + " keys", chunk.getFirst(), true,
+                    () -> s3AsyncClient.deleteObjects(request)).handle((response, t) -> {
+                if (t == null) {
+                    S3Support.collect(chunk, response, result);
+                } else {
+                    chunk.forEach(key -> result.failure(key, RetryExecutor.unwrap(t)));
+                }
+                return null;
+            }));
+        }
+        return chain.thenApply(ignored -> result.build());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(S3Support.timeouts(context), checksumEnabled))
+                .build();
+        return call(context, "download", key, true,
+                () -> s3AsyncClient.getObject(request, verifying(key, AsyncResponseTransformer.toBytes()))
+                        .thenApply(ResponseBytes::asByteArrayUnsafe));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(AwsRequestOverrideConfiguration.builder().build(), checksumEnabled))
+                .build();
+        return call(context, "download", key, false,
+                () -> s3AsyncClient.getObject(request, AsyncResponseTransformer.<GetObjectResponse>toBlockingInputStream())
+                        .thenAcceptAsync(in -> copy(key, in, out), getExecutor()));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .range(S3Support.range(offset, length))
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        return call(context, "download", key, true,
+                () -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
+                        .thenApply(ResponseBytes::asByteArrayUnsafe));
+    }
+
+    /**
+     * Downloads the whole object in one request that is not retried nor bounded by the attempt timeout, so
+     * that no second transfer ever writes to the target while an abandoned one still does.
+     */
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(AwsRequestOverrideConfiguration.builder().build(), checksumEnabled))
+                .build();
+        return this.<Void>call(context, "download", key, false,
+                () -> s3AsyncClient.getObject(request, verifying(key, AsyncResponseTransformer.<GetObjectResponse>toFile(target,
+                        FileTransformerConfiguration.defaultCreateOrReplaceExisting()))).thenApply(r -> null))
+                .whenComplete((ignored, t) -> {
+                    if (t != null && RetryExecutor.unwrap(t) instanceof ChecksumMismatchException) {
+                        deleteQuietly(target, t);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .checksumMode(checksumEnabled ? ChecksumMode.ENABLED : null)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        return call(context, "stat", key, true, () -> s3AsyncClient.headObject(request)
+                .thenApply(response -> Optional.of(S3Support.metadata(key, response)))
+                .exceptionally(t -> {
+                    if (S3Support.isNotFound(t)) {
+                        return Optional.empty();
+                    }
+                    throw new CompletionException(RetryExecutor.unwrap(t));
+                }));
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return S3Support.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return S3Support.isRetryable(t) || super.isRetryable(t);
+    }
+
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, boolean retry,
+                                          Supplier<CompletableFuture<T>> request) {
+        return call(context, operation, key, key, retry, request);
+    }
+
+    /**
+     * Admits the request through the priority scheduler, optionally retries it, and maps the outcome
+     * to the provider's logging and {@link FileStorageException} conventions.
+     * Requests wait for the rate limit of the prefix of {@code limitKey}; batch requests pass a key of the
+     * one prefix they cover.
+     * <p>
+     * Retried requests carry the attempt timeout, so the client aborts an attempt that overruns it. The
+     * provider gives up on such an attempt at the same moment, so a retry first waits for the attempt it
+     * replaces to settle and never overlaps it.
+     * </p>
+     */
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, String limitKey,
+                                          boolean retry, Supplier<CompletableFuture<T>> request) {
+        Operation limit = "download".equals(operation) || "stat".equals(operation) ? Operation.READ : Operation.WRITE;
+        CompletableFuture<T> future = retry
+                ? retryAsync(context, limitKey, limit, sequential(request))
+                : scheduleAsync(context, limitKey, limit, request);
+        return future.handle((value, t) -> {
+            if (t == null) {
+                logDebug("Completed {} of key '{}' in bucket '{}'", operation, key, bucketName);
+                return value;
+            }
+            Throwable cause = RetryExecutor.unwrap(t);
+            logError("Failed to {} key '{}' in bucket '{}'", cause, operation, key, bucketName);
+            if (cause instanceof ChecksumMismatchException mismatch) {
+                throw mismatch;
+            }
+            throw new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, cause), cause);
+        });
+    }
+
+    /**
+     * Runs a multipart upload, whose parts pass the scheduler on their own, and logs its outcome.
+     */
+    private CompletableFuture<Void> multipart(String key, long size, Mono<Void> upload) {
+        return upload.toFuture().whenComplete((ignored, t) -> {
+            if (t == null) {
+                logDebug("Uploaded object with key '{}' to bucket '{}' in parts, size: {} bytes", key, bucketName, size);
+            } else {
+                logError("Failed multipart upload of key '{}' to bucket '{}'", RetryExecutor.unwrap(t), key, bucketName);
+            }
+        });
+    }
+
+    /**
+     * @return a supplier of attempts that each start once the previous attempt has completed
+     */
+    private static <T> Supplier<CompletableFuture<T>> sequential(Supplier<CompletableFuture<T>> request) {
+        AtomicReference<CompletableFuture<T>> previous = new AtomicReference<>();
+        return () -> {
+            CompletableFuture<T> prior = previous.get();
+            CompletableFuture<T> attempt = prior == null ? request.get()
+                    : prior.handle((ignored, t) -> null).thenCompose(ignored -> request.get());
+            previous.set(attempt);
+            return attempt;
+        };
+    }
+
+    private void copy(String key, ResponseInputStream<GetObjectResponse> in, OutputStream out) {
+        Optional<Checksum> expected = checksumEnabled ? S3Checksums.verifiable(in.response()) : Optional.empty();
+        try (InputStream source = expected.<InputStream>map(checksum -> ChecksummingInputStream.verifying(in, key, checksum)).orElse(in)) {
+            source.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> AsyncResponseTransformer<GetObjectResponse, T> verifying(String key,
+                                                                         AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        return checksumEnabled ? new S3VerifyingTransformer<>(key, transformer) : transformer;
+    }
+
+    private static void deleteQuietly(Path target, Throwable cause) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private String contentType(ExecutionContext context) {
+        return getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                .orElse(FileType.OCTET_STREAM.getContentType());
+    }
+}
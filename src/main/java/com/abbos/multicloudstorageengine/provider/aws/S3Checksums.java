@@ -0,0 +1,193 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.util.Optional;
+
+/**
+ * Maps {@link Checksum checksums} to the {@code x-amz-checksum-*} fields of S3 requests and responses.
+ * <p>
+ * Checksums are computed by the providers while content is transferred and sent as explicit values, so
+ * the SDK neither computes its own nor needs the AWS Common Runtime for CRC-64/NVME. Objects uploaded in
+ * parts carry a full-object checksum for combinable algorithms and a composite one for digests. Streams
+ * sent in a single request are the exception: their checksum is only known once they have been read, so
+ * the SDK computes it on the way and sends it as a trailer, which for CRC-64/NVME requires the runtime.
+ * </p>
+ * <p>
+ * Downloads ask for the stored checksum with a plain {@code x-amz-checksum-mode} header instead of the
+ * {@code checksumMode} request field: the field makes the SDK validate the content itself, which would
+ * checksum every download twice and report mismatches as generic client errors.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:45
+ **/
+final class S3Checksums {
+
+    private static final String CHECKSUM_MODE_HEADER = "x-amz-checksum-mode";
+    private static final boolean CRT_AVAILABLE = isPresent("software.amazon.awssdk.crt.checksums.CRC64NVME");
+
+    private S3Checksums() {
+    }
+
+    /**
+     * @return the configured algorithm, or {@code null} if checksums are disabled
+     */
+    static ChecksumAlgorithm algorithm(S3Config config) {
+        return config.isChecksumEnabled() ? config.getChecksumAlgorithm() : null;
+    }
+
+    /**
+     * Adds the header asking S3 to return the stored checksum with a whole-object GET.
+     *
+     * @param overrides the override configuration of the request
+     * @param enabled   whether checksums are enabled; if not, {@code overrides} is returned unchanged
+     */
+    static AwsRequestOverrideConfiguration checksumMode(AwsRequestOverrideConfiguration overrides, boolean enabled) {
+        return enabled ? overrides.toBuilder().putHeader(CHECKSUM_MODE_HEADER, "ENABLED").build() : overrides;
+    }
+
+    /**
+     * @return whether the SDK can compute a trailing checksum with {@code algorithm}
+     */
+    static boolean trailable(ChecksumAlgorithm algorithm) {
+        return algorithm != ChecksumAlgorithm.CRC64NVME || CRT_AVAILABLE;
+    }
+
+    /**
+     * Has the SDK checksum the streamed body of a single-request upload and send the checksum as a trailer,
+     * which S3 verifies before storing the object.
+     *
+     * @param algorithm the configured algorithm, or {@code null} if checksums are disabled
+     * @see #trailable(ChecksumAlgorithm)
+     */
+    static PutObjectRequest.Builder trailing(PutObjectRequest.Builder builder, ChecksumAlgorithm algorithm) {
+        return algorithm != null && trailable(algorithm) ? builder.checksumAlgorithm(sdkAlgorithm(algorithm)) : builder;
+    }
+
+    static PutObjectRequest.Builder apply(PutObjectRequest.Builder builder, Checksum checksum) {
+        return switch (checksum.getAlgorithm()) {
+            case CRC32 -> builder.checksumCRC32(checksum.getValue());
+            case CRC32C -> builder.checksumCRC32C(checksum.getValue());
+            case CRC64NVME -> builder.checksumCRC64NVME(checksum.getValue());
+            case SHA256 -> builder.checksumSHA256(checksum.getValue());
+            case MD5 -> builder.contentMD5(checksum.getValue());
+        };
+    }
+
+    static UploadPartRequest.Builder apply(UploadPartRequest.Builder builder, Checksum checksum) {
+        return switch (checksum.getAlgorithm()) {
+            case CRC32 -> builder.checksumCRC32(checksum.getValue());
+            case CRC32C -> builder.checksumCRC32C(checksum.getValue());
+            case CRC64NVME -> builder.checksumCRC64NVME(checksum.getValue());
+            case SHA256 -> builder.checksumSHA256(checksum.getValue());
+            case MD5 -> builder.contentMD5(checksum.getValue());
+        };
+    }
+
+    static CompletedPart.Builder apply(CompletedPart.Builder builder, Checksum checksum) {
+        return switch (checksum.getAlgorithm()) {
+            case CRC32 -> builder.checksumCRC32(checksum.getValue());
+            case CRC32C -> builder.checksumCRC32C(checksum.getValue());
+            case CRC64NVME -> builder.checksumCRC64NVME(checksum.getValue());
+            case SHA256 -> builder.checksumSHA256(checksum.getValue());
+            case MD5 -> builder;
+        };
+    }
+
+    /**
+     * Declares the checksum of an object uploaded in parts: full-object if the part checksums can be
+     * combined, composite otherwise.
+     */
+    static CreateMultipartUploadRequest.Builder apply(CreateMultipartUploadRequest.Builder builder, ChecksumAlgorithm algorithm) {
+        return builder.checksumAlgorithm(sdkAlgorithm(algorithm))
+                .checksumType(algorithm.isCombinable() ? ChecksumType.FULL_OBJECT : ChecksumType.COMPOSITE);
+    }
+
+    /**
+     * Sends the full-object checksum of an object uploaded in parts, which S3 verifies on completion.
+     */
+    static CompleteMultipartUploadRequest.Builder apply(CompleteMultipartUploadRequest.Builder builder, Checksum checksum) {
+        builder.checksumType(ChecksumType.FULL_OBJECT);
+        return switch (checksum.getAlgorithm()) {
+            case CRC32 -> builder.checksumCRC32(checksum.getValue());
+            case CRC32C -> builder.checksumCRC32C(checksum.getValue());
+            case CRC64NVME -> builder.checksumCRC64NVME(checksum.getValue());
+            case SHA256, MD5 -> throw new IllegalArgumentException("%s checksums cannot cover an object uploaded in parts"
+                    .formatted(checksum.getAlgorithm()));
+        };
+    }
+
+    /**
+     * @return the checksum S3 stored with the object, returned when the request enabled checksum mode
+     */
+    static Optional<Checksum> stored(GetObjectResponse response) {
+        return stored(response.checksumCRC64NVME(), response.checksumCRC32C(), response.checksumCRC32(), response.checksumSHA256());
+    }
+
+    /**
+     * @return the checksum S3 stored with the object, returned when the request enabled checksum mode
+     */
+    static Optional<Checksum> stored(HeadObjectResponse response) {
+        return stored(response.checksumCRC64NVME(), response.checksumCRC32C(), response.checksumCRC32(), response.checksumSHA256());
+    }
+
+    /**
+     * @return the stored checksum if the whole content can be verified against it; composite checksums
+     * depend on the part layout of the upload and are not verified
+     */
+    static Optional<Checksum> verifiable(GetObjectResponse response) {
+        return stored(response).filter(checksum -> !checksum.isComposite());
+    }
+
+    /**
+     * @return the stored checksum if the whole content can be verified against it
+     * @see #verifiable(GetObjectResponse)
+     */
+    static Optional<Checksum> verifiable(HeadObjectResponse response) {
+        return stored(response).filter(checksum -> !checksum.isComposite());
+    }
+
+    private static Optional<Checksum> stored(String crc64nvme, String crc32c, String crc32, String sha256) {
+        if (crc64nvme != null) {
+            return Optional.of(Checksum.of(ChecksumAlgorithm.CRC64NVME, crc64nvme));
+        }
+        if (crc32c != null) {
+            return Optional.of(Checksum.of(ChecksumAlgorithm.CRC32C, crc32c));
+        }
+        if (crc32 != null) {
+            return Optional.of(Checksum.of(ChecksumAlgorithm.CRC32, crc32));
+        }
+        return Optional.ofNullable(sha256).map(value -> Checksum.of(ChecksumAlgorithm.SHA256, value));
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, S3Checksums.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static software.amazon.awssdk.services.s3.model.ChecksumAlgorithm sdkAlgorithm(ChecksumAlgorithm algorithm) {
+        return switch (algorithm) {
+            case CRC32 -> software.amazon.awssdk.services.s3.model.ChecksumAlgorithm.CRC32;
+            case CRC32C -> software.amazon.awssdk.services.s3.model.ChecksumAlgorithm.CRC32_C;
+            case CRC64NVME -> software.amazon.awssdk.services.s3.model.ChecksumAlgorithm.CRC64_NVME;
+            case SHA256 -> software.amazon.awssdk.services.s3.model.ChecksumAlgorithm.SHA256;
+            case MD5 -> throw new IllegalArgumentException("S3 has no MD5 checksum algorithm");
+        };
+    }
+}
@@ -0,0 +1,328 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Splits a single object into parts and uploads them in parallel through the S3 multipart API.
+ * <p>
+ * Parts are dispatched on the supplied executor with at most {@code concurrency} parts in flight,
+ * which also bounds the memory used for stream uploads to {@code concurrency * partSize}. Every part
+ * is retried independently; if a part still fails the whole upload is aborted so that no partial
+ * object or orphaned parts are left behind, otherwise it is completed atomically. Creating, completing
+ * and aborting the upload are retried like parts, so a transient failure of one of these small requests
+ * does not cost the whole transfer.
+ * </p>
+ * <p>
+ * If checksums are enabled, every part thread checksums its part before sending it and S3 verifies each
+ * part on arrival. For combinable algorithms the part checksums are combined, in part order, into the
+ * checksum of the whole object, which S3 verifies again when the upload is completed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  10:20
+ **/
+final class S3MultipartUploader {
+
+    private static final int MAX_PARTS = 10_000;
+    /**
+     * Upper bound for all attempts of one part. Parts are internal to a transfer whose total duration
+     * depends on the object size, so the caller's per-operation timeout does not apply to them.
+     */
+    private static final Duration PART_DEADLINE = Duration.ofMinutes(15);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final long partSize;
+    private final int concurrency;
+    private final int partRetries;
+    private final Executor executor;
+    private final RetryExecutor retryExecutor;
+    private final Predicate<Throwable> retryable;
+    private final S3Support.Attempt attempt;
+    private final ChecksumAlgorithm checksumAlgorithm;
+
+    S3MultipartUploader(S3Client s3Client, S3Config s3Config, Executor executor, RetryExecutor retryExecutor,
+                        Predicate<Throwable> retryable, S3Support.Attempt attempt) {
+        this.s3Client = s3Client;
+        this.bucketName = s3Config.getBucketName();
+        this.partSize = s3Config.getMultipartPartSize();
+        this.concurrency = s3Config.getMultipartConcurrency();
+        this.partRetries = s3Config.getMultipartPartRetries();
+        this.executor = executor;
+        this.retryExecutor = retryExecutor;
+        this.retryable = retryable;
+        this.attempt = attempt;
+        this.checksumAlgorithm = S3Checksums.algorithm(s3Config);
+    }
+
+    /**
+     * Uploads an in-memory payload; parts are views over {@code data} and are never copied.
+     */
+    void upload(String key, ExecutionContext context, String contentType, Map<String, String> metadata, byte[] data) {
+        long size = partSizeFor(data.length);
+        run(key, context, contentType, metadata, session -> {
+            int partNumber = 1;
+            for (long offset = 0; offset < data.length && session.healthy(); offset += size, partNumber++) {
+                int length = (int) Math.min(size, data.length - offset);
+                session.submit(partNumber, data, (int) offset, length, null);
+            }
+        });
+    }
+
+    /**
+     * Uploads {@code contentLength} bytes read from {@code in}, buffering at most
+     * {@code concurrency} parts at a time. Part buffers are recycled between parts.
+     */
+    void upload(String key, ExecutionContext context, String contentType, Map<String, String> metadata,
+                InputStream in, long contentLength) {
+        int size = Math.toIntExact(partSizeFor(contentLength));
+        ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+        run(key, context, contentType, metadata, session -> {
+            long remaining = contentLength;
+            int partNumber = 1;
+            while (remaining > 0 && session.healthy()) {
+                int length = (int) Math.min(size, remaining);
+                session.acquire();
+                byte[] buffer = buffers.poll();
+                if (buffer == null) {
+                    buffer = new byte[size];
+                }
+                int read = in.readNBytes(buffer, 0, length);
+                if (read < length) {
+                    session.release();
+                    throw new IOException("Stream ended after %d of %d bytes".formatted(contentLength - remaining + read, contentLength));
+                }
+                session.submitAcquired(partNumber++, buffer, 0, length, buffers::offer);
+                remaining -= length;
+            }
+        });
+    }
+
+    private long partSizeFor(long contentLength) {
+        long minimum = (contentLength + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(partSize, minimum);
+    }
+
+    private void run(String key, ExecutionContext context, String contentType, Map<String, String> metadata,
+                     PartSource source) {
+        CreateMultipartUploadRequest.Builder create = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .metadata(metadata)
+                .overrideConfiguration(S3Support.timeouts(context));
+        if (checksumAlgorithm != null) {
+            S3Checksums.apply(create, checksumAlgorithm);
+        }
+        String uploadId;
+        try {
+            uploadId = request(context, key, () -> s3Client.createMultipartUpload(create.build())).uploadId();
+        } catch (Exception e) {
+            throw new FileStorageException("Failed to start multipart upload for key: %s :::: %s".formatted(key, e), e);
+        }
+        Session session = new Session(key, context, uploadId);
+        try {
+            source.emit(session);
+            List<CompletedPart> parts = session.await();
+            CompleteMultipartUploadRequest.Builder complete = CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build());
+            if (checksumAlgorithm != null && checksumAlgorithm.isCombinable()) {
+                S3Checksums.apply(complete, session.checksum());
+            }
+            request(context, key, () -> s3Client.completeMultipartUpload(complete.build()));
+        } catch (Exception e) {
+            session.fail(e);
+            session.drain();
+            abort(key, context, uploadId, e);
+            throw new FileStorageException("Multipart upload failed for key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    private void abort(String key, ExecutionContext context, String uploadId, Exception cause) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        try {
+            // Cleanup is not gated by the circuit: an upload failing because the provider looks unhealthy must
+            // still try to remove its parts.
+            retryExecutor.execute(partRetries, PART_DEADLINE, retryable, () -> s3Client.abortMultipartUpload(request));
+        } catch (Exception abortFailure) {
+            cause.addSuppressed(abortFailure);
+        }
+    }
+
+    /**
+     * Sends one of the requests framing the upload with the retry budget and deadline of a part.
+     */
+    private <T> T request(ExecutionContext context, String key, Callable<T> request) throws Exception {
+        return retryExecutor.execute(partRetries, PART_DEADLINE, retryable,
+                () -> attempt.call(context, key, Operation.WRITE, request));
+    }
+
+    @FunctionalInterface
+    private interface PartSource {
+        void emit(Session session) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Tracks the in-flight parts of one multipart upload.
+     */
+    private final class Session {
+        private final String key;
+        private final ExecutionContext context;
+        private final String uploadId;
+        private final Semaphore permits = new Semaphore(concurrency);
+        private final ConcurrentSkipListMap<Integer, CompletedPart> completed = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<Integer, PartChecksum> checksums = new ConcurrentSkipListMap<>();
+        private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Session(String key, ExecutionContext context, String uploadId) {
+            this.key = key;
+            this.context = context;
+            this.uploadId = uploadId;
+        }
+
+        boolean healthy() {
+            return failure.get() == null;
+        }
+
+        void acquire() throws InterruptedException {
+            permits.acquire();
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        void fail(Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+
+        void submit(int partNumber, byte[] data, int offset, int length, Consumer<byte[]> onDone)
+                throws InterruptedException {
+            acquire();
+            submitAcquired(partNumber, data, offset, length, onDone);
+        }
+
+        void submitAcquired(int partNumber, byte[] data, int offset, int length, Consumer<byte[]> onDone) {
+            if (partNumber > MAX_PARTS) {
+                release();
+                throw new FileStorageException("Object exceeds the S3 limit of %d parts".formatted(MAX_PARTS));
+            }
+            CompletableFuture<Void> future = CompletableFuture
+                    .runAsync(() -> completed.put(partNumber, uploadPart(partNumber, data, offset, length)), executor)
+                    .whenComplete((ignored, t) -> {
+                        if (t != null) {
+                            fail(t);
+                        }
+                        if (onDone != null) {
+                            onDone.accept(data);
+                        }
+                        release();
+                    });
+            inFlight.add(future);
+        }
+
+        List<CompletedPart> await() {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+            return new ArrayList<>(completed.values());
+        }
+
+        /**
+         * Combines the checksums of the completed parts into the checksum of the whole object.
+         */
+        Checksum checksum() {
+            Checksum checksum = null;
+            for (PartChecksum part : checksums.values()) {
+                checksum = checksum == null ? part.checksum() : Checksummer.combine(checksum, part.checksum(), part.length());
+            }
+            return checksum;
+        }
+
+        /**
+         * Waits for every in-flight part to settle, ignoring their outcome, so that an abort
+         * is not raced by parts that are still being written.
+         */
+        void drain() {
+            for (CompletableFuture<Void> future : inFlight) {
+                future.exceptionally(t -> null).join();
+            }
+        }
+
+        private CompletedPart uploadPart(int partNumber, byte[] data, int offset, int length) {
+            if (!healthy()) {
+                throw new FileStorageException("Part %d cancelled after another part failed".formatted(partNumber));
+            }
+            UploadPartRequest.Builder request = UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) length);
+            Checksum checksum = checksumAlgorithm == null ? null : Checksummer.compute(checksumAlgorithm, data, offset, length);
+            if (checksum != null) {
+                S3Checksums.apply(request, checksum);
+                checksums.put(partNumber, new PartChecksum(checksum, length));
+            }
+            try {
+                return retryExecutor.execute(partRetries, PART_DEADLINE, t -> healthy() && retryable.test(t), () -> {
+                    UploadPartResponse response = attempt.call(context, key, Operation.WRITE, () -> s3Client.uploadPart(
+                            request.build(), RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, offset, length),
+                                    length, "application/octet-stream")));
+                    CompletedPart.Builder part = CompletedPart.builder().partNumber(partNumber).eTag(response.eTag());
+                    if (checksum != null) {
+                        S3Checksums.apply(part, checksum);
+                    }
+                    return part.build();
+                });
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new FileStorageException("Failed to upload part %d".formatted(partNumber), e);
+            }
+        }
+    }
+
+    private record PartChecksum(Checksum checksum, long length) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Downloads an object into a local file by fetching fixed-size byte ranges concurrently.
+ * <p>
+ * The object is first HEAD-ed to learn its size and ETag, the target file is pre-sized, and every
+ * chunk is then streamed from its ranged GET straight into its own region of the file with positional
+ * writes through a small transfer buffer. Chunks therefore land in order regardless of completion
+ * order, and no chunk is ever held on the heap as a whole. Ranged GETs are pinned to the ETag
+ * observed by the HEAD so a concurrent overwrite cannot produce a file mixing two versions. A failed
+ * chunk is retried on its own, rewriting the same file region; every ranged GET passes the rate limit,
+ * circuit breaker and bulkhead of the provider.
+ * </p>
+ * <p>
+ * If checksums are enabled, the HEAD also returns the checksum S3 stored with the object and every chunk
+ * is checksummed as it is written. Chunk checksums are combined in order into the checksum of the file,
+ * so the download is verified without reading the file again; a file failing verification is removed.
+ * Digests cannot be combined and are only verified when the object is fetched in one piece.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  11:40
+ **/
+final class S3RangedDownloader {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Upper bound for all attempts of one chunk. Chunks are internal to a transfer whose total duration
+     * depends on the object size, so the caller's per-operation timeout does not apply to them.
+     */
+    private static final Duration CHUNK_DEADLINE = Duration.ofMinutes(15);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final long threshold;
+    private final long chunkSize;
+    private final int concurrency;
+    private final int chunkRetries;
+    private final Executor executor;
+    private final RetryExecutor retryExecutor;
+    private final Predicate<Throwable> retryable;
+    private final S3Support.Attempt attempt;
+    private final boolean checksumEnabled;
+
+    S3RangedDownloader(S3Client s3Client, S3Config s3Config, Executor executor, RetryExecutor retryExecutor,
+                       Predicate<Throwable> retryable, S3Support.Attempt attempt) {
+        this.s3Client = s3Client;
+        this.bucketName = s3Config.getBucketName();
+        this.threshold = s3Config.getParallelDownloadThreshold();
+        this.chunkSize = s3Config.getDownloadChunkSize();
+        this.concurrency = s3Config.getDownloadConcurrency();
+        this.chunkRetries = s3Config.getMultipartPartRetries();
+        this.executor = executor;
+        this.retryExecutor = retryExecutor;
+        this.retryable = retryable;
+        this.attempt = attempt;
+        this.checksumEnabled = s3Config.isChecksumEnabled();
+    }
+
+    /**
+     * Builds the HEAD request the download starts with; the caller sends it under its own retry policy and
+     * timeouts.
+     *
+     * @param overrides the override configuration of the request
+     */
+    HeadObjectRequest headRequest(String key, AwsRequestOverrideConfiguration overrides) {
+        return HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .checksumMode(checksumEnabled ? ChecksumMode.ENABLED : null)
+                .overrideConfiguration(overrides)
+                .build();
+    }
+
+    /**
+     * Downloads {@code key} into {@code target}, returning the number of bytes written.
+     * The partially written file is removed if any chunk fails or the file fails verification.
+     *
+     * @param head the response to {@link #headRequest}, pinning the version that is downloaded
+     * @throws ChecksumMismatchException if the file does not match the checksum stored with the object
+     */
+    long download(String key, HeadObjectResponse head, Path target, ExecutionContext context) {
+        long size = head.contentLength();
+        boolean parallel = size >= threshold;
+        Optional<Checksum> expected = checksumEnabled
+                ? S3Checksums.verifiable(head)
+                .filter(checksum -> !parallel || checksum.getAlgorithm().isCombinable())
+                : Optional.empty();
+        ChecksumAlgorithm algorithm = expected.map(Checksum::getAlgorithm).orElse(null);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (size > 0) {
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+            Checksum actual = parallel
+                    ? fetchParallel(key, context, head.eTag(), size, channel, algorithm)
+                    : fetchChunk(key, context, head.eTag(), 0, size, channel, algorithm);
+            if (expected.isPresent()) {
+                Checksummer.verify(key, expected.get(), actual);
+            }
+            return size;
+        } catch (ChecksumMismatchException e) {
+            deleteQuietly(target, e);
+            throw e;
+        } catch (Exception e) {
+            deleteQuietly(target, e);
+            throw new FileStorageException("Ranged download failed for key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * Reads {@code length} bytes starting at {@code offset}; S3 truncates ranges that run past the end.
+     */
+    byte[] read(String key, long offset, long length, AwsRequestOverrideConfiguration overrides) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range(S3Support.range(offset, length))
+                .overrideConfiguration(overrides)
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * @return the combined checksum of the chunks, or {@code null} if {@code algorithm} is {@code null}
+     */
+    private Checksum fetchParallel(String key, ExecutionContext context, String eTag, long size, FileChannel channel,
+                                   ChecksumAlgorithm algorithm) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Checksum>> chunks = new ArrayList<>();
+        for (long offset = 0; offset < size && !failed.get(); offset += chunkSize) {
+            long start = offset;
+            long length = Math.min(chunkSize, size - offset);
+            permits.acquire();
+            CompletableFuture<Checksum> chunk = CompletableFuture.supplyAsync(
+                    () -> fetchChunk(key, context, eTag, start, length, channel, algorithm), executor).whenComplete((ignored, t) -> {
+                if (t != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            chunks.add(chunk);
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        if (algorithm == null) {
+            return null;
+        }
+        Checksum checksum = chunks.getFirst().join();
+        for (int i = 1; i < chunks.size(); i++) {
+            checksum = Checksummer.combine(checksum, chunks.get(i).join(), Math.min(chunkSize, size - i * chunkSize));
+        }
+        return checksum;
+    }
+
+    /**
+     * Writes one range into its region of the file, retrying it on its own.
+     *
+     * @return the checksum of the range, or {@code null} if {@code algorithm} is {@code null}
+     */
+    private Checksum fetchChunk(String key, ExecutionContext context, String eTag, long offset, long length,
+                                FileChannel channel, ChecksumAlgorithm algorithm) {
+        try {
+            return retryExecutor.execute(chunkRetries, CHUNK_DEADLINE, retryable, () -> attempt.call(context, key,
+                    Operation.READ, () -> fetch(key, eTag, offset, length, channel, algorithm)));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FileStorageException("Failed to fetch range %d-%d".formatted(offset, offset + length - 1), e);
+        }
+    }
+
+    /**
+     * Writes one range into its region of the file.
+     *
+     * @return the checksum of the range, or {@code null} if {@code algorithm} is {@code null}
+     */
+    private Checksum fetch(String key, String eTag, long offset, long length, FileChannel channel,
+                           ChecksumAlgorithm algorithm) throws IOException {
+        Checksummer checksummer = algorithm == null ? null : Checksummer.of(algorithm);
+        if (length == 0) {
+            return checksummer == null ? null : checksummer.checksum();
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range(S3Support.range(offset, length))
+                .ifMatch(eTag)
+                .build();
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long position = offset;
+        try (InputStream in = s3Client.getObject(request)) {
+            int read;
+            while ((read = in.read(buffer.array())) != -1) {
+                buffer.limit(read);
+                if (checksummer != null) {
+                    checksummer.update(buffer.array(), 0, read);
+                }
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                buffer.clear();
+            }
+        }
+        if (position != offset + length) {
+            throw new IOException("Range %d-%d ended after %d bytes".formatted(offset, offset + length - 1, position - offset));
+        }
+        return checksummer == null ? null : checksummer.checksum();
+    }
+
+    private static void deleteQuietly(Path target, Exception cause) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
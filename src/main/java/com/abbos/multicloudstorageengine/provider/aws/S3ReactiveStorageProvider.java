@@ -0,0 +1,387 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Reactive S3 provider built on {@link S3AsyncClient}.
+ * <p>
+ * Every operation is a cold {@link Mono} or {@link Flux} that issues its request on subscription and
+ * completes from the client's event loop, without parking a thread per request. Streaming uploads and
+ * downloads bridge Reactor and the SDK's reactive-streams publishers directly, so subscriber demand is
+ * propagated to the network and memory stays bounded. Uploads from the multipart threshold on are split into
+ * parts by a {@link S3AsyncMultipartUploader}, which retries every part on its own.
+ * </p>
+ * <p>
+ * With checksums enabled, uploads carry the checksum of their content like those of the other S3 providers:
+ * computed up front for byte arrays and parts of multipart uploads, and by the SDK as a trailer for other
+ * streams. Whole-object downloads are verified against the checksum stored with the object as their buffers
+ * pass by; a stream that does not match fails with a {@link ChecksumMismatchException} after its last buffer, and a file is removed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  16:05
+ **/
+@Component
+@ConditionalOnBean(S3AsyncClient.class)
+public final class S3ReactiveStorageProvider extends AbstractReactiveStorageProvider {
+
+    private static final String PROVIDER_NAME = "Amazon Simple Storage Service :: (S3 Reactive)";
+    /**
+     * Runs the blocking reads of stream uploads on Reactor's elastic scheduler.
+     */
+    private static final Executor BLOCKING = command -> Schedulers.boundedElastic().schedule(command);
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final long multipartThreshold;
+    private final boolean checksumEnabled;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final S3AsyncMultipartUploader multipartUploader;
+
+    public S3ReactiveStorageProvider(S3AsyncClient s3AsyncClient, S3Config s3Config,
+                                     @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        super(PROVIDER_NAME, s3Config.isLogEnabled(), instrumentation.retryExecutor(PROVIDER_NAME));
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = s3Config.getBucketName();
+        this.multipartThreshold = s3Config.getMultipartThreshold();
+        this.checksumEnabled = s3Config.isChecksumEnabled();
+        this.checksumAlgorithm = S3Checksums.algorithm(s3Config);
+        this.multipartUploader = new S3AsyncMultipartUploader(s3AsyncClient, s3Config, BLOCKING, getRetryExecutor(),
+                this::isRetryable, S3ReactiveStorageProvider::start);
+    }
+
+    /**
+     * Uploads below the multipart threshold are single requests, retried within the attempt timeout of the
+     * context. Larger ones are uploaded in parts, each retried on its own, and are not bounded by the attempt
+     * timeout since their duration depends on their size.
+     */
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        if (data.length >= multipartThreshold) {
+            return multipart(key, data.length, multipartUploader.upload(key, context, contentType(context),
+                    context.getUserMetadata(), data));
+        }
+        PutObjectRequest.Builder builder = putRequest(key, getMetadataValue(context, MetadataKey.CONTENT_LENGTH, Long.class)
+                .orElse((long) data.length), context)
+                .overrideConfiguration(S3Support.timeouts(context));
+        if (checksumAlgorithm != null) {
+            S3Checksums.apply(builder, Checksummer.compute(checksumAlgorithm, data, 0, data.length));
+        }
+        PutObjectRequest request = builder.build();
+        return call(context, "upload", key, true,
+                () -> s3AsyncClient.putObject(request, AsyncRequestBody.fromBytesUnsafe(data)).thenApply(r -> null));
+    }
+
+    /**
+     * Streams below the multipart threshold go in a single request that is not retried, since the stream
+     * can be read only once. Larger ones are uploaded in parts, each buffered so that it can be retried.
+     */
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        if (contentLength >= multipartThreshold) {
+            return multipart(key, contentLength, multipartUploader.upload(key, context, contentType(context),
+                    context.getUserMetadata(), data, contentLength));
+        }
+        PutObjectRequest request = S3Checksums.trailing(putRequest(key, contentLength, context), checksumAlgorithm).build();
+        return call(context, "upload", key, false,
+                () -> S3Support.putStream(s3AsyncClient, request, data, contentLength, BLOCKING).thenApply(r -> null));
+    }
+
+    /**
+     * Like {@link #upload(String, InputStream, long, ExecutionContext)}: a publisher below the multipart
+     * threshold is subscribed to once, a larger one is gathered into parts that are retried on their own.
+     */
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload publisher cannot be null and content length must be non-negative");
+        }
+        if (contentLength >= multipartThreshold) {
+            return multipart(key, contentLength, multipartUploader.upload(key, context, contentType(context),
+                    context.getUserMetadata(), data, contentLength));
+        }
+        PutObjectRequest request = S3Checksums.trailing(putRequest(key, contentLength, context), checksumAlgorithm).build();
+        return call(context, "upload", key, false,
+                () -> s3AsyncClient.putObject(request, AsyncRequestBody.fromPublisher(data)).thenApply(r -> null));
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        return call(context, "delete", key, true,
+                () -> s3AsyncClient.deleteObject(request).thenApply(r -> null));
+    }
+
+    /**
+     * Deletes the keys with {@code DeleteObjects} requests of up to 1000 keys each, sent one after another
+     * to stay below the per-prefix request rate.
+     */
+    @Override
+    public Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return Mono.defer(() -> {
+            BatchResult.Builder<Void> result = BatchResult.builder();
+            return Flux.fromIterable(BatchExecutor.partition(keys, S3Support.MAX_DELETE_BATCH))
+                    .concatMap(chunk -> call(context, "delete", chunk.size() + " keys", true,
+                            () -> s3AsyncClient.deleteObjects(S3Support.deleteObjects(bucketName, chunk, context)))
+                            .doOnNext(response -> S3Support.collect(chunk, response, result))
+                            .onErrorResume(t -> {
+                                chunk.forEach(key -> result.failure(key, t));
+                                return Mono.empty();
+                            }))
+                    .then(Mono.fromSupplier(result::build));
+        });
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        GetObjectRequest request = getRequest(key, context)
+                .overrideConfiguration(S3Checksums.checksumMode(S3Support.timeouts(context), checksumEnabled))
+                .build();
+        return call(context, "download", key, true,
+                () -> s3AsyncClient.getObject(request, verifying(key, AsyncResponseTransformer.toBytes()))
+                        .thenApply(ResponseBytes::asByteArrayUnsafe));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        GetObjectRequest request = getRequest(key, context).range(S3Support.range(offset, length)).build();
+        return call(context, "download", key, true,
+                () -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
+                        .thenApply(ResponseBytes::asByteArrayUnsafe));
+    }
+
+    /**
+     * Streams the whole object into the file with the stall limit of {@link #downloadStream}; like any
+     * whole transfer it is not retried, so that no second transfer ever writes to the target.
+     */
+    @Override
+    public Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return Mono.using(() -> FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING),
+                        channel -> downloadStream(key, context)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(buffer -> write(channel, buffer))
+                                .then(),
+                        S3ReactiveStorageProvider::close)
+                .onErrorMap(t -> !(t instanceof FileStorageException), t -> failure("download", key, t))
+                .doOnError(ChecksumMismatchException.class, e -> deleteQuietly(target, e));
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        WritableByteChannel channel = Channels.newChannel(out);
+        return downloadStream(key, context)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(buffer -> write(channel, buffer))
+                .then();
+    }
+
+    /**
+     * Streams the whole object. The stream is not bounded in total, since its duration depends on the size
+     * of the object, but fails with a {@link java.util.concurrent.TimeoutException} once it delivers no data
+     * for the attempt timeout of the context, which also aborts the request.
+     */
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(AwsRequestOverrideConfiguration.builder().build(), checksumEnabled))
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.getObject(request, AsyncResponseTransformer.<GetObjectResponse>toPublisher()))
+                .flatMapMany(publisher -> verifying(key, publisher))
+                .timeout(context.getAttemptTimeout())
+                .doOnComplete(() -> logDebug("Streamed object with key '{}' from bucket '{}'", key, bucketName))
+                .onErrorMap(t -> !(t instanceof FileStorageException), t -> failure("download", key, t));
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .checksumMode(checksumEnabled ? ChecksumMode.ENABLED : null)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        // a missing key completes empty before the failure mapping of call(), which no longer exposes the 404
+        return call(context, "stat", key, true, () -> s3AsyncClient.headObject(request)
+                .thenApply(response -> S3Support.metadata(key, response))
+                .exceptionally(t -> {
+                    if (S3Support.isNotFound(t)) {
+                        return null;
+                    }
+                    throw new CompletionException(RetryExecutor.unwrap(t));
+                }));
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return S3Support.isRetryable(t) || super.isRetryable(t);
+    }
+
+    /**
+     * Wraps the request in a cold {@link Mono}, optionally retries it, and maps the outcome to the
+     * provider's logging and {@link FileStorageException} conventions.
+     */
+    private <T> Mono<T> call(ExecutionContext context, String operation, String key, boolean retry,
+                             Supplier<CompletableFuture<T>> request) {
+        Mono<T> source = Mono.fromFuture(request);
+        return (retry ? retryReactive(context, source) : source)
+                .doOnSuccess(ignored -> logDebug("Completed {} of key '{}' in bucket '{}'", operation, key, bucketName))
+                .onErrorMap(t -> failure(operation, key, t));
+    }
+
+    /**
+     * Logs the outcome of a multipart upload, which maps its own failures.
+     */
+    private Mono<Void> multipart(String key, long size, Mono<Void> upload) {
+        return upload
+                .doOnSuccess(ignored -> logDebug("Uploaded object with key '{}' to bucket '{}' in parts, size: {} bytes",
+                        key, bucketName, size))
+                .doOnError(t -> logError("Failed multipart upload of key '{}' to bucket '{}'", t, key, bucketName));
+    }
+
+    /**
+     * Starts the attempt of a part directly: this provider has no scheduler, rate limit or circuit to pass.
+     */
+    private static <T> CompletableFuture<T> start(ExecutionContext context, String key, Operation operation,
+                                                  Supplier<CompletableFuture<T>> request) {
+        return request.get();
+    }
+
+    private FileStorageException failure(String operation, String key, Throwable t) {
+        Throwable cause = RetryExecutor.unwrap(t);
+        logError("Failed to {} key '{}' in bucket '{}'", cause, operation, key, bucketName);
+        return new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, cause), cause);
+    }
+
+    private PutObjectRequest.Builder putRequest(String key, long contentLength, ExecutionContext context) {
+        return PutObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .contentLength(contentLength)
+                .contentType(contentType(context))
+                .metadata(context.getUserMetadata());
+    }
+
+    private String contentType(ExecutionContext context) {
+        return getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                .orElse(FileType.OCTET_STREAM.getContentType());
+    }
+
+    private GetObjectRequest.Builder getRequest(String key, ExecutionContext context) {
+        return GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Support.timeouts(context));
+    }
+
+    private <T> AsyncResponseTransformer<GetObjectResponse, T> verifying(String key,
+                                                                         AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        return checksumEnabled ? new S3VerifyingTransformer<>(key, transformer) : transformer;
+    }
+
+    /**
+     * Checksums the buffers of a whole-object response as they pass and verifies the checksum once the last
+     * one has been emitted.
+     */
+    private Flux<ByteBuffer> verifying(String key, ResponsePublisher<GetObjectResponse> publisher) {
+        Optional<Checksum> expected = checksumEnabled ? S3Checksums.verifiable(publisher.response()) : Optional.empty();
+        if (expected.isEmpty()) {
+            return Flux.from(publisher);
+        }
+        Checksummer checksummer = Checksummer.of(expected.get().getAlgorithm());
+        return Flux.from(publisher)
+                .doOnNext(buffer -> checksummer.update(buffer.duplicate()))
+                .concatWith(Mono.fromRunnable(() -> Checksummer.verify(key, expected.get(), checksummer.checksum())));
+    }
+
+    private static void deleteQuietly(Path target, Throwable cause) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(WritableByteChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,19 +2,47 @@ package com.abbos.multicloudstorageengine.provider.aws;
 
 import com.abbos.multicloudstorageengine.config.S3Config;
 import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
 import com.abbos.multicloudstorageengine.enums.FileType;
 import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
 import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
 import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.checksum.ChecksummingInputStream;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.ProviderResilience;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 @Component
 @ConditionalOnBean(S3Client.class)
@@ -22,29 +50,129 @@ public final class S3StorageProvider extends AbstractStorageProvider {
 
     private static final String PROVIDER_NAME = "Amazon Simple Storage Service :: (S3)";
     private final S3Client s3Client;
+    private final S3Config s3Config;
+    private final Executor executor;
     private final String bucketName;
+    private final long multipartThreshold;
+    private final boolean checksumEnabled;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final S3MultipartUploader multipartUploader;
+    private final S3RangedDownloader rangedDownloader;
 
-    public S3StorageProvider(S3Client s3Client, S3Config s3Config) {
-        super(PROVIDER_NAME, s3Config.isLogEnabled());
+    public S3StorageProvider(S3Client s3Client, S3Config s3Config, @Qualifier("storageExecutor") Executor executor,
+                             @Qualifier("storageResilience") ResilienceRegistry resilience,
+                             @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        this(s3Client, s3Config, executor, instrumentation.retryExecutor(PROVIDER_NAME),
+                resilience.forProvider(PROVIDER_NAME), S3Support.rateLimiter(PROVIDER_NAME, s3Config));
+    }
+
+    private S3StorageProvider(S3Client s3Client, S3Config s3Config, Executor executor, RetryExecutor retryExecutor,
+                              ProviderResilience resilience, RateLimiter rateLimiter) {
+        super(PROVIDER_NAME, s3Config.isLogEnabled(), retryExecutor, resilience, rateLimiter);
         this.s3Client = s3Client;
+        this.s3Config = s3Config;
+        this.executor = executor;
         this.bucketName = s3Config.getBucketName();
+        this.multipartThreshold = s3Config.getMultipartThreshold();
+        this.checksumEnabled = s3Config.isChecksumEnabled();
+        this.checksumAlgorithm = S3Checksums.algorithm(s3Config);
+        this.multipartUploader = new S3MultipartUploader(s3Client, s3Config, executor, getRetryExecutor(),
+                this::isRetryable, this::attempt);
+        this.rangedDownloader = new S3RangedDownloader(s3Client, s3Config, executor, getRetryExecutor(),
+                this::isRetryable, this::attempt);
+    }
+
+    /**
+     * Creates a provider for the same bucket and client with different transfer tuning.
+     *
+     * @see S3Config#withTransferTuning(Long, Integer)
+     */
+    public S3StorageProvider withTransferTuning(Long partSize, Integer concurrency) {
+        return new S3StorageProvider(s3Client, s3Config.withTransferTuning(partSize, concurrency), executor,
+                getRetryExecutor(), getResilience(), getRateLimiter());
     }
 
     @Override
     public void upload(String key, byte[] data, ExecutionContext context) {
-        PutObjectRequest request = PutObjectRequest.builder()
+        if (data.length >= multipartThreshold) {
+            try {
+                multipartUploader.upload(key, context, contentType(context), context.getUserMetadata(), data);
+            } catch (FileStorageException e) {
+                logError("Failed multipart upload of key '{}' to bucket '{}'", e, key, bucketName);
+                throw e;
+            }
+            logDebug("Uploaded object with key '{}' to bucket '{}' in parts, size: {} bytes", key, bucketName, data.length);
+            return;
+        }
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
                 .key(key)
                 .bucket(bucketName)
                 .contentLength(getMetadataValue(context, MetadataKey.CONTENT_LENGTH, Long.class)
                         .orElse((long) data.length))
-                .contentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
-                        .orElse(FileType.OCTET_STREAM.getContentType()))
+                .contentType(contentType(context))
+                .metadata(context.getUserMetadata())
+                .overrideConfiguration(S3Support.timeouts(context));
+        if (checksumAlgorithm != null) {
+            S3Checksums.apply(request, Checksummer.compute(checksumAlgorithm, data, 0, data.length));
+        }
+        try {
+            execute(context, key, Operation.WRITE, () -> s3Client.putObject(request.build(), RequestBody.fromBytes(data)));
+            logDebug("Uploaded object with key '{}' to bucket '{}', size: {} bytes", key, bucketName, data.length);
+        } catch (Exception e) {
+            logError("Failed to upload object with key '{}' to bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * Streams below the multipart threshold go in a single request, retried only if the stream supports
+     * {@link InputStream#mark mark} and {@link InputStream#reset reset}: each attempt rewinds it to where the
+     * upload began. Any other stream can be read once, so its request is sent once, still passing the rate
+     * limit, circuit breaker and bulkhead. With checksums enabled, the SDK checksums the stream as it is sent
+     * and appends the checksum as a trailer; only if it cannot compute the configured algorithm is the
+     * stream buffered to send its checksum up front.
+     */
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        if (contentLength >= multipartThreshold) {
+            try {
+                multipartUploader.upload(key, context, contentType(context), context.getUserMetadata(), data, contentLength);
+            } catch (FileStorageException e) {
+                logError("Failed multipart upload of key '{}' to bucket '{}'", e, key, bucketName);
+                throw e;
+            }
+            logDebug("Streamed object with key '{}' to bucket '{}' in parts, size: {} bytes", key, bucketName, contentLength);
+            return;
+        }
+        if (checksumAlgorithm != null && !S3Checksums.trailable(checksumAlgorithm) && contentLength <= Integer.MAX_VALUE - 8) {
+            upload(key, readFully(key, data, (int) contentLength), context);
+            return;
+        }
+        PutObjectRequest request = S3Checksums.trailing(PutObjectRequest.builder(), checksumAlgorithm)
+                .key(key)
+                .bucket(bucketName)
+                .contentLength(contentLength)
+                .contentType(contentType(context))
+                .metadata(context.getUserMetadata())
+                .overrideConfiguration(S3Support.timeouts(context))
                 .build();
+        RequestBody body = RequestBody.fromContentProvider(() -> unmarkable(data), contentLength, request.contentType());
         try {
-            s3Client.putObject(request, RequestBody.fromBytes(data));
-            logDebug("Uploaded object with key '%s' to bucket '%s', size: %d bytes", key, bucketName, data.length);
+            if (data.markSupported()) {
+                data.mark((int) Math.min(contentLength, Integer.MAX_VALUE));
+                execute(context, key, Operation.WRITE, () -> {
+                    data.reset();
+                    return s3Client.putObject(request, body);
+                });
+            } else {
+                attempt(context, key, Operation.WRITE, () -> s3Client.putObject(request, body));
+            }
+            logDebug("Streamed object with key '{}' to bucket '{}', size: {} bytes", key, bucketName, contentLength);
         } catch (Exception e) {
-            logError("Failed to upload object with key '%s' to bucket '%s'", e, key, bucketName);
+            logError("Failed to stream object with key '{}' to bucket '{}'", e, key, bucketName);
             throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
         }
     }
@@ -54,29 +182,198 @@ public final class S3StorageProvider extends AbstractStorageProvider {
         DeleteObjectRequest request = DeleteObjectRequest.builder()
                 .key(key)
                 .bucket(bucketName)
+                .overrideConfiguration(S3Support.timeouts(context))
                 .build();
         try {
-            s3Client.deleteObject(request);
-            logDebug("Deleted object with key '%s' from bucket '%s'", key, bucketName);
+            execute(context, key, Operation.WRITE, () -> s3Client.deleteObject(request));
+            logDebug("Deleted object with key '{}' from bucket '{}'", key, bucketName);
         } catch (Exception e) {
-            logError("Failed to delete object with key '%s' from bucket '%s'", e, key, bucketName);
+            logError("Failed to delete object with key '{}' from bucket '{}'", e, key, bucketName);
             throw new FileStorageException("Failed to delete key: %s :::: %s".formatted(key, e), e);
         }
     }
 
+    /**
+     * Deletes the keys with {@code DeleteObjects} requests of up to 1000 keys of one rate limit prefix each.
+     * Requests are sent one after another, each paced by the rate limit of its prefix and retried as a whole.
+     */
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        for (List<String> chunk : BatchExecutor.partition(keys, S3Support.MAX_DELETE_BATCH, getRateLimiter()::prefix)) {
+            try {
+                DeleteObjectsResponse response = execute(context, chunk.getFirst(), Operation.WRITE,
+                        () -> s3Client.deleteObjects(S3Support.deleteObjects(bucketName, chunk, context)));
+                S3Support.collect(chunk, response, result);
+            } catch (Exception e) {
+                logError("Failed to delete {} objects from bucket '{}'", e, chunk.size(), bucketName);
+                FileStorageException failure = new FileStorageException("Failed to delete batch :::: %s".formatted(e), e);
+                chunk.forEach(key -> result.failure(key, failure));
+            }
+        }
+        BatchResult<Void> deleted = result.build();
+        logDebug("Deleted {} of {} objects from bucket '{}'", deleted.getSucceeded().size(), deleted.size(), bucketName);
+        return deleted;
+    }
+
     @Override
     public byte[] download(String key, ExecutionContext context) {
         GetObjectRequest request = GetObjectRequest.builder()
                 .key(key)
                 .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(S3Support.timeouts(context), checksumEnabled))
                 .build();
         try {
-            byte[] data = s3Client.getObject(request).readAllBytes();
-            logDebug("Downloaded object with key '%s' from bucket '%s', size: %d bytes", key, bucketName, data.length);
+            byte[] data = execute(context, key, Operation.READ, () -> {
+                try (InputStream in = verifying(key, s3Client.getObject(request))) {
+                    return in.readAllBytes();
+                }
+            });
+            logDebug("Downloaded object with key '{}' from bucket '{}', size: {} bytes", key, bucketName, data.length);
             return data;
-        } catch (IOException e) {
-            logError("Failed to download object with key '%s' from bucket '%s'", e, key, bucketName);
+        } catch (ChecksumMismatchException e) {
+            logError("Downloaded object with key '{}' from bucket '{}' failed verification", e, key, bucketName);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to download object with key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * The request is retried until the object starts arriving; from then on the bytes belong to the caller's
+     * stream and a failure is final. The attempt timeout does not cover reading the body.
+     */
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .overrideConfiguration(S3Checksums.checksumMode(S3Support.timeouts(context), checksumEnabled))
+                .build();
+        try (InputStream in = verifying(key, execute(context, key, Operation.READ, () -> s3Client.getObject(request)))) {
+            long transferred = in.transferTo(out);
+            logDebug("Streamed object with key '{}' from bucket '{}', size: {} bytes", key, bucketName, transferred);
+        } catch (ChecksumMismatchException e) {
+            logError("Streamed object with key '{}' from bucket '{}' failed verification", e, key, bucketName);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to stream object with key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        try {
+            byte[] data = execute(context, key, Operation.READ, () -> rangedDownloader.read(key, offset, length, S3Support.timeouts(context)));
+            if (isDebugEnabled()) {
+                logDebug("Downloaded range {}+{} of key '{}' from bucket '{}', size: {} bytes",
+                        offset, length, key, bucketName, data.length);
+            }
+            return data;
+        } catch (Exception e) {
+            logError("Failed to download range of key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to download range of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        HeadObjectRequest head = rangedDownloader.headRequest(key, S3Support.timeouts(context));
+        try {
+            long size = rangedDownloader.download(key, execute(context, key, Operation.READ, () -> s3Client.headObject(head)), target, context);
+            if (isDebugEnabled()) {
+                logDebug("Downloaded object with key '{}' from bucket '{}' to '{}', size: {} bytes",
+                        key, bucketName, target, size);
+            }
+        } catch (FileStorageException e) {
+            logError("Failed to download object with key '{}' from bucket '{}' to '{}'", e, key, bucketName, target);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to download object with key '{}' from bucket '{}' to '{}'", e, key, bucketName, target);
             throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
         }
     }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .key(key)
+                .bucket(bucketName)
+                .checksumMode(checksumEnabled ? ChecksumMode.ENABLED : null)
+                .overrideConfiguration(S3Support.timeouts(context))
+                .build();
+        try {
+            return Optional.of(S3Support.metadata(key, execute(context, key, Operation.READ, () -> s3Client.headObject(request))));
+        } catch (Exception e) {
+            if (S3Support.isNotFound(e)) {
+                return Optional.empty();
+            }
+            logError("Failed to read metadata of key '{}' in bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to read metadata of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return S3Support.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return S3Support.isRetryable(t) || super.isRetryable(t);
+    }
+
+    /**
+     * Wraps a whole-object response so that it is verified against the stored checksum as it is read.
+     */
+    private InputStream verifying(String key, ResponseInputStream<GetObjectResponse> in) {
+        Optional<Checksum> expected = checksumEnabled ? S3Checksums.verifiable(in.response()) : Optional.empty();
+        return expected.<InputStream>map(checksum -> ChecksummingInputStream.verifying(in, key, checksum)).orElse(in);
+    }
+
+    /**
+     * Buffers a stream below the multipart threshold so that its checksum can be sent ahead of the content,
+     * for algorithms the SDK cannot compute as a trailer.
+     */
+    private static byte[] readFully(String key, InputStream data, int contentLength) {
+        try {
+            byte[] buffer = data.readNBytes(contentLength);
+            if (buffer.length < contentLength) {
+                throw new IOException("Stream ended after %d of %d bytes".formatted(buffer.length, contentLength));
+            }
+            return buffer;
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * Hides the caller's stream from the SDK's own mark and close handling, so that its mark survives for the
+     * next attempt and the stream stays open for the caller.
+     */
+    private static InputStream unmarkable(InputStream data) {
+        return new FilterInputStream(data) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private String contentType(ExecutionContext context) {
+        return getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                .orElse(FileType.OCTET_STREAM.getContentType());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.config.S3Config;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers shared by the blocking, asynchronous and reactive S3 providers.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  15:20
+ **/
+final class S3Support {
+
+    /**
+     * Maximum number of keys accepted by one {@code DeleteObjects} request.
+     */
+    static final int MAX_DELETE_BATCH = 1000;
+
+    private S3Support() {
+    }
+
+    /**
+     * Makes one attempt of a request on a key through the rate limit, circuit breaker and bulkhead of the
+     * provider; used by the parts and chunks of transfers, which retry on their own.
+     */
+    @FunctionalInterface
+    interface Attempt {
+        <T> T call(ExecutionContext context, String key, Operation operation, Callable<T> request) throws Exception;
+    }
+
+    /**
+     * Starts one attempt of a non-blocking request on a key; the counterpart of {@link Attempt} for the
+     * parts of asynchronous transfers.
+     */
+    @FunctionalInterface
+    interface AsyncAttempt {
+        <T> CompletableFuture<T> call(ExecutionContext context, String key, Operation operation,
+                                      Supplier<CompletableFuture<T>> request);
+    }
+
+    /**
+     * Classifies S3 failures as transient: throttling (503 SlowDown, 429), 5xx responses, clock skew,
+     * attempt timeouts and anything the SDK itself marks as retryable.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the failure is an S3 error worth retrying
+     */
+    static boolean isRetryable(Throwable t) {
+        if (RetryExecutor.unwrap(t) instanceof SdkException e) {
+            return e.retryable()
+                    || e instanceof SdkServiceException service && service.statusCode() >= 500
+                    || e instanceof ApiCallAttemptTimeoutException
+                    || RetryUtils.isRetryableException(e)
+                    || RetryUtils.isThrottlingException(e)
+                    || RetryUtils.isClockSkewException(e);
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the failure is a throttling response (503 SlowDown, 429)
+     */
+    static boolean isThrottled(Throwable t) {
+        if (RetryExecutor.unwrap(t) instanceof SdkException e) {
+            return RetryUtils.isThrottlingException(e)
+                    || e instanceof S3Exception s3 && (s3.statusCode() == 503 || s3.statusCode() == 429);
+        }
+        return false;
+    }
+
+    /**
+     * Builds the adaptive rate limit configured for the bucket, or an unlimited one if it is disabled.
+     */
+    static RateLimiter rateLimiter(String providerName, S3Config config) {
+        return config.isRateLimitEnabled()
+                ? new RateLimiter(providerName, config.getReadRateLimit(), config.getWriteRateLimit(), config.getRateLimitPrefixDepth())
+                : RateLimiter.unlimited();
+    }
+
+    /**
+     * @return {@code true} if the failure is a 404 response, i.e. the key does not exist
+     */
+    static boolean isNotFound(Throwable t) {
+        return RetryExecutor.unwrap(t) instanceof S3Exception e && e.statusCode() == 404;
+    }
+
+    /**
+     * Converts the response of a HEAD request; the checksum is present if the request enabled checksum mode.
+     */
+    static ObjectMetadata metadata(String key, HeadObjectResponse response) {
+        return ObjectMetadata.builder(key, response.contentLength() != null ? response.contentLength() : 0)
+                .eTag(response.eTag())
+                .lastModified(response.lastModified())
+                .contentType(response.contentType())
+                .checksum(S3Checksums.stored(response).orElse(null))
+                .userMetadata(response.metadata())
+                .build();
+    }
+
+    /**
+     * Passes the per-attempt timeout of the context to the SDK, which can abort an in-flight call.
+     */
+    static AwsRequestOverrideConfiguration timeouts(ExecutionContext context) {
+        return AwsRequestOverrideConfiguration.builder()
+                .apiCallAttemptTimeout(context.getAttemptTimeout())
+                .build();
+    }
+
+    /**
+     * @return an HTTP {@code Range} header value covering {@code length} bytes from {@code offset}
+     */
+    static String range(long offset, long length) {
+        return "bytes=" + offset + "-" + (offset + length - 1);
+    }
+
+    /**
+     * Builds a quiet {@code DeleteObjects} request, which only reports the keys that could not be deleted.
+     */
+    static DeleteObjectsRequest deleteObjects(String bucketName, List<String> keys, ExecutionContext context) {
+        return DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .overrideConfiguration(timeouts(context))
+                .build();
+    }
+
+    /**
+     * Records the outcome of every key of a {@code DeleteObjects} request: keys reported as errors failed,
+     * all others were deleted.
+     */
+    static void collect(List<String> keys, DeleteObjectsResponse response, BatchResult.Builder<Void> result) {
+        Map<String, S3Error> errors = response.hasErrors()
+                ? response.errors().stream().collect(Collectors.toMap(S3Error::key, Function.identity(), (a, b) -> a))
+                : Map.of();
+        for (String key : keys) {
+            S3Error error = errors.get(key);
+            if (error == null) {
+                result.success(key, null);
+            } else {
+                result.failure(key, new FileStorageException("Failed to delete key: %s :::: %s %s"
+                        .formatted(key, error.code(), error.message())));
+            }
+        }
+    }
+
+    /**
+     * Uploads a blocking {@link InputStream} through a non-blocking client. The stream is pumped into the
+     * request body on {@code writer}, paced by the demand of the HTTP client.
+     */
+    static CompletableFuture<PutObjectResponse> putStream(S3AsyncClient client, PutObjectRequest request,
+                                                          InputStream data, long contentLength, Executor writer) {
+        BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(contentLength);
+        CompletableFuture<PutObjectResponse> response = client.putObject(request, body);
+        writer.execute(() -> {
+            try {
+                body.writeInputStream(data);
+            } catch (RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+        });
+        return response;
+    }
+}
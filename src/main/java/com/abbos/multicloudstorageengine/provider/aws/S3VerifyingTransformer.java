@@ -0,0 +1,73 @@
+package com.abbos.multicloudstorageengine.provider.aws;
+
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Verifies a whole-object response of the asynchronous client against the checksum S3 stored with the
+ * object while its buffers pass on to the wrapped transformer.
+ * <p>
+ * The result completes with a {@link ChecksumMismatchException} instead of the transformed value if the
+ * content differs. Only transformers that complete after consuming the whole stream, such as
+ * {@link AsyncResponseTransformer#toBytes()} and {@link AsyncResponseTransformer#toFile}, can be wrapped;
+ * blocking input streams are verified with
+ * {@link com.abbos.multicloudstorageengine.provider.checksum.ChecksummingInputStream#verifying} instead.
+ * </p>
+ *
+ * <pre>{@code
+ * client.getObject(request, new S3VerifyingTransformer<>(key, AsyncResponseTransformer.toBytes()));
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:50
+ **/
+final class S3VerifyingTransformer<T> implements AsyncResponseTransformer<GetObjectResponse, T> {
+
+    private final String key;
+    private final AsyncResponseTransformer<GetObjectResponse, T> delegate;
+    private volatile Checksum expected;
+    private volatile Checksummer checksummer;
+
+    S3VerifyingTransformer(String key, AsyncResponseTransformer<GetObjectResponse, T> delegate) {
+        this.key = key;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<T> prepare() {
+        return delegate.prepare().thenApply(result -> {
+            if (expected != null) {
+                Checksummer.verify(key, expected, checksummer.checksum());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        expected = S3Checksums.verifiable(response).orElse(null);
+        checksummer = expected == null ? null : Checksummer.of(expected.getAlgorithm());
+        delegate.onResponse(response);
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        Checksummer current = checksummer;
+        delegate.onStream(current == null ? publisher : publisher.map(buffer -> {
+            current.update(buffer.duplicate());
+            return buffer;
+        }));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        delegate.exceptionOccurred(error);
+    }
+}
@@ -0,0 +1,252 @@
+package com.abbos.multicloudstorageengine.provider.azure;
+
+import com.abbos.multicloudstorageengine.config.AzureBlobConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.BlobServiceAsyncClient;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchAsyncClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking Azure Blob Storage provider built on {@link BlobServiceAsyncClient}.
+ * <p>
+ * Requests complete on the client's event loop without holding a thread while in flight. Large uploads
+ * are staged as blocks in parallel and committed as one block list; downloads into a file fetch ranges
+ * in parallel straight into an asynchronous file channel. Only reading caller-supplied streams and
+ * writing to caller-supplied streams happen on the storage executor, since both may block.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  18:45
+ **/
+@Component
+@ConditionalOnBean(BlobServiceAsyncClient.class)
+public final class AzureBlobAsyncStorageProvider extends AbstractAsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "Azure Blob Storage :: (Blob Async)";
+    private final BlobContainerAsyncClient containerClient;
+    private final BlobBatchAsyncClient batchClient;
+    private final AzureBlobConfig azureConfig;
+    private final String containerName;
+    private final ParallelTransferOptions uploadOptions;
+    private final DownloadRetryOptions downloadRetryOptions;
+    private final Scheduler blockingScheduler;
+
+    public AzureBlobAsyncStorageProvider(BlobServiceAsyncClient blobServiceAsyncClient, AzureBlobConfig azureConfig,
+                                         @Qualifier("storageExecutor") Executor executor,
+                                         @Qualifier("storageScheduler") PriorityScheduler scheduler,
+                                         @Qualifier("storageResilience") ResilienceRegistry resilience,
+                                         @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        super(PROVIDER_NAME, azureConfig.isLogEnabled(), executor, instrumentation.retryExecutor(PROVIDER_NAME), scheduler,
+                resilience.forProvider(PROVIDER_NAME), AzureSupport.rateLimiter(PROVIDER_NAME, azureConfig));
+        this.containerClient = blobServiceAsyncClient.getBlobContainerAsyncClient(azureConfig.getContainerName());
+        this.batchClient = new BlobBatchClientBuilder(blobServiceAsyncClient).buildAsyncClient();
+        this.azureConfig = azureConfig;
+        this.containerName = azureConfig.getContainerName();
+        this.uploadOptions = AzureSupport.uploadOptions(azureConfig);
+        this.downloadRetryOptions = AzureSupport.downloadRetryOptions(azureConfig);
+        this.blockingScheduler = Schedulers.fromExecutor(executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(BinaryData.fromBytes(data))
+                .setParallelTransferOptions(uploadOptions)
+                .setHeaders(headers(context))
+                .setMetadata(context.getUserMetadata());
+        return call(context, "upload", key, data.length <= azureConfig.getMaxSingleUploadSize(),
+                () -> blob.uploadWithResponse(options).then());
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        int chunkSize = (int) Math.min(azureConfig.getBlockSize(), 4 * 1024 * 1024);
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(FluxUtil.toFluxByteBuffer(data, chunkSize)
+                .subscribeOn(blockingScheduler))
+                .setParallelTransferOptions(uploadOptions)
+                .setHeaders(headers(context))
+                .setMetadata(context.getUserMetadata());
+        return call(context, "upload", key, false, () -> blob.uploadWithResponse(options).then());
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        return call(context, "delete", key, true, () -> blob.deleteIfExists().then());
+    }
+
+    /**
+     * Deletes the keys with blob batch requests of up to 256 deletes each, submitted one after another.
+     */
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (List<String> chunk : BatchExecutor.partition(keys, AzureSupport.MAX_BATCH_SIZE)) {
+            chain = chain.thenCompose(ignored -> call(context, "delete", chunk.size() + " keys", null, true,
+                    () -> Mono.defer(() -> {
+                        BlobBatch batch = batchClient.getBlobBatch();
+                        List<Response<Void>> pending = AzureSupport.deleteBlobs(batch, containerName, chunk);
+                        return batchClient.submitBatchWithResponse(batch, false).thenReturn(pending);
+                    })).handle((responses, t) -> {
+                if (t == null) {
+                    AzureSupport.collect(chunk, responses, result);
+                } else {
+                    chunk.forEach(key -> result.failure(key, RetryExecutor.unwrap(t)));
+                }
+                return null;
+            }));
+        }
+        return chain.thenApply(ignored -> result.build());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        return call(context, "download", key, true,
+                () -> blob.downloadContentWithResponse(downloadRetryOptions, null).map(r -> r.getValue().toBytes()));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        WritableByteChannel channel = Channels.newChannel(out);
+        return call(context, "download", key, false,
+                () -> blob.downloadStreamWithResponse(null, downloadRetryOptions, null, false)
+                        .flatMapMany(response -> response.getValue())
+                        .publishOn(blockingScheduler)
+                        .doOnNext(buffer -> write(channel, buffer))
+                        .then());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        return call(context, "download", key, true,
+                () -> blob.downloadStreamWithResponse(new BlobRange(offset, length), downloadRetryOptions, null, false)
+                        .flatMap(response -> FluxUtil.collectBytesInByteBufferStream(response.getValue(), (int) length)));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        return call(context, "download", key, true,
+                () -> blob.downloadToFileWithResponse(AzureSupport.downloadToFileOptions(azureConfig, target)).then());
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        BlobAsyncClient blob = containerClient.getBlobAsyncClient(key);
+        return call(context, "stat", key, true, () -> blob.getProperties()
+                .map(properties -> Optional.of(AzureSupport.metadata(key, properties)))
+                .onErrorResume(AzureSupport::isNotFound, e -> Mono.just(Optional.empty())));
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return AzureSupport.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return AzureSupport.isRetryable(t);
+    }
+
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, boolean retry,
+                                          Supplier<Mono<T>> request) {
+        return call(context, operation, key, key, retry, request);
+    }
+
+    /**
+     * Admits the request through the priority scheduler, optionally retries it with every attempt
+     * cancelled at the attempt timeout, and maps the outcome to the provider's logging and
+     * {@link FileStorageException} conventions.
+     * Requests on a single key wait for the rate limit of its prefix; {@code limitKey} is {@code null}
+     * for batch requests, which are not limited.
+     */
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, String limitKey,
+                                          boolean retry, Supplier<Mono<T>> request) {
+        Operation limit = "download".equals(operation) || "stat".equals(operation) ? Operation.READ : Operation.WRITE;
+        CompletableFuture<T> future = retry
+                ? retryAsync(context, limitKey, limit, () -> request.get().timeout(context.getAttemptTimeout()).toFuture())
+                : scheduleAsync(context, limitKey, limit, () -> request.get().toFuture());
+        return future.handle((value, t) -> {
+            if (t == null) {
+                logDebug("Completed {} of key '{}' in container '{}'", operation, key, containerName);
+                return value;
+            }
+            Throwable cause = RetryExecutor.unwrap(t);
+            logError("Failed to {} key '{}' in container '{}'", cause, operation, key, containerName);
+            throw new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, cause), cause);
+        });
+    }
+
+    private BlobHttpHeaders headers(ExecutionContext context) {
+        return new BlobHttpHeaders().setContentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                .orElse(FileType.OCTET_STREAM.getContentType()));
+    }
+
+    private static void write(WritableByteChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.abbos.multicloudstorageengine.provider.azure;
+
+import com.abbos.multicloudstorageengine.config.AzureBlobConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.checksum.ChecksummingInputStream;
+import com.abbos.multicloudstorageengine.provider.checksum.ChecksummingOutputStream;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.ProviderResilience;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.models.BlobDownloadContentResponse;
+import com.azure.storage.blob.models.BlobDownloadHeaders;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Blocking Azure Blob Storage provider.
+ * <p>
+ * Payloads above the configured single-upload size are uploaded as block blobs whose blocks are staged
+ * in parallel and committed as one block list. Downloads into a file fetch ranges in parallel and write
+ * them straight into the file channel at their offsets; streamed downloads resume an interrupted body
+ * from the last received byte.
+ * </p>
+ * <p>
+ * With checksums enabled, every upload request carries a transactional MD5 that Azure verifies, and the
+ * MD5 of the whole content, computed as it is sent, is stored as the Content-MD5 of the blob. In-memory
+ * and streamed downloads are verified against it; parallel file downloads are not, since MD5 cannot be
+ * combined from ranges.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  18:25
+ **/
+@Component
+@ConditionalOnBean(BlobServiceClient.class)
+public final class AzureBlobStorageProvider extends AbstractStorageProvider {
+
+    private static final String PROVIDER_NAME = "Azure Blob Storage :: (Blob)";
+    private final BlobServiceClient blobServiceClient;
+    private final BlobContainerClient containerClient;
+    private final BlobBatchClient batchClient;
+    private final AzureBlobConfig azureConfig;
+    private final String containerName;
+    private final long maxSingleUploadSize;
+    private final ParallelTransferOptions uploadOptions;
+    private final DownloadRetryOptions downloadRetryOptions;
+    private final boolean checksumEnabled;
+
+    public AzureBlobStorageProvider(BlobServiceClient blobServiceClient, AzureBlobConfig azureConfig,
+                                    @Qualifier("storageResilience") ResilienceRegistry resilience,
+                                    @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        this(blobServiceClient, azureConfig, instrumentation.retryExecutor(PROVIDER_NAME),
+                resilience.forProvider(PROVIDER_NAME), AzureSupport.rateLimiter(PROVIDER_NAME, azureConfig));
+    }
+
+    private AzureBlobStorageProvider(BlobServiceClient blobServiceClient, AzureBlobConfig azureConfig,
+                                     RetryExecutor retryExecutor, ProviderResilience resilience, RateLimiter rateLimiter) {
+        super(PROVIDER_NAME, azureConfig.isLogEnabled(), retryExecutor, resilience, rateLimiter);
+        this.blobServiceClient = blobServiceClient;
+        this.containerClient = blobServiceClient.getBlobContainerClient(azureConfig.getContainerName());
+        this.batchClient = new BlobBatchClientBuilder(blobServiceClient).buildClient();
+        this.azureConfig = azureConfig;
+        this.containerName = azureConfig.getContainerName();
+        this.maxSingleUploadSize = azureConfig.getMaxSingleUploadSize();
+        this.uploadOptions = AzureSupport.uploadOptions(azureConfig);
+        this.downloadRetryOptions = AzureSupport.downloadRetryOptions(azureConfig);
+        this.checksumEnabled = azureConfig.isChecksumEnabled();
+    }
+
+    /**
+     * Creates a provider for the same container and client with different transfer tuning.
+     *
+     * @see AzureBlobConfig#withTransferTuning(Long, Integer)
+     */
+    public AzureBlobStorageProvider withTransferTuning(Long blockSize, Integer maxConcurrency) {
+        return new AzureBlobStorageProvider(blobServiceClient, azureConfig.withTransferTuning(blockSize, maxConcurrency),
+                getRetryExecutor(), getResilience(), getRateLimiter());
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        BlobClient blob = containerClient.getBlobClient(key);
+        BlobHttpHeaders headers = headers(context);
+        if (checksumEnabled) {
+            Checksum md5 = Checksummer.compute(ChecksumAlgorithm.MD5, data, 0, data.length);
+            headers.setContentMd5(Base64.getDecoder().decode(md5.getValue()));
+        }
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(BinaryData.fromBytes(data))
+                .setParallelTransferOptions(uploadOptions)
+                .setHeaders(headers)
+                .setMetadata(context.getUserMetadata())
+                .setComputeMd5(checksumEnabled);
+        try {
+            if (data.length > maxSingleUploadSize) {
+                blob.uploadWithResponse(options, null, Context.NONE);
+            } else {
+                execute(context, key, Operation.WRITE, () -> blob.uploadWithResponse(options, context.getAttemptTimeout(), Context.NONE));
+            }
+            logDebug("Uploaded blob with key '{}' to container '{}', size: {} bytes", key, containerName, data.length);
+        } catch (Exception e) {
+            logError("Failed to upload blob with key '{}' to container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        ChecksummingInputStream checksummed = checksumEnabled
+                ? new ChecksummingInputStream(data, Checksummer.of(ChecksumAlgorithm.MD5)) : null;
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(BinaryData.fromStream(
+                checksummed != null ? checksummed : data, contentLength))
+                .setParallelTransferOptions(uploadOptions)
+                .setHeaders(headers(context))
+                .setMetadata(context.getUserMetadata())
+                .setComputeMd5(checksumEnabled);
+        BlobClient blob = containerClient.getBlobClient(key);
+        try {
+            String etag = blob.uploadWithResponse(options, null, Context.NONE).getValue().getETag();
+            if (checksummed != null && contentLength > maxSingleUploadSize) {
+                storeMd5(blob, etag, checksummed.checksummer().checksum(), context);
+            }
+            logDebug("Streamed blob with key '{}' to container '{}', size: {} bytes", key, containerName, contentLength);
+        } catch (Exception e) {
+            logError("Failed to stream blob with key '{}' to container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        BlobClient blob = containerClient.getBlobClient(key);
+        try {
+            boolean deleted = execute(context, key, Operation.WRITE, () -> blob.deleteIfExistsWithResponse(null, null,
+                    context.getAttemptTimeout(), Context.NONE).getValue());
+            logDebug("Deleted blob with key '{}' from container '{}', existed: {}", key, containerName, deleted);
+        } catch (Exception e) {
+            logError("Failed to delete blob with key '{}' from container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to delete key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * Deletes the keys with blob batch requests of up to 256 deletes each; each batch is retried as a whole.
+     */
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        for (List<String> chunk : BatchExecutor.partition(keys, AzureSupport.MAX_BATCH_SIZE)) {
+            try {
+                List<Response<Void>> responses = execute(context, () -> {
+                    BlobBatch batch = batchClient.getBlobBatch();
+                    List<Response<Void>> pending = AzureSupport.deleteBlobs(batch, containerName, chunk);
+                    batchClient.submitBatchWithResponse(batch, false, context.getAttemptTimeout(), Context.NONE);
+                    return pending;
+                });
+                AzureSupport.collect(chunk, responses, result);
+            } catch (Exception e) {
+                logError("Failed to delete {} blobs from container '{}'", e, chunk.size(), containerName);
+                FileStorageException failure = new FileStorageException("Failed to delete batch :::: %s".formatted(e), e);
+                chunk.forEach(key -> result.failure(key, failure));
+            }
+        }
+        BatchResult<Void> deleted = result.build();
+        logDebug("Deleted {} of {} blobs from container '{}'", deleted.getSucceeded().size(), deleted.size(), containerName);
+        return deleted;
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        BlobClient blob = containerClient.getBlobClient(key);
+        try {
+            BlobDownloadContentResponse response = execute(context, key, Operation.READ, () -> blob.downloadContentWithResponse(
+                    downloadRetryOptions, null, context.getAttemptTimeout(), Context.NONE));
+            byte[] data = response.getValue().toBytes();
+            Optional<Checksum> expected = AzureSupport.checksum(response.getDeserializedHeaders().getContentMd5());
+            if (checksumEnabled && expected.isPresent()) {
+                Checksummer.verify(key, expected.get(), Checksummer.compute(ChecksumAlgorithm.MD5, data, 0, data.length));
+            }
+            logDebug("Downloaded blob with key '{}' from container '{}', size: {} bytes", key, containerName, data.length);
+            return data;
+        } catch (ChecksumMismatchException e) {
+            logError("Downloaded blob with key '{}' from container '{}' failed verification", e, key, containerName);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to download blob with key '{}' from container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        ChecksummingOutputStream checksummed = checksumEnabled
+                ? new ChecksummingOutputStream(out, Checksummer.of(ChecksumAlgorithm.MD5)) : null;
+        try {
+            BlobDownloadHeaders headers = containerClient.getBlobClient(key).downloadStreamWithResponse(
+                    checksummed != null ? checksummed : out, null, downloadRetryOptions, null, false, null, Context.NONE)
+                    .getDeserializedHeaders();
+            Optional<Checksum> expected = AzureSupport.checksum(headers.getContentMd5());
+            if (checksummed != null && expected.isPresent()) {
+                Checksummer.verify(key, expected.get(), checksummed.checksummer().checksum());
+            }
+            logDebug("Streamed blob with key '{}' from container '{}', size: {} bytes", key, containerName, headers.getContentLength());
+        } catch (ChecksumMismatchException e) {
+            logError("Streamed blob with key '{}' from container '{}' failed verification", e, key, containerName);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to stream blob with key '{}' from container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        BlobClient blob = containerClient.getBlobClient(key);
+        try {
+            byte[] data = execute(context, key, Operation.READ, () -> blob.downloadContentWithResponse(downloadRetryOptions, null,
+                    new BlobRange(offset, length), false, context.getAttemptTimeout(), Context.NONE).getValue().toBytes());
+            if (isDebugEnabled()) {
+                logDebug("Downloaded range {}+{} of key '{}' from container '{}', size: {} bytes",
+                        offset, length, key, containerName, data.length);
+            }
+            return data;
+        } catch (Exception e) {
+            logError("Failed to download range of key '{}' from container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to download range of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        try {
+            long size = containerClient.getBlobClient(key).downloadToFileWithResponse(
+                    AzureSupport.downloadToFileOptions(azureConfig, target), null, Context.NONE).getValue().getBlobSize();
+            if (isDebugEnabled()) {
+                logDebug("Downloaded blob with key '{}' from container '{}' to '{}', size: {} bytes",
+                        key, containerName, target, size);
+            }
+        } catch (Exception e) {
+            logError("Failed to download blob with key '{}' from container '{}' to '{}'", e, key, containerName, target);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        BlobClient blob = containerClient.getBlobClient(key);
+        try {
+            return Optional.of(AzureSupport.metadata(key, execute(context, key, Operation.READ,
+                    () -> blob.getPropertiesWithResponse(null, context.getAttemptTimeout(), Context.NONE).getValue())));
+        } catch (Exception e) {
+            if (AzureSupport.isNotFound(e)) {
+                return Optional.empty();
+            }
+            logError("Failed to read metadata of key '{}' in container '{}'", e, key, containerName);
+            throw new FileStorageException("Failed to read metadata of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return AzureSupport.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return AzureSupport.isRetryable(t);
+    }
+
+    /**
+     * Stores the MD5 computed while a stream was uploaded in blocks, for which Azure computes none; the update is conditional on the uploaded version so that a concurrent upload never gets it.
+     */
+    private void storeMd5(BlobClient blob, String etag, Checksum md5, ExecutionContext context) throws Exception {
+        BlobHttpHeaders headers = headers(context).setContentMd5(Base64.getDecoder().decode(md5.getValue()));
+        execute(context, blob.getBlobName(), Operation.WRITE, () -> blob.setHttpHeadersWithResponse(headers,
+                new BlobRequestConditions().setIfMatch(etag), context.getAttemptTimeout(), Context.NONE));
+    }
+
+    private BlobHttpHeaders headers(ExecutionContext context) {
+        return new BlobHttpHeaders().setContentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                .orElse(FileType.OCTET_STREAM.getContentType()));
+    }
+}
@@ -0,0 +1,174 @@
+package com.abbos.multicloudstorageengine.provider.azure;
+
+import com.abbos.multicloudstorageengine.config.AzureBlobConfig;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.rest.Response;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobDownloadToFileOptions;
+
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Helpers shared by the blocking and asynchronous Azure Blob providers.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  18:10
+ **/
+final class AzureSupport {
+
+    /**
+     * Maximum number of subrequests in one blob batch request.
+     */
+    static final int MAX_BATCH_SIZE = 256;
+    private static final Set<OpenOption> REPLACE_FILE = Set.of(StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    private AzureSupport() {
+    }
+
+    /**
+     * Classifies Azure failures as transient: request timeouts (408), throttling (429, 503 ServerBusy)
+     * and other 5xx responses; failures without a response fall back to
+     * {@link RetryExecutor#isTransient(Throwable)}.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the failure is worth retrying
+     */
+    static boolean isRetryable(Throwable t) {
+        if (RetryExecutor.unwrap(t) instanceof HttpResponseException e && e.getResponse() != null) {
+            int status = e.getResponse().getStatusCode();
+            return status == 408 || status == 429 || status >= 500;
+        }
+        return RetryExecutor.isTransient(t);
+    }
+
+    /**
+     * @return {@code true} if the failure is a throttling response (429, 503 ServerBusy)
+     */
+    static boolean isThrottled(Throwable t) {
+        if (RetryExecutor.unwrap(t) instanceof HttpResponseException e && e.getResponse() != null) {
+            int status = e.getResponse().getStatusCode();
+            return status == 429 || status == 503;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the adaptive rate limit configured for the container, or an unlimited one if it is disabled.
+     */
+    static RateLimiter rateLimiter(String providerName, AzureBlobConfig config) {
+        return config.isRateLimitEnabled()
+                ? new RateLimiter(providerName, config.getReadRateLimit(), config.getWriteRateLimit(), config.getRateLimitPrefixDepth())
+                : RateLimiter.unlimited();
+    }
+
+    /**
+     * @return {@code true} if the failure is a 404 response, i.e. the blob does not exist
+     */
+    static boolean isNotFound(Throwable t) {
+        return RetryExecutor.unwrap(t) instanceof HttpResponseException e
+                && e.getResponse() != null && e.getResponse().getStatusCode() == 404;
+    }
+
+    /**
+     * Wraps the Content-MD5 Azure stores with a blob. Azure computes it for blobs uploaded with a single
+     * request only; blobs staged in blocks carry it only if the uploader set it.
+     *
+     * @param contentMd5 the raw digest, or {@code null} if the blob has none
+     */
+    static Optional<Checksum> checksum(byte[] contentMd5) {
+        return Optional.ofNullable(contentMd5)
+                .map(md5 -> Checksum.of(ChecksumAlgorithm.MD5, Base64.getEncoder().encodeToString(md5)));
+    }
+
+    /**
+     * Converts the properties of a blob; its MD5, if any, is reported as the checksum.
+     */
+    static ObjectMetadata metadata(String key, BlobProperties properties) {
+        return ObjectMetadata.builder(key, properties.getBlobSize())
+                .eTag(properties.getETag())
+                .lastModified(properties.getLastModified() != null ? properties.getLastModified().toInstant() : null)
+                .contentType(properties.getContentType())
+                .checksum(checksum(properties.getContentMd5()).orElse(null))
+                .userMetadata(properties.getMetadata())
+                .build();
+    }
+
+    /**
+     * Staged-block upload tuning: payloads above {@code maxSingleUploadSize} are split into blocks of
+     * {@code blockSize}, with up to {@code maxConcurrency} blocks staged in parallel before the block
+     * list is committed.
+     */
+    static ParallelTransferOptions uploadOptions(AzureBlobConfig config) {
+        return new ParallelTransferOptions()
+                .setBlockSizeLong(config.getBlockSize())
+                .setMaxConcurrency(config.getMaxConcurrency())
+                .setMaxSingleUploadSizeLong(config.getMaxSingleUploadSize());
+    }
+
+    /**
+     * Interrupted response bodies are resumed from the last received byte up to {@code downloadRetries} times.
+     */
+    static DownloadRetryOptions downloadRetryOptions(AzureBlobConfig config) {
+        return new DownloadRetryOptions().setMaxRetryRequests(config.getDownloadRetries());
+    }
+
+    /**
+     * Downloads into {@code target} with up to {@code maxConcurrency} ranges of {@code blockSize} written
+     * in parallel at their offsets in the file, replacing any existing content.
+     */
+    static BlobDownloadToFileOptions downloadToFileOptions(AzureBlobConfig config, Path target) {
+        return new BlobDownloadToFileOptions(target.toString())
+                .setParallelTransferOptions(new com.azure.storage.common.ParallelTransferOptions()
+                        .setBlockSizeLong(config.getBlockSize())
+                        .setMaxConcurrency(config.getMaxConcurrency()))
+                .setDownloadRetryOptions(downloadRetryOptions(config))
+                .setOpenOptions(REPLACE_FILE);
+    }
+
+    /**
+     * Adds a delete subrequest per key to a fresh batch; a submitted batch cannot be reused, so every
+     * attempt builds its own.
+     *
+     * @return the subrequest responses in key order, readable once the batch has been submitted
+     */
+    static List<Response<Void>> deleteBlobs(BlobBatch batch, String containerName, List<String> keys) {
+        return keys.stream().map(key -> batch.deleteBlob(containerName, key)).toList();
+    }
+
+    /**
+     * Records the outcome of every subrequest of a submitted delete batch; blobs that did not exist count
+     * as deleted.
+     */
+    static void collect(List<String> keys, List<Response<Void>> responses, BatchResult.Builder<Void> result) {
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            try {
+                int status = responses.get(i).getStatusCode();
+                if (status == 202 || status == 404) {
+                    result.success(key, null);
+                } else {
+                    result.failure(key, new FileStorageException("Failed to delete key: %s :::: status %d".formatted(key, status)));
+                }
+            } catch (RuntimeException e) {
+                result.failure(key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A cached object: its content, held either in a heap array or in a direct buffer outside the heap,
+ * the entity tag it was fetched with, the time it was last known to be current and the invalidation
+ * stamp of its key at the time it was read from the provider.
+ * <p>
+ * Content is copied in on creation and copied out on every read, so callers can never modify a cached
+ * object through an array they were handed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:15
+ **/
+final class CacheEntry {
+
+    private final byte[] heap;
+    private final ByteBuffer direct;
+    private final String etag;
+    private final long stamp;
+    private volatile long validatedAt;
+
+    private CacheEntry(byte[] heap, ByteBuffer direct, String etag, long validatedAt, long stamp) {
+        this.heap = heap;
+        this.direct = direct;
+        this.etag = etag;
+        this.validatedAt = validatedAt;
+        this.stamp = stamp;
+    }
+
+    /**
+     * @param data        the content to copy into the entry
+     * @param etag        the entity tag of the content, or {@code null} if unknown
+     * @param offHeap     whether the content is kept in a direct buffer
+     * @param validatedAt the epoch millisecond at which the content was known to be current
+     * @param stamp       the invalidation stamp of the key taken before the content was read
+     */
+    static CacheEntry of(byte[] data, String etag, boolean offHeap, long validatedAt, long stamp) {
+        return adopt(offHeap ? data : data.clone(), etag, offHeap, validatedAt, stamp);
+    }
+
+    /**
+     * Like {@link #of(byte[], String, boolean, long, long)} but takes ownership of {@code data} instead
+     * of copying it when the entry stays on the heap.
+     */
+    static CacheEntry adopt(byte[] data, String etag, boolean offHeap, long validatedAt, long stamp) {
+        if (offHeap) {
+            return new CacheEntry(null, ByteBuffer.allocateDirect(data.length).put(data).flip(), etag, validatedAt, stamp);
+        }
+        return new CacheEntry(data, null, etag, validatedAt, stamp);
+    }
+
+    int size() {
+        return heap != null ? heap.length : direct.capacity();
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    long stamp() {
+        return stamp;
+    }
+
+    long validatedAt() {
+        return validatedAt;
+    }
+
+    /**
+     * Marks the content as current again after the provider confirmed its entity tag.
+     */
+    void revalidated(long now) {
+        validatedAt = now;
+    }
+
+    byte[] copy() {
+        return copyRange(0, size());
+    }
+
+    /**
+     * Copies up to {@code length} bytes starting at {@code offset}; fewer if the content ends earlier.
+     */
+    byte[] copyRange(long offset, long length) {
+        int from = (int) Math.min(offset, size());
+        int count = (int) Math.min(length, size() - from);
+        byte[] out = new byte[count];
+        if (heap != null) {
+            System.arraycopy(heap, from, out, 0, count);
+        } else {
+            direct.get(from, out);
+        }
+        return out;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        if (heap != null) {
+            out.write(heap);
+            return;
+        }
+        byte[] chunk = new byte[(int) Math.min(size(), 64 * 1024)];
+        for (int position = 0; position < size(); position += chunk.length) {
+            int count = Math.min(chunk.length, size() - position);
+            direct.get(position, chunk, 0, count);
+            out.write(chunk, 0, count);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+/**
+ * Immutable snapshot of the counters of an {@link ObjectCache}. Counters are cumulative since the cache
+ * was created; rates are obtained by differencing two snapshots.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:40
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long revalidationCount;
+    private final long evictionCount;
+    private final long bytesSaved;
+    private final long memorySize;
+    private final long diskSize;
+
+    CacheStats(long hitCount, long missCount, long revalidationCount, long evictionCount,
+               long bytesSaved, long memorySize, long diskSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.revalidationCount = revalidationCount;
+        this.evictionCount = evictionCount;
+        this.bytesSaved = bytesSaved;
+        this.memorySize = memorySize;
+        this.diskSize = diskSize;
+    }
+
+    /**
+     * @return the number of reads served from the cache, including revalidated ones
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of read-through calls that downloaded the object from the provider
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of expired entries confirmed unchanged by their entity tag and served from the cache
+     */
+    public long getRevalidationCount() {
+        return revalidationCount;
+    }
+
+    /**
+     * @return the number of entries evicted from the memory tier to stay within its size budget
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of content bytes served from the cache instead of being downloaded
+     */
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * @return the content bytes currently held by the memory tier
+     */
+    public long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * @return the bytes currently held by the disk tier, or {@code 0} if it is disabled
+     */
+    public long getDiskSize() {
+        return diskSize;
+    }
+
+    /**
+     * @return the share of read-through calls served from the cache, or {@code 0} before the first call
+     */
+    public double getHitRatio() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", revalidations=" + revalidationCount
+                + ", evictions=" + evictionCount + ", bytesSaved=" + bytesSaved + ", memorySize=" + memorySize
+                + ", diskSize=" + diskSize + "}";
+    }
+}
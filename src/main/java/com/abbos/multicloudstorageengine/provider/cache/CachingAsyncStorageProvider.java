@@ -0,0 +1,182 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-through caching decorator for an {@link AsyncStorageProvider}, with the same semantics as
+ * {@link CachingStorageProvider}. Memory hits complete immediately on the calling thread; disk tier
+ * reads run on the cache executor. Returned futures complete only after the cache has been updated,
+ * so a read issued after an upload or delete completes never observes the previous content. The provider
+ * is read through a {@link CoalescingAsyncStorageProvider}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  21:05
+ **/
+public final class CachingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final ObjectCache cache;
+    private final String namespace;
+
+    /**
+     * @param delegate the provider to cache
+     * @param cache    the cache; it may be shared by several decorators since keys are namespaced by provider name
+     */
+    public CachingAsyncStorageProvider(AsyncStorageProvider delegate, ObjectCache cache) {
+        this.delegate = new CoalescingAsyncStorageProvider(delegate);
+        this.cache = Objects.requireNonNull(cache, "Cache cannot be null");
+        this.namespace = delegate.getProviderName() + "::";
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return delegate.upload(key, data, context).whenComplete((ignored, t) -> {
+            if (t == null) {
+                cache.written(cacheKey(key), data);
+            } else {
+                cache.invalidate(cacheKey(key));
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return delegate.upload(key, data, contentLength, context)
+                .whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return delegate.delete(key, context).whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return cache.getAsync(cacheKey(key), () -> delegate.getETag(key, context), () -> delegate.download(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return cache.getRangeAsync(cacheKey(key), 0, Long.MAX_VALUE).thenCompose(cached -> {
+            if (cached == null) {
+                return delegate.download(key, out, context);
+            }
+            try {
+                out.write(cached);
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new UncheckedIOException(e));
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length positive");
+        }
+        return cache.getRangeAsync(cacheKey(key), offset, length).thenCompose(cached -> cached != null
+                ? CompletableFuture.completedFuture(cached)
+                : delegate.download(key, offset, length, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return cache.getRangeAsync(cacheKey(key), 0, Long.MAX_VALUE).thenCompose(cached -> {
+            if (cached == null) {
+                return delegate.download(key, target, context);
+            }
+            try {
+                Files.write(target, cached);
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new UncheckedIOException(e));
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Checksum>> getChecksum(String key, ExecutionContext context) {
+        return delegate.getChecksum(key, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context)
+                .whenComplete((ignored, t) -> keys.forEach(key -> cache.invalidate(cacheKey(key))));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return delegate.uploadAll(objects, context).whenComplete((result, t) -> {
+            if (t != null) {
+                objects.keySet().forEach(key -> cache.invalidate(cacheKey(key)));
+                return;
+            }
+            result.getSucceededKeys().forEach(key -> cache.written(cacheKey(key), objects.get(key)));
+            result.getFailed().keySet().forEach(key -> cache.invalidate(cacheKey(key)));
+        });
+    }
+
+    /**
+     * @return the counters of the underlying cache
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private String cacheKey(String key) {
+        return namespace + key;
+    }
+}
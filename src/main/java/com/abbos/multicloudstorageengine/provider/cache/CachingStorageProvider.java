@@ -0,0 +1,230 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read-through caching decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Whole-object downloads go through the {@link ObjectCache}: hits are served locally, expired entries
+ * are revalidated by entity tag and misses are downloaded and cached. Range, stream and file downloads
+ * are served from unexpired entries when present and otherwise passed straight to the provider without
+ * being cached. Uploads and deletes invalidate the key once the provider call returns, whether it
+ * succeeded or not; successful byte-array uploads are written through to the cache.
+ * </p>
+ * <p>
+ * The provider is read through a {@link CoalescingStorageProvider}, so that the misses and revalidations
+ * of a hot object following its expiry are collapsed into a single request.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new CachingStorageProvider(s3StorageProvider, objectCache);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:55
+ **/
+public final class CachingStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final ObjectCache cache;
+    private final String namespace;
+
+    /**
+     * @param delegate the provider to cache
+     * @param cache    the cache; it may be shared by several decorators since keys are namespaced by provider name
+     */
+    public CachingStorageProvider(StorageProvider delegate, ObjectCache cache) {
+        this.delegate = new CoalescingStorageProvider(delegate);
+        this.cache = Objects.requireNonNull(cache, "Cache cannot be null");
+        this.namespace = delegate.getProviderName() + "::";
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, context);
+        } catch (RuntimeException e) {
+            cache.invalidate(cacheKey(key));
+            throw e;
+        }
+        cache.written(cacheKey(key), data);
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, contentLength, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, channel, contentLength, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        try {
+            delegate.delete(key, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return cache.get(cacheKey(key), () -> delegate.getETag(key, context), () -> delegate.download(key, context));
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        byte[] cached = cache.getRange(cacheKey(key), 0, Long.MAX_VALUE);
+        if (cached == null) {
+            delegate.download(key, out, context);
+            return;
+        }
+        try {
+            out.write(cached);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        byte[] cached = cache.getRange(cacheKey(key), 0, Long.MAX_VALUE);
+        if (cached == null) {
+            delegate.download(key, channel, context);
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(cached);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length positive");
+        }
+        byte[] cached = cache.getRange(cacheKey(key), offset, length);
+        return cached != null ? cached : delegate.download(key, offset, length, context);
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        byte[] cached = cache.getRange(cacheKey(key), 0, Long.MAX_VALUE);
+        if (cached == null) {
+            delegate.download(key, target, context);
+            return;
+        }
+        try {
+            Files.write(target, cached);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return delegate.getChecksum(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        try {
+            return delegate.deleteAll(keys, context);
+        } finally {
+            keys.forEach(key -> cache.invalidate(cacheKey(key)));
+        }
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        BatchResult<Void> result;
+        try {
+            result = delegate.uploadAll(objects, context);
+        } catch (RuntimeException e) {
+            objects.keySet().forEach(key -> cache.invalidate(cacheKey(key)));
+            throw e;
+        }
+        result.getSucceededKeys().forEach(key -> cache.written(cacheKey(key), objects.get(key)));
+        result.getFailed().keySet().forEach(key -> cache.invalidate(cacheKey(key)));
+        return result;
+    }
+
+    /**
+     * @return the counters of the underlying cache
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private String cacheKey(String key) {
+        return namespace + key;
+    }
+}
@@ -0,0 +1,18 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+/**
+ * Flight key of the coalescing decorators: reads share a result only if they target the same object
+ * and the same byte range.
+ *
+ * @param key    the object key
+ * @param offset the first byte of the range, {@code 0} for whole objects
+ * @param length the length of the range, {@code -1} for whole objects
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  21:35
+ **/
+record CoalescedRead(String key, long offset, long length) {
+
+    static CoalescedRead of(String key) {
+        return new CoalescedRead(key, 0, -1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.SingleFlight;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Request-coalescing decorator for an {@link AsyncStorageProvider}, with the same semantics as
+ * {@link CoalescingStorageProvider}. Callers joining a download in flight receive their own future;
+ * cancelling it leaves the shared provider call running for the others.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  21:50
+ **/
+public final class CoalescingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final SingleFlight<CoalescedRead, byte[]> downloads = new SingleFlight<>(byte[]::clone, CoalescedRead::key);
+    private final SingleFlight<CoalescedRead, Optional<String>> etags = new SingleFlight<>(UnaryOperator.identity(), CoalescedRead::key);
+    private final SingleFlight<CoalescedRead, Optional<ObjectMetadata>> stats = new SingleFlight<>(UnaryOperator.identity(), CoalescedRead::key);
+
+    /**
+     * @param delegate the provider whose reads are coalesced
+     */
+    public CoalescingAsyncStorageProvider(AsyncStorageProvider delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return delegate.upload(key, data, context).whenComplete((ignored, t) -> forget(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return delegate.upload(key, data, contentLength, context).whenComplete((ignored, t) -> forget(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return delegate.delete(key, context).whenComplete((ignored, t) -> forget(key));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return downloads.executeAsync(CoalescedRead.of(key), () -> delegate.download(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        return delegate.download(key, out, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return downloads.executeAsync(new CoalescedRead(key, offset, length),
+                () -> delegate.download(key, offset, length, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return delegate.download(key, target, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return stats.executeAsync(CoalescedRead.of(key), () -> delegate.stat(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return etags.executeAsync(CoalescedRead.of(key), () -> delegate.getETag(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Checksum>> getChecksum(String key, ExecutionContext context) {
+        return delegate.getChecksum(key, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context).whenComplete((ignored, t) -> keys.forEach(this::forget));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return delegate.uploadAll(objects, context).whenComplete((ignored, t) -> objects.keySet().forEach(this::forget));
+    }
+
+    /**
+     * @return the number of downloads, entity tag lookups and stats served by joining one already in flight
+     */
+    public long getCoalescedCount() {
+        return downloads.getCoalescedCount() + etags.getCoalescedCount() + stats.getCoalescedCount();
+    }
+
+    private void forget(String key) {
+        downloads.forget(key);
+        etags.forget(key);
+        stats.forget(key);
+    }
+}
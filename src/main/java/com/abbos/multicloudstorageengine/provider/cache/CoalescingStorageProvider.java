@@ -0,0 +1,193 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.SingleFlight;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Request-coalescing decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Concurrent byte-array downloads of the same key and range are collapsed into one provider call whose
+ * result is copied to every waiting caller, and so are concurrent entity tag lookups and stats. This turns a burst of reads of a hot object, such as the one following a cache
+ * expiry, into a single request. A caller that joins a download already in flight waits for it at most
+ * {@link ExecutionContext#getTimeout()}; the provider call itself runs with the context of the caller
+ * that started it.
+ * </p>
+ * <p>
+ * Stream, channel and file downloads are passed through, since their output cannot be shared. Once an
+ * upload or delete returns, reads of that key in flight are detached, so later reads go to the provider
+ * again rather than joining a download that may have fetched the previous content.
+ * </p>
+ * <p>
+ * The caching decorators read their provider through this decorator; wrap a provider without a cache
+ * directly.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new CoalescingStorageProvider(s3StorageProvider);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  21:40
+ **/
+public final class CoalescingStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final SingleFlight<CoalescedRead, byte[]> downloads = new SingleFlight<>(byte[]::clone, CoalescedRead::key);
+    private final SingleFlight<CoalescedRead, Optional<String>> etags = new SingleFlight<>(UnaryOperator.identity(), CoalescedRead::key);
+    private final SingleFlight<CoalescedRead, Optional<ObjectMetadata>> stats = new SingleFlight<>(UnaryOperator.identity(), CoalescedRead::key);
+
+    /**
+     * @param delegate the provider whose reads are coalesced
+     */
+    public CoalescingStorageProvider(StorageProvider delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, context);
+        } finally {
+            forget(key);
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, contentLength, context);
+        } finally {
+            forget(key);
+        }
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, channel, contentLength, context);
+        } finally {
+            forget(key);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        try {
+            delegate.delete(key, context);
+        } finally {
+            forget(key);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return downloads.execute(CoalescedRead.of(key), context.getTimeout(),
+                () -> delegate.download(key, context));
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        delegate.download(key, out, context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        delegate.download(key, channel, context);
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        return downloads.execute(new CoalescedRead(key, offset, length), context.getTimeout(),
+                () -> delegate.download(key, offset, length, context));
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        delegate.download(key, target, context);
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return stats.execute(CoalescedRead.of(key), context.getTimeout(),
+                () -> delegate.stat(key, context));
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return etags.execute(CoalescedRead.of(key), context.getTimeout(),
+                () -> delegate.getETag(key, context));
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return delegate.getChecksum(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        try {
+            return delegate.deleteAll(keys, context);
+        } finally {
+            keys.forEach(this::forget);
+        }
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        try {
+            return delegate.uploadAll(objects, context);
+        } finally {
+            objects.keySet().forEach(this::forget);
+        }
+    }
+
+    /**
+     * @return the number of downloads, entity tag lookups and stats served by joining one already in flight
+     */
+    public long getCoalescedCount() {
+        return downloads.getCoalescedCount() + etags.getCoalescedCount() + stats.getCoalescedCount();
+    }
+
+    private void forget(String key) {
+        downloads.forget(key);
+        etags.forget(key);
+        stats.forget(key);
+    }
+}
@@ -0,0 +1,238 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * The optional local-disk tier of the {@link ObjectCache}, holding entries evicted from memory.
+ * <p>
+ * Every entry is one file named after the SHA-256 of its key, written to a temporary file first and
+ * moved into place atomically so that readers never observe a partial entry. The tier is bounded by
+ * total file size with least-recently-used eviction, and entries written by a previous process are
+ * picked up on start. I/O failures are never propagated: a file that cannot be read or written is
+ * simply treated as a miss.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:35
+ **/
+final class DiskTier {
+
+    private static final int MAGIC = 0x4D435343;
+    private static final String SUFFIX = ".entry";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private final Path directory;
+    private final long maxBytes;
+    private final boolean offHeap;
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long size;
+
+    DiskTier(Path directory, long maxBytes, boolean offHeap) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.offHeap = offHeap;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .sorted(Comparator.comparingLong(DiskTier::lastModified))
+                        .forEach(this::recover);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open cache directory " + directory, e);
+        }
+        trim();
+    }
+
+    CacheEntry get(String key, long stamp) {
+        String name = fileName(key);
+        lock.lock();
+        try {
+            if (index.get(name) == null) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(name)));
+            if (file.getInt() != MAGIC) {
+                invalidate(key);
+                return null;
+            }
+            long validatedAt = file.getLong();
+            String etag = readString(file);
+            if (!key.equals(readString(file))) {
+                return null;
+            }
+            byte[] data = new byte[file.remaining()];
+            file.get(data);
+            return CacheEntry.adopt(data, etag, offHeap, validatedAt, stamp);
+        } catch (NoSuchFileException e) {
+            forget(name);
+            return null;
+        } catch (IOException | RuntimeException e) {
+            invalidate(key);
+            return null;
+        }
+    }
+
+    void put(String key, CacheEntry entry) {
+        String name = fileName(key);
+        Path target = directory.resolve(name);
+        Path temp = directory.resolve(name + "." + Thread.currentThread().threadId() + TEMP_SUFFIX);
+        long fileSize;
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(entry.validatedAt());
+                writeString(out, entry.etag());
+                writeString(out, key);
+                entry.writeTo(out);
+            }
+            fileSize = Files.size(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            delete(temp);
+            return;
+        }
+        lock.lock();
+        try {
+            Long previous = index.put(name, fileSize);
+            size += fileSize - (previous != null ? previous : 0);
+        } finally {
+            lock.unlock();
+        }
+        trim();
+    }
+
+    /**
+     * Deletes the entry of the key; keys without an entry cost no file system access.
+     */
+    void invalidate(String key) {
+        String name = fileName(key);
+        if (forget(name)) {
+            delete(directory.resolve(name));
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(SUFFIX)) {
+            delete(file);
+            return;
+        }
+        try {
+            long fileSize = Files.size(file);
+            index.put(name, fileSize);
+            size += fileSize;
+        } catch (IOException e) {
+            delete(file);
+        }
+    }
+
+    private void trim() {
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+            while (size > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> victim = eldest.next();
+                eldest.remove();
+                size -= victim.getValue();
+                evicted.add(victim.getKey());
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(name -> delete(directory.resolve(name)));
+    }
+
+    private boolean forget(String name) {
+        lock.lock();
+        try {
+            Long removed = index.remove(name);
+            if (removed == null) {
+                return false;
+            }
+            size -= removed;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // a leftover file is removed on the next start
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Memory tier evicting the least recently used entries once the total content size exceeds the budget.
+ * A single lock guards the access-ordered map; eviction listeners run after it is released.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:30
+ **/
+final class LruMemoryTier implements MemoryTier {
+
+    private final long maxBytes;
+    private final BiConsumer<String, CacheEntry> onEviction;
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long weightedSize;
+
+    LruMemoryTier(long maxBytes, BiConsumer<String, CacheEntry> onEviction) {
+        this.maxBytes = maxBytes;
+        this.onEviction = onEviction;
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        List<Map.Entry<String, CacheEntry>> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            CacheEntry previous = entries.put(key, entry);
+            weightedSize += entry.size() - (previous != null ? previous.size() : 0);
+            Iterator<Map.Entry<String, CacheEntry>> eldest = entries.entrySet().iterator();
+            while (weightedSize > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, CacheEntry> victim = eldest.next();
+                eldest.remove();
+                weightedSize -= victim.getValue().size();
+                evicted.add(victim);
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(victim -> onEviction.accept(victim.getKey(), victim.getValue()));
+    }
+
+    @Override
+    public void remove(String key, CacheEntry entry) {
+        lock.lock();
+        try {
+            if (entries.remove(key, entry)) {
+                weightedSize -= entry.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            CacheEntry removed = entries.remove(key);
+            if (removed != null) {
+                weightedSize -= removed.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.config.CacheConfig;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The size-bounded in-memory tier of the {@link ObjectCache}. Entries are weighed by their content
+ * size; entries pushed out to stay within the budget are handed to the eviction listener.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:20
+ **/
+interface MemoryTier {
+
+    CacheEntry get(String key);
+
+    void put(String key, CacheEntry entry);
+
+    /**
+     * Removes the mapping only if it still refers to {@code entry}.
+     */
+    void remove(String key, CacheEntry entry);
+
+    void invalidate(String key);
+
+    /**
+     * @return the total content size of the entries currently held
+     */
+    long weightedSize();
+
+    static MemoryTier create(CacheConfig config, BiConsumer<String, CacheEntry> onEviction) {
+        return switch (config.getEvictionPolicy()) {
+            case TINY_LFU -> new TinyLfuMemoryTier(config.getMaxMemorySize(), onEviction);
+            case LRU -> new LruMemoryTier(config.getMaxMemorySize(), onEviction);
+        };
+    }
+}
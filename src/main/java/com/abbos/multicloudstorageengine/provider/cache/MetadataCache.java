@@ -0,0 +1,193 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.config.MetadataCacheConfig;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Object metadata cache shared by the metadata caching provider decorators.
+ * <p>
+ * Stats are served from memory for the configured TTL, counted from the moment the provider was asked, so
+ * existence checks and change detection by entity tag or size cost no request while an entry is fresh.
+ * Keys found absent are cached as well unless disabled. The key space is split into stripes, each a
+ * least recently used map of its share of the entries behind its own lock.
+ * </p>
+ * <p>
+ * As in the {@link ObjectCache}, every stripe has an invalidation stamp, bumped whenever one of its keys
+ * is written or deleted through a decorator; a stat that started before the bump does not leave its result
+ * behind. Changes made around the decorators, by other processes or other providers, become visible once
+ * the entry expires.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:55
+ **/
+public final class MetadataCache {
+
+    private static final int STRIPES = 64;
+    private final long ttlMillis;
+    private final boolean cacheMisses;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MetadataCache(MetadataCacheConfig config) {
+        this.ttlMillis = config.getTtl().toMillis();
+        this.cacheMisses = config.isCacheMisses();
+        int capacity = Math.max(1, (config.getMaxEntries() + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Removes the key and prevents stats already in flight from caching it.
+     *
+     * @param key the cache key
+     */
+    public void invalidate(String key) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.stamp++;
+            stripe.entries.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of stats served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of stats passed to the provider
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Read-through lookup for blocking callers.
+     *
+     * @param key  the cache key
+     * @param stat reads the metadata of the object from the provider
+     * @return the metadata, or an empty {@link Optional} if the object does not exist
+     */
+    Optional<ObjectMetadata> get(String key, Supplier<Optional<ObjectMetadata>> stat) {
+        Entry entry = find(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.metadata();
+        }
+        Stripe stripe = stripe(key);
+        long stamp = stripe.stamp();
+        long requestedAt = System.currentTimeMillis();
+        Optional<ObjectMetadata> metadata = stat.get();
+        misses.increment();
+        fill(key, metadata, stamp, requestedAt);
+        return metadata;
+    }
+
+    /**
+     * Read-through lookup for asynchronous callers; hits complete on the calling thread.
+     *
+     * @param key  the cache key
+     * @param stat reads the metadata of the object from the provider
+     * @return a {@link CompletableFuture} resolving to the metadata, or to an empty {@link Optional} if the
+     * object does not exist
+     */
+    CompletableFuture<Optional<ObjectMetadata>> getAsync(String key,
+                                                         Supplier<CompletableFuture<Optional<ObjectMetadata>>> stat) {
+        Entry entry = find(key);
+        if (entry != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.metadata());
+        }
+        long stamp = stripe(key).stamp();
+        long requestedAt = System.currentTimeMillis();
+        return stat.get().thenApply(metadata -> {
+            misses.increment();
+            fill(key, metadata, stamp, requestedAt);
+            return metadata;
+        });
+    }
+
+    private Entry find(String key) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.requestedAt() >= ttlMillis) {
+                stripe.entries.remove(key);
+                return null;
+            }
+            return entry;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void fill(String key, Optional<ObjectMetadata> metadata, long stamp, long requestedAt) {
+        if (metadata.isEmpty() && !cacheMisses) {
+            return;
+        }
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            if (stripe.stamp == stamp) {
+                stripe.entries.put(key, new Entry(metadata, requestedAt));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    /**
+     * A cached stat, with the time the provider was asked for it.
+     */
+    private record Entry(Optional<ObjectMetadata> metadata, long requestedAt) {
+    }
+
+    /**
+     * One independently locked, access-ordered segment of the cache, evicting its least recently used
+     * entry beyond its capacity.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries;
+        private long stamp;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private long stamp() {
+            lock.lock();
+            try {
+                return stamp;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
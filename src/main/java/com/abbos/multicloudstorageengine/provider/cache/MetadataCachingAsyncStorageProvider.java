@@ -0,0 +1,139 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Metadata caching decorator for an {@link AsyncStorageProvider}, with the same semantics as
+ * {@link MetadataCachingStorageProvider}. Hits complete immediately on the calling thread. Returned
+ * upload and delete futures complete only after the key has been invalidated, so a stat issued after
+ * they complete never observes the previous metadata.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  08:05
+ **/
+public final class MetadataCachingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final MetadataCache cache;
+    private final String namespace;
+
+    /**
+     * @param delegate the provider to cache
+     * @param cache    the cache; it may be shared by several decorators since keys are namespaced by provider name
+     */
+    public MetadataCachingAsyncStorageProvider(AsyncStorageProvider delegate, MetadataCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.cache = Objects.requireNonNull(cache, "Metadata cache cannot be null");
+        this.namespace = delegate.getProviderName() + "::";
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return delegate.upload(key, data, context).whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return delegate.upload(key, data, contentLength, context)
+                .whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, ReadableByteChannel channel, long contentLength,
+                                          ExecutionContext context) {
+        return delegate.upload(key, channel, contentLength, context)
+                .whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return delegate.delete(key, context).whenComplete((ignored, t) -> cache.invalidate(cacheKey(key)));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return delegate.download(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        return delegate.download(key, out, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return delegate.download(key, channel, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return delegate.download(key, offset, length, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return delegate.download(key, target, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return cache.getAsync(cacheKey(key), () -> delegate.stat(key, context));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context)
+                .whenComplete((ignored, t) -> keys.forEach(key -> cache.invalidate(cacheKey(key))));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return delegate.uploadAll(objects, context)
+                .whenComplete((ignored, t) -> objects.keySet().forEach(key -> cache.invalidate(cacheKey(key))));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.downloadAll(keys, context);
+    }
+
+    private String cacheKey(String key) {
+        return namespace + key;
+    }
+}
@@ -0,0 +1,163 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Metadata caching decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Stats go through the {@link MetadataCache}, and with them existence checks, entity tag and checksum
+ * lookups, which are answered from the cached metadata. Uploads and deletes invalidate the key once the
+ * provider call returns, whether it succeeded or not. Downloads are passed straight to the provider.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new MetadataCachingStorageProvider(s3StorageProvider, metadataCache);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  08:00
+ **/
+public final class MetadataCachingStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final MetadataCache cache;
+    private final String namespace;
+
+    /**
+     * @param delegate the provider to cache
+     * @param cache    the cache; it may be shared by several decorators since keys are namespaced by provider name
+     */
+    public MetadataCachingStorageProvider(StorageProvider delegate, MetadataCache cache) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.cache = Objects.requireNonNull(cache, "Metadata cache cannot be null");
+        this.namespace = delegate.getProviderName() + "::";
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, data, contentLength, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        try {
+            delegate.upload(key, channel, contentLength, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        try {
+            delegate.delete(key, context);
+        } finally {
+            cache.invalidate(cacheKey(key));
+        }
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return delegate.download(key, context);
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        delegate.download(key, out, context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        delegate.download(key, channel, context);
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        return delegate.download(key, offset, length, context);
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        delegate.download(key, target, context);
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return cache.get(cacheKey(key), () -> delegate.stat(key, context));
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        try {
+            return delegate.deleteAll(keys, context);
+        } finally {
+            keys.forEach(key -> cache.invalidate(cacheKey(key)));
+        }
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        try {
+            return delegate.uploadAll(objects, context);
+        } finally {
+            objects.keySet().forEach(key -> cache.invalidate(cacheKey(key)));
+        }
+    }
+
+    @Override
+    public BatchResult<byte[]> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.downloadAll(keys, context);
+    }
+
+    private String cacheKey(String key) {
+        return namespace + key;
+    }
+}
@@ -0,0 +1,281 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.abbos.multicloudstorageengine.config.CacheConfig;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Tiered object cache shared by the caching provider decorators.
+ * <p>
+ * Reads look in the size-bounded memory tier first and then in the optional disk tier, which receives
+ * the entries evicted from memory. An entry is served as-is for the configured TTL; once expired it is
+ * revalidated by comparing its entity tag with the provider's current one, which costs a metadata
+ * request instead of a download, and downloaded again only if the tags differ. Objects larger than the
+ * maximum entry size pass through uncached.
+ * </p>
+ * <p>
+ * Every key has an invalidation stamp, bumped whenever the key is written or deleted through a
+ * decorator. A download that started before the bump is not allowed to leave its result in the cache,
+ * so a slow read racing an upload cannot resurrect the old content.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:45
+ **/
+public final class ObjectCache {
+
+    private static final int STRIPES = 64;
+    private final long ttlMillis;
+    private final boolean revalidate;
+    private final boolean writeThrough;
+    private final boolean offHeap;
+    private final int maxEntrySize;
+    private final MemoryTier memory;
+    private final DiskTier disk;
+    private final Executor executor;
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+    private final ReadWriteLock[] locks = new ReadWriteLock[STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @param config   the cache configuration
+     * @param executor the executor running disk tier reads for asynchronous callers and demotions to disk
+     */
+    public ObjectCache(CacheConfig config, Executor executor) {
+        this.ttlMillis = config.getTtl().toMillis();
+        this.revalidate = config.isRevalidate();
+        this.writeThrough = config.isWriteThrough();
+        this.offHeap = config.isOffHeap();
+        this.maxEntrySize = config.getMaxEntrySize();
+        this.executor = executor;
+        this.memory = MemoryTier.create(config, this::evicted);
+        this.disk = config.isDiskEnabled()
+                ? new DiskTier(Path.of(config.getDiskPath()), config.getMaxDiskSize(), offHeap)
+                : null;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache counters
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), bytesSaved.sum(),
+                memory.weightedSize(), disk != null ? disk.size() : 0);
+    }
+
+    /**
+     * Removes the key from every tier and prevents downloads already in flight from caching it.
+     *
+     * @param key the cache key
+     */
+    public void invalidate(String key) {
+        int stripe = stripe(key);
+        locks[stripe].writeLock().lock();
+        try {
+            stamps.incrementAndGet(stripe);
+            if (disk != null) {
+                disk.invalidate(key);
+            }
+            memory.invalidate(key);
+        } finally {
+            locks[stripe].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records a successful upload: the key is invalidated and, with write-through enabled, the uploaded
+     * content is cached. Its entity tag is unknown, so it is downloaded again once it expires.
+     */
+    void written(String key, byte[] data) {
+        invalidate(key);
+        if (writeThrough) {
+            fill(key, data, null, stamps.get(stripe(key)), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Read-through lookup for blocking callers.
+     *
+     * @param key   the cache key
+     * @param etag  reads the current entity tag of the object from the provider
+     * @param fetch downloads the object from the provider
+     * @return the object content
+     */
+    byte[] get(String key, Supplier<Optional<String>> etag, Supplier<byte[]> fetch) {
+        CacheEntry entry = find(key);
+        if (entry != null && isFresh(entry)) {
+            return hit(entry);
+        }
+        if (entry != null && revalidate && entry.etag() != null) {
+            Optional<String> current = etag.get();
+            if (revalidated(entry, current)) {
+                return hit(entry);
+            }
+            return load(key, () -> current, fetch);
+        }
+        return load(key, revalidate ? etag : Optional::empty, fetch);
+    }
+
+    /**
+     * Read-through lookup for asynchronous callers; disk tier reads run on the cache executor.
+     *
+     * @param key   the cache key
+     * @param etag  reads the current entity tag of the object from the provider
+     * @param fetch downloads the object from the provider
+     * @return a {@link CompletableFuture} resolving to the object content
+     */
+    CompletableFuture<byte[]> getAsync(String key, Supplier<CompletableFuture<Optional<String>>> etag,
+                                       Supplier<CompletableFuture<byte[]>> fetch) {
+        return findAsync(key).thenCompose(entry -> {
+            if (entry != null && isFresh(entry)) {
+                return CompletableFuture.completedFuture(hit(entry));
+            }
+            if (entry != null && revalidate && entry.etag() != null) {
+                return etag.get().thenCompose(current -> revalidated(entry, current)
+                        ? CompletableFuture.completedFuture(hit(entry))
+                        : loadAsync(key, () -> CompletableFuture.completedFuture(current), fetch));
+            }
+            return loadAsync(key, revalidate ? etag : () -> CompletableFuture.completedFuture(Optional.empty()), fetch);
+        });
+    }
+
+    /**
+     * Serves a byte range from an unexpired entry without contacting the provider.
+     *
+     * @return the range, fewer bytes if the object ends earlier, or {@code null} if the key is not cached
+     * or has expired
+     */
+    byte[] getRange(String key, long offset, long length) {
+        return range(find(key), offset, length);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRange(String, long, long)}.
+     */
+    CompletableFuture<byte[]> getRangeAsync(String key, long offset, long length) {
+        return findAsync(key).thenApply(entry -> range(entry, offset, length));
+    }
+
+    private byte[] load(String key, Supplier<Optional<String>> etag, Supplier<byte[]> fetch) {
+        long stamp = stamps.get(stripe(key));
+        long requestedAt = System.currentTimeMillis();
+        String tag = etag.get().orElse(null);
+        byte[] data = fetch.get();
+        misses.increment();
+        fill(key, data, tag, stamp, requestedAt);
+        return data;
+    }
+
+    private CompletableFuture<byte[]> loadAsync(String key, Supplier<CompletableFuture<Optional<String>>> etag,
+                                                Supplier<CompletableFuture<byte[]>> fetch) {
+        long stamp = stamps.get(stripe(key));
+        long requestedAt = System.currentTimeMillis();
+        return etag.get().thenCompose(tag -> fetch.get().thenApply(data -> {
+            misses.increment();
+            fill(key, data, tag.orElse(null), stamp, requestedAt);
+            return data;
+        }));
+    }
+
+    private byte[] range(CacheEntry entry, long offset, long length) {
+        if (entry == null || !isFresh(entry)) {
+            misses.increment();
+            return null;
+        }
+        byte[] data = entry.copyRange(offset, length);
+        hits.increment();
+        bytesSaved.add(data.length);
+        return data;
+    }
+
+    private CacheEntry find(String key) {
+        CacheEntry entry = memory.get(key);
+        return entry != null || disk == null ? entry : promote(key);
+    }
+
+    private CompletableFuture<CacheEntry> findAsync(String key) {
+        CacheEntry entry = memory.get(key);
+        if (entry != null || disk == null) {
+            return CompletableFuture.completedFuture(entry);
+        }
+        return CompletableFuture.supplyAsync(() -> promote(key), executor);
+    }
+
+    /**
+     * Moves a disk entry back into memory. Holding the read lock of the stripe keeps an invalidation
+     * from slipping in between the disk read and the memory write.
+     */
+    private CacheEntry promote(String key) {
+        int stripe = stripe(key);
+        locks[stripe].readLock().lock();
+        try {
+            CacheEntry entry = disk.get(key, stamps.get(stripe));
+            if (entry != null) {
+                memory.put(key, entry);
+            }
+            return entry;
+        } finally {
+            locks[stripe].readLock().unlock();
+        }
+    }
+
+    private void fill(String key, byte[] data, String etag, long stamp, long requestedAt) {
+        if (data.length > maxEntrySize) {
+            return;
+        }
+        CacheEntry entry = CacheEntry.of(data, etag, offHeap, requestedAt, stamp);
+        memory.put(key, entry);
+        if (stamps.get(stripe(key)) != stamp) {
+            memory.remove(key, entry);
+        }
+    }
+
+    private void evicted(String key, CacheEntry entry) {
+        evictions.increment();
+        if (disk != null && stamps.get(stripe(key)) == entry.stamp()) {
+            executor.execute(() -> {
+                disk.put(key, entry);
+                if (stamps.get(stripe(key)) != entry.stamp()) {
+                    disk.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private boolean isFresh(CacheEntry entry) {
+        return System.currentTimeMillis() - entry.validatedAt() < ttlMillis;
+    }
+
+    private boolean revalidated(CacheEntry entry, Optional<String> current) {
+        if (current.isEmpty() || !current.get().equals(entry.etag())) {
+            return false;
+        }
+        entry.revalidated(System.currentTimeMillis());
+        revalidations.increment();
+        return true;
+    }
+
+    private byte[] hit(CacheEntry entry) {
+        hits.increment();
+        bytesSaved.add(entry.size());
+        return entry.copy();
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & 0x7fffffff) % STRIPES;
+    }
+}
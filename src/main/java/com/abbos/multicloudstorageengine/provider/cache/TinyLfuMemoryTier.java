@@ -0,0 +1,57 @@
+package com.abbos.multicloudstorageengine.provider.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Memory tier backed by Caffeine's W-TinyLFU policy: a small LRU admission window in front of a
+ * segmented LRU main space, with admission decided by a frequency sketch. A burst of one-off keys,
+ * such as a listing job reading every object once, cannot flush the frequently read entries.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  20:25
+ **/
+final class TinyLfuMemoryTier implements MemoryTier {
+
+    private final Cache<String, CacheEntry> cache;
+
+    TinyLfuMemoryTier(long maxBytes, BiConsumer<String, CacheEntry> onEviction) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CacheEntry entry) -> entry.size())
+                .removalListener((String key, CacheEntry entry, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && key != null && entry != null) {
+                        onEviction.accept(key, entry);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        cache.put(key, entry);
+    }
+
+    @Override
+    public void remove(String key, CacheEntry entry) {
+        cache.asMap().remove(key, entry);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public long weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+}
@@ -0,0 +1,253 @@
+package com.abbos.multicloudstorageengine.provider.checksum;
+
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * Computes a {@link Checksum} incrementally, as content passes through a transfer, so that no second pass
+ * over the content is needed.
+ * <p>
+ * CRC-32 and CRC-32C use the JDK implementations, which the JIT compiles to the CRC instructions of the CPU;
+ * CRC-64/NVME uses {@link Crc64Nvme}; digests use {@link MessageDigest}. CRC values are encoded big-endian
+ * before Base64, as S3 and GCS transmit them. A checksummer created with a part size computes the
+ * composite checksum S3 reports for objects uploaded in parts: the checksum of the concatenated checksums
+ * of the parts, followed by the number of parts.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; parts transferred concurrently each use their own and are
+ * {@linkplain #combine(Checksum, Checksum, long) combined} afterwards.
+ * </p>
+ *
+ * <pre>{@code
+ * Checksummer checksummer = Checksummer.of(ChecksumAlgorithm.CRC64NVME);
+ * checksummer.update(chunk, 0, read);
+ * Checksum checksum = checksummer.checksum();
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:35
+ **/
+public final class Checksummer {
+
+    private static final CrcCombiner CRC32_COMBINER = new CrcCombiner(32, 0xEDB88320L);
+    private static final CrcCombiner CRC32C_COMBINER = new CrcCombiner(32, 0x82F63B78L);
+    private static final CrcCombiner CRC64NVME_COMBINER = new CrcCombiner(64, Crc64Nvme.POLYNOMIAL);
+
+    private final ChecksumAlgorithm algorithm;
+    private final long partSize;
+    private final List<byte[]> parts = new ArrayList<>();
+    private java.util.zip.Checksum crc;
+    private MessageDigest digest;
+    private long length;
+    private long partRemaining;
+
+    private Checksummer(ChecksumAlgorithm algorithm, long partSize) {
+        this.algorithm = Objects.requireNonNull(algorithm, "Checksum algorithm cannot be null");
+        this.partSize = partSize;
+        this.partRemaining = partSize;
+        switch (algorithm) {
+            case CRC32 -> crc = new CRC32();
+            case CRC32C -> crc = new CRC32C();
+            case CRC64NVME -> crc = new Crc64Nvme();
+            case SHA256 -> digest = newDigest("SHA-256");
+            case MD5 -> digest = newDigest("MD5");
+        }
+    }
+
+    /**
+     * Creates a checksummer over the whole content.
+     */
+    public static Checksummer of(ChecksumAlgorithm algorithm) {
+        return new Checksummer(algorithm, 0);
+    }
+
+    /**
+     * Creates a checksummer computing the composite checksum of content uploaded in parts of
+     * {@code partSize} bytes, the last one shorter.
+     */
+    public static Checksummer ofParts(ChecksumAlgorithm algorithm, long partSize) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("Part size must be positive");
+        }
+        return new Checksummer(algorithm, partSize);
+    }
+
+    /**
+     * @return the checksum of {@code length} bytes of {@code data} starting at {@code offset}
+     */
+    public static Checksum compute(ChecksumAlgorithm algorithm, byte[] data, int offset, int length) {
+        Checksummer checksummer = of(algorithm);
+        checksummer.update(data, offset, length);
+        return checksummer.checksum();
+    }
+
+    /**
+     * Combines the checksums of two consecutive sequences into the checksum of their concatenation.
+     *
+     * @param first        the checksum of the first sequence
+     * @param second       the checksum of the sequence that follows it
+     * @param secondLength the length of the second sequence
+     * @throws IllegalArgumentException if the algorithms differ or are not {@linkplain ChecksumAlgorithm#isCombinable() combinable}
+     */
+    public static Checksum combine(Checksum first, Checksum second, long secondLength) {
+        ChecksumAlgorithm algorithm = first.getAlgorithm();
+        if (algorithm != second.getAlgorithm() || !algorithm.isCombinable()) {
+            throw new IllegalArgumentException("Cannot combine %s and %s checksums".formatted(algorithm, second.getAlgorithm()));
+        }
+        long a = toLong(Base64.getDecoder().decode(first.getValue()));
+        long b = toLong(Base64.getDecoder().decode(second.getValue()));
+        CrcCombiner combiner = switch (algorithm) {
+            case CRC32 -> CRC32_COMBINER;
+            case CRC32C -> CRC32C_COMBINER;
+            default -> CRC64NVME_COMBINER;
+        };
+        return encode(algorithm, toBytes(combiner.combine(a, b, secondLength), crcWidth(algorithm)));
+    }
+
+    /**
+     * Computes the composite checksum of an object from the checksums of its parts, in part order.
+     */
+    public static Checksum composite(ChecksumAlgorithm algorithm, List<Checksum> parts) {
+        Checksummer checksummer = of(algorithm);
+        for (Checksum part : parts) {
+            byte[] raw = Base64.getDecoder().decode(part.getValue());
+            checksummer.update(raw, 0, raw.length);
+        }
+        return Checksum.of(algorithm, checksummer.checksum().getValue() + "-" + parts.size());
+    }
+
+    /**
+     * Compares a computed checksum with the one stored by the provider.
+     *
+     * @throws ChecksumMismatchException if they differ
+     */
+    public static void verify(String key, Checksum expected, Checksum actual) {
+        if (!expected.equals(actual)) {
+            throw new ChecksumMismatchException(key, expected, actual);
+        }
+    }
+
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return the number of bytes passed through so far
+     */
+    public long length() {
+        return length;
+    }
+
+    public void update(byte[] data, int offset, int length) {
+        this.length += length;
+        if (partSize == 0) {
+            updateContent(data, offset, length);
+            return;
+        }
+        while (length > 0) {
+            int slice = (int) Math.min(length, partRemaining);
+            updateContent(data, offset, slice);
+            offset += slice;
+            length -= slice;
+            partRemaining -= slice;
+            if (partRemaining == 0) {
+                parts.add(finishContent());
+                partRemaining = partSize;
+            }
+        }
+    }
+
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        byte[] copy = new byte[Math.min(buffer.remaining(), 64 * 1024)];
+        while (buffer.hasRemaining()) {
+            int slice = Math.min(copy.length, buffer.remaining());
+            buffer.get(copy, 0, slice);
+            update(copy, 0, slice);
+        }
+    }
+
+    /**
+     * Completes the computation. The checksummer must not be used afterwards.
+     *
+     * @return the checksum of everything passed through
+     */
+    public Checksum checksum() {
+        if (partSize == 0) {
+            return encode(algorithm, finishContent());
+        }
+        if (partRemaining < partSize || parts.isEmpty()) {
+            parts.add(finishContent());
+        }
+        Checksummer composite = of(algorithm);
+        for (byte[] part : parts) {
+            composite.update(part, 0, part.length);
+        }
+        return Checksum.of(algorithm, composite.checksum().getValue() + "-" + parts.size());
+    }
+
+    private void updateContent(byte[] data, int offset, int length) {
+        if (crc != null) {
+            crc.update(data, offset, length);
+        } else {
+            digest.update(data, offset, length);
+        }
+    }
+
+    private byte[] finishContent() {
+        if (digest != null) {
+            return digest.digest();
+        }
+        byte[] value = toBytes(crc.getValue(), crcWidth(algorithm));
+        crc.reset();
+        return value;
+    }
+
+    private static int crcWidth(ChecksumAlgorithm algorithm) {
+        return algorithm == ChecksumAlgorithm.CRC64NVME ? 8 : 4;
+    }
+
+    private static Checksum encode(ChecksumAlgorithm algorithm, byte[] raw) {
+        return Checksum.of(algorithm, Base64.getEncoder().encodeToString(raw));
+    }
+
+    private static byte[] toBytes(long value, int width) {
+        byte[] bytes = new byte[width];
+        for (int i = width - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+
+    private static long toLong(byte[] bytes) {
+        long value = 0;
+        for (byte b : bytes) {
+            value = value << 8 | (b & 0xFF);
+        }
+        return value;
+    }
+
+    private static MessageDigest newDigest(String name) {
+        try {
+            return MessageDigest.getInstance(name);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(name + " is not available", e);
+        }
+    }
+}
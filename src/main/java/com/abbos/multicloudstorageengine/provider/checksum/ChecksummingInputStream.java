@@ -0,0 +1,103 @@
+package com.abbos.multicloudstorageengine.provider.checksum;
+
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Passes every byte read from a stream through a {@link Checksummer}.
+ * <p>
+ * Skipped bytes are not checksummed and mark and reset are not supported, so the checksum always covers
+ * exactly the bytes the reader received. A {@linkplain #verifying verifying} stream compares the checksum
+ * with the expected one when the end of the stream is reached and fails the read that reached it, so
+ * corrupted content is never reported as completely read.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:40
+ **/
+public final class ChecksummingInputStream extends FilterInputStream {
+
+    private final Checksummer checksummer;
+    private final String key;
+    private final Checksum expected;
+    private boolean verified;
+
+    public ChecksummingInputStream(InputStream in, Checksummer checksummer) {
+        this(in, checksummer, null, null);
+    }
+
+    private ChecksummingInputStream(InputStream in, Checksummer checksummer, String key, Checksum expected) {
+        super(in);
+        this.checksummer = checksummer;
+        this.key = key;
+        this.expected = expected;
+    }
+
+    /**
+     * Creates a stream verifying the content of {@code in} against {@code expected} at its end.
+     *
+     * @param key the key the content was read from, reported on mismatch
+     */
+    public static ChecksummingInputStream verifying(InputStream in, String key, Checksum expected) {
+        return new ChecksummingInputStream(in, Checksummer.of(expected.getAlgorithm()), key, expected);
+    }
+
+    public Checksummer checksummer() {
+        return checksummer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            checksummer.update(new byte[]{(byte) b}, 0, 1);
+        } else {
+            verify();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = in.read(b, off, len);
+        if (read > 0) {
+            checksummer.update(b, off, read);
+        } else if (read < 0) {
+            verify();
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        throw new IOException("Skipping would leave bytes out of the checksum");
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark and reset are not supported");
+    }
+
+    /**
+     * @throws ChecksumMismatchException if the content read differs from the expected checksum
+     */
+    private void verify() {
+        if (expected != null && !verified) {
+            verified = true;
+            Checksummer.verify(key, expected, checksummer.checksum());
+        }
+    }
+}
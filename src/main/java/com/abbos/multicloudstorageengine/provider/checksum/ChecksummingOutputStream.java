@@ -0,0 +1,45 @@
+package com.abbos.multicloudstorageengine.provider.checksum;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes every byte written to a stream through a {@link Checksummer} on its way to the target.
+ * <p>
+ * Closing this stream does not close the target, which belongs to the caller of the transfer.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:40
+ **/
+public final class ChecksummingOutputStream extends FilterOutputStream {
+
+    private final Checksummer checksummer;
+
+    public ChecksummingOutputStream(OutputStream out, Checksummer checksummer) {
+        super(out);
+        this.checksummer = checksummer;
+    }
+
+    public Checksummer checksummer() {
+        return checksummer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checksummer.update(new byte[]{(byte) b}, 0, 1);
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checksummer.update(b, off, len);
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -0,0 +1,74 @@
+package com.abbos.multicloudstorageengine.provider.checksum;
+
+/**
+ * Combines the CRCs of two consecutive byte sequences into the CRC of their concatenation, given only
+ * the length of the second one.
+ * <p>
+ * Appending {@code n} bytes to a message multiplies its CRC by {@code x^(8n)} modulo the polynomial before
+ * the CRC of the appended bytes is added, so combining takes a logarithmic number of polynomial
+ * multiplications using a table of {@code x^(2^k)}, as zlib's {@code crc32_combine} does. The initial value
+ * and final complement of both CRCs are all ones and cancel out. Everything is computed in the bit-reversed
+ * domain of the CRCs themselves; CRCs narrower than 64 bits sit in the low bits.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:30
+ **/
+final class CrcCombiner {
+
+    private final int width;
+    private final long polynomial;
+    private final long top;
+    private final long[] powers = new long[67];
+
+    /**
+     * @param width      the width of the CRC in bits
+     * @param polynomial the bit-reversed polynomial
+     */
+    CrcCombiner(int width, long polynomial) {
+        this.width = width;
+        this.polynomial = polynomial;
+        this.top = 1L << (width - 1);
+        // powers[k] = x^(2^k); x itself is the second most significant bit in the reversed domain
+        long power = top >>> 1;
+        powers[0] = power;
+        for (int k = 1; k < powers.length; k++) {
+            power = multiply(power, power);
+            powers[k] = power;
+        }
+    }
+
+    /**
+     * @return the CRC of the first sequence followed by the second one
+     */
+    long combine(long first, long second, long secondLength) {
+        return multiply(powerOfX(secondLength), first) ^ second;
+    }
+
+    /**
+     * @return {@code x^(8n)} modulo the polynomial
+     */
+    private long powerOfX(long bytes) {
+        long result = top;
+        int k = 3;
+        for (long n = bytes; n != 0; n >>>= 1, k++) {
+            if ((n & 1) != 0) {
+                result = multiply(powers[k], result);
+            }
+        }
+        return result;
+    }
+
+    private long multiply(long a, long b) {
+        long product = 0;
+        long mask = top;
+        while (mask != 0) {
+            if ((a & mask) != 0) {
+                product ^= b;
+            }
+            b = (b & 1) != 0 ? (b >>> 1) ^ polynomial : b >>> 1;
+            mask >>>= 1;
+        }
+        return width == 64 ? product : product & ((1L << width) - 1);
+    }
+}
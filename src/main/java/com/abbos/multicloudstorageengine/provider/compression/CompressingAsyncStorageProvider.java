@@ -0,0 +1,203 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.compression.Compressor.Payload;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Compressing decorator for an {@link AsyncStorageProvider}.
+ * <p>
+ * Behaves like {@link CompressingStorageProvider}; compression, and reading the caller's stream for it,
+ * run on the compressor's executor so that the calling thread is never blocked, and spooled payloads are
+ * released when the upload completes.
+ * </p>
+ *
+ * <pre>{@code
+ * AsyncStorageProvider s3 = new CompressingAsyncStorageProvider(s3AsyncStorageProvider, compressor);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:00
+ **/
+public final class CompressingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private static final int PROBE_SIZE = 64 * 1024;
+
+    private final AsyncStorageProvider delegate;
+    private final Compressor compressor;
+
+    /**
+     * @param delegate   the provider storing the compressed objects
+     * @param compressor the compression stage; it may be shared by several decorators
+     */
+    public CompressingAsyncStorageProvider(AsyncStorageProvider delegate, Compressor compressor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.compressor = Objects.requireNonNull(compressor, "Compressor cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        FileType type = typeOf(key, context);
+        ExecutionContext stored = Compressor.recordLength(context, data.length);
+        return CompletableFuture.supplyAsync(() -> compressor.compress(type, data), compressor.executor())
+                .thenCompose(encoded -> delegate.upload(key, encoded, stored));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        FileType type = typeOf(key, context);
+        ExecutionContext stored = Compressor.recordLength(context, contentLength);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return compressor.compress(type, data, contentLength);
+            } catch (IOException e) {
+                logError("Failed to compress key '{}'", e, key);
+                throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+            }
+        }, compressor.executor()).thenCompose(payload -> {
+            CompletableFuture<Void> upload;
+            try {
+                upload = delegate.upload(key, payload.stream(), payload.length(), stored);
+            } catch (RuntimeException e) {
+                upload = CompletableFuture.failedFuture(e);
+            }
+            return upload.whenComplete((ignored, t) -> release(payload));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return delegate.delete(key, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return delegate.download(key, context).thenApplyAsync(stored -> {
+            try {
+                return compressor.decompress(stored);
+            } catch (UncheckedIOException e) {
+                throw failure(key, e.getCause());
+            }
+        }, compressor.executor());
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return compressor.<Void>readAsync(sink -> delegate.download(key, sink, context), in -> {
+            in.transferTo(out);
+            return null;
+        }, false).exceptionallyCompose(t -> CompletableFuture.failedFuture(translate(key, t)));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        // a range at the start of the object is probed for in the same request
+        boolean leading = offset == 0 && length <= PROBE_SIZE;
+        return delegate.download(key, 0, leading ? Math.max(length, CompressionFrame.LENGTH) : CompressionFrame.LENGTH, context)
+                .thenCompose(head -> {
+                    CompressionFrame frame;
+                    try {
+                        frame = CompressionFrame.read(head, head.length);
+                    } catch (IOException e) {
+                        throw failure(key, e);
+                    }
+                    if (frame == null) {
+                        return leading ? CompletableFuture.completedFuture(Arrays.copyOf(head, (int) Math.min(length, head.length)))
+                                : delegate.download(key, offset, length, context);
+                    }
+                    if (frame.codec() == null) {
+                        return delegate.download(key, CompressionFrame.LENGTH + offset, length, context);
+                    }
+                    return compressor.readAsync(sink -> delegate.download(key, sink, context),
+                                    in -> Compressor.readRange(in, offset, (int) length), true)
+                            .exceptionallyCompose(t -> CompletableFuture.failedFuture(translate(key, t)));
+                });
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).thenApply(metadata -> metadata.map(Compressor::restore));
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    private FileType typeOf(String key, ExecutionContext context) {
+        return Compressor.typeOf(key, getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class));
+    }
+
+    /**
+     * Reports decompression failures as storage failures and passes provider failures through.
+     */
+    private Throwable translate(String key, Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof UncheckedIOException unchecked) {
+            return failure(key, unchecked.getCause());
+        }
+        return cause;
+    }
+
+    private FileStorageException failure(String key, IOException e) {
+        logError("Failed to decompress key '{}'", e, key);
+        return new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+    }
+
+    private void release(Payload payload) {
+        try {
+            payload.close();
+        } catch (IOException e) {
+            logWarn("Failed to release compression spool {}", payload.file(), e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.compression.Compressor.Payload;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Compressing decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Uploads are encoded by the {@link Compressor}, which picks the codec from the content type given as
+ * {@link MetadataKey#CONTENT_TYPE} or, failing that, from the extension of the key. Downloads are decoded
+ * whatever codec the object was written with; objects stored without the decorator are returned as they
+ * are. Streams are decompressed while the provider writes them, on a thread of the compressor's executor.
+ * </p>
+ * <p>
+ * Range reads first fetch the header of the object. Ranges of uncompressed objects are then read from the
+ * provider as usual; ranges of compressed objects are decompressed from the start of the object and the
+ * rest of the download is abandoned once the range is complete. Entity tags are those of the stored,
+ * compressed content. Stats report the uncompressed length, which uploads record in the user metadata of
+ * the object, and no checksum.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new CompressingStorageProvider(s3StorageProvider, compressor);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:50
+ **/
+public final class CompressingStorageProvider implements StorageProvider {
+
+    private static final int PROBE_SIZE = 64 * 1024;
+
+    private final StorageProvider delegate;
+    private final Compressor compressor;
+
+    /**
+     * @param delegate   the provider storing the compressed objects
+     * @param compressor the compression stage; it may be shared by several decorators
+     */
+    public CompressingStorageProvider(StorageProvider delegate, Compressor compressor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.compressor = Objects.requireNonNull(compressor, "Compressor cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        delegate.upload(key, compressor.compress(typeOf(key, context), data), Compressor.recordLength(context, data.length));
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        try (Payload payload = compressor.compress(typeOf(key, context), data, contentLength)) {
+            delegate.upload(key, payload.stream(), payload.length(), Compressor.recordLength(context, contentLength));
+        } catch (IOException e) {
+            logError("Failed to compress key '{}'", e, key);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        delegate.delete(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context);
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        byte[] stored = delegate.download(key, context);
+        try {
+            return compressor.decompress(stored);
+        } catch (UncheckedIOException e) {
+            logError("Failed to decompress key '{}'", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        try {
+            compressor.read(sink -> delegate.download(key, sink, context), in -> in.transferTo(out), false);
+        } catch (IOException e) {
+            logError("Failed to decompress key '{}'", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        // a range at the start of the object is probed for in the same request
+        boolean leading = offset == 0 && length <= PROBE_SIZE;
+        byte[] head = delegate.download(key, 0, leading ? Math.max(length, CompressionFrame.LENGTH) : CompressionFrame.LENGTH, context);
+        try {
+            CompressionFrame frame = CompressionFrame.read(head, head.length);
+            if (frame == null) {
+                return leading ? Arrays.copyOf(head, (int) Math.min(length, head.length))
+                        : delegate.download(key, offset, length, context);
+            }
+            if (frame.codec() == null) {
+                return delegate.download(key, CompressionFrame.LENGTH + offset, length, context);
+            }
+            return compressor.read(sink -> delegate.download(key, sink, context),
+                    in -> Compressor.readRange(in, offset, (int) length), true);
+        } catch (IOException e) {
+            logError("Failed to decompress range of key '{}'", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).map(Compressor::restore);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    private FileType typeOf(String key, ExecutionContext context) {
+        return Compressor.typeOf(key, getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class));
+    }
+}
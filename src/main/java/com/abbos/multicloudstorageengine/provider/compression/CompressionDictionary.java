@@ -0,0 +1,96 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * A trained zstd dictionary, digested once for compression and decompression.
+ * <p>
+ * Small objects share little redundancy within themselves, so on their own they barely compress; a
+ * dictionary trained on representative samples supplies the common field names and values up front and
+ * typically multiplies their ratio several times. Dictionaries are identified by the id zstd stores in
+ * them, which is recorded with every object compressed against one.
+ * </p>
+ *
+ * <pre>{@code
+ * byte[] dictionary = CompressionDictionary.train(samples, 64 * 1024);
+ * Files.write(Path.of("/etc/storage/json.dict"), dictionary);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:25
+ **/
+public final class CompressionDictionary {
+
+    private final int id;
+    private final ZstdDictCompress compress;
+    private final ZstdDictDecompress decompress;
+
+    /**
+     * @param dictionary a dictionary produced by {@link #train(Collection, int)} or {@code zstd --train}
+     * @param level      the zstd level the dictionary compresses at
+     * @throws InvalidConfigurationException if {@code dictionary} is not a zstd dictionary
+     */
+    public CompressionDictionary(byte[] dictionary, int level) {
+        this.id = (int) Zstd.getDictIdFromDict(dictionary);
+        if (id == 0) {
+            throw new InvalidConfigurationException("Compression dictionary is not a trained zstd dictionary.");
+        }
+        this.compress = new ZstdDictCompress(dictionary, level);
+        this.decompress = new ZstdDictDecompress(dictionary);
+    }
+
+    /**
+     * @param path  the file holding the dictionary
+     * @param level the zstd level the dictionary compresses at
+     * @return the dictionary stored in the file
+     */
+    public static CompressionDictionary load(Path path, int level) {
+        try {
+            return new CompressionDictionary(Files.readAllBytes(path), level);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read compression dictionary " + path, e);
+        }
+    }
+
+    /**
+     * Trains a dictionary on sample objects; a few thousand samples of the objects it will compress
+     * give the best results.
+     *
+     * @param samples        the sample objects
+     * @param dictionarySize the size of the dictionary in bytes, typically 16 to 112 KiB
+     * @return the trained dictionary
+     */
+    public static byte[] train(Collection<byte[]> samples, int dictionarySize) {
+        long total = samples.stream().mapToLong(sample -> sample.length).sum();
+        ZstdDictTrainer trainer = new ZstdDictTrainer((int) Math.min(total, Integer.MAX_VALUE), dictionarySize);
+        for (byte[] sample : samples) {
+            trainer.addSample(sample);
+        }
+        return trainer.trainSamples();
+    }
+
+    /**
+     * @return the id zstd stores in the dictionary and in every frame compressed against it
+     */
+    public int getId() {
+        return id;
+    }
+
+    ZstdDictCompress forCompression() {
+        return compress;
+    }
+
+    ZstdDictDecompress forDecompression() {
+        return decompress;
+    }
+}
@@ -0,0 +1,104 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import com.abbos.multicloudstorageengine.config.CompressionConfig.Codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The header the compression stage writes in front of every object it stores.
+ * <p>
+ * Providers only carry the content type of an object, so the codec is recorded in-band: a four-byte
+ * magic number, a format version, the codec and the id of the zstd dictionary, or {@code 0} without one.
+ * Objects that do not start with the magic number were stored without the stage and are read as they are;
+ * an object that was not compressed but happens to start with the magic number is stored behind a
+ * {@link #STORED} header so that it cannot be mistaken for a compressed one.
+ * </p>
+ *
+ * @param codec        the codec, or {@code null} if the content is stored as it is
+ * @param dictionaryId the id of the zstd dictionary, or {@code 0}
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:20
+ **/
+record CompressionFrame(Codec codec, int dictionaryId) {
+
+    static final int LENGTH = 10;
+    static final CompressionFrame STORED = new CompressionFrame(null, 0);
+    private static final byte[] MAGIC = {(byte) 0x89, 'M', 'C', 'Z'};
+    private static final byte VERSION = 1;
+
+    /**
+     * @return {@code true} if {@code data} starts with the magic number
+     */
+    static boolean isFramed(byte[] data, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the header at the start of {@code data}.
+     *
+     * @return the header, or {@code null} if the data does not start with one
+     * @throws IOException if the data starts with the magic number but the header is truncated or unknown
+     */
+    static CompressionFrame read(byte[] data, int length) throws IOException {
+        if (!isFramed(data, length)) {
+            return null;
+        }
+        if (length < LENGTH) {
+            throw new IOException("Truncated compression header");
+        }
+        if (data[4] != VERSION) {
+            throw new IOException("Unsupported compression header version " + data[4]);
+        }
+        Codec codec = switch (data[5]) {
+            case 0 -> null;
+            case 1 -> Codec.ZSTD;
+            case 2 -> Codec.LZ4;
+            case 3 -> Codec.GZIP;
+            default -> throw new IOException("Unknown compression codec " + data[5]);
+        };
+        int dictionaryId = (data[6] & 0xFF) << 24 | (data[7] & 0xFF) << 16 | (data[8] & 0xFF) << 8 | data[9] & 0xFF;
+        return new CompressionFrame(codec, dictionaryId);
+    }
+
+    /**
+     * Reads the header at the start of a stream, consuming it only if there is one.
+     *
+     * @param in a stream supporting {@link InputStream#mark(int)}
+     * @return the header, or {@code null} if the stream does not start with one
+     */
+    static CompressionFrame read(InputStream in) throws IOException {
+        byte[] header = new byte[LENGTH];
+        in.mark(LENGTH);
+        int length = in.readNBytes(header, 0, LENGTH);
+        CompressionFrame frame = read(header, length);
+        if (frame == null) {
+            in.reset();
+        }
+        return frame;
+    }
+
+    void write(OutputStream out) throws IOException {
+        out.write(toBytes());
+    }
+
+    byte[] toBytes() {
+        byte id = switch (codec) {
+            case null -> 0;
+            case ZSTD -> 1;
+            case LZ4 -> 2;
+            case GZIP -> 3;
+        };
+        return new byte[]{MAGIC[0], MAGIC[1], MAGIC[2], MAGIC[3], VERSION, id,
+                (byte) (dictionaryId >>> 24), (byte) (dictionaryId >>> 16), (byte) (dictionaryId >>> 8), (byte) dictionaryId};
+    }
+}
@@ -0,0 +1,595 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import com.abbos.multicloudstorageengine.config.CompressionConfig;
+import com.abbos.multicloudstorageengine.config.CompressionConfig.Codec;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression stage shared by the compressing provider decorators.
+ * <p>
+ * The codec is chosen per object. Objects smaller than the configured minimum and types that are already
+ * compressed, such as JPEG, MP4 or ZIP, are stored as they are; textual types use the text codec and
+ * everything else the binary codec. Objects larger than the sample size are first probed: their leading
+ * bytes are compressed with LZ4, which costs a few microseconds, and the object is stored as it is unless
+ * the sample shrinks below the configured ratio. Smaller objects are compressed whole and kept only if
+ * they shrink that much. Small objects of the dictionary types are compressed with zstd against the
+ * configured dictionary, even below the minimum size.
+ * </p>
+ * <p>
+ * Streams are compressed as they are read. Since the compressed length is only known at the end and
+ * providers need it up front, the output is spooled: in memory up to the spool threshold, then to a
+ * temporary file that is deleted once the upload completes. Downloads are decompressed while they arrive.
+ * Every stored object carries a {@link CompressionFrame} naming its codec, so any codec remains readable
+ * after the configuration changes, and objects written without the stage are read as they are.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:35
+ **/
+public final class Compressor {
+
+    /**
+     * The user metadata entry in which uploads record the uncompressed length of an object.
+     */
+    static final String LENGTH_METADATA = ExecutionContext.RESERVED_PREFIX + "uncompressed_length";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PIPE_CAPACITY = 16;
+    private static final Set<FileType> TEXT_TYPES =
+            EnumSet.of(FileType.TXT, FileType.HTML, FileType.XML, FileType.JSON, FileType.CSV);
+
+    private final Codec textCodec;
+    private final Codec binaryCodec;
+    private final int zstdLevel;
+    private final int gzipLevel;
+    private final int minSize;
+    private final int sampleSize;
+    private final double maxRatio;
+    private final int spoolThreshold;
+    private final Path spoolDirectory;
+    private final CompressionDictionary dictionary;
+    private final Map<Integer, CompressionDictionary> dictionaries;
+    private final Set<FileType> dictionaryTypes;
+    private final int dictionaryMaxSize;
+    private final Executor executor;
+    private final LZ4Compressor sampler = LZ4Factory.fastestInstance().fastCompressor();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+
+    /**
+     * @param config   the compression configuration
+     * @param executor runs the downloads feeding decompression
+     */
+    public Compressor(CompressionConfig config, Executor executor) {
+        this.textCodec = config.getTextCodec();
+        this.binaryCodec = config.getBinaryCodec();
+        this.zstdLevel = config.getZstdLevel();
+        this.gzipLevel = config.getGzipLevel();
+        this.minSize = config.getMinSize();
+        this.sampleSize = config.getSampleSize();
+        this.maxRatio = config.getMaxRatio();
+        this.spoolThreshold = config.getSpoolThreshold();
+        this.spoolDirectory = Path.of(config.getSpoolDirectory());
+        Map<Integer, CompressionDictionary> loaded = new HashMap<>();
+        CompressionDictionary first = null;
+        for (String path : config.getDictionaries()) {
+            CompressionDictionary loadedDictionary = CompressionDictionary.load(Path.of(path), zstdLevel);
+            loaded.putIfAbsent(loadedDictionary.getId(), loadedDictionary);
+            first = first == null ? loadedDictionary : first;
+        }
+        this.dictionary = first;
+        this.dictionaries = Map.copyOf(loaded);
+        this.dictionaryTypes = config.getDictionaryTypes().isEmpty()
+                ? EnumSet.noneOf(FileType.class) : EnumSet.copyOf(config.getDictionaryTypes());
+        this.dictionaryMaxSize = config.getDictionaryMaxSize();
+        this.executor = executor;
+    }
+
+    /**
+     * Resolves the type of an object from its content type, or from the extension of its key when the
+     * content type is missing or unknown.
+     */
+    public static FileType typeOf(String key, Optional<String> contentType) {
+        return contentType.map(FileType::fromContentType)
+                .filter(type -> type != FileType.OCTET_STREAM)
+                .orElseGet(() -> FileType.fromKey(key));
+    }
+
+    /**
+     * Encodes an object for storage.
+     *
+     * @param type the type of the object
+     * @param data the object content
+     * @return the framed compressed content, or {@code data} itself if it is stored as it is
+     */
+    public byte[] compress(FileType type, byte[] data) {
+        CompressionFrame frame = choose(type, data.length, data, Math.min(data.length, sampleSize));
+        if (frame != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + CompressionFrame.LENGTH);
+            try {
+                frame.write(out);
+                try (OutputStream encoder = compressing(out, frame)) {
+                    encoder.write(data);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (out.size() <= data.length * maxRatio) {
+                record(data.length, out.size());
+                return out.toByteArray();
+            }
+        }
+        skipped.increment();
+        if (!CompressionFrame.isFramed(data, data.length)) {
+            return data;
+        }
+        byte[] stored = Arrays.copyOf(CompressionFrame.STORED.toBytes(), CompressionFrame.LENGTH + data.length);
+        System.arraycopy(data, 0, stored, CompressionFrame.LENGTH, data.length);
+        return stored;
+    }
+
+    /**
+     * Decodes an object as stored by {@link #compress(FileType, byte[])} or any streaming upload.
+     *
+     * @param stored the stored content
+     * @return the original content; {@code stored} itself if it was not written by the compression stage
+     * @throws UncheckedIOException if the content is corrupt
+     */
+    public byte[] decompress(byte[] stored) {
+        try {
+            CompressionFrame frame = CompressionFrame.read(stored, stored.length);
+            if (frame == null) {
+                return stored;
+            }
+            InputStream body = new ByteArrayInputStream(stored, CompressionFrame.LENGTH, stored.length - CompressionFrame.LENGTH);
+            try (InputStream in = decompressing(body, frame)) {
+                return in.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the number of objects stored compressed
+     */
+    public long getCompressedCount() {
+        return compressed.sum();
+    }
+
+    /**
+     * @return the number of objects stored as they are
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * @return the original size of the objects stored compressed
+     */
+    public long getUncompressedBytes() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * @return the stored size of the objects stored compressed, headers included
+     */
+    public long getCompressedBytes() {
+        return bytesOut.sum();
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return the context for storing the compressed form of {@code length} bytes, which records that length
+     */
+    static ExecutionContext recordLength(ExecutionContext context, long length) {
+        return context.withUserMetadata(LENGTH_METADATA, Long.toString(length));
+    }
+
+    /**
+     * Reports the metadata of a stored object as that of its decompressed content: the length recorded by
+     * the upload, and no checksum, since the provider's covers the compressed bytes. Objects without a
+     * recorded length are reported as they are stored.
+     */
+    static ObjectMetadata restore(ObjectMetadata stored) {
+        Optional<String> length = stored.getUserMetadata(LENGTH_METADATA);
+        return length.isEmpty() ? stored : stored.toBuilder()
+                .size(Long.parseLong(length.get()))
+                .checksum(null)
+                .removeUserMetadata(LENGTH_METADATA)
+                .build();
+    }
+
+    /**
+     * Encodes a stream for storage, reading exactly {@code length} bytes of it. The caller uploads the
+     * returned payload and closes it afterwards.
+     */
+    Payload compress(FileType type, InputStream data, long length) throws IOException {
+        int head = (int) Math.min(length, sampleSize);
+        byte[] sample = data.readNBytes(head);
+        if (sample.length < head) {
+            throw new EOFException("Stream ended after " + sample.length + " of " + length + " bytes");
+        }
+        if (length <= sampleSize) {
+            byte[] encoded = compress(type, sample);
+            return new Payload(new ByteArrayInputStream(encoded), encoded.length, null);
+        }
+        InputStream whole = new SequenceInputStream(new ByteArrayInputStream(sample), data);
+        CompressionFrame frame = choose(type, length, sample, head);
+        if (frame == null) {
+            skipped.increment();
+            if (!CompressionFrame.isFramed(sample, head)) {
+                return new Payload(whole, length, null);
+            }
+            InputStream header = new ByteArrayInputStream(CompressionFrame.STORED.toBytes());
+            return new Payload(new SequenceInputStream(header, whole), CompressionFrame.LENGTH + length, null);
+        }
+        Spool spool = new Spool();
+        try {
+            frame.write(spool);
+            try (OutputStream encoder = compressing(new Uncloseable(spool), frame)) {
+                copy(whole, encoder, length);
+            }
+            Payload payload = spool.finish();
+            record(length, payload.length());
+            return payload;
+        } catch (IOException | RuntimeException e) {
+            spool.discard(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps a stored stream so that it yields the original content.
+     */
+    InputStream decompress(InputStream stored) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(stored, BUFFER_SIZE);
+        CompressionFrame frame = CompressionFrame.read(in);
+        return frame == null ? in : decompressing(in, frame);
+    }
+
+    /**
+     * Runs a blocking download on the executor and reads its decompressed content on the calling thread.
+     *
+     * @param download writes the stored object to the given stream
+     * @param reader   consumes the decompressed content
+     * @param partial  whether the reader may stop early, in which case the rest of the download is abandoned
+     *                 and its failure ignored
+     * @return the result of the reader
+     */
+    <T> T read(Consumer<OutputStream> download, StreamReader<T> reader, boolean partial) throws IOException {
+        StreamPipe pipe = new StreamPipe(PIPE_CAPACITY);
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                download.accept(pipe.sink());
+                pipe.sink().close();
+            } catch (IOException e) {
+                pipe.fail(e);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException | Error e) {
+                pipe.fail(e);
+                throw e;
+            }
+        }, executor);
+        T result = consume(pipe, reader);
+        if (!partial) {
+            try {
+                producer.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Asynchronous variant of {@link #read(Consumer, StreamReader, boolean)}: the download runs on its own and
+     * the reader on the executor.
+     */
+    <T> CompletableFuture<T> readAsync(Function<OutputStream, CompletableFuture<Void>> download,
+                                       StreamReader<T> reader, boolean partial) {
+        StreamPipe pipe = new StreamPipe(PIPE_CAPACITY);
+        CompletableFuture<Void> producer;
+        try {
+            producer = download.apply(pipe.sink());
+        } catch (Throwable t) {
+            producer = CompletableFuture.failedFuture(t);
+        }
+        CompletableFuture<Void> source = producer.whenComplete((ignored, t) -> {
+            if (t != null) {
+                pipe.fail(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                return;
+            }
+            try {
+                pipe.sink().close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        CompletableFuture<T> consumer = CompletableFuture.supplyAsync(() -> {
+            try {
+                return consume(pipe, reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+        return partial ? consumer : consumer.thenCombine(source, (result, ignored) -> result);
+    }
+
+    /**
+     * Consumes the decompressed pipe with the reader; a failure of the download is rethrown as it was
+     * raised rather than as the pipe error it caused.
+     */
+    private <T> T consume(StreamPipe pipe, StreamReader<T> reader) throws IOException {
+        try (InputStream in = decompress(pipe.source())) {
+            return reader.read(in);
+        } catch (IOException e) {
+            Throwable failure = pipe.failure();
+            if (failure != null) {
+                throw rethrow(failure);
+            }
+            throw e;
+        } finally {
+            pipe.source().close();
+        }
+    }
+
+    /**
+     * Chooses how an object is stored.
+     *
+     * @return the header of the encoding, or {@code null} to store the object as it is
+     */
+    private CompressionFrame choose(FileType type, long length, byte[] sample, int sampleLength) {
+        if (type.isCompressed()) {
+            return null;
+        }
+        Codec codec = TEXT_TYPES.contains(type) ? textCodec : binaryCodec;
+        // a dictionary makes even objects below the minimum size worth compressing
+        if (codec == Codec.ZSTD && dictionary != null && length <= dictionaryMaxSize && dictionaryTypes.contains(type)) {
+            return new CompressionFrame(codec, dictionary.getId());
+        }
+        if (length < minSize) {
+            return null;
+        }
+        if (length > sampleLength && !isCompressible(sample, sampleLength)) {
+            return null;
+        }
+        return new CompressionFrame(codec, 0);
+    }
+
+    private boolean isCompressible(byte[] sample, int length) {
+        byte[] out = new byte[sampler.maxCompressedLength(length)];
+        return sampler.compress(sample, 0, length, out, 0, out.length) <= length * maxRatio;
+    }
+
+    private OutputStream compressing(OutputStream out, CompressionFrame frame) throws IOException {
+        return switch (frame.codec()) {
+            case ZSTD -> {
+                ZstdOutputStreamNoFinalizer zstd = new ZstdOutputStreamNoFinalizer(out, RecyclingBufferPool.INSTANCE);
+                if (frame.dictionaryId() != 0) {
+                    zstd.setDict(dictionary(frame.dictionaryId()).forCompression());
+                } else {
+                    zstd.setLevel(zstdLevel);
+                }
+                yield zstd;
+            }
+            case LZ4 -> new LZ4FrameOutputStream(out, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB);
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(gzipLevel);
+                }
+            };
+        };
+    }
+
+    private InputStream decompressing(InputStream in, CompressionFrame frame) throws IOException {
+        if (frame.codec() == null) {
+            return in;
+        }
+        return switch (frame.codec()) {
+            case ZSTD -> {
+                ZstdInputStreamNoFinalizer zstd = new ZstdInputStreamNoFinalizer(in, RecyclingBufferPool.INSTANCE);
+                if (frame.dictionaryId() != 0) {
+                    zstd.setDict(dictionary(frame.dictionaryId()).forDecompression());
+                }
+                yield zstd;
+            }
+            case LZ4 -> new LZ4FrameInputStream(in);
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+        };
+    }
+
+    private CompressionDictionary dictionary(int id) throws IOException {
+        CompressionDictionary found = dictionaries.get(id);
+        if (found == null) {
+            throw new IOException("Object was compressed with dictionary " + id + ", which is not configured");
+        }
+        return found;
+    }
+
+    private void record(long original, long stored) {
+        compressed.increment();
+        bytesIn.add(original);
+        bytesOut.add(stored);
+    }
+
+    /**
+     * Reads {@code length} bytes after skipping {@code offset}; fewer if the content ends earlier.
+     */
+    static byte[] readRange(InputStream in, long offset, int length) throws IOException {
+        long remaining = offset;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    return new byte[0];
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+        return in.readNBytes(length);
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n < 0) {
+                throw new EOFException("Stream ended after " + (length - remaining) + " of " + length + " bytes");
+            }
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+    }
+
+    private static IOException rethrow(Throwable t) {
+        if (t instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return t instanceof IOException io ? io : new IOException(t);
+    }
+
+    /**
+     * Consumes decompressed content.
+     */
+    @FunctionalInterface
+    interface StreamReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    /**
+     * Encoded content ready for upload; closing it deletes the spool file, if any.
+     */
+    record Payload(InputStream stream, long length, Path file) implements Closeable {
+
+        @Override
+        public void close() throws IOException {
+            try {
+                stream.close();
+            } finally {
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects compressed output in memory, moving it to a temporary file once it outgrows the threshold.
+     */
+    private final class Spool extends OutputStream {
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private Path file;
+        private OutputStream disk;
+        private long length;
+
+        @Override
+        public void write(int b) throws IOException {
+            target(1).write(b);
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target(len).write(b, off, len);
+            length += len;
+        }
+
+        private OutputStream target(int len) throws IOException {
+            if (disk == null && memory.size() + (long) len > spoolThreshold) {
+                Files.createDirectories(spoolDirectory);
+                file = Files.createTempFile(spoolDirectory, "compression-", ".spool");
+                disk = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+                memory.writeTo(disk);
+                memory = null;
+            }
+            return disk != null ? disk : memory;
+        }
+
+        private Payload finish() throws IOException {
+            if (disk == null) {
+                return new Payload(new ByteArrayInputStream(memory.toByteArray()), length, null);
+            }
+            disk.close();
+            return new Payload(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), length, file);
+        }
+
+        private void discard(Exception cause) {
+            if (disk == null) {
+                return;
+            }
+            try (OutputStream closing = disk) {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Keeps encoders from closing the spool when they finish their frame.
+     */
+    private static final class Uncloseable extends FilterOutputStream {
+
+        private Uncloseable(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
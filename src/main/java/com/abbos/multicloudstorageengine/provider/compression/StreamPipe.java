@@ -0,0 +1,195 @@
+package com.abbos.multicloudstorageengine.provider.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded in-memory pipe handing chunks from a writing thread to a reading one.
+ * <p>
+ * Unlike {@link java.io.PipedInputStream}, writes are batched into whole chunks, neither side is tied to
+ * the thread that first used it, and a failure of the writer is reported to the reader instead of looking
+ * like the end of the stream. Closing the reading side makes pending and later writes fail, which stops a
+ * download whose remainder is no longer needed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:30
+ **/
+final class StreamPipe {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final byte[] END = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks;
+    private final Sink sink = new Sink();
+    private final Source source = new Source();
+    private volatile Throwable failure;
+    private volatile boolean readerClosed;
+
+    /**
+     * @param capacity the number of chunks buffered before the writer blocks
+     */
+    StreamPipe(int capacity) {
+        this.chunks = new ArrayBlockingQueue<>(capacity);
+    }
+
+    OutputStream sink() {
+        return sink;
+    }
+
+    InputStream source() {
+        return source;
+    }
+
+    /**
+     * @return the failure the writer ended the stream with, or {@code null}
+     */
+    Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * Ends the stream with a failure, which the reader receives once it has consumed the chunks before it.
+     */
+    void fail(Throwable t) {
+        failure = t;
+        sink.closed = true;
+        chunks.clear();
+        chunks.offer(END);
+    }
+
+    private final class Sink extends OutputStream {
+        private byte[] buffer = new byte[CHUNK_SIZE];
+        private int position;
+        private volatile boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            buffer[position++] = (byte) b;
+            if (position == buffer.length) {
+                publish();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                int n = Math.min(len, buffer.length - position);
+                System.arraycopy(b, off, buffer, position, n);
+                position += n;
+                off += n;
+                len -= n;
+                if (position == buffer.length) {
+                    publish();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            if (position > 0) {
+                publish();
+            }
+            closed = true;
+            put(END);
+        }
+
+        private void publish() throws IOException {
+            byte[] chunk = position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+            put(chunk);
+            buffer = new byte[CHUNK_SIZE];
+            position = 0;
+        }
+
+        private void put(byte[] chunk) throws IOException {
+            try {
+                while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                    if (readerClosed) {
+                        throw new IOException("Pipe closed by reader");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing to pipe");
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (readerClosed) {
+                throw new IOException("Pipe closed by reader");
+            }
+            if (closed) {
+                throw new IOException("Pipe closed");
+            }
+        }
+    }
+
+    private final class Source extends InputStream {
+        private byte[] chunk = new byte[0];
+        private int position;
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            return next() ? chunk[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!next()) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            readerClosed = true;
+            chunks.clear();
+        }
+
+        /**
+         * @return {@code false} at the end of the stream
+         */
+        private boolean next() throws IOException {
+            if (position < chunk.length) {
+                return true;
+            }
+            if (ended) {
+                return false;
+            }
+            try {
+                chunk = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading from pipe");
+            }
+            position = 0;
+            if (chunk == END) {
+                ended = true;
+                if (failure != null) {
+                    throw new IOException("Download failed :::: " + failure, failure);
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over content digests.
+ * <p>
+ * Sized for an expected number of entries and false positive rate with the usual optimum of
+ * {@code m = -n ln p / (ln 2)^2} bits and {@code k = m/n ln 2} probes. SHA-256 digests are already
+ * uniformly distributed, so the probe positions are derived from two 64-bit words of the digest by double
+ * hashing instead of hashing again. Entries cannot be removed; the filter only ever answers
+ * "definitely absent" or "possibly present".
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:05
+ **/
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int probes;
+
+    BloomFilter(long expectedEntries, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long optimal = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = Math.toIntExact(Math.max(1, (optimal + Long.SIZE - 1) / Long.SIZE));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * Long.SIZE;
+        this.probes = Math.max(1, (int) Math.round((double) bits / expectedEntries * ln2));
+    }
+
+    void put(byte[] digest) {
+        long h1 = word(digest, 0);
+        long h2 = word(digest, 8) | 1;
+        for (int i = 0; i < probes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long current = words.get(index);
+            while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(index, current, current | mask)) {
+                current = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the digest was definitely never {@linkplain #put(byte[]) put}
+     */
+    boolean mightContain(byte[] digest) {
+        long h1 = word(digest, 0);
+        long h2 = word(digest, 8) | 1;
+        for (int i = 0; i < probes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long word(byte[] digest, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            value = value << 8 | (digest[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.model.Checksum;
+
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * The SHA-256 digest identifying a stored content, in lowercase hex so that it can be used in object keys
+ * and file names.
+ *
+ * @param hex the 64 hex digits of the digest
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:00
+ **/
+record ContentId(String hex) {
+
+    static final int DIGEST_LENGTH = 32;
+
+    static ContentId of(byte[] digest) {
+        return new ContentId(HexFormat.of().formatHex(digest));
+    }
+
+    static ContentId of(Checksum sha256) {
+        return of(Base64.getDecoder().decode(sha256.getValue()));
+    }
+
+    byte[] digest() {
+        return HexFormat.of().parseHex(hex);
+    }
+
+    /**
+     * @return the digest as a {@link ChecksumAlgorithm#SHA256} checksum of the content
+     */
+    Checksum checksum() {
+        return Checksum.of(ChecksumAlgorithm.SHA256, Base64.getEncoder().encodeToString(digest()));
+    }
+
+    @Override
+    public String toString() {
+        return hex;
+    }
+}
@@ -0,0 +1,247 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Persistent index of the contents stored by the deduplication stage and of the keys referring to them.
+ * <p>
+ * The index lives on local disk rather than in memory so that it can grow with the bucket: every content
+ * has a file holding its reference count and length, and every deduplicated key a file naming its content,
+ * both spread over 256 subdirectories. Files are replaced by renaming a complete temporary file over them,
+ * so a crash leaves either the old or the new entry. A {@link BloomFilter} of the stored contents, filled
+ * from the directory on open, answers most lookups of new content without touching the disk.
+ * </p>
+ * <p>
+ * Every index draws a random namespace when it is created and keeps it in the directory. The contents it
+ * counts are stored under that namespace, so indexes of several instances sharing a bucket never count,
+ * and never delete, the same stored content.
+ * </p>
+ * <p>
+ * The index does not lock: the deduplication stage serializes all updates of one content and of one key.
+ * A content whose count dropped to zero is treated as absent, so an entry left behind by a crash between
+ * the last release and the deletion of the stored content is simply overwritten by the next upload.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:10
+ **/
+final class ContentIndex {
+
+    private static final String CONTENTS = "contents";
+    private static final String KEYS = "keys";
+    private static final String NAMESPACE = "namespace";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int ENTRY_LENGTH = 2 * Long.BYTES;
+    private final Path contents;
+    private final Path keys;
+    private final boolean fsync;
+    private final BloomFilter filter;
+    private final long namespace;
+
+    ContentIndex(Path directory, boolean fsync, long expectedObjects, double falsePositiveRate) {
+        this.contents = directory.resolve(CONTENTS);
+        this.keys = directory.resolve(KEYS);
+        this.fsync = fsync;
+        this.filter = new BloomFilter(expectedObjects, falsePositiveRate);
+        try {
+            Files.createDirectories(contents);
+            Files.createDirectories(keys);
+            load();
+            this.namespace = namespace(directory.resolve(NAMESPACE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open deduplication index " + directory, e);
+        }
+    }
+
+    /**
+     * @return the namespace of the contents counted by this index
+     */
+    long namespace() {
+        return namespace;
+    }
+
+    /**
+     * Adds a reference to a stored content.
+     *
+     * @return {@code true} if the content is stored and now has one more reference, {@code false} if it is
+     * not stored and has to be uploaded
+     */
+    boolean retain(ContentId id) {
+        long[] entry = read(id);
+        if (entry == null || entry[0] <= 0) {
+            return false;
+        }
+        write(id, entry[0] + 1, entry[1]);
+        return true;
+    }
+
+    /**
+     * Records a content that was just uploaded, with a single reference.
+     */
+    void add(ContentId id, long length) {
+        write(id, 1, length);
+        filter.put(id.digest());
+    }
+
+    /**
+     * Drops a reference to a content.
+     *
+     * @return the remaining number of references; at {@code 0} the caller deletes the stored content and
+     * then {@linkplain #remove(ContentId) removes} the entry
+     */
+    long release(ContentId id) {
+        long[] entry = read(id);
+        if (entry == null || entry[0] <= 0) {
+            return 0;
+        }
+        write(id, entry[0] - 1, entry[1]);
+        return entry[0] - 1;
+    }
+
+    void remove(ContentId id) {
+        delete(contentFile(id));
+    }
+
+    /**
+     * @return the content the key refers to, if it was stored deduplicated
+     */
+    Optional<ContentId> contentOf(String key) {
+        try {
+            byte[] entry = Files.readAllBytes(keyFile(key));
+            return Optional.of(new ContentId(new String(entry, 0, 2 * ContentId.DIGEST_LENGTH, StandardCharsets.US_ASCII)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read deduplication index entry of key " + key, e);
+        }
+    }
+
+    /**
+     * Points the key at a content; the entry also records the key itself for inspection.
+     *
+     * @return the content the key referred to before, if any
+     */
+    Optional<ContentId> bind(String key, ContentId id) {
+        Optional<ContentId> previous = contentOf(key);
+        replace(keyFile(key), (id.hex() + key).getBytes(StandardCharsets.UTF_8));
+        return previous;
+    }
+
+    /**
+     * @return the content the key referred to, if any
+     */
+    Optional<ContentId> unbind(String key) {
+        Optional<ContentId> previous = contentOf(key);
+        previous.ifPresent(ignored -> delete(keyFile(key)));
+        return previous;
+    }
+
+    /**
+     * @return the reference count and length of the content, or {@code null} if it is not indexed
+     */
+    private long[] read(ContentId id) {
+        if (!filter.mightContain(id.digest())) {
+            return null;
+        }
+        try {
+            ByteBuffer entry = ByteBuffer.wrap(Files.readAllBytes(contentFile(id)));
+            return entry.remaining() == ENTRY_LENGTH ? new long[]{entry.getLong(), entry.getLong()} : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read deduplication index entry of content " + id, e);
+        }
+    }
+
+    private void write(ContentId id, long references, long length) {
+        replace(contentFile(id), ByteBuffer.allocate(ENTRY_LENGTH).putLong(references).putLong(length).array());
+    }
+
+    private void replace(Path file, byte[] content) {
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(content));
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write deduplication index entry " + file, e);
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete deduplication index entry " + file, e);
+        }
+    }
+
+    /**
+     * Fills the Bloom filter from the content entries and removes temporary files of interrupted writes.
+     */
+    private void load() throws IOException {
+        for (Path directory : new Path[]{contents, keys}) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                    } else if (directory == contents) {
+                        filter.put(HexFormat.of().parseHex(name));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the namespace of the index, drawing and persisting one if the index is new.
+     */
+    private long namespace(Path file) throws IOException {
+        try {
+            return HexFormat.fromHexDigitsToLong(Files.readString(file, StandardCharsets.US_ASCII).strip());
+        } catch (NoSuchFileException e) {
+            long namespace = new SecureRandom().nextLong();
+            replace(file, HexFormat.of().toHexDigits(namespace).getBytes(StandardCharsets.US_ASCII));
+            return namespace;
+        }
+    }
+
+    private Path contentFile(ContentId id) {
+        return contents.resolve(id.hex().substring(0, 2)).resolve(id.hex());
+    }
+
+    private Path keyFile(String key) {
+        String name = HexFormat.of().formatHex(sha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+        return keys.resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The small object the deduplication stage stores under a key in place of its content.
+ * <p>
+ * A reference is exactly {@link #LENGTH} bytes: a four-byte magic number, a format version, the SHA-256
+ * digest of the content, its length and the namespace of the {@link ContentIndex} that stored it. An object is only read as a reference if it has exactly that
+ * length and starts with the magic number; objects that would be mistaken for one are never stored as
+ * they are but always deduplicated.
+ * </p>
+ *
+ * @param id        the content the key refers to
+ * @param length    the length of the content
+ * @param namespace the namespace the content is stored under
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:00
+ **/
+record ContentReference(ContentId id, long length, long namespace) {
+
+    static final int LENGTH = 5 + ContentId.DIGEST_LENGTH + 2 * Long.BYTES;
+    private static final byte[] MAGIC = {(byte) 0x89, 'M', 'C', 'D'};
+    private static final byte VERSION = 1;
+
+    byte[] bytes() {
+        return ByteBuffer.allocate(LENGTH)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(id.digest())
+                .putLong(length)
+                .putLong(namespace)
+                .array();
+    }
+
+    /**
+     * @return {@code true} if the first {@code length} bytes of {@code data} have the shape of a reference
+     */
+    static boolean isReference(byte[] data, int length) {
+        return length == LENGTH && Arrays.equals(data, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Parses the first {@code length} bytes of {@code data}.
+     *
+     * @return the reference, or {@code null} if the data is not one
+     * @throws FileStorageException if the data is a reference of an unknown format version
+     */
+    static ContentReference read(byte[] data, int length) {
+        if (!isReference(data, length)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, MAGIC.length, LENGTH - MAGIC.length);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new FileStorageException("Unsupported deduplication reference version " + version);
+        }
+        byte[] digest = new byte[ContentId.DIGEST_LENGTH];
+        buffer.get(digest);
+        return new ContentReference(ContentId.of(digest), buffer.getLong(), buffer.getLong());
+    }
+}
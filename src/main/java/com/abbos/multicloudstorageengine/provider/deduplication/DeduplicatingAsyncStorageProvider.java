@@ -0,0 +1,334 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.deduplication.Deduplicator.Spooled;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed deduplicating decorator for an {@link AsyncStorageProvider}.
+ * <p>
+ * Behaves like {@link DeduplicatingStorageProvider}; hashing, spooling and index updates run on the
+ * deduplicator's executor, and uploads waiting for earlier changes of the same key or content are chained
+ * rather than blocking a thread.
+ * </p>
+ *
+ * <pre>{@code
+ * AsyncStorageProvider s3 = new DeduplicatingAsyncStorageProvider(s3AsyncStorageProvider, deduplicator);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:40
+ **/
+public final class DeduplicatingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final Deduplicator deduplicator;
+    private final ContentIndex index;
+
+    /**
+     * @param delegate     the provider storing the references and the contents
+     * @param deduplicator the deduplication stage; it may be shared by several decorators
+     */
+    public DeduplicatingAsyncStorageProvider(AsyncStorageProvider delegate, Deduplicator deduplicator) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.deduplicator = Objects.requireNonNull(deduplicator, "Deduplicator cannot be null");
+        this.index = deduplicator.index();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        if (!deduplicator.deduplicates(data)) {
+            return storeAsIs(key, () -> delegate.upload(key, data, context), context);
+        }
+        return CompletableFuture.supplyAsync(() -> deduplicator.identify(data), deduplicator.executor())
+                .thenCompose(id -> store(key, id, data.length,
+                        () -> delegate.upload(deduplicator.contentKey(id), data, context), context));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        if (!deduplicator.deduplicates(contentLength)) {
+            return storeAsIs(key, () -> delegate.upload(key, data, contentLength, context), context);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return deduplicator.spool(data, contentLength);
+            } catch (IOException e) {
+                logError("Failed to spool key '{}'", e, key);
+                throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+            }
+        }, deduplicator.executor()).thenCompose(spooled -> store(key, spooled.id(), contentLength, () -> {
+            try {
+                InputStream content = spooled.open();
+                return delegate.upload(deduplicator.contentKey(spooled.id()), content, contentLength, context)
+                        .whenComplete((ignored, t) -> close(content));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, context).whenComplete((ignored, t) -> release(spooled)));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return deduplicator.sequenceAsync(key, () -> delegate.delete(key, context)
+                .thenCompose(ignored -> index(() -> index.unbind(key)))
+                .thenCompose(previous -> previous.map(id -> release(id, context))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null))));
+    }
+
+    /**
+     * Deletes keys stored as they are with one batch of the delegate; deduplicated keys are deleted one by
+     * one so that their references are counted.
+     */
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return index(() -> {
+            List<String> plain = new ArrayList<>();
+            List<String> indexed = new ArrayList<>();
+            keys.forEach(key -> (index.contentOf(key).isPresent() ? indexed : plain).add(key));
+            return List.of(plain, indexed);
+        }).thenCompose(split -> {
+            Map<String, CompletableFuture<Void>> deletions = new LinkedHashMap<>();
+            split.get(1).forEach(key -> deletions.put(key, delete(key, context)));
+            CompletableFuture<BatchResult<Void>> batch = split.get(0).isEmpty()
+                    ? CompletableFuture.completedFuture(BatchResult.<Void>builder().build())
+                    : delegate.deleteAll(split.get(0), context);
+            return CompletableFuture.allOf(deletions.values().stream()
+                            .map(deletion -> deletion.handle((ignored, t) -> null))
+                            .toArray(CompletableFuture[]::new))
+                    .thenCombine(batch, (ignored, deleted) -> {
+                        BatchResult.Builder<Void> result = BatchResult.builder();
+                        deletions.forEach((key, deletion) -> {
+                            Throwable failure = deletion.handle((value, t) -> t).join();
+                            if (failure == null) {
+                                result.success(key, null);
+                            } else {
+                                result.failure(key, failure);
+                            }
+                        });
+                        deleted.getSucceededKeys().forEach(key -> result.success(key, null));
+                        deleted.getFailed().forEach(result::failure);
+                        return result.build();
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return index(() -> index.contentOf(key)).thenCompose(indexed -> {
+            if (indexed.isPresent()) {
+                return delegate.download(deduplicator.contentKey(indexed.get()), context);
+            }
+            return delegate.download(key, context).thenCompose(stored -> {
+                ContentReference reference = ContentReference.read(stored, stored.length);
+                return reference == null ? CompletableFuture.completedFuture(stored)
+                        : delegate.download(deduplicator.contentKey(reference), context);
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return index(() -> index.contentOf(key)).thenCompose(indexed -> {
+            if (indexed.isPresent()) {
+                return delegate.download(deduplicator.contentKey(indexed.get()), out, context);
+            }
+            ReferenceSniffer sniffer = new ReferenceSniffer(out);
+            return delegate.download(key, sniffer, context).thenCompose(ignored -> {
+                ContentReference reference;
+                try {
+                    reference = sniffer.finish();
+                } catch (IOException e) {
+                    logError("Failed to write key '{}' to the target stream", e, key);
+                    throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+                }
+                return reference == null ? CompletableFuture.completedFuture(null)
+                        : delegate.download(deduplicator.contentKey(reference), out, context);
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return index(() -> index.contentOf(key)).thenCompose(indexed -> {
+            if (indexed.isPresent()) {
+                return delegate.download(deduplicator.contentKey(indexed.get()), offset, length, context);
+            }
+            // one byte past a reference tells it apart from a longer object starting like one
+            return delegate.download(key, 0, ContentReference.LENGTH + 1, context).thenCompose(head -> {
+                ContentReference reference = ContentReference.read(head, head.length);
+                return reference == null ? delegate.download(key, offset, length, context)
+                        : delegate.download(deduplicator.contentKey(reference), offset, length, context);
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).thenCompose(metadata -> {
+            if (metadata.isEmpty() || !Deduplicator.mayBeReference(metadata.get())) {
+                return CompletableFuture.completedFuture(metadata.map(Deduplicator::restore));
+            }
+            return delegate.download(key, context).thenApply(data -> {
+                ContentReference reference = ContentReference.read(data, data.length);
+                return Optional.of(reference == null ? metadata.get() : Deduplicator.restore(metadata.get(), reference));
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Checksum>> getChecksum(String key, ExecutionContext context) {
+        return index(() -> index.contentOf(key)).thenCompose(indexed -> indexed.isPresent()
+                ? CompletableFuture.completedFuture(indexed.map(ContentId::checksum))
+                : delegate.getChecksum(key, context));
+    }
+
+    /**
+     * Uploads the content unless it is already stored, then points the key at it and releases the
+     * content the key referred to before.
+     */
+    private CompletableFuture<Void> store(String key, ContentId id, long length,
+                                          Supplier<CompletableFuture<Void>> uploadContent, ExecutionContext context) {
+        ExecutionContext referenceContext = Deduplicator.recordContent(context, id, length);
+        return deduplicator.sequenceAsync(key, () -> deduplicator.sequenceAsync(id, () -> index(() -> index.retain(id))
+                        .thenCompose(stored -> stored ? CompletableFuture.completedFuture(false)
+                                : uploadContent.get().thenCompose(ignored -> index(() -> {
+                                    index.add(id, length);
+                                    return true;
+                                }))))
+                .thenCompose(uploaded -> delegate.upload(key, deduplicator.reference(id, length).bytes(), referenceContext)
+                        .exceptionallyCompose(t -> release(id, context)
+                                .handle((ignored, suppressed) -> null)
+                                .thenCompose(ignored -> CompletableFuture.<Void>failedFuture(t)))
+                        .thenCompose(ignored -> index(() -> index.bind(key, id)))
+                        .thenCompose(previous -> {
+                            logDebug(uploaded ? "Stored key '{}' as new content {}"
+                                    : "Stored key '{}' as a reference to content {}", key, id);
+                            return previous.map(old -> release(old, context))
+                                    .orElseGet(() -> CompletableFuture.completedFuture(null));
+                        })));
+    }
+
+    /**
+     * Uploads an object as it is and releases the content the key referred to before.
+     */
+    private CompletableFuture<Void> storeAsIs(String key, Supplier<CompletableFuture<Void>> upload, ExecutionContext context) {
+        return deduplicator.sequenceAsync(key, () -> upload.get()
+                .thenCompose(ignored -> index(() -> index.unbind(key)))
+                .thenCompose(previous -> previous.map(id -> release(id, context))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null))));
+    }
+
+    /**
+     * Drops a reference and deletes the content with its last one. A failed deletion leaves the content
+     * behind unreferenced rather than failing the operation that released it.
+     */
+    private CompletableFuture<Void> release(ContentId id, ExecutionContext context) {
+        return deduplicator.sequenceAsync(id, () -> index(() -> index.release(id)).thenCompose(remaining -> {
+            if (remaining > 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> deletion;
+            try {
+                deletion = delegate.delete(deduplicator.contentKey(id), context);
+            } catch (RuntimeException e) {
+                deletion = CompletableFuture.failedFuture(e);
+            }
+            return deletion.handle((ignored, t) -> {
+                if (t == null) {
+                    logDebug("Deleted content {} with its last reference", id);
+                } else {
+                    logError("Failed to delete unreferenced content {}", t, id);
+                }
+                return null;
+            }).thenCompose(ignored -> index(() -> {
+                index.remove(id);
+                return null;
+            }));
+        }));
+    }
+
+    /**
+     * Runs an index operation on the deduplicator's executor, since it reads and writes local files.
+     */
+    private <T> CompletableFuture<T> index(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return operation.get();
+            } catch (UncheckedIOException e) {
+                logError("Failed to update the deduplication index", e);
+                throw new FileStorageException("Deduplication index failure :::: %s".formatted(e), e);
+            }
+        }, deduplicator.executor());
+    }
+
+    private void close(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            logWarn("Failed to close deduplication spool", e);
+        }
+    }
+
+    private void release(Spooled spooled) {
+        try {
+            spooled.close();
+        } catch (IOException e) {
+            logWarn("Failed to release deduplication spool {}", spooled.file(), e);
+        }
+    }
+}
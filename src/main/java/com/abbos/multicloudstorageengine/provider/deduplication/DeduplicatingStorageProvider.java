@@ -0,0 +1,303 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.deduplication.Deduplicator.Spooled;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed deduplicating decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Uploads are hashed by the {@link Deduplicator}: content that is already stored is not transferred
+ * again, the key only receives a {@link ContentReference} to it. Streams are spooled while they are
+ * hashed, since the digest decides whether they are uploaded at all. Deleting a key drops its reference
+ * and deletes the content with its last reference. Small objects are stored as they are.
+ * </p>
+ * <p>
+ * Downloads of keys in the index go straight to the content. Other keys are read as they are and followed
+ * if they turn out to be references, so objects written before deduplication was enabled, or by another
+ * instance into its own content namespace, remain readable. Checksums of deduplicated keys are their SHA-256 digests from the index;
+ * entity tags are those of the references, which change whenever the content does.
+ * </p>
+ * <p>
+ * References record the length and digest of their content in their user metadata, so a stat of a
+ * deduplicated key reports the content with a single request. Objects that have the length of a reference
+ * but recorded nothing are read to tell whether they are one.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new DeduplicatingStorageProvider(s3StorageProvider, deduplicator);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:30
+ **/
+public final class DeduplicatingStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final Deduplicator deduplicator;
+    private final ContentIndex index;
+
+    /**
+     * @param delegate     the provider storing the references and the contents
+     * @param deduplicator the deduplication stage; it may be shared by several decorators
+     */
+    public DeduplicatingStorageProvider(StorageProvider delegate, Deduplicator deduplicator) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.deduplicator = Objects.requireNonNull(deduplicator, "Deduplicator cannot be null");
+        this.index = deduplicator.index();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        if (!deduplicator.deduplicates(data)) {
+            storeAsIs(key, () -> delegate.upload(key, data, context), context);
+            return;
+        }
+        ContentId id = deduplicator.identify(data);
+        store(key, id, data.length, () -> delegate.upload(deduplicator.contentKey(id), data, context), context);
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        if (!deduplicator.deduplicates(contentLength)) {
+            storeAsIs(key, () -> delegate.upload(key, data, contentLength, context), context);
+            return;
+        }
+        try (Spooled spooled = deduplicator.spool(data, contentLength)) {
+            store(key, spooled.id(), contentLength, () -> {
+                try (InputStream content = spooled.open()) {
+                    delegate.upload(deduplicator.contentKey(spooled.id()), content, contentLength, context);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, context);
+        } catch (IOException | UncheckedIOException e) {
+            logError("Failed to spool key '{}'", e, key);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        deduplicator.sequence(key, () -> {
+            delegate.delete(key, context);
+            index(() -> index.unbind(key)).ifPresent(id -> release(id, context));
+            return null;
+        });
+    }
+
+    /**
+     * Deletes keys stored as they are with one batch of the delegate; deduplicated keys are deleted one by
+     * one so that their references are counted.
+     */
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        List<String> plain = new ArrayList<>();
+        for (String key : keys) {
+            if (index(() -> index.contentOf(key)).isEmpty()) {
+                plain.add(key);
+                continue;
+            }
+            try {
+                delete(key, context);
+                result.success(key, null);
+            } catch (RuntimeException e) {
+                result.failure(key, e);
+            }
+        }
+        if (!plain.isEmpty()) {
+            BatchResult<Void> deleted = delegate.deleteAll(plain, context);
+            deleted.getSucceededKeys().forEach(key -> result.success(key, null));
+            deleted.getFailed().forEach(result::failure);
+        }
+        return result.build();
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        Optional<ContentId> indexed = index(() -> index.contentOf(key));
+        if (indexed.isPresent()) {
+            return delegate.download(deduplicator.contentKey(indexed.get()), context);
+        }
+        byte[] stored = delegate.download(key, context);
+        ContentReference reference = ContentReference.read(stored, stored.length);
+        return reference == null ? stored : delegate.download(deduplicator.contentKey(reference), context);
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        Optional<ContentId> indexed = index(() -> index.contentOf(key));
+        if (indexed.isPresent()) {
+            delegate.download(deduplicator.contentKey(indexed.get()), out, context);
+            return;
+        }
+        ReferenceSniffer sniffer = new ReferenceSniffer(out);
+        delegate.download(key, sniffer, context);
+        ContentReference reference;
+        try {
+            reference = sniffer.finish();
+        } catch (IOException e) {
+            logError("Failed to write key '{}' to the target stream", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+        if (reference != null) {
+            delegate.download(deduplicator.contentKey(reference), out, context);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        Optional<ContentId> indexed = index(() -> index.contentOf(key));
+        if (indexed.isPresent()) {
+            return delegate.download(deduplicator.contentKey(indexed.get()), offset, length, context);
+        }
+        // one byte past a reference tells it apart from a longer object starting like one
+        byte[] head = delegate.download(key, 0, ContentReference.LENGTH + 1, context);
+        ContentReference reference = ContentReference.read(head, head.length);
+        return reference == null ? delegate.download(key, offset, length, context)
+                : delegate.download(deduplicator.contentKey(reference), offset, length, context);
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).map(stored -> {
+            if (!Deduplicator.mayBeReference(stored)) {
+                return Deduplicator.restore(stored);
+            }
+            byte[] data = delegate.download(key, context);
+            ContentReference reference = ContentReference.read(data, data.length);
+            return reference == null ? stored : Deduplicator.restore(stored, reference);
+        });
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        Optional<ContentId> indexed = index(() -> index.contentOf(key));
+        return indexed.isPresent() ? indexed.map(ContentId::checksum) : delegate.getChecksum(key, context);
+    }
+
+    /**
+     * Uploads the content unless it is already stored, then points the key at it and releases the
+     * content the key referred to before.
+     */
+    private void store(String key, ContentId id, long length, Runnable uploadContent, ExecutionContext context) {
+        deduplicator.sequence(key, () -> {
+            boolean uploaded = deduplicator.sequence(id, () -> {
+                if (index(() -> index.retain(id))) {
+                    return false;
+                }
+                uploadContent.run();
+                index(() -> {
+                    index.add(id, length);
+                    return null;
+                });
+                return true;
+            });
+            try {
+                delegate.upload(key, deduplicator.reference(id, length).bytes(), Deduplicator.recordContent(context, id, length));
+            } catch (RuntimeException e) {
+                release(id, context);
+                throw e;
+            }
+            index(() -> index.bind(key, id)).ifPresent(previous -> release(previous, context));
+            logDebug(uploaded ? "Stored key '{}' as new content {}" : "Stored key '{}' as a reference to content {}", key, id);
+            return null;
+        });
+    }
+
+    /**
+     * Uploads an object as it is and releases the content the key referred to before.
+     */
+    private void storeAsIs(String key, Runnable upload, ExecutionContext context) {
+        deduplicator.sequence(key, () -> {
+            upload.run();
+            index(() -> index.unbind(key)).ifPresent(previous -> release(previous, context));
+            return null;
+        });
+    }
+
+    /**
+     * Drops a reference and deletes the content with its last one. A failed deletion leaves the content
+     * behind unreferenced rather than failing the operation that released it.
+     */
+    private void release(ContentId id, ExecutionContext context) {
+        deduplicator.sequence(id, () -> {
+            if (index(() -> index.release(id)) > 0) {
+                return null;
+            }
+            try {
+                delegate.delete(deduplicator.contentKey(id), context);
+                logDebug("Deleted content {} with its last reference", id);
+            } catch (RuntimeException e) {
+                logError("Failed to delete unreferenced content {}", e, id);
+            } finally {
+                index(() -> {
+                    index.remove(id);
+                    return null;
+                });
+            }
+            return null;
+        });
+    }
+
+    private <T> T index(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (UncheckedIOException e) {
+            logError("Failed to update the deduplication index", e);
+            throw new FileStorageException("Deduplication index failure :::: %s".formatted(e), e);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import com.abbos.multicloudstorageengine.config.DeduplicationConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The content-addressed deduplication stage shared by the deduplicating provider decorators.
+ * <p>
+ * Content is identified by its SHA-256 digest, computed while it is read. Each distinct content is
+ * uploaded once, below the configured content prefix in the namespace of the {@link ContentIndex}, and every
+ * key storing it holds a {@link ContentReference} instead; the {@link ContentIndex} counts the references so that the content is
+ * deleted with the last of them. Uploading content that is already stored therefore costs one small
+ * request instead of a full transfer.
+ * </p>
+ * <p>
+ * All changes to one key, and all changes to one content, run one after another in the order they were
+ * requested, without holding a thread while earlier ones finish for asynchronous callers. Concurrent
+ * uploads of the same new content thus transfer it once, and an upload never races the deletion of the
+ * content it found in the index.
+ * </p>
+ * <p>
+ * The index belongs to this process. Instances sharing a bucket store their contents in separate namespaces
+ * and only deduplicate against their own, so releasing the last reference an instance counts never deletes
+ * content that keys written by another instance still refer to; references name their namespace, so every
+ * instance reads them all. A key should still be written by one instance: the others do not see its index
+ * entry, so content it referred to before being overwritten or deleted elsewhere is not reclaimed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:20
+ **/
+public final class Deduplicator {
+
+    /**
+     * The user metadata entries in which a reference records the length and digest of its content.
+     */
+    static final String LENGTH_METADATA = ExecutionContext.RESERVED_PREFIX + "content_length";
+    static final String DIGEST_METADATA = ExecutionContext.RESERVED_PREFIX + "content_sha256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String KEY_QUEUE = "key:";
+    private static final String CONTENT_QUEUE = "content:";
+
+    private final ContentIndex index;
+    private final int minSize;
+    private final String contentPrefix;
+    private final int spoolThreshold;
+    private final Path spoolDirectory;
+    private final Executor executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    /**
+     * @param config   the deduplication configuration
+     * @param executor runs the hashing work of asynchronous providers
+     */
+    public Deduplicator(DeduplicationConfig config, Executor executor) {
+        this.index = new ContentIndex(Path.of(config.getIndexDirectory()), config.isFsync(),
+                config.getExpectedObjects(), config.getFalsePositiveRate());
+        this.minSize = config.getMinSize();
+        this.contentPrefix = config.getContentPrefix();
+        this.spoolThreshold = config.getSpoolThreshold();
+        this.spoolDirectory = Path.of(config.getSpoolDirectory());
+        this.executor = executor;
+    }
+
+    /**
+     * @return {@code true} if the object is stored deduplicated rather than as it is; objects below the
+     * minimum size are not worth the extra request of reading through a reference, unless they could be
+     * mistaken for one
+     */
+    boolean deduplicates(byte[] data) {
+        return data.length >= minSize || ContentReference.isReference(data, data.length);
+    }
+
+    /**
+     * @return {@code true} if a stream of this length is stored deduplicated; a stream that may look like
+     * a reference always is
+     */
+    boolean deduplicates(long length) {
+        return length >= minSize || length == ContentReference.LENGTH;
+    }
+
+    ContentId identify(byte[] data) {
+        return ContentId.of(Checksummer.compute(ChecksumAlgorithm.SHA256, data, 0, data.length));
+    }
+
+    /**
+     * Reads exactly {@code length} bytes, hashing them on the way, into memory or a spool file.
+     *
+     * @throws EOFException if the stream ends early
+     */
+    Spooled spool(InputStream in, long length) throws IOException {
+        Checksummer checksummer = Checksummer.of(ChecksumAlgorithm.SHA256);
+        byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+        Path file = null;
+        OutputStream out = length > spoolThreshold ? null : new ByteArrayOutputStream((int) length);
+        try {
+            if (out == null) {
+                Files.createDirectories(spoolDirectory);
+                file = Files.createTempFile(spoolDirectory, "deduplication-", ".spool");
+                out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+            }
+            for (long remaining = length; remaining > 0; ) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("Stream ended after %d of %d bytes".formatted(length - remaining, length));
+                }
+                checksummer.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            out.close();
+            ContentId id = ContentId.of(checksummer.checksum());
+            return file == null ? new Spooled(id, length, ((ByteArrayOutputStream) out).toByteArray(), null)
+                    : new Spooled(id, length, null, file);
+        } catch (IOException | RuntimeException e) {
+            if (file != null) {
+                try (OutputStream closing = out) {
+                    Files.deleteIfExists(file);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the key the content is stored under by this instance
+     */
+    String contentKey(ContentId id) {
+        return contentKey(index.namespace(), id);
+    }
+
+    /**
+     * @return the key the content a reference points to is stored under, by whichever instance wrote it
+     */
+    String contentKey(ContentReference reference) {
+        return contentKey(reference.namespace(), reference.id());
+    }
+
+    /**
+     * @return a reference to content stored by this instance
+     */
+    ContentReference reference(ContentId id, long length) {
+        return new ContentReference(id, length, index.namespace());
+    }
+
+    private String contentKey(long namespace, ContentId id) {
+        return contentPrefix + HexFormat.of().toHexDigits(namespace) + '/' + id.hex();
+    }
+
+    ContentIndex index() {
+        return index;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return the context for storing a reference to the content, which records its length and digest
+     */
+    static ExecutionContext recordContent(ExecutionContext context, ContentId id, long length) {
+        return context.withUserMetadata(LENGTH_METADATA, Long.toString(length)).withUserMetadata(DIGEST_METADATA, id.hex());
+    }
+
+    /**
+     * @return {@code true} if the stored object has the length of a reference but recorded no content, so
+     * that only reading it tells whether it is one
+     */
+    static boolean mayBeReference(ObjectMetadata stored) {
+        return stored.getSize() == ContentReference.LENGTH && stored.getUserMetadata(DIGEST_METADATA).isEmpty();
+    }
+
+    /**
+     * Reports the metadata of a stored object as that of the content it refers to, if it recorded one.
+     */
+    static ObjectMetadata restore(ObjectMetadata stored) {
+        Optional<String> length = stored.getUserMetadata(LENGTH_METADATA);
+        Optional<String> digest = stored.getUserMetadata(DIGEST_METADATA);
+        return length.isEmpty() || digest.isEmpty() ? stored
+                : restore(stored, new ContentId(digest.get()), Long.parseLong(length.get()));
+    }
+
+    /**
+     * Reports the metadata of a reference as that of its content: the content length and its SHA-256
+     * digest, with the entity tag, modification time and user metadata of the reference.
+     */
+    static ObjectMetadata restore(ObjectMetadata stored, ContentReference reference) {
+        return restore(stored, reference.id(), reference.length());
+    }
+
+    private static ObjectMetadata restore(ObjectMetadata stored, ContentId id, long length) {
+        return stored.toBuilder()
+                .size(length)
+                .checksum(id.checksum())
+                .removeUserMetadata(LENGTH_METADATA)
+                .removeUserMetadata(DIGEST_METADATA)
+                .build();
+    }
+
+    /**
+     * Runs a blocking action once every earlier action on the same key has completed.
+     */
+    <T> T sequence(String key, Supplier<T> action) {
+        return enqueue(KEY_QUEUE + key, action);
+    }
+
+    /**
+     * Runs a blocking action once every earlier action on the same content has completed.
+     */
+    <T> T sequence(ContentId id, Supplier<T> action) {
+        return enqueue(CONTENT_QUEUE + id.hex(), action);
+    }
+
+    /**
+     * Starts an asynchronous action once every earlier action on the same key has completed.
+     */
+    <T> CompletableFuture<T> sequenceAsync(String key, Supplier<CompletableFuture<T>> action) {
+        return enqueueAsync(KEY_QUEUE + key, action);
+    }
+
+    /**
+     * Starts an asynchronous action once every earlier action on the same content has completed.
+     */
+    <T> CompletableFuture<T> sequenceAsync(ContentId id, Supplier<CompletableFuture<T>> action) {
+        return enqueueAsync(CONTENT_QUEUE + id.hex(), action);
+    }
+
+    private <T> T enqueue(String queue, Supplier<T> action) {
+        CompletableFuture<Void> turn = new CompletableFuture<>();
+        CompletableFuture<Void> previous = tails.put(queue, turn);
+        try {
+            if (previous != null) {
+                previous.join();
+            }
+            return action.get();
+        } finally {
+            tails.remove(queue, turn);
+            turn.complete(null);
+        }
+    }
+
+    private <T> CompletableFuture<T> enqueueAsync(String queue, Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<Void> turn = new CompletableFuture<>();
+        CompletableFuture<Void> previous = tails.put(queue, turn);
+        CompletableFuture<T> result = previous == null ? start(action) : previous.thenCompose(ignored -> action.get());
+        result.whenComplete((value, t) -> {
+            tails.remove(queue, turn);
+            turn.complete(null);
+        });
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Hashed content ready for upload; closing it deletes the spool file, if any.
+     */
+    record Spooled(ContentId id, long length, byte[] memory, Path file) implements Closeable {
+
+        InputStream open() throws IOException {
+            return file == null ? new ByteArrayInputStream(memory)
+                    : new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
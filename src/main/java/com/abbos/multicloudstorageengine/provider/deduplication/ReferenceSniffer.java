@@ -0,0 +1,80 @@
+package com.abbos.multicloudstorageengine.provider.deduplication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes a downloaded object on to the target stream unless it turns out to be a {@link ContentReference}.
+ * <p>
+ * The first bytes are held back until it is clear whether the object has the length of a reference, so an
+ * object stored as it is reaches the target in the same single request, and a reference never does.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  07:25
+ **/
+final class ReferenceSniffer extends OutputStream {
+
+    private final OutputStream target;
+    private final byte[] head = new byte[ContentReference.LENGTH];
+    private int buffered;
+    private boolean passing;
+
+    ReferenceSniffer(OutputStream target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (!passing) {
+            int held = Math.min(len, head.length - buffered);
+            System.arraycopy(b, off, head, buffered, held);
+            buffered += held;
+            off += held;
+            len -= held;
+            if (len == 0) {
+                return;
+            }
+            passing = true;
+            target.write(head, 0, buffered);
+        }
+        target.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (passing) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Completes the download; called once the whole object was written.
+     *
+     * @return the reference the object consists of, or {@code null} if it was passed on to the target
+     */
+    ContentReference finish() throws IOException {
+        if (passing) {
+            return null;
+        }
+        ContentReference reference = ContentReference.read(head, buffered);
+        if (reference == null) {
+            passing = true;
+            target.write(head, 0, buffered);
+        }
+        return reference;
+    }
+
+    /**
+     * Does not close the target, which belongs to the caller of the download.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
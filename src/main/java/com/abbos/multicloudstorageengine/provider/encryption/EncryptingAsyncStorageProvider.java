@@ -0,0 +1,156 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.ChunkRange;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.DecryptingOutputStream;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.Encrypted;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client-side encrypting decorator for an {@link AsyncStorageProvider}.
+ * <p>
+ * Behaves like {@link EncryptingStorageProvider}. Whole objects are encrypted and decrypted on the
+ * encryptor's executor; streams are encrypted as the provider reads them and decrypted as it writes them,
+ * on the provider's own threads.
+ * </p>
+ *
+ * <pre>{@code
+ * AsyncStorageProvider s3 = new EncryptingAsyncStorageProvider(s3AsyncStorageProvider, encryptor);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  06:05
+ **/
+public final class EncryptingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final Encryptor encryptor;
+
+    /**
+     * @param delegate  the provider storing the encrypted objects
+     * @param encryptor the encryption stage; it may be shared by several decorators
+     */
+    public EncryptingAsyncStorageProvider(AsyncStorageProvider delegate, Encryptor encryptor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.encryptor = Objects.requireNonNull(encryptor, "Encryptor cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        ExecutionContext stored = Encryptor.recordLength(context, data.length);
+        return CompletableFuture.supplyAsync(() -> encryptor.encrypt(data), encryptor.executor())
+                .thenCompose(encrypted -> delegate.upload(key, encrypted, stored));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        Encrypted encrypted = encryptor.encrypt(data, contentLength);
+        return delegate.upload(key, encrypted.stream(), encrypted.length(), Encryptor.recordLength(context, contentLength));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return delegate.delete(key, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return delegate.download(key, context).thenApplyAsync(stored -> {
+            try {
+                return encryptor.decrypt(stored);
+            } catch (FileStorageException e) {
+                logError("Failed to decrypt key '{}'", e, key);
+                throw e;
+            }
+        }, encryptor.executor());
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        DecryptingOutputStream decrypting = encryptor.decrypt(out);
+        return delegate.download(key, decrypting, context).thenRun(() -> {
+            try {
+                decrypting.finish();
+            } catch (IOException e) {
+                logError("Failed to decrypt key '{}'", e, key);
+                throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return delegate.download(key, 0, EnvelopeHeader.MAX_LENGTH, context).thenCompose(head -> {
+            EnvelopeHeader header = encryptor.header(head, head.length);
+            if (header == null) {
+                return delegate.download(key, offset, length, context);
+            }
+            ChunkRange range = encryptor.chunkRange(header, offset, length);
+            if (range == null) {
+                return CompletableFuture.completedFuture(new byte[0]);
+            }
+            return delegate.download(key, range.storedOffset(), range.storedLength(), context).thenApplyAsync(stored -> {
+                try {
+                    return encryptor.decrypt(range, stored);
+                } catch (FileStorageException e) {
+                    logError("Failed to decrypt range of key '{}'", e, key);
+                    throw e;
+                }
+            }, encryptor.executor());
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).thenApply(metadata -> metadata.map(Encryptor::restore));
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+}
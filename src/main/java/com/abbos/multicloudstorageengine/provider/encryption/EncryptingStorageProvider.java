@@ -0,0 +1,152 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.ChunkRange;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.DecryptingOutputStream;
+import com.abbos.multicloudstorageengine.provider.encryption.Encryptor.Encrypted;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Client-side encrypting decorator for a blocking {@link StorageProvider}.
+ * <p>
+ * Every upload is encrypted by the {@link Encryptor} before it reaches the provider, so the provider only
+ * ever stores ciphertext; streams are encrypted and decrypted chunk by chunk while they pass through and are
+ * never held in memory whole. Range reads fetch the header of the object, then only the chunks covering the
+ * range. Entity tags are those of the stored ciphertext; stats report the plaintext length, which uploads
+ * record in the user metadata of the object, and no checksum. To compress as well, wrap this decorator with
+ * the compressing one, since ciphertext does not compress.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider s3 = new EncryptingStorageProvider(s3StorageProvider, encryptor);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:55
+ **/
+public final class EncryptingStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final Encryptor encryptor;
+
+    /**
+     * @param delegate  the provider storing the encrypted objects
+     * @param encryptor the encryption stage; it may be shared by several decorators
+     */
+    public EncryptingStorageProvider(StorageProvider delegate, Encryptor encryptor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        this.encryptor = Objects.requireNonNull(encryptor, "Encryptor cannot be null");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        delegate.upload(key, encryptor.encrypt(data), Encryptor.recordLength(context, data.length));
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        Encrypted encrypted = encryptor.encrypt(data, contentLength);
+        delegate.upload(key, encrypted.stream(), encrypted.length(), Encryptor.recordLength(context, contentLength));
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        delegate.delete(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return delegate.deleteAll(keys, context);
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        byte[] stored = delegate.download(key, context);
+        try {
+            return encryptor.decrypt(stored);
+        } catch (FileStorageException e) {
+            logError("Failed to decrypt key '{}'", e, key);
+            throw e;
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        DecryptingOutputStream decrypting = encryptor.decrypt(out);
+        delegate.download(key, decrypting, context);
+        try {
+            decrypting.finish();
+        } catch (IOException e) {
+            logError("Failed to decrypt key '{}'", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        byte[] head = delegate.download(key, 0, EnvelopeHeader.MAX_LENGTH, context);
+        EnvelopeHeader header = encryptor.header(head, head.length);
+        if (header == null) {
+            return delegate.download(key, offset, length, context);
+        }
+        ChunkRange range = encryptor.chunkRange(header, offset, length);
+        if (range == null) {
+            return new byte[0];
+        }
+        byte[] stored = delegate.download(key, range.storedOffset(), range.storedLength(), context);
+        try {
+            return encryptor.decrypt(range, stored);
+        } catch (FileStorageException e) {
+            logError("Failed to decrypt range of key '{}'", e, key);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return delegate.stat(key, context).map(Encryptor::restore);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return delegate.getETag(key, context);
+    }
+}
@@ -0,0 +1,490 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import com.abbos.multicloudstorageengine.config.EncryptionConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+
+/**
+ * The envelope encryption stage shared by the encrypting provider decorators.
+ * <p>
+ * Every object gets a fresh 256-bit data key, wrapped by the {@link MasterKeyProvider} and stored in its
+ * {@link EnvelopeHeader}. The content is encrypted with AES-GCM in independently authenticated chunks:
+ * streams are encrypted and decrypted one chunk at a time while they pass through, byte arrays spread their
+ * chunks over the common fork-join pool once they span several, and range reads decrypt only the chunks
+ * they cover. Ciphers always come from the JDK's SunJCE provider, whose AES and GHASH are compiled to the
+ * AES-NI and carry-less multiply instructions of the CPU, even when another provider such as Bouncy Castle
+ * is installed first.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:40
+ **/
+public final class Encryptor {
+
+    /**
+     * The user metadata entry in which uploads record the plaintext length of an object.
+     */
+    static final String LENGTH_METADATA = ExecutionContext.RESERVED_PREFIX + "plaintext_length";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String PROVIDER = "SunJCE";
+    private static final int PARALLEL_CHUNKS = 4;
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(Encryptor::newCipher);
+
+    private final MasterKeyProvider masterKeys;
+    private final int chunkSize;
+    private final boolean plaintextReadsAllowed;
+    private final Executor executor;
+    private final SecureRandom random = new SecureRandom();
+    private final KeyGenerator keyGenerator;
+
+    /**
+     * @param config     the encryption configuration
+     * @param masterKeys wraps and unwraps the data keys
+     * @param executor   runs the encryption work of asynchronous providers
+     */
+    public Encryptor(EncryptionConfig config, MasterKeyProvider masterKeys, Executor executor) {
+        this.masterKeys = Objects.requireNonNull(masterKeys, "Master key provider cannot be null");
+        this.chunkSize = config.getChunkSize();
+        this.plaintextReadsAllowed = config.isPlaintextReadsAllowed();
+        this.executor = executor;
+        try {
+            this.keyGenerator = KeyGenerator.getInstance("AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("AES is not available", e);
+        }
+        keyGenerator.init(256, random);
+    }
+
+    /**
+     * Encrypts a whole object.
+     *
+     * @param data the object content
+     * @return the header followed by the encrypted chunks
+     */
+    public byte[] encrypt(byte[] data) {
+        Envelope envelope = seal(data.length);
+        EnvelopeHeader header = envelope.header();
+        byte[] out = new byte[Math.toIntExact(header.encryptedLength())];
+        System.arraycopy(header.bytes(), 0, out, 0, header.length());
+        chunks(header.chunkCount()).forEach(index -> {
+            int offset = (int) (index * chunkSize);
+            crypt(Cipher.ENCRYPT_MODE, envelope.key(), header, index,
+                    data, offset, header.plaintextChunkLength(index), out, (int) header.chunkOffset(index));
+        });
+        return out;
+    }
+
+    /**
+     * Decrypts a whole object as stored by {@link #encrypt(byte[])} or a streaming upload.
+     *
+     * @param stored the stored content
+     * @return the original content, or {@code stored} itself if it is not encrypted and plaintext reads are allowed
+     * @throws FileStorageException if the object is not encrypted, or fails authentication
+     */
+    public byte[] decrypt(byte[] stored) {
+        EnvelopeHeader header = header(stored, stored.length);
+        if (header == null) {
+            return stored;
+        }
+        if (stored.length != header.encryptedLength()) {
+            throw new FileStorageException("Encrypted object is %d bytes but its header describes %d"
+                    .formatted(stored.length, header.encryptedLength()));
+        }
+        SecretKey key = masterKeys.unwrap(header.wrappedKey());
+        byte[] out = new byte[Math.toIntExact(header.plaintextLength())];
+        chunks(header.chunkCount()).forEach(index -> crypt(Cipher.DECRYPT_MODE, key, header, index,
+                stored, (int) header.chunkOffset(index), header.plaintextChunkLength(index) + EnvelopeHeader.TAG_LENGTH,
+                out, (int) (index * chunkSize)));
+        return out;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return the context for storing the ciphertext of {@code length} bytes, which records that length
+     */
+    static ExecutionContext recordLength(ExecutionContext context, long length) {
+        return context.withUserMetadata(LENGTH_METADATA, Long.toString(length));
+    }
+
+    /**
+     * Reports the metadata of a stored object as that of its plaintext: the length recorded by the upload,
+     * and no checksum, since the provider's covers the ciphertext. Objects without a recorded length are
+     * reported as they are stored.
+     */
+    static ObjectMetadata restore(ObjectMetadata stored) {
+        Optional<String> length = stored.getUserMetadata(LENGTH_METADATA);
+        return length.isEmpty() ? stored : stored.toBuilder()
+                .size(Long.parseLong(length.get()))
+                .checksum(null)
+                .removeUserMetadata(LENGTH_METADATA)
+                .build();
+    }
+
+    /**
+     * Encrypts a stream one chunk at a time as it is read; the stored length is known before the first byte.
+     *
+     * @param data   the plaintext, of exactly {@code length} bytes
+     * @param length the plaintext length
+     */
+    Encrypted encrypt(InputStream data, long length) {
+        Envelope envelope = seal(length);
+        return new Encrypted(new EncryptingInputStream(data, envelope), envelope.header().encryptedLength());
+    }
+
+    /**
+     * Wraps the caller's stream so that the stored object written to it arrives decrypted. The caller invokes
+     * {@link DecryptingOutputStream#finish()} once the download completes, to detect truncation.
+     */
+    DecryptingOutputStream decrypt(OutputStream out) {
+        return new DecryptingOutputStream(out);
+    }
+
+    /**
+     * Parses the header at the start of a stored object.
+     *
+     * @return the header, or {@code null} if the object is not encrypted and plaintext reads are allowed
+     * @throws FileStorageException if the object is not encrypted and plaintext reads are not allowed, or the
+     *                              header is malformed
+     */
+    EnvelopeHeader header(byte[] stored, int length) {
+        if (!EnvelopeHeader.isEnveloped(stored, length) && plaintextReadsAllowed) {
+            return null;
+        }
+        try {
+            EnvelopeHeader header = EnvelopeHeader.read(stored, length);
+            if (header == null) {
+                throw new IOException("Truncated encryption header");
+            }
+            return header;
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to read encryption header :::: %s".formatted(e), e);
+        }
+    }
+
+    /**
+     * Plans a range read: which stored bytes hold the chunks covering the range.
+     *
+     * @return the plan, or {@code null} if the range starts past the end of the object
+     */
+    ChunkRange chunkRange(EnvelopeHeader header, long offset, long length) {
+        if (offset >= header.plaintextLength()) {
+            return null;
+        }
+        int clipped = (int) Math.min(length, header.plaintextLength() - offset);
+        long firstChunk = offset / header.chunkSize();
+        long lastChunk = (offset + clipped - 1) / header.chunkSize();
+        long start = header.chunkOffset(firstChunk);
+        long end = header.chunkOffset(lastChunk) + header.plaintextChunkLength(lastChunk) + EnvelopeHeader.TAG_LENGTH;
+        return new ChunkRange(header, offset, clipped, firstChunk, lastChunk, start, end - start);
+    }
+
+    /**
+     * Decrypts the chunks fetched for a range read.
+     *
+     * @param range  the plan of the read
+     * @param stored the stored bytes named by the plan
+     * @return the requested plaintext
+     */
+    byte[] decrypt(ChunkRange range, byte[] stored) {
+        EnvelopeHeader header = range.header();
+        if (stored.length != range.storedLength()) {
+            throw new FileStorageException("Encrypted range is %d bytes but %d were expected"
+                    .formatted(stored.length, range.storedLength()));
+        }
+        SecretKey key = masterKeys.unwrap(header.wrappedKey());
+        long first = range.firstChunk();
+        byte[] plaintext = new byte[Math.toIntExact((range.lastChunk() - first) * header.chunkSize()
+                + header.plaintextChunkLength(range.lastChunk()))];
+        chunks(range.lastChunk() - first + 1).forEach(i -> crypt(Cipher.DECRYPT_MODE, key, header, first + i,
+                stored, (int) (header.chunkOffset(first + i) - range.storedOffset()),
+                header.plaintextChunkLength(first + i) + EnvelopeHeader.TAG_LENGTH,
+                plaintext, (int) (i * header.chunkSize())));
+        return Arrays.copyOfRange(plaintext, (int) (range.offset() - first * header.chunkSize()),
+                (int) (range.offset() - first * header.chunkSize()) + range.length());
+    }
+
+    private Envelope seal(long length) {
+        SecretKey key;
+        synchronized (keyGenerator) {
+            key = keyGenerator.generateKey();
+        }
+        byte[] noncePrefix = new byte[EnvelopeHeader.NONCE_PREFIX_LENGTH];
+        random.nextBytes(noncePrefix);
+        EnvelopeHeader header = EnvelopeHeader.create(chunkSize, length, noncePrefix, masterKeys.wrap(key));
+        return new Envelope(header, key);
+    }
+
+    private static LongStream chunks(long count) {
+        LongStream indexes = LongStream.range(0, count);
+        return count >= PARALLEL_CHUNKS ? indexes.parallel() : indexes;
+    }
+
+    /**
+     * Encrypts or decrypts one chunk with the cipher of the current thread.
+     */
+    private static void crypt(int mode, SecretKey key, EnvelopeHeader header, long index,
+                              byte[] in, int inOffset, int inLength, byte[] out, int outOffset) {
+        try {
+            Cipher cipher = CIPHERS.get();
+            cipher.init(mode, key, new GCMParameterSpec(EnvelopeHeader.TAG_LENGTH * 8, header.nonce(index)));
+            cipher.updateAAD(header.bytes());
+            cipher.doFinal(in, inOffset, inLength, out, outOffset);
+        } catch (GeneralSecurityException e) {
+            throw new FileStorageException("Failed to %s chunk %d :::: %s"
+                    .formatted(mode == Cipher.ENCRYPT_MODE ? "encrypt" : "decrypt", index, e), e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION, PROVIDER);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(TRANSFORMATION + " is not available from " + PROVIDER, e);
+        }
+    }
+
+    /**
+     * The header and data key of an object being written.
+     */
+    private record Envelope(EnvelopeHeader header, SecretKey key) {
+    }
+
+    /**
+     * The stored bytes to fetch for a range read.
+     *
+     * @param header        the header of the object
+     * @param offset        the position of the range in the plaintext
+     * @param length        the length of the range, clipped to the end of the object
+     * @param firstChunk    the first chunk covering the range
+     * @param lastChunk     the last chunk covering the range
+     * @param storedOffset  the position of the first chunk in the stored object
+     * @param storedLength  the stored length of the chunks
+     */
+    record ChunkRange(EnvelopeHeader header, long offset, int length, long firstChunk, long lastChunk,
+                      long storedOffset, long storedLength) {
+    }
+
+    /**
+     * An encrypted stream and its length.
+     */
+    record Encrypted(InputStream stream, long length) {
+    }
+
+    /**
+     * Reads plaintext chunk by chunk and yields the header followed by the encrypted chunks.
+     */
+    private static final class EncryptingInputStream extends InputStream {
+        private final InputStream source;
+        private final Envelope envelope;
+        private final byte[] plaintext;
+        private byte[] buffer;
+        private int position;
+        private long next;
+
+        private EncryptingInputStream(InputStream source, Envelope envelope) {
+            this.source = source;
+            this.envelope = envelope;
+            this.plaintext = new byte[(int) Math.min(envelope.header().chunkSize(), Math.max(1, envelope.header().plaintextLength()))];
+            this.buffer = envelope.header().bytes();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+
+        /**
+         * @return {@code false} once every chunk has been read
+         */
+        private boolean fill() throws IOException {
+            if (position < buffer.length) {
+                return true;
+            }
+            EnvelopeHeader header = envelope.header();
+            if (next == header.chunkCount()) {
+                return false;
+            }
+            int length = header.plaintextChunkLength(next);
+            int read = source.readNBytes(plaintext, 0, length);
+            if (read < length) {
+                throw new EOFException("Stream ended after " + (next * header.chunkSize() + read) + " of "
+                        + header.plaintextLength() + " bytes");
+            }
+            buffer = new byte[length + EnvelopeHeader.TAG_LENGTH];
+            crypt(Cipher.ENCRYPT_MODE, envelope.key(), header, next, plaintext, 0, length, buffer, 0);
+            position = 0;
+            next++;
+            return true;
+        }
+    }
+
+    /**
+     * Decrypts a stored object as it is written, chunk by chunk, into the wrapped stream.
+     */
+    final class DecryptingOutputStream extends OutputStream {
+        private final OutputStream out;
+        private byte[] headerBuffer = new byte[64];
+        private int headerLength;
+        private boolean plaintext;
+        private EnvelopeHeader header;
+        private SecretKey key;
+        private byte[] chunk;
+        private byte[] decrypted;
+        private int position;
+        private long next;
+
+        private DecryptingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (plaintext) {
+                out.write(b, off, len);
+                return;
+            }
+            if (header == null) {
+                int consumed = readHeader(b, off, len);
+                off += consumed;
+                len -= consumed;
+                if (plaintext) {
+                    out.write(headerBuffer, 0, headerLength);
+                    out.write(b, off, len);
+                    return;
+                }
+            }
+            while (len > 0) {
+                if (next == header.chunkCount()) {
+                    throw new IOException("Encrypted object continues past its last chunk");
+                }
+                int expected = header.plaintextChunkLength(next) + EnvelopeHeader.TAG_LENGTH;
+                int n = Math.min(len, expected - position);
+                System.arraycopy(b, off, chunk, position, n);
+                position += n;
+                off += n;
+                len -= n;
+                if (position == expected) {
+                    emit(expected);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        /**
+         * Verifies that the whole object has been received; the wrapped stream is left open.
+         *
+         * @throws IOException if the object was truncated
+         */
+        void finish() throws IOException {
+            if (plaintext) {
+                return;
+            }
+            if (header == null) {
+                if (plaintextReadsAllowed && !EnvelopeHeader.isEnveloped(headerBuffer, headerLength)) {
+                    out.write(headerBuffer, 0, headerLength);
+                    return;
+                }
+                throw new IOException("Encrypted object is truncated");
+            }
+            if (next != header.chunkCount()) {
+                throw new IOException("Encrypted object is truncated after chunk " + next + " of " + header.chunkCount());
+            }
+        }
+
+        /**
+         * Buffers bytes until the header is complete.
+         *
+         * @return the number of bytes of {@code b} consumed
+         */
+        private int readHeader(byte[] b, int off, int len) throws IOException {
+            int take = Math.min(len, EnvelopeHeader.MAX_LENGTH - headerLength);
+            if (headerBuffer.length < headerLength + take) {
+                headerBuffer = Arrays.copyOf(headerBuffer, Math.min(EnvelopeHeader.MAX_LENGTH,
+                        Math.max(headerBuffer.length * 2, headerLength + take)));
+            }
+            System.arraycopy(b, off, headerBuffer, headerLength, take);
+            headerLength += take;
+            if (headerLength < 4) {
+                return take;
+            }
+            if (!EnvelopeHeader.isEnveloped(headerBuffer, headerLength)) {
+                if (!plaintextReadsAllowed) {
+                    throw new IOException("Object is not encrypted");
+                }
+                plaintext = true;
+                return take;
+            }
+            EnvelopeHeader parsed = EnvelopeHeader.read(headerBuffer, headerLength);
+            if (parsed == null) {
+                if (headerLength == EnvelopeHeader.MAX_LENGTH) {
+                    throw new IOException("Malformed encryption header");
+                }
+                return take;
+            }
+            header = parsed;
+            key = masterKeys.unwrap(header.wrappedKey());
+            chunk = new byte[(int) Math.min(header.chunkSize(), Math.max(0, header.plaintextLength())) + EnvelopeHeader.TAG_LENGTH];
+            decrypted = new byte[chunk.length];
+            // the bytes past the header belong to the first chunk
+            int surplus = headerLength - header.length();
+            headerLength = header.length();
+            return take - surplus;
+        }
+
+        private void emit(int length) throws IOException {
+            crypt(Cipher.DECRYPT_MODE, key, header, next, chunk, 0, length, decrypted, 0);
+            out.write(decrypted, 0, length - EnvelopeHeader.TAG_LENGTH);
+            position = 0;
+            next++;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import com.abbos.multicloudstorageengine.provider.encryption.MasterKeyProvider.WrappedKey;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The header the encryption stage writes in front of every object it stores.
+ * <p>
+ * Providers only carry the content type of an object, so everything needed to decrypt it travels in-band:
+ * a four-byte magic number, a format version, the chunk size, the plaintext length, the nonce prefix, the id
+ * of the master key and the wrapped data key. The header is passed as associated data to every chunk, so
+ * altering any field, including the length, fails authentication.
+ * </p>
+ * <p>
+ * The content follows as {@link #chunkCount()} AES-GCM chunks of {@code chunkSize} plaintext bytes, the last
+ * one shorter, each followed by its 16-byte tag; an empty object still has one empty chunk so that its header
+ * is authenticated. Chunk {@code i} uses the nonce prefix followed by {@code i} as its nonce, which makes
+ * reordered or repeated chunks fail as well. Where a plaintext byte lives is therefore known from the header
+ * alone, which is what makes range reads possible.
+ * </p>
+ *
+ * @param chunkSize       the plaintext bytes per chunk
+ * @param plaintextLength the length of the original object
+ * @param noncePrefix     the random first eight bytes of every chunk nonce
+ * @param wrappedKey      the data key, wrapped by a master key
+ * @param bytes           the serialized header
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:30
+ **/
+record EnvelopeHeader(int chunkSize, long plaintextLength, byte[] noncePrefix, WrappedKey wrappedKey, byte[] bytes) {
+
+    static final int TAG_LENGTH = 16;
+    static final int NONCE_PREFIX_LENGTH = 8;
+    static final int MAX_LENGTH = 27 + 255 + 255;
+    private static final byte[] MAGIC = {(byte) 0x89, 'M', 'C', 'E'};
+    private static final byte VERSION = 1;
+    private static final int FIXED_LENGTH = 25;
+
+    /**
+     * Creates and serializes the header of a new object.
+     */
+    static EnvelopeHeader create(int chunkSize, long plaintextLength, byte[] noncePrefix, WrappedKey wrappedKey) {
+        byte[] keyId = wrappedKey.masterKeyId().getBytes(StandardCharsets.UTF_8);
+        if (keyId.length > 255 || wrappedKey.key().length > 255) {
+            throw new IllegalArgumentException("Master key id and wrapped key must not exceed 255 bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_LENGTH + 2 + keyId.length + wrappedKey.key().length)
+                .put(MAGIC)
+                .put(VERSION)
+                .putInt(chunkSize)
+                .putLong(plaintextLength)
+                .put(noncePrefix)
+                .put((byte) keyId.length)
+                .put(keyId)
+                .put((byte) wrappedKey.key().length)
+                .put(wrappedKey.key());
+        return new EnvelopeHeader(chunkSize, plaintextLength, noncePrefix, wrappedKey, buffer.array());
+    }
+
+    /**
+     * @return {@code true} if {@code data} starts with the magic number; {@code false} if it does not or is
+     * too short to tell
+     */
+    static boolean isEnveloped(byte[] data, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the header at the start of {@code data}.
+     *
+     * @return the header, or {@code null} if more bytes are needed to complete it
+     * @throws IOException if the data is not an encrypted object or the header is malformed
+     */
+    static EnvelopeHeader read(byte[] data, int length) throws IOException {
+        if (length < MAGIC.length) {
+            return null;
+        }
+        if (!isEnveloped(data, length)) {
+            throw new IOException("Object is not encrypted");
+        }
+        if (length < FIXED_LENGTH + 1) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+        buffer.position(MAGIC.length);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported encryption header version " + version);
+        }
+        int chunkSize = buffer.getInt();
+        long plaintextLength = buffer.getLong();
+        if (chunkSize <= 0 || plaintextLength < 0) {
+            throw new IOException("Malformed encryption header");
+        }
+        byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+        buffer.get(noncePrefix);
+        int keyIdLength = buffer.get() & 0xFF;
+        if (buffer.remaining() < keyIdLength + 1) {
+            return null;
+        }
+        byte[] keyId = new byte[keyIdLength];
+        buffer.get(keyId);
+        int keyLength = buffer.get() & 0xFF;
+        if (buffer.remaining() < keyLength) {
+            return null;
+        }
+        byte[] key = new byte[keyLength];
+        buffer.get(key);
+        byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(data, 0, bytes, 0, bytes.length);
+        return new EnvelopeHeader(chunkSize, plaintextLength, noncePrefix,
+                new WrappedKey(new String(keyId, StandardCharsets.UTF_8), key), bytes);
+    }
+
+    int length() {
+        return bytes.length;
+    }
+
+    long chunkCount() {
+        return Math.max(1, (plaintextLength + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * @return the plaintext length of chunk {@code index}
+     */
+    int plaintextChunkLength(long index) {
+        return (int) Math.min(chunkSize, plaintextLength - index * chunkSize);
+    }
+
+    /**
+     * @return the position of chunk {@code index} in the stored object
+     */
+    long chunkOffset(long index) {
+        return bytes.length + index * (chunkSize + (long) TAG_LENGTH);
+    }
+
+    /**
+     * @return the length of the stored object
+     */
+    long encryptedLength() {
+        return chunkOffset(chunkCount() - 1) + plaintextChunkLength(chunkCount() - 1) + TAG_LENGTH;
+    }
+
+    byte[] nonce(long index) {
+        return ByteBuffer.allocate(NONCE_PREFIX_LENGTH + 4).put(noncePrefix).putInt((int) index).array();
+    }
+}
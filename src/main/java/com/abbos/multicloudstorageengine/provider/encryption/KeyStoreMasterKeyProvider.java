@@ -0,0 +1,96 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Master keys held in a local keystore, wrapping data keys with AES key wrap (RFC 5649).
+ * <p>
+ * Every AES secret key entry of the keystore is loaded once; the entry named by the current alias wraps new
+ * data keys and any entry can unwrap, so a new master key is rolled out by adding it to the keystore and
+ * switching the alias. Such a keystore is created with the JDK {@code keytool}:
+ * <pre>
+ * keytool -genseckey -alias master-2026 -keyalg AES -keysize 256 -storetype PKCS12 -keystore storage-keys.p12
+ * </pre>
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:25
+ **/
+public final class KeyStoreMasterKeyProvider implements MasterKeyProvider {
+
+    private static final String TRANSFORMATION = "AES/KWP/NoPadding";
+
+    private final Map<String, SecretKey> masterKeys;
+    private final String currentAlias;
+
+    /**
+     * @param path         the keystore file
+     * @param type         the keystore type, such as {@code PKCS12}
+     * @param password     the password of the keystore and its entries
+     * @param currentAlias the alias of the master key wrapping new data keys
+     * @throws InvalidConfigurationException if the keystore cannot be read or has no AES key under {@code currentAlias}
+     */
+    public KeyStoreMasterKeyProvider(Path path, String type, char[] password, String currentAlias) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        try (InputStream in = Files.newInputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(in, password);
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    Key key = keyStore.getKey(alias, password);
+                    if ("AES".equalsIgnoreCase(key.getAlgorithm())) {
+                        keys.put(alias, (SecretKey) key);
+                    }
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new InvalidConfigurationException("Failed to load encryption key store " + path + " :::: " + e);
+        }
+        if (!keys.containsKey(currentAlias)) {
+            throw new InvalidConfigurationException("Encryption key store " + path + " has no AES key named '" + currentAlias + "'.");
+        }
+        this.masterKeys = Map.copyOf(keys);
+        this.currentAlias = currentAlias;
+    }
+
+    @Override
+    public WrappedKey wrap(SecretKey dataKey) {
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.WRAP_MODE, masterKeys.get(currentAlias));
+            return new WrappedKey(currentAlias, cipher.wrap(dataKey));
+        } catch (GeneralSecurityException e) {
+            throw new FileStorageException("Failed to wrap data key :::: %s".formatted(e), e);
+        }
+    }
+
+    @Override
+    public SecretKey unwrap(WrappedKey wrappedKey) {
+        SecretKey masterKey = masterKeys.get(wrappedKey.masterKeyId());
+        if (masterKey == null) {
+            throw new FileStorageException("Unknown master key '%s'".formatted(wrappedKey.masterKeyId()));
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.UNWRAP_MODE, masterKey);
+            return (SecretKey) cipher.unwrap(wrappedKey.key(), "AES", Cipher.SECRET_KEY);
+        } catch (GeneralSecurityException e) {
+            throw new FileStorageException("Failed to unwrap data key with master key '%s' :::: %s"
+                    .formatted(wrappedKey.masterKeyId(), e), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.abbos.multicloudstorageengine.provider.encryption;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Wraps and unwraps the data keys of encrypted objects with master keys that never leave the provider.
+ * <p>
+ * {@link KeyStoreMasterKeyProvider} keeps the master keys in a local keystore; an implementation backed by
+ * a key management service sends the data key to the service instead. Unwrapping must accept every master
+ * key that has been used for wrapping, not only the current one.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  05:20
+ **/
+public interface MasterKeyProvider {
+
+    /**
+     * Wraps a data key with the current master key.
+     *
+     * @param dataKey the data key of one object
+     * @return the wrapped key with the id of the master key that wrapped it
+     */
+    WrappedKey wrap(SecretKey dataKey);
+
+    /**
+     * Recovers a data key wrapped by {@link #wrap(SecretKey)}.
+     *
+     * @param wrappedKey the wrapped key
+     * @return the data key
+     * @throws com.abbos.multicloudstorageengine.exception.FileStorageException if the master key is unknown or
+     *                                                                          the wrapped key does not verify
+     */
+    SecretKey unwrap(WrappedKey wrappedKey);
+
+    /**
+     * A data key encrypted by a master key.
+     *
+     * @param masterKeyId the id of the master key, at most 255 bytes in UTF-8
+     * @param key         the encrypted data key, at most 255 bytes
+     */
+    record WrappedKey(String masterKeyId, byte[] key) {
+    }
+}
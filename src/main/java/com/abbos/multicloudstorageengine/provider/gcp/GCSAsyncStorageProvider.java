@@ -0,0 +1,203 @@
+package com.abbos.multicloudstorageengine.provider.gcp;
+
+import com.abbos.multicloudstorageengine.config.GCSConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous Google Cloud Storage provider.
+ * <p>
+ * The GCS client is blocking, so every operation runs on the storage executor, admitted through the
+ * {@link PriorityScheduler}. Transfers share the resumable upload and download sessions of the blocking
+ * provider; single-request operations are retried within the limits of the {@link ExecutionContext}.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  17:20
+ **/
+@Component
+@ConditionalOnBean(Storage.class)
+public final class GCSAsyncStorageProvider extends AbstractAsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "Google Cloud Storage :: (GCS Async)";
+    private final Storage storage;
+    private final String bucketName;
+    private final long resumableThreshold;
+    private final GCSTransfer transfer;
+
+    public GCSAsyncStorageProvider(Storage storage, GCSConfig gcsConfig,
+                                   @Qualifier("storageExecutor") Executor executor,
+                                   @Qualifier("storageScheduler") PriorityScheduler scheduler,
+                                   @Qualifier("storageResilience") ResilienceRegistry resilience,
+                                   @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        super(PROVIDER_NAME, gcsConfig.isLogEnabled(), executor, instrumentation.retryExecutor(PROVIDER_NAME), scheduler,
+                resilience.forProvider(PROVIDER_NAME), GCSTransfer.rateLimiter(PROVIDER_NAME, gcsConfig));
+        this.storage = storage;
+        this.bucketName = gcsConfig.getBucketName();
+        this.resumableThreshold = gcsConfig.getUploadChunkSize();
+        this.transfer = new GCSTransfer(storage, gcsConfig, getRetryExecutor(), this::isRetryable);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        BlobInfo info = blobInfo(key, context);
+        if (data.length > resumableThreshold) {
+            return call(context, "upload", key, false, () -> {
+                transfer.write(info, data);
+                return null;
+            });
+        }
+        return call(context, "upload", key, true, () -> {
+            storage.create(info, data);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        BlobInfo info = blobInfo(key, context);
+        return call(context, "upload", key, false, () -> {
+            transfer.write(info, data, contentLength);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return call(context, "delete", key, true, () -> {
+            storage.delete(BlobId.of(bucketName, key));
+            return null;
+        });
+    }
+
+    /**
+     * Deletes the keys with batch requests of up to 100 deletes of one rate limit prefix each, submitted one
+     * after another and each paced by the rate limit of its prefix.
+     */
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (List<String> chunk : BatchExecutor.partition(keys, GCSTransfer.MAX_BATCH_SIZE, getRateLimiter()::prefix)) {
+            chain = chain.thenCompose(ignored -> call(context, "delete", chunk.size() + " keys", chunk.getFirst(), true,
+                    () -> transfer.delete(bucketName, chunk)).handle((results, t) -> {
+                if (t == null) {
+                    GCSTransfer.collect(chunk, results, result);
+                } else {
+                    chunk.forEach(key -> result.failure(key, RetryExecutor.unwrap(t)));
+                }
+                return null;
+            }));
+        }
+        return chain.thenApply(ignored -> result.build());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return call(context, "download", key, true, () -> transfer.read(BlobId.of(bucketName, key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return call(context, "download", key, false, () -> {
+            transfer.read(BlobId.of(bucketName, key), out);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return call(context, "download", key, true,
+                () -> transfer.read(BlobId.of(bucketName, key), offset, (int) length));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return call(context, "stat", key, true, () -> transfer.stat(BlobId.of(bucketName, key)));
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return GCSTransfer.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return GCSTransfer.isRetryable(t);
+    }
+
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, boolean retry,
+                                          Supplier<T> action) {
+        return call(context, operation, key, key, retry, action);
+    }
+
+    /**
+     * Runs the blocking action at the priority of the context, retrying it when it is safe to repeat,
+     * and maps the outcome to the provider's logging and {@link FileStorageException} conventions.
+     * Transfers are never retried as a whole since they resume internally.
+     * Requests wait for the rate limit of the prefix of {@code limitKey}; batch requests pass a key of the
+     * one prefix they cover.
+     */
+    private <T> CompletableFuture<T> call(ExecutionContext context, String operation, String key, String limitKey,
+                                          boolean retry, Supplier<T> action) {
+        Operation limit = "download".equals(operation) || "stat".equals(operation) ? Operation.READ : Operation.WRITE;
+        CompletableFuture<T> future = retry
+                ? executeAsync(context, limitKey, limit, action)
+                : scheduleAsync(context, limitKey, limit, () -> CompletableFuture.supplyAsync(action, getExecutor()));
+        return future.handle((value, t) -> {
+            if (t == null) {
+                logDebug("Completed {} of key '{}' in bucket '{}'", operation, key, bucketName);
+                return value;
+            }
+            Throwable cause = RetryExecutor.unwrap(t);
+            logError("Failed to {} key '{}' in bucket '{}'", cause, operation, key, bucketName);
+            if (cause instanceof FileStorageException e) {
+                throw e;
+            }
+            throw new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, cause), cause);
+        });
+    }
+
+    private BlobInfo blobInfo(String key, ExecutionContext context) {
+        return BlobInfo.newBuilder(bucketName, key)
+                .setContentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                        .orElse(FileType.OCTET_STREAM.getContentType()))
+                .setMetadata(context.getUserMetadata().isEmpty() ? null : context.getUserMetadata())
+                .build();
+    }
+}
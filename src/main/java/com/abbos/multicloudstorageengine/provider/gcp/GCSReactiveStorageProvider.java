@@ -0,0 +1,214 @@
+package com.abbos.multicloudstorageengine.provider.gcp;
+
+import com.abbos.multicloudstorageengine.config.GCSConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive Google Cloud Storage provider.
+ * <p>
+ * The GCS client is blocking, so every operation subscribes on {@link Schedulers#boundedElastic()}.
+ * Streaming uploads feed subscriber buffers into a resumable upload session one chunk at a time, and
+ * {@link #downloadStream(String, ExecutionContext)} emits one buffer per read, pulled on demand and
+ * resumed from the last received byte after a dropped connection.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  17:35
+ **/
+@Component
+@ConditionalOnBean(Storage.class)
+public final class GCSReactiveStorageProvider extends AbstractReactiveStorageProvider {
+
+    private static final String PROVIDER_NAME = "Google Cloud Storage :: (GCS Reactive)";
+    private final Storage storage;
+    private final String bucketName;
+    private final long resumableThreshold;
+    private final int downloadChunkSize;
+    private final GCSTransfer transfer;
+
+    public GCSReactiveStorageProvider(Storage storage, GCSConfig gcsConfig,
+                                      @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        super(PROVIDER_NAME, gcsConfig.isLogEnabled(), instrumentation.retryExecutor(PROVIDER_NAME));
+        this.storage = storage;
+        this.bucketName = gcsConfig.getBucketName();
+        this.resumableThreshold = gcsConfig.getUploadChunkSize();
+        this.downloadChunkSize = gcsConfig.getDownloadChunkSize();
+        this.transfer = new GCSTransfer(storage, gcsConfig, getRetryExecutor(), this::isRetryable);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        BlobInfo info = blobInfo(key, context);
+        if (data.length > resumableThreshold) {
+            return call(context, "upload", key, false, () -> {
+                transfer.write(info, data);
+                return null;
+            });
+        }
+        return call(context, "upload", key, true, () -> {
+            storage.create(info, data);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        BlobInfo info = blobInfo(key, context);
+        return call(context, "upload", key, false, () -> {
+            transfer.write(info, data, contentLength);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload publisher cannot be null and content length must be non-negative");
+        }
+        BlobInfo info = blobInfo(key, context);
+        return Mono.fromCallable(() -> transfer.begin(info, contentLength))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(upload -> data
+                        .publishOn(Schedulers.boundedElastic(), 2)
+                        .doOnNext(upload::write)
+                        .then(Mono.fromRunnable(upload::finish)))
+                .then()
+                .doOnSuccess(ignored -> logDebug("Streamed object with key '{}' to bucket '{}', size: {} bytes", key, bucketName, contentLength))
+                .onErrorMap(t -> failure("upload", key, t));
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        return call(context, "delete", key, true, () -> {
+            storage.delete(BlobId.of(bucketName, key));
+            return null;
+        });
+    }
+
+    /**
+     * Deletes the keys with batch requests of up to 100 deletes each, submitted one after another.
+     */
+    @Override
+    public Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return Mono.defer(() -> {
+            BatchResult.Builder<Void> result = BatchResult.builder();
+            return Flux.fromIterable(BatchExecutor.partition(keys, GCSTransfer.MAX_BATCH_SIZE))
+                    .concatMap(chunk -> call(context, "delete", chunk.size() + " keys", true,
+                            () -> transfer.delete(bucketName, chunk))
+                            .doOnNext(results -> GCSTransfer.collect(chunk, results, result))
+                            .onErrorResume(t -> {
+                                chunk.forEach(key -> result.failure(key, t));
+                                return Mono.empty();
+                            }))
+                    .then(Mono.fromSupplier(result::build));
+        });
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        return call(context, "download", key, true, () -> transfer.read(BlobId.of(bucketName, key)));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return call(context, "download", key, true,
+                () -> transfer.read(BlobId.of(bucketName, key), offset, (int) length));
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return call(context, "download", key, false, () -> {
+            transfer.read(BlobId.of(bucketName, key), out);
+            return null;
+        });
+    }
+
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        return Flux.<ByteBuffer, GCSTransfer.Download>generate(
+                        () -> transfer.open(BlobId.of(bucketName, key)),
+                        (download, sink) -> {
+                            ByteBuffer buffer = ByteBuffer.allocate(downloadChunkSize);
+                            if (download.read(buffer) < 0) {
+                                sink.complete();
+                            } else {
+                                sink.next(buffer.flip());
+                            }
+                            return download;
+                        },
+                        GCSTransfer.Download::close)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnComplete(() -> logDebug("Streamed object with key '{}' from bucket '{}'", key, bucketName))
+                .onErrorMap(t -> failure("download", key, t));
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return call(context, "stat", key, true, () -> transfer.stat(BlobId.of(bucketName, key)).orElse(null));
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return GCSTransfer.isRetryable(t);
+    }
+
+    /**
+     * Wraps the blocking action in a cold {@link Mono} on the bounded elastic scheduler, retries it when
+     * it is safe to repeat, and maps the outcome to the provider's logging and {@link FileStorageException}
+     * conventions. Transfers are never retried as a whole since they resume internally.
+     */
+    private <T> Mono<T> call(ExecutionContext context, String operation, String key, boolean retry, Callable<T> action) {
+        Mono<T> source = Mono.fromCallable(action).subscribeOn(Schedulers.boundedElastic());
+        return (retry ? retryReactive(context, source) : source)
+                .doOnSuccess(ignored -> logDebug("Completed {} of key '{}' in bucket '{}'", operation, key, bucketName))
+                .onErrorMap(t -> failure(operation, key, t));
+    }
+
+    private FileStorageException failure(String operation, String key, Throwable t) {
+        Throwable cause = RetryExecutor.unwrap(t);
+        logError("Failed to {} key '{}' in bucket '{}'", cause, operation, key, bucketName);
+        return cause instanceof FileStorageException e ? e
+                : new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, cause), cause);
+    }
+
+    private BlobInfo blobInfo(String key, ExecutionContext context) {
+        return BlobInfo.newBuilder(bucketName, key)
+                .setContentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                        .orElse(FileType.OCTET_STREAM.getContentType()))
+                .setMetadata(context.getUserMetadata().isEmpty() ? null : context.getUserMetadata())
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.abbos.multicloudstorageengine.provider.gcp;
+
+import com.abbos.multicloudstorageengine.config.GCSConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.FileType;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import com.abbos.multicloudstorageengine.provider.BatchExecutor;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.observability.StorageInstrumentation;
+import com.abbos.multicloudstorageengine.provider.resilience.ProviderResilience;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter.Operation;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceRegistry;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Blocking Google Cloud Storage provider.
+ * <p>
+ * Payloads up to one upload chunk are stored with a single request; larger payloads and all streams go
+ * through a resumable upload session that continues from its last committed chunk after a dropped
+ * connection. Streaming downloads resume from the last received byte in the same way. Content is
+ * checked against its CRC-32C in both directions, as described in {@link GCSTransfer}.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  17:05
+ **/
+@Component
+@ConditionalOnBean(Storage.class)
+public final class GCSStorageProvider extends AbstractStorageProvider {
+
+    private static final String PROVIDER_NAME = "Google Cloud Storage :: (GCS)";
+    private final Storage storage;
+    private final GCSConfig gcsConfig;
+    private final String bucketName;
+    private final long resumableThreshold;
+    private final GCSTransfer transfer;
+
+    public GCSStorageProvider(Storage storage, GCSConfig gcsConfig,
+                              @Qualifier("storageResilience") ResilienceRegistry resilience,
+                              @Qualifier("storageInstrumentation") StorageInstrumentation instrumentation) {
+        this(storage, gcsConfig, instrumentation.retryExecutor(PROVIDER_NAME), resilience.forProvider(PROVIDER_NAME),
+                GCSTransfer.rateLimiter(PROVIDER_NAME, gcsConfig));
+    }
+
+    private GCSStorageProvider(Storage storage, GCSConfig gcsConfig, RetryExecutor retryExecutor,
+                               ProviderResilience resilience, RateLimiter rateLimiter) {
+        super(PROVIDER_NAME, gcsConfig.isLogEnabled(), retryExecutor, resilience, rateLimiter);
+        this.storage = storage;
+        this.gcsConfig = gcsConfig;
+        this.bucketName = gcsConfig.getBucketName();
+        this.resumableThreshold = gcsConfig.getUploadChunkSize();
+        this.transfer = new GCSTransfer(storage, gcsConfig, getRetryExecutor(), this::isRetryable);
+    }
+
+    /**
+     * Creates a provider for the same bucket and client with a different chunk size.
+     *
+     * @see GCSConfig#withTransferTuning(Long)
+     */
+    public GCSStorageProvider withTransferTuning(Long chunkSize) {
+        return new GCSStorageProvider(storage, gcsConfig.withTransferTuning(chunkSize), getRetryExecutor(),
+                getResilience(), getRateLimiter());
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        BlobInfo info = blobInfo(key, context);
+        try {
+            if (data.length > resumableThreshold) {
+                transfer.write(info, data);
+            } else {
+                execute(context, key, Operation.WRITE, () -> storage.create(info, data));
+            }
+            logDebug("Uploaded object with key '{}' to bucket '{}', size: {} bytes", key, bucketName, data.length);
+        } catch (Exception e) {
+            logError("Failed to upload object with key '{}' to bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to upload key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        try {
+            transfer.write(blobInfo(key, context), data, contentLength);
+            logDebug("Streamed object with key '{}' to bucket '{}', size: {} bytes", key, bucketName, contentLength);
+        } catch (FileStorageException e) {
+            logError("Failed to stream object with key '{}' to bucket '{}'", e, key, bucketName);
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        try {
+            boolean deleted = execute(context, key, Operation.WRITE, () -> storage.delete(BlobId.of(bucketName, key)));
+            logDebug("Deleted object with key '{}' from bucket '{}', existed: {}", key, bucketName, deleted);
+        } catch (Exception e) {
+            logError("Failed to delete object with key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to delete key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    /**
+     * Deletes the keys with batch requests of up to 100 deletes of one rate limit prefix each; each batch is
+     * paced by the rate limit of its prefix and retried as a whole.
+     */
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        for (List<String> chunk : BatchExecutor.partition(keys, GCSTransfer.MAX_BATCH_SIZE, getRateLimiter()::prefix)) {
+            try {
+                GCSTransfer.collect(chunk, execute(context, chunk.getFirst(), Operation.WRITE,
+                        () -> transfer.delete(bucketName, chunk)), result);
+            } catch (Exception e) {
+                logError("Failed to delete {} objects from bucket '{}'", e, chunk.size(), bucketName);
+                FileStorageException failure = new FileStorageException("Failed to delete batch :::: %s".formatted(e), e);
+                chunk.forEach(key -> result.failure(key, failure));
+            }
+        }
+        BatchResult<Void> deleted = result.build();
+        logDebug("Deleted {} of {} objects from bucket '{}'", deleted.getSucceeded().size(), deleted.size(), bucketName);
+        return deleted;
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        try {
+            byte[] data = execute(context, key, Operation.READ, () -> transfer.read(BlobId.of(bucketName, key)));
+            logDebug("Downloaded object with key '{}' from bucket '{}', size: {} bytes", key, bucketName, data.length);
+            return data;
+        } catch (ChecksumMismatchException e) {
+            logError("Downloaded object with key '{}' from bucket '{}' failed verification", e, key, bucketName);
+            throw e;
+        } catch (Exception e) {
+            logError("Failed to download object with key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        try {
+            long transferred = transfer.read(BlobId.of(bucketName, key), out);
+            logDebug("Streamed object with key '{}' from bucket '{}', size: {} bytes", key, bucketName, transferred);
+        } catch (Exception e) {
+            logError("Failed to stream object with key '{}' from bucket '{}'", e, key, bucketName);
+            throw e instanceof FileStorageException fse ? fse
+                    : new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        try {
+            byte[] data = execute(context, key, Operation.READ, () -> transfer.read(BlobId.of(bucketName, key), offset, (int) length));
+            if (isDebugEnabled()) {
+                logDebug("Downloaded range {}+{} of key '{}' from bucket '{}', size: {} bytes",
+                        offset, length, key, bucketName, data.length);
+            }
+            return data;
+        } catch (Exception e) {
+            logError("Failed to download range of key '{}' from bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to download range of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        try {
+            return execute(context, key, Operation.READ, () -> transfer.stat(BlobId.of(bucketName, key)));
+        } catch (Exception e) {
+            logError("Failed to read metadata of key '{}' in bucket '{}'", e, key, bucketName);
+            throw new FileStorageException("Failed to read metadata of key: %s :::: %s".formatted(key, e), e);
+        }
+    }
+
+    @Override
+    protected boolean isThrottled(Throwable t) {
+        return GCSTransfer.isThrottled(t);
+    }
+
+    @Override
+    protected boolean isRetryable(Throwable t) {
+        return GCSTransfer.isRetryable(t);
+    }
+
+    private BlobInfo blobInfo(String key, ExecutionContext context) {
+        return BlobInfo.newBuilder(bucketName, key)
+                .setContentType(getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class)
+                        .orElse(FileType.OCTET_STREAM.getContentType()))
+                .setMetadata(context.getUserMetadata().isEmpty() ? null : context.getUserMetadata())
+                .build();
+    }
+}
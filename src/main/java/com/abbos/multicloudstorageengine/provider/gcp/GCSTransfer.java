@@ -0,0 +1,495 @@
+package com.abbos.multicloudstorageengine.provider.gcp;
+
+import com.abbos.multicloudstorageengine.config.GCSConfig;
+import com.abbos.multicloudstorageengine.enums.ChecksumAlgorithm;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.checksum.Checksummer;
+import com.abbos.multicloudstorageengine.provider.resilience.RateLimiter;
+import com.google.cloud.BaseServiceException;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageBatchResult;
+import com.google.cloud.storage.StorageException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Moves object content through GCS {@link WriteChannel} and {@link ReadChannel} sessions that survive
+ * dropped connections.
+ * <p>
+ * Uploads run over a single resumable upload session and are committed in slices of
+ * {@code uploadChunkSize} bytes. After every committed slice the session is checkpointed with
+ * {@link WriteChannel#capture()}; when a slice fails, the channel is restored from the last checkpoint
+ * and only that slice is sent again, so a failure near the end of a large object costs one chunk rather
+ * than the whole transfer. Downloads track their position and, after a failure, reopen the object at
+ * that position, pinned to the generation seen when the download started.
+ * </p>
+ * <p>
+ * With checksums enabled, the CRC-32C of the content is computed while it passes through. In-memory
+ * payloads declare it when the session opens and GCS rejects the upload if the received content differs;
+ * streamed uploads are compared with the checksum GCS computed once the object is finalized, and a
+ * mismatching object is deleted. Downloads are verified against the CRC-32C stored with the generation
+ * they read. Single-request uploads are not handled here: the client attaches a CRC-32C to those itself.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  16:40
+ **/
+final class GCSTransfer {
+
+    /**
+     * Upper bound for all attempts of one slice. Slices are internal to a transfer whose total duration
+     * depends on the object size, so the caller's per-operation timeout does not apply to them.
+     */
+    private static final Duration SLICE_DEADLINE = Duration.ofMinutes(15);
+    /**
+     * Maximum number of calls in one JSON API batch request.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final Storage storage;
+    private final int uploadChunkSize;
+    private final int downloadChunkSize;
+    private final int resumeAttempts;
+    private final boolean checksumEnabled;
+    private final RetryExecutor retryExecutor;
+    private final Predicate<Throwable> retryable;
+
+    GCSTransfer(Storage storage, GCSConfig gcsConfig, RetryExecutor retryExecutor, Predicate<Throwable> retryable) {
+        this.storage = storage;
+        this.uploadChunkSize = gcsConfig.getUploadChunkSize();
+        this.downloadChunkSize = gcsConfig.getDownloadChunkSize();
+        this.resumeAttempts = gcsConfig.getResumeAttempts();
+        this.checksumEnabled = gcsConfig.isChecksumEnabled();
+        this.retryExecutor = retryExecutor;
+        this.retryable = retryable;
+    }
+
+    /**
+     * Uploads an in-memory payload; full slices are views over {@code data} and are never copied.
+     */
+    void write(BlobInfo info, byte[] data) {
+        Upload upload;
+        if (checksumEnabled) {
+            Checksum checksum = Checksummer.compute(ChecksumAlgorithm.CRC32C, data, 0, data.length);
+            upload = begin(info.toBuilder().setCrc32c(checksum.getValue()).build(), data.length, null,
+                    Storage.BlobWriteOption.crc32cMatch());
+        } else {
+            upload = begin(info, data.length, null);
+        }
+        upload.write(ByteBuffer.wrap(data));
+        upload.finish();
+    }
+
+    /**
+     * Uploads exactly {@code contentLength} bytes read from {@code in}, buffering one chunk at a time.
+     */
+    void write(BlobInfo info, InputStream in, long contentLength) {
+        Upload upload = begin(info, contentLength);
+        byte[] buffer = new byte[(int) Math.min(uploadChunkSize, Math.max(contentLength, 1))];
+        long remaining = contentLength;
+        try {
+            while (remaining > 0) {
+                int read = in.readNBytes(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == 0) {
+                    throw new IOException("Stream ended after %d of %d bytes".formatted(contentLength - remaining, contentLength));
+                }
+                upload.write(ByteBuffer.wrap(buffer, 0, read));
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("Resumable upload failed for key: %s :::: %s".formatted(info.getName(), e), e);
+        }
+        upload.finish();
+    }
+
+    /**
+     * Opens a resumable upload session expecting {@code contentLength} bytes. The object only becomes
+     * visible once {@link Upload#finish()} succeeds; an abandoned session expires on the server.
+     */
+    Upload begin(BlobInfo info, long contentLength) {
+        return begin(info, contentLength, checksumEnabled ? Checksummer.of(ChecksumAlgorithm.CRC32C) : null);
+    }
+
+    private Upload begin(BlobInfo info, long contentLength, Checksummer checksummer, Storage.BlobWriteOption... options) {
+        WriteChannel writer = storage.writer(info, options);
+        writer.setChunkSize(uploadChunkSize);
+        return new Upload(info.getBlobId(), writer, contentLength, checksummer);
+    }
+
+    /**
+     * Reads the whole object into memory with a single request, verified against the stored CRC-32C.
+     */
+    byte[] read(BlobId blobId) {
+        if (!checksumEnabled) {
+            return storage.readAllBytes(blobId);
+        }
+        Blob blob = storage.get(blobId, Storage.BlobGetOption.fields(Storage.BlobField.GENERATION, Storage.BlobField.CRC32C));
+        if (blob == null) {
+            throw new FileStorageException("Object not found: " + blobId.getName());
+        }
+        byte[] data = storage.readAllBytes(BlobId.of(blobId.getBucket(), blobId.getName(), blob.getGeneration()));
+        if (blob.getCrc32c() != null) {
+            Checksummer.verify(blobId.getName(), Checksum.of(ChecksumAlgorithm.CRC32C, blob.getCrc32c()),
+                    Checksummer.compute(ChecksumAlgorithm.CRC32C, data, 0, data.length));
+        }
+        return data;
+    }
+
+    /**
+     * Streams the whole object to {@code out}, resuming from the current position after a failure.
+     *
+     * @return the number of bytes written
+     */
+    long read(BlobId blobId, OutputStream out) {
+        try (Download download = open(blobId)) {
+            ByteBuffer buffer = ByteBuffer.allocate(downloadChunkSize);
+            while (download.read(buffer.clear()) >= 0) {
+                out.write(buffer.array(), 0, buffer.position());
+            }
+            return download.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads up to {@code length} bytes from {@code offset} with a single ranged request.
+     */
+    byte[] read(BlobId blobId, long offset, int length) {
+        try (ReadChannel reader = storage.reader(blobId)) {
+            reader.seek(offset);
+            reader.limit(offset + length);
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining() && reader.read(buffer) >= 0) {
+                // keep reading until the range or the object is exhausted
+            }
+            return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts a resumable download of the current generation of the object.
+     *
+     * @throws FileStorageException if the object does not exist
+     */
+    Download open(BlobId blobId) {
+        Blob blob = storage.get(blobId, Storage.BlobGetOption.fields(Storage.BlobField.GENERATION,
+                Storage.BlobField.SIZE, Storage.BlobField.CRC32C));
+        if (blob == null) {
+            throw new FileStorageException("Object not found: " + blobId.getName());
+        }
+        Checksum expected = checksumEnabled && blob.getCrc32c() != null
+                ? Checksum.of(ChecksumAlgorithm.CRC32C, blob.getCrc32c()) : null;
+        return new Download(BlobId.of(blobId.getBucket(), blobId.getName(), blob.getGeneration()), expected);
+    }
+
+    /**
+     * Reads the metadata of a blob, including the CRC-32C GCS stores with every object, with a
+     * metadata-only request.
+     *
+     * @return the metadata, or an empty {@link Optional} if the blob does not exist
+     */
+    Optional<ObjectMetadata> stat(BlobId blobId) {
+        return Optional.ofNullable(storage.get(blobId)).map(blob -> ObjectMetadata
+                .builder(blobId.getName(), blob.getSize() != null ? blob.getSize() : 0)
+                .eTag(blob.getEtag())
+                .lastModified(blob.getUpdateTimeOffsetDateTime() != null
+                        ? blob.getUpdateTimeOffsetDateTime().toInstant() : null)
+                .contentType(blob.getContentType())
+                .checksum(blob.getCrc32c() != null ? Checksum.of(ChecksumAlgorithm.CRC32C, blob.getCrc32c()) : null)
+                .userMetadata(blob.getMetadata())
+                .build());
+    }
+
+    /**
+     * Deletes the keys with a single batch request. Per-key failures do not fail the call; they are
+     * reported by {@link #collect(List, List, BatchResult.Builder)}.
+     */
+    List<StorageBatchResult<Boolean>> delete(String bucketName, List<String> keys) {
+        StorageBatch batch = storage.batch();
+        List<StorageBatchResult<Boolean>> results = keys.stream()
+                .map(key -> batch.delete(BlobId.of(bucketName, key)))
+                .toList();
+        batch.submit();
+        return results;
+    }
+
+    /**
+     * Records the outcome of every key of a batch delete; keys that did not exist count as deleted.
+     */
+    static void collect(List<String> keys, List<StorageBatchResult<Boolean>> results, BatchResult.Builder<Void> result) {
+        for (int i = 0; i < keys.size(); i++) {
+            try {
+                results.get(i).get();
+                result.success(keys.get(i), null);
+            } catch (StorageException e) {
+                result.failure(keys.get(i), e);
+            }
+        }
+    }
+
+    /**
+     * Classifies GCS failures as transient: anything the client marks as retryable, request timeouts,
+     * throttling (429) and 5xx responses. Service errors wrapped in I/O exceptions by the channels are
+     * classified by the service error; other failures fall back to {@link RetryExecutor#isTransient(Throwable)}.
+     *
+     * @param t the failure to classify
+     * @return {@code true} if the failure is worth retrying
+     */
+    static boolean isRetryable(Throwable t) {
+        for (Throwable cause = RetryExecutor.unwrap(t); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BaseServiceException e) {
+                int code = e.getCode();
+                return e.isRetryable() || code == 408 || code == 429 || code >= 500;
+            }
+        }
+        return RetryExecutor.isTransient(t);
+    }
+
+    /**
+     * @return {@code true} if the failure, or the service error it wraps, is a throttling response (429, 503)
+     */
+    static boolean isThrottled(Throwable t) {
+        for (Throwable cause = RetryExecutor.unwrap(t); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BaseServiceException e) {
+                return e.getCode() == 429 || e.getCode() == 503;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the adaptive rate limit configured for the bucket, or an unlimited one if it is disabled.
+     */
+    static RateLimiter rateLimiter(String providerName, GCSConfig config) {
+        return config.isRateLimitEnabled()
+                ? new RateLimiter(providerName, config.getReadRateLimit(), config.getWriteRateLimit(), config.getRateLimitPrefixDepth())
+                : RateLimiter.unlimited();
+    }
+
+    /**
+     * One resumable upload session. Writes are staged into chunk-sized slices; each slice is committed
+     * with retries and followed by a checkpoint of the session.
+     */
+    final class Upload {
+
+        private final BlobId blobId;
+        private final String key;
+        private final long contentLength;
+        private final Checksummer checksummer;
+        private WriteChannel writer;
+        private RestorableState<WriteChannel> checkpoint;
+        private ByteBuffer staging;
+        private boolean stale;
+        private long written;
+
+        private Upload(BlobId blobId, WriteChannel writer, long contentLength, Checksummer checksummer) {
+            this.blobId = blobId;
+            this.key = blobId.getName();
+            this.writer = writer;
+            this.contentLength = contentLength;
+            this.checksummer = checksummer;
+            this.checkpoint = writer.capture();
+        }
+
+        /**
+         * Consumes all remaining bytes of {@code source}. Full slices are committed straight from
+         * {@code source}; only a trailing partial slice is copied into the staging buffer.
+         */
+        void write(ByteBuffer source) {
+            written += source.remaining();
+            if (written > contentLength) {
+                throw new FileStorageException("Upload of key %s exceeds its declared length of %d bytes".formatted(key, contentLength));
+            }
+            if (checksummer != null) {
+                checksummer.update(source.duplicate());
+            }
+            while (source.hasRemaining()) {
+                if ((staging == null || staging.position() == 0) && source.remaining() >= uploadChunkSize) {
+                    ByteBuffer slice = source.slice(source.position(), uploadChunkSize);
+                    commit(slice);
+                    source.position(source.position() + uploadChunkSize);
+                    continue;
+                }
+                if (staging == null) {
+                    staging = ByteBuffer.allocate(uploadChunkSize);
+                }
+                int length = Math.min(staging.remaining(), source.remaining());
+                staging.put(staging.position(), source, source.position(), length);
+                staging.position(staging.position() + length);
+                source.position(source.position() + length);
+                if (!staging.hasRemaining()) {
+                    commit(staging.flip());
+                    staging.clear();
+                }
+            }
+        }
+
+        /**
+         * Commits the staged tail, finalizes the object and, if the content was checksummed on the way,
+         * compares it with what GCS stored.
+         *
+         * @throws FileStorageException       if fewer bytes than declared were written or the session cannot be finalized
+         * @throws ChecksumMismatchException if GCS stored different content; the object is deleted
+         */
+        void finish() {
+            if (written != contentLength) {
+                throw new FileStorageException("Upload of key %s ended after %d of %d bytes".formatted(key, written, contentLength));
+            }
+            if (staging != null && staging.position() > 0) {
+                commit(staging.flip());
+            }
+            resume(() -> writer.close());
+            if (checksummer != null) {
+                verify(checksummer.checksum());
+            }
+        }
+
+        private void verify(Checksum actual) {
+            Blob blob = storage.get(blobId, Storage.BlobGetOption.fields(Storage.BlobField.GENERATION, Storage.BlobField.CRC32C));
+            if (blob == null || blob.getCrc32c() == null) {
+                return;
+            }
+            Checksum stored = Checksum.of(ChecksumAlgorithm.CRC32C, blob.getCrc32c());
+            if (!stored.equals(actual)) {
+                storage.delete(blobId, Storage.BlobSourceOption.generationMatch(blob.getGeneration()));
+                throw new ChecksumMismatchException(key, actual, stored);
+            }
+        }
+
+        private void commit(ByteBuffer slice) {
+            int start = slice.position();
+            resume(() -> {
+                slice.position(start);
+                while (slice.hasRemaining()) {
+                    writer.write(slice);
+                }
+            });
+            checkpoint = writer.capture();
+        }
+
+        /**
+         * Runs a step against the session; after a failure the next attempt continues from the last
+         * checkpoint on a restored channel instead of starting a new upload.
+         */
+        private void resume(IOStep step) {
+            try {
+                retryExecutor.execute(resumeAttempts, SLICE_DEADLINE, retryable, () -> {
+                    if (stale) {
+                        writer = checkpoint.restore();
+                        stale = false;
+                    }
+                    try {
+                        step.run();
+                    } catch (Exception e) {
+                        stale = true;
+                        throw e;
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new FileStorageException("Resumable upload failed for key: %s :::: %s".formatted(key, e), e);
+            }
+        }
+    }
+
+    /**
+     * One resumable download of a fixed object generation.
+     */
+    final class Download implements Closeable {
+
+        private final BlobId blobId;
+        private final Checksum expected;
+        private final Checksummer checksummer;
+        private ReadChannel reader;
+        private long position;
+        private boolean verified;
+
+        private Download(BlobId blobId, Checksum expected) {
+            this.blobId = blobId;
+            this.expected = expected;
+            this.checksummer = expected == null ? null : Checksummer.of(expected.getAlgorithm());
+        }
+
+        /**
+         * Reads the next bytes into {@code target}, reopening the object at the current position if the
+         * connection drops.
+         *
+         * @return the number of bytes read, or {@code -1} at the end of the object
+         * @throws ChecksumMismatchException at the end of the object if the content differs from the stored checksum
+         */
+        int read(ByteBuffer target) {
+            int start = target.position();
+            int read;
+            try {
+                read = retryExecutor.execute(resumeAttempts, SLICE_DEADLINE, retryable, () -> {
+                    target.position(start);
+                    try {
+                        if (reader == null) {
+                            reader = storage.reader(blobId);
+                            reader.setChunkSize(downloadChunkSize);
+                            reader.seek(position);
+                        }
+                        return reader.read(target);
+                    } catch (Exception e) {
+                        close();
+                        throw e;
+                    }
+                });
+            } catch (Exception e) {
+                throw new FileStorageException("Resumable download failed for key: %s :::: %s".formatted(blobId.getName(), e), e);
+            }
+            if (read > 0) {
+                position += read;
+                if (checksummer != null) {
+                    checksummer.update(target.duplicate().flip().position(start));
+                }
+            } else if (read < 0 && checksummer != null && !verified) {
+                verified = true;
+                Checksummer.verify(blobId.getName(), expected, checksummer.checksum());
+            }
+            return read;
+        }
+
+        long position() {
+            return position;
+        }
+
+        @Override
+        public void close() {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOStep {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,109 @@
+package com.abbos.multicloudstorageengine.provider.local;
+
+import com.abbos.multicloudstorageengine.config.LocalStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous provider storing objects as files below a local directory.
+ * <p>
+ * File I/O blocks, so every operation runs the {@link LocalStorageProvider} logic on the storage
+ * executor; with virtual threads a blocked read or write costs no platform thread.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:05
+ **/
+@Component
+@ConditionalOnBean(LocalFileStore.class)
+public final class LocalAsyncStorageProvider extends AbstractAsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "Local File System :: (Local Async)";
+    private final LocalStorageProvider blocking;
+
+    public LocalAsyncStorageProvider(LocalFileStore store, LocalStorageConfig localConfig,
+                                     @Qualifier("storageExecutor") Executor executor) {
+        super(PROVIDER_NAME, localConfig.isLogEnabled(), executor, RetryExecutor.ofDefault(), null);
+        this.blocking = new LocalStorageProvider(store, localConfig);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return run(() -> blocking.upload(key, data, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        return run(() -> blocking.upload(key, data, contentLength, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return run(() -> blocking.upload(key, channel, contentLength, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return run(() -> blocking.delete(key, context));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return executeAsync(() -> blocking.download(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return run(() -> blocking.download(key, out, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return run(() -> blocking.download(key, channel, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return run(() -> blocking.download(key, target, context));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return executeAsync(() -> blocking.download(key, offset, length, context));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return executeAsync(() -> blocking.stat(key, context));
+    }
+
+    private CompletableFuture<Void> run(Runnable action) {
+        return executeAsync(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,325 @@
+package com.abbos.multicloudstorageengine.provider.local;
+
+import com.abbos.multicloudstorageengine.config.LocalStorageConfig;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps keys to files below a root directory and moves content in and out of them, shared by the local
+ * filesystem providers.
+ * <p>
+ * Reads hand the file to {@link FileChannel#transferTo}, which lets the operating system copy from the
+ * page cache straight into sockets and other files without passing the content through the Java heap.
+ * Writes fill a temporary file in the target's directory and rename it over the target atomically, so
+ * readers observe either the previous or the complete new content and a crashed write leaves only a
+ * temporary file behind. Keys may not resolve outside the root directory.
+ * </p>
+ * <p>
+ * The content type and user metadata of an object are kept as user-defined attributes of its file, written
+ * to the temporary file so that they are renamed into place with the content. File systems without such
+ * attributes store the content only.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:55
+ **/
+public final class LocalFileStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CONTENT_TYPE_ATTRIBUTE = "content-type";
+    private static final String USER_METADATA_PREFIX = "meta.";
+    private final Path root;
+    private final boolean fsync;
+    private final int chunkSize;
+
+    public LocalFileStore(LocalStorageConfig config) {
+        this(Path.of(config.getRootDirectory()), config.isFsync(), config.getChunkSize());
+    }
+
+    /**
+     * @param root      the directory holding the stored files, created if missing
+     * @param fsync     whether writes are forced to disk before they are reported complete
+     * @param chunkSize the buffer size of streamed reads
+     */
+    public LocalFileStore(Path root, boolean fsync, int chunkSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.fsync = fsync;
+        this.chunkSize = chunkSize;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open storage directory " + this.root, e);
+        }
+    }
+
+    /**
+     * @return the directory holding the stored files
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Resolves a key to its file.
+     *
+     * @throws IllegalArgumentException if the key is empty or resolves outside the root directory
+     */
+    public Path resolve(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("Key resolves outside the storage directory: " + key);
+        }
+        return file;
+    }
+
+    /**
+     * Replaces the content stored under the key with the given bytes.
+     */
+    public void write(String key, byte[] data, String contentType, Map<String, String> userMetadata) throws IOException {
+        write(key, contentType, userMetadata, channel -> {
+            ByteBuffer source = ByteBuffer.wrap(data);
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        });
+    }
+
+    /**
+     * Replaces the content stored under the key with exactly {@code contentLength} bytes read from the
+     * channel; the previous content stays in place if the channel ends early.
+     *
+     * @throws EOFException if the channel ends before {@code contentLength} bytes
+     */
+    public void write(String key, ReadableByteChannel source, long contentLength, String contentType,
+                      Map<String, String> userMetadata) throws IOException {
+        write(key, contentType, userMetadata, channel -> {
+            long position = 0;
+            while (position < contentLength) {
+                long transferred = channel.transferFrom(source, position, contentLength - position);
+                if (transferred <= 0) {
+                    throw new EOFException("Content ended after %d of %d bytes".formatted(position, contentLength));
+                }
+                position += transferred;
+            }
+        });
+    }
+
+    /**
+     * Fills a temporary file through {@code writer}, attaches the metadata and renames it over the file of
+     * the key.
+     *
+     * @param contentType  the content type, or {@code null} if none is recorded
+     * @param userMetadata the user metadata, see {@link ObjectMetadata#getUserMetadata()}
+     */
+    public void write(String key, String contentType, Map<String, String> userMetadata, Writer writer) throws IOException {
+        Path target = resolve(key);
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "." + target.getFileName() + ".", TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+            writeAttributes(temp, contentType, userMetadata);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        if (fsync) {
+            force(directory);
+        }
+    }
+
+    /**
+     * @return the whole content stored under the key
+     * @throws NoSuchFileException if nothing is stored under the key
+     */
+    public byte[] read(String key) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IOException("Object of %d bytes is too large for a byte array".formatted(size));
+            }
+            return read(channel, 0, (int) size);
+        }
+    }
+
+    /**
+     * @return up to {@code length} bytes starting at {@code offset}; fewer if the content ends earlier
+     * @throws NoSuchFileException if nothing is stored under the key
+     */
+    public byte[] read(String key, long offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long available = Math.max(0, channel.size() - offset);
+            return read(channel, offset, (int) Math.min(length, available));
+        }
+    }
+
+    /**
+     * Copies the content stored under the key to the target channel with {@link FileChannel#transferTo}.
+     *
+     * @return the number of bytes copied
+     * @throws NoSuchFileException if nothing is stored under the key
+     */
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Opens the content stored under the key for reading; the caller closes the channel.
+     *
+     * @throws NoSuchFileException if nothing is stored under the key
+     */
+    public FileChannel open(String key) throws IOException {
+        return FileChannel.open(resolve(key), StandardOpenOption.READ);
+    }
+
+    /**
+     * @return the buffer size of streamed reads
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return {@code true} if content was stored under the key
+     */
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * Reads the metadata of the file stored under the key. The entity tag is derived from the identity,
+     * modification time and size of the file: every write renames a new file into place, so the tag
+     * changes with each write even within the resolution of the file system clock.
+     *
+     * @return the metadata, or an empty {@link Optional} if nothing is stored under the key
+     */
+    public Optional<ObjectMetadata> stat(String key) throws IOException {
+        Path file = resolve(key);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        Instant modified = attributes.lastModifiedTime().toInstant();
+        Object fileKey = attributes.fileKey();
+        ObjectMetadata.Builder metadata = ObjectMetadata.builder(key, attributes.size())
+                .eTag("\"%x.%x-%x%s\"".formatted(modified.getEpochSecond(), modified.getNano(), attributes.size(),
+                        fileKey != null ? "-" + Integer.toHexString(fileKey.hashCode()) : ""))
+                .lastModified(modified);
+        readAttributes(file).forEach((name, value) -> {
+            if (name.equals(CONTENT_TYPE_ATTRIBUTE)) {
+                metadata.contentType(value);
+            } else if (name.startsWith(USER_METADATA_PREFIX)) {
+                metadata.addUserMetadata(name.substring(USER_METADATA_PREFIX.length()), value);
+            }
+        });
+        return Optional.of(metadata.build());
+    }
+
+    private static void writeAttributes(Path file, String contentType, Map<String, String> userMetadata) throws IOException {
+        if (contentType == null && userMetadata.isEmpty()) {
+            return;
+        }
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(file, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            if (contentType != null) {
+                view.write(CONTENT_TYPE_ATTRIBUTE, StandardCharsets.US_ASCII.encode(contentType));
+            }
+            for (Map.Entry<String, String> entry : userMetadata.entrySet()) {
+                view.write(USER_METADATA_PREFIX + entry.getKey(), StandardCharsets.US_ASCII.encode(entry.getValue()));
+            }
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // the file system does not store user-defined attributes
+        }
+    }
+
+    private static Map<String, String> readAttributes(Path file) throws IOException {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(file, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return Map.of();
+        }
+        Map<String, String> attributes = new HashMap<>();
+        try {
+            for (String name : view.list()) {
+                ByteBuffer value = ByteBuffer.allocate(view.size(name));
+                view.read(name, value);
+                attributes.put(name, StandardCharsets.US_ASCII.decode(value.flip()).toString());
+            }
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // the file system does not store user-defined attributes, or the file was replaced meanwhile
+            return Map.of();
+        }
+        return attributes;
+    }
+
+    private static byte[] read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.position() == length ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Forces a directory entry to disk so that a completed rename survives a crash. Not every platform
+     * can open a directory as a channel; there the rename is left to the file system.
+     */
+    private static void force(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // directories cannot be synced on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a new file.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write(FileChannel channel) throws IOException;
+    }
+}
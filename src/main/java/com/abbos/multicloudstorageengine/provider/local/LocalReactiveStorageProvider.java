@@ -0,0 +1,181 @@
+package com.abbos.multicloudstorageengine.provider.local;
+
+import com.abbos.multicloudstorageengine.config.LocalStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Reactive provider storing objects as files below a local directory.
+ * <p>
+ * File I/O blocks, so every operation subscribes on {@link Schedulers#boundedElastic()}.
+ * {@link #downloadStream(String, ExecutionContext)} reads one chunk per request, pulled on demand, and
+ * {@link #upload(String, Flux, long, ExecutionContext)} writes the received buffers into a temporary file
+ * that is renamed into place once the declared length has arrived.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:10
+ **/
+@Component
+@ConditionalOnBean(LocalFileStore.class)
+public final class LocalReactiveStorageProvider extends AbstractReactiveStorageProvider {
+
+    private static final String PROVIDER_NAME = "Local File System :: (Local Reactive)";
+    private final LocalFileStore store;
+    private final LocalStorageProvider blocking;
+
+    public LocalReactiveStorageProvider(LocalFileStore store, LocalStorageConfig localConfig) {
+        super(PROVIDER_NAME, localConfig.isLogEnabled(), RetryExecutor.ofDefault());
+        this.store = store;
+        this.blocking = new LocalStorageProvider(store, localConfig);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return run(() -> blocking.upload(key, data, context));
+    }
+
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        return run(() -> blocking.upload(key, data, contentLength, context));
+    }
+
+    @Override
+    public Mono<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return run(() -> blocking.upload(key, channel, contentLength, context));
+    }
+
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload publisher cannot be null and content length must be non-negative");
+        }
+        return Mono.<Void>fromCallable(() -> {
+                    store.write(key, blocking.contentType(context), context.getUserMetadata(), channel -> {
+                        long written = 0;
+                        for (ByteBuffer buffer : data.toIterable(2)) {
+                            written += buffer.remaining();
+                            if (written > contentLength) {
+                                throw new IOException("Content exceeds the declared length of %d bytes".formatted(contentLength));
+                            }
+                            while (buffer.hasRemaining()) {
+                                channel.write(buffer);
+                            }
+                        }
+                        if (written < contentLength) {
+                            throw new EOFException("Content ended after %d of %d bytes".formatted(written, contentLength));
+                        }
+                    });
+                    return null;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(ignored -> logDebug("Streamed object with key '{}' to '{}', size: {} bytes", key, store.getRoot(), contentLength))
+                .onErrorMap(t -> failure("upload", key, t));
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return Mono.fromCallable(() -> blocking.stat(key, context).orElse(null)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        return run(() -> blocking.delete(key, context));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        return Mono.fromCallable(() -> blocking.download(key, context)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return Mono.fromCallable(() -> blocking.download(key, offset, length, context)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return run(() -> blocking.download(key, out, context));
+    }
+
+    @Override
+    public Mono<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return run(() -> blocking.download(key, channel, context));
+    }
+
+    @Override
+    public Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return run(() -> blocking.download(key, target, context));
+    }
+
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        int chunkSize = store.getChunkSize();
+        return Flux.<ByteBuffer, FileChannel>generate(
+                        () -> store.open(key),
+                        (channel, sink) -> {
+                            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+                            try {
+                                if (channel.read(buffer) < 0) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(buffer.flip());
+                                }
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                            return channel;
+                        },
+                        LocalReactiveStorageProvider::close)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnComplete(() -> logDebug("Streamed object with key '{}' from '{}'", key, store.getRoot()))
+                .onErrorMap(t -> failure("download", key, t));
+    }
+
+    private Mono<Void> run(Runnable action) {
+        return Mono.<Void>fromRunnable(action).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private FileStorageException failure(String operation, String key, Throwable t) {
+        if (t instanceof FileStorageException e) {
+            return e;
+        }
+        logError("Failed to {} key '{}' in '{}'", t, operation, key, store.getRoot());
+        return new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, t), t);
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing was written through the channel
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.abbos.multicloudstorageengine.provider.local;
+
+import com.abbos.multicloudstorageengine.config.LocalStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Blocking provider storing objects as files below a local directory through the {@link LocalFileStore}.
+ * <p>
+ * Downloads to channels and files use {@link FileChannel#transferTo}, so the content moves between file
+ * descriptors inside the kernel; uploads from a {@link FileChannel} likewise use
+ * {@link FileChannel#transferFrom}. Every upload is renamed into place atomically once complete.
+ * Failures of the local file system are not transient, so operations are not retried.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  04:00
+ **/
+@Component
+@ConditionalOnBean(LocalFileStore.class)
+public final class LocalStorageProvider extends AbstractStorageProvider {
+
+    private static final String PROVIDER_NAME = "Local File System :: (Local)";
+    private final LocalFileStore store;
+
+    public LocalStorageProvider(LocalFileStore store, LocalStorageConfig localConfig) {
+        super(PROVIDER_NAME, localConfig.isLogEnabled());
+        this.store = store;
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        try {
+            store.write(key, data, contentType(context), context.getUserMetadata());
+            logDebug("Wrote object with key '{}' to '{}', size: {} bytes", key, store.getRoot(), data.length);
+        } catch (IOException e) {
+            throw failure("upload", key, e);
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        upload(key, Channels.newChannel(data), contentLength, context);
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        try {
+            store.write(key, channel, contentLength, contentType(context), context.getUserMetadata());
+            logDebug("Streamed object with key '{}' to '{}', size: {} bytes", key, store.getRoot(), contentLength);
+        } catch (IOException e) {
+            throw failure("upload", key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        try {
+            boolean deleted = store.delete(key);
+            logDebug("Deleted object with key '{}' from '{}', existed: {}", key, store.getRoot(), deleted);
+        } catch (IOException e) {
+            throw failure("delete", key, e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        try {
+            byte[] data = store.read(key);
+            logDebug("Read object with key '{}' from '{}', size: {} bytes", key, store.getRoot(), data.length);
+            return data;
+        } catch (IOException e) {
+            throw failure("download", key, e);
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        download(key, Channels.newChannel(out), context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        try {
+            long transferred = store.transferTo(key, channel);
+            logDebug("Streamed object with key '{}' from '{}', size: {} bytes", key, store.getRoot(), transferred);
+        } catch (IOException e) {
+            throw failure("download", key, e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        try {
+            byte[] data = store.read(key, offset, (int) length);
+            if (isDebugEnabled()) {
+                logDebug("Read range {}+{} of key '{}' from '{}', size: {} bytes", offset, length, key, store.getRoot(), data.length);
+            }
+            return data;
+        } catch (IOException e) {
+            throw failure("download", key, e);
+        }
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long transferred = store.transferTo(key, channel);
+            if (isDebugEnabled()) {
+                logDebug("Copied object with key '{}' from '{}' to '{}', size: {} bytes", key, store.getRoot(), target, transferred);
+            }
+        } catch (IOException e) {
+            throw failure("download", key, e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        try {
+            return store.stat(key);
+        } catch (IOException e) {
+            throw failure("stat", key, e);
+        }
+    }
+
+    /**
+     * @return the content type passed to an upload, or {@code null} if none was
+     */
+    String contentType(ExecutionContext context) {
+        return getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class).orElse(null);
+    }
+
+    private FileStorageException failure(String operation, String key, IOException e) {
+        logError("Failed to {} key '{}' in '{}'", e, operation, key, store.getRoot());
+        return new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, e), e);
+    }
+}
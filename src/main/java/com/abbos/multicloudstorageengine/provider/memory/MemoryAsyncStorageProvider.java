@@ -0,0 +1,151 @@
+package com.abbos.multicloudstorageengine.provider.memory;
+
+import com.abbos.multicloudstorageengine.config.MemoryStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractAsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous provider over the {@link OffHeapObjectStore}.
+ * <p>
+ * Operations on byte arrays never block, so they run on the calling thread and return a completed
+ * future instead of paying for a hand-off to the executor. Operations reading from or writing to a
+ * caller-supplied stream, channel or file may block on it and run on the storage executor.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:45
+ **/
+@Component
+@ConditionalOnBean(OffHeapObjectStore.class)
+public final class MemoryAsyncStorageProvider extends AbstractAsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "In-Memory Storage :: (Memory Async)";
+    private final MemoryStorageProvider blocking;
+
+    public MemoryAsyncStorageProvider(OffHeapObjectStore store, MemoryStorageConfig memoryConfig,
+                                      @Qualifier("storageExecutor") Executor executor) {
+        super(PROVIDER_NAME, memoryConfig.isLogEnabled(), executor, RetryExecutor.ofDefault(), null);
+        this.blocking = new MemoryStorageProvider(store, memoryConfig);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return complete(() -> {
+            blocking.upload(key, data, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        return executeAsync(() -> {
+            blocking.upload(key, data, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return executeAsync(() -> {
+            blocking.upload(key, channel, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return complete(() -> {
+            blocking.delete(key, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return complete(() -> blocking.deleteAll(keys, context));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return complete(() -> blocking.uploadAll(objects, context));
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return complete(() -> blocking.downloadAll(keys, context));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return complete(() -> blocking.download(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return executeAsync(() -> {
+            blocking.download(key, out, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return executeAsync(() -> {
+            blocking.download(key, channel, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return executeAsync(() -> {
+            blocking.download(key, target, context);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return complete(() -> blocking.download(key, offset, length, context));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return complete(() -> blocking.stat(key, context));
+    }
+
+    private static <T> CompletableFuture<T> complete(Supplier<T> action) {
+        try {
+            return CompletableFuture.completedFuture(action.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.abbos.multicloudstorageengine.provider.memory;
+
+import com.abbos.multicloudstorageengine.config.MemoryStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.memory.OffHeapObjectStore.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive provider over the {@link OffHeapObjectStore}.
+ * <p>
+ * Operations on byte arrays complete on the subscribing thread; operations on caller-supplied streams,
+ * channels or files may block on them and subscribe on {@link Schedulers#boundedElastic()}.
+ * {@link #downloadStream(String, ExecutionContext)} emits read-only slices of the stored buffer without
+ * copying, and {@link #upload(String, Flux, long, ExecutionContext)} writes the received buffers straight
+ * into off-heap memory reserved up front.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:50
+ **/
+@Component
+@ConditionalOnBean(OffHeapObjectStore.class)
+public final class MemoryReactiveStorageProvider extends AbstractReactiveStorageProvider {
+
+    private static final String PROVIDER_NAME = "In-Memory Storage :: (Memory Reactive)";
+    private final OffHeapObjectStore store;
+    private final MemoryStorageProvider blocking;
+    private final int chunkSize;
+
+    public MemoryReactiveStorageProvider(OffHeapObjectStore store, MemoryStorageConfig memoryConfig) {
+        super(PROVIDER_NAME, memoryConfig.isLogEnabled(), RetryExecutor.ofDefault());
+        this.store = store;
+        this.blocking = new MemoryStorageProvider(store, memoryConfig);
+        this.chunkSize = memoryConfig.getChunkSize();
+    }
+
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return Mono.fromRunnable(() -> blocking.upload(key, data, context));
+    }
+
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        return blocking(() -> {
+            blocking.upload(key, data, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return blocking(() -> {
+            blocking.upload(key, channel, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload publisher cannot be null and content length must be non-negative");
+        }
+        return Mono.usingWhen(
+                        Mono.fromSupplier(() -> store.allocate(contentLength)),
+                        allocation -> data.doOnNext(allocation::write).then(Mono.fromRunnable(() -> allocation.commit(key,
+                                blocking.contentType(context), context.getUserMetadata()))),
+                        allocation -> Mono.fromRunnable(allocation::release))
+                .then()
+                .doOnSuccess(ignored -> logDebug("Streamed object with key '{}' into memory, size: {} bytes", key, contentLength))
+                .onErrorMap(t -> failure("upload", key, t));
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        return Mono.fromRunnable(() -> blocking.delete(key, context));
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return Mono.fromSupplier(() -> blocking.deleteAll(keys, context));
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return Mono.fromSupplier(() -> blocking.uploadAll(objects, context));
+    }
+
+    @Override
+    public Mono<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return Mono.fromSupplier(() -> blocking.downloadAll(keys, context));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        return Mono.fromSupplier(() -> blocking.download(key, context));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        return Mono.fromSupplier(() -> blocking.download(key, offset, length, context));
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        return blocking(() -> {
+            blocking.download(key, out, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return blocking(() -> {
+            blocking.download(key, channel, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return blocking(() -> {
+            blocking.download(key, target, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return Mono.fromCallable(() -> blocking.stat(key, context).orElse(null));
+    }
+
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        return Flux.defer(() -> {
+            StoredObject object = store.get(key);
+            if (object == null) {
+                return Flux.error(new FileStorageException("No object stored under key: " + key));
+            }
+            ByteBuffer content = object.content();
+            return Flux.<ByteBuffer>generate(sink -> {
+                if (!content.hasRemaining()) {
+                    sink.complete();
+                    return;
+                }
+                int length = Math.min(chunkSize, content.remaining());
+                sink.next(content.slice(content.position(), length));
+                content.position(content.position() + length);
+            });
+        }).doOnComplete(() -> logDebug("Streamed object with key '{}' from memory", key))
+                .onErrorMap(t -> failure("download", key, t));
+    }
+
+    private <T> Mono<T> blocking(Callable<T> action) {
+        return Mono.fromCallable(action).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private FileStorageException failure(String operation, String key, Throwable t) {
+        if (t instanceof FileStorageException e) {
+            return e;
+        }
+        logError("Failed to {} key '{}' in memory", t, operation, key);
+        return new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, t), t);
+    }
+}
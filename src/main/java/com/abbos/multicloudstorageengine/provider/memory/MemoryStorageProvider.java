@@ -0,0 +1,187 @@
+package com.abbos.multicloudstorageengine.provider.memory;
+
+import com.abbos.multicloudstorageengine.config.MemoryStorageConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import com.abbos.multicloudstorageengine.provider.memory.OffHeapObjectStore.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Blocking provider over the {@link OffHeapObjectStore}.
+ * <p>
+ * Operations complete on the calling thread without retries, since the store has no transient failures.
+ * Downloads to a channel or file write straight from the off-heap buffer, and batch operations run
+ * inline instead of fanning out to threads.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:40
+ **/
+@Component
+@ConditionalOnBean(OffHeapObjectStore.class)
+public final class MemoryStorageProvider extends AbstractStorageProvider {
+
+    private static final String PROVIDER_NAME = "In-Memory Storage :: (Memory)";
+    private final OffHeapObjectStore store;
+
+    public MemoryStorageProvider(OffHeapObjectStore store, MemoryStorageConfig memoryConfig) {
+        super(PROVIDER_NAME, memoryConfig.isLogEnabled());
+        this.store = store;
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        try {
+            store.put(key, data, contentType(context), context.getUserMetadata());
+            logDebug("Stored object with key '{}' in memory, size: {} bytes", key, data.length);
+        } catch (FileStorageException | IllegalStateException e) {
+            throw failure("upload", key, e);
+        }
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        if (data == null || contentLength < 0) {
+            throw new IllegalArgumentException("Upload stream cannot be null and content length must be non-negative");
+        }
+        upload(key, Channels.newChannel(data), contentLength, context);
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        try {
+            store.put(key, channel, contentLength, contentType(context), context.getUserMetadata());
+            logDebug("Streamed object with key '{}' into memory, size: {} bytes", key, contentLength);
+        } catch (IOException | FileStorageException | IllegalStateException e) {
+            throw failure("upload", key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        boolean deleted = store.delete(key);
+        logDebug("Deleted object with key '{}' from memory, existed: {}", key, deleted);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        for (String key : new LinkedHashSet<>(keys)) {
+            store.delete(key);
+            result.success(key, null);
+        }
+        return result.build();
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        BatchResult.Builder<Void> result = BatchResult.builder();
+        objects.forEach((key, data) -> {
+            try {
+                upload(key, data, context);
+                result.success(key, null);
+            } catch (RuntimeException e) {
+                result.failure(key, e);
+            }
+        });
+        return result.build();
+    }
+
+    @Override
+    public BatchResult<byte[]> downloadAll(Collection<String> keys, ExecutionContext context) {
+        BatchResult.Builder<byte[]> result = BatchResult.builder();
+        for (String key : new LinkedHashSet<>(keys)) {
+            try {
+                result.success(key, download(key, context));
+            } catch (RuntimeException e) {
+                result.failure(key, e);
+            }
+        }
+        return result.build();
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        ByteBuffer content = require(key).content();
+        byte[] data = new byte[content.remaining()];
+        content.get(data);
+        logDebug("Read object with key '{}' from memory, size: {} bytes", key, data.length);
+        return data;
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        if (out == null) {
+            throw new IllegalArgumentException("Download target stream cannot be null");
+        }
+        download(key, Channels.newChannel(out), context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        try {
+            long transferred = OffHeapObjectStore.transfer(require(key).content(), channel);
+            logDebug("Streamed object with key '{}' from memory, size: {} bytes", key, transferred);
+        } catch (IOException e) {
+            throw failure("download", key, e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        if (offset < 0 || length <= 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range offset must be non-negative and length within (0, 2 GiB)");
+        }
+        ByteBuffer content = require(key).content();
+        int start = (int) Math.min(offset, content.limit());
+        byte[] data = new byte[(int) Math.min(length, content.limit() - start)];
+        content.get(start, data);
+        if (isDebugEnabled()) {
+            logDebug("Read range {}+{} of key '{}' from memory, size: {} bytes", offset, length, key, data.length);
+        }
+        return data;
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return Optional.ofNullable(store.get(key)).map(object -> object.metadata(key));
+    }
+
+    /**
+     * @return the content type passed to an upload, or {@code null} if none was
+     */
+    String contentType(ExecutionContext context) {
+        return getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class).orElse(null);
+    }
+
+    private StoredObject require(String key) {
+        StoredObject object = store.get(key);
+        if (object == null) {
+            throw failure("download", key, new FileStorageException("No object stored under key: " + key));
+        }
+        return object;
+    }
+
+    private FileStorageException failure(String operation, String key, Exception e) {
+        logError("Failed to {} key '{}' in memory", e, operation, key);
+        return e instanceof FileStorageException failure ? failure
+                : new FileStorageException("Failed to %s key: %s :::: %s".formatted(operation, key, e), e);
+    }
+}
@@ -0,0 +1,318 @@
+package com.abbos.multicloudstorageengine.provider.memory;
+
+import com.abbos.multicloudstorageengine.config.MemoryStorageConfig;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Object store keeping content in direct buffers outside the Java heap, shared by the in-memory providers.
+ * <p>
+ * The key index is split into a power-of-two number of stripes, each a plain map behind its own
+ * read-write lock, so that writers of different keys rarely contend and readers never block each other.
+ * Content is written into a freshly allocated buffer before it is published, which makes every put
+ * atomic: readers see either the previous object or the complete new one. Readers receive read-only
+ * views of the published buffer, so a download copies the content only into its own destination.
+ * </p>
+ * <p>
+ * The total size of stored objects is bounded; a write that would exceed the bound is rejected rather
+ * than evicting other objects. Replaced and deleted buffers are freed by the garbage collector once no
+ * reader holds them any more.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  03:35
+ **/
+public final class OffHeapObjectStore {
+
+    private static final int MAX_OBJECT_SIZE = Integer.MAX_VALUE - 8;
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long maxSize;
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+
+    public OffHeapObjectStore(MemoryStorageConfig config) {
+        this(config.getMaxSize(), config.getStripes());
+    }
+
+    /**
+     * @param maxSize the largest total size of stored objects in bytes
+     * @param stripes the number of independently locked index segments, rounded up to a power of two
+     */
+    public OffHeapObjectStore(long maxSize, int stripes) {
+        this.stripes = new Stripe[stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = this.stripes.length - 1;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Stores a copy of the given content under the key, replacing any previous object.
+     *
+     * @param contentType  the content type, or {@code null} if none is recorded
+     * @param userMetadata the user metadata, see {@link ObjectMetadata#getUserMetadata()}
+     * @throws FileStorageException if the store has no room for the content
+     */
+    public void put(String key, byte[] data, String contentType, Map<String, String> userMetadata) {
+        validateKey(key);
+        Allocation allocation = allocate(data.length);
+        try {
+            allocation.write(ByteBuffer.wrap(data));
+            allocation.commit(key, contentType, userMetadata);
+        } finally {
+            allocation.release();
+        }
+    }
+
+    /**
+     * Stores exactly {@code contentLength} bytes read from the channel under the key, replacing any
+     * previous object only once all of them have been read.
+     *
+     * @throws EOFException         if the channel ends early
+     * @throws FileStorageException if the store has no room for the content
+     */
+    public void put(String key, ReadableByteChannel channel, long contentLength, String contentType,
+                    Map<String, String> userMetadata) throws IOException {
+        validateKey(key);
+        Allocation allocation = allocate(contentLength);
+        try {
+            ByteBuffer target = allocation.buffer;
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new EOFException("Content ended after %d of %d bytes".formatted(target.position(), contentLength));
+                }
+            }
+            allocation.commit(key, contentType, userMetadata);
+        } finally {
+            allocation.release();
+        }
+    }
+
+    /**
+     * Reserves room for an object of the given size whose content is written incrementally.
+     * The allocation must be either committed or released.
+     *
+     * @param contentLength the exact size of the object
+     * @return the reserved allocation
+     * @throws FileStorageException if the store has no room for the content
+     */
+    public Allocation allocate(long contentLength) {
+        if (contentLength < 0 || contentLength > MAX_OBJECT_SIZE) {
+            throw new IllegalArgumentException("Content length must be within [0, 2 GiB) but was " + contentLength);
+        }
+        long used;
+        do {
+            used = size.get();
+            if (used + contentLength > maxSize) {
+                throw new FileStorageException("Memory store is full: %d of %d bytes used, %d more requested"
+                        .formatted(used, maxSize, contentLength));
+            }
+        } while (!size.compareAndSet(used, used + contentLength));
+        try {
+            return new Allocation(ByteBuffer.allocateDirect((int) contentLength));
+        } catch (OutOfMemoryError e) {
+            size.addAndGet(-contentLength);
+            throw new FileStorageException("Cannot allocate %d bytes of direct memory :::: %s".formatted(contentLength, e), e);
+        }
+    }
+
+    /**
+     * @return the object stored under the key, or {@code null} if there is none
+     */
+    public StoredObject get(String key) {
+        validateKey(key);
+        Stripe stripe = stripe(key);
+        stripe.lock.readLock().lock();
+        try {
+            StoredObject object = stripe.objects.get(key);
+            return object != null ? object.view() : null;
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code true} if an object was stored under the key
+     */
+    public boolean delete(String key) {
+        validateKey(key);
+        Stripe stripe = stripe(key);
+        StoredObject removed;
+        stripe.lock.writeLock().lock();
+        try {
+            removed = stripe.objects.remove(key);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+        if (removed == null) {
+            return false;
+        }
+        size.addAndGet(-removed.size());
+        return true;
+    }
+
+    /**
+     * @return the total size of stored objects in bytes
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * @return the number of stored objects
+     */
+    public int count() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                count += stripe.objects.size();
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the remaining content of a buffer to a channel.
+     *
+     * @return the number of bytes written
+     */
+    static long transfer(ByteBuffer content, WritableByteChannel channel) throws IOException {
+        long written = 0;
+        while (content.hasRemaining()) {
+            written += channel.write(content);
+        }
+        return written;
+    }
+
+    static void validateKey(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+    }
+
+    private Stripe stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * A stored object: a read-only view of its content, positioned at the start, and its metadata.
+     * Every lookup returns a new view, so the caller may consume it freely.
+     *
+     * @param content      the content
+     * @param etag         the entity tag, unique to this version of the object
+     * @param lastModified the time the object was committed
+     * @param contentType  the content type, or {@code null} if none was recorded
+     * @param userMetadata the user metadata
+     */
+    public record StoredObject(ByteBuffer content, String etag, Instant lastModified, String contentType,
+                               Map<String, String> userMetadata) {
+
+        public int size() {
+            return content.capacity();
+        }
+
+        /**
+         * @return the metadata of the object stored under the key
+         */
+        public ObjectMetadata metadata(String key) {
+            return ObjectMetadata.builder(key, size())
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .contentType(contentType)
+                    .userMetadata(userMetadata)
+                    .build();
+        }
+
+        private StoredObject view() {
+            return new StoredObject(content.duplicate().clear(), etag, lastModified, contentType, userMetadata);
+        }
+    }
+
+    /**
+     * Room reserved in the store for an object that is being written.
+     */
+    public final class Allocation {
+        private final ByteBuffer buffer;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Allocation(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Appends the remaining content of the source.
+         *
+         * @throws IllegalStateException if the content exceeds the reserved size
+         */
+        public void write(ByteBuffer source) {
+            if (source.remaining() > buffer.remaining()) {
+                throw new IllegalStateException("Content exceeds the declared length of %d bytes".formatted(buffer.capacity()));
+            }
+            buffer.put(source);
+        }
+
+        /**
+         * Publishes the content under the key with the given metadata, replacing any previous object.
+         *
+         * @throws IllegalStateException if less content was written than reserved
+         */
+        public void commit(String key, String contentType, Map<String, String> userMetadata) {
+            validateKey(key);
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("Content ended after %d of %d bytes".formatted(buffer.position(), buffer.capacity()));
+            }
+            if (!settled.compareAndSet(false, true)) {
+                throw new IllegalStateException("Allocation is already committed or released");
+            }
+            StoredObject object = new StoredObject(buffer.flip().asReadOnlyBuffer(),
+                    "\"" + Long.toHexString(versions.incrementAndGet()) + "\"", Instant.now(), contentType,
+                    Map.copyOf(userMetadata));
+            Stripe stripe = stripe(key);
+            StoredObject previous;
+            stripe.lock.writeLock().lock();
+            try {
+                previous = stripe.objects.put(key, object);
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+            if (previous != null) {
+                size.addAndGet(-previous.size());
+            }
+        }
+
+        /**
+         * Gives the reserved room back unless the allocation was committed; safe to call more than once.
+         */
+        public void release() {
+            if (settled.compareAndSet(false, true)) {
+                size.addAndGet(-buffer.capacity());
+            }
+        }
+    }
+
+    /**
+     * One independently locked segment of the key index.
+     */
+    private static final class Stripe {
+        private final Map<String, StoredObject> objects = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+}
@@ -0,0 +1,33 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes a streaming download writes into the observation of the call.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:30
+ **/
+final class CountingOutputStream extends FilterOutputStream {
+
+    private final StorageObservation observation;
+
+    CountingOutputStream(OutputStream out, StorageObservation observation) {
+        super(out);
+        this.observation = observation;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        observation.transferred(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        observation.transferred(len);
+    }
+}
@@ -0,0 +1,219 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Decorator recording the metrics and span of every call to an {@link AsyncStorageProvider}, see
+ * {@link StorageInstrumentation}. A call is measured from the moment it is issued until its future
+ * completes; the span is current only while the delegate starts the call.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:30
+ **/
+final class InstrumentedAsyncStorageProvider implements AsyncStorageProvider {
+
+    private final AsyncStorageProvider delegate;
+    private final InstrumentedOperation upload;
+    private final InstrumentedOperation download;
+    private final InstrumentedOperation delete;
+    private final InstrumentedOperation stat;
+    private final InstrumentedOperation etag;
+    private final InstrumentedOperation checksum;
+    private final InstrumentedOperation deleteAll;
+    private final InstrumentedOperation uploadAll;
+    private final InstrumentedOperation downloadAll;
+
+    InstrumentedAsyncStorageProvider(AsyncStorageProvider delegate, StorageInstrumentation instrumentation) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        String name = delegate.getProviderName();
+        this.upload = instrumentation.operation(name, "upload");
+        this.download = instrumentation.operation(name, "download");
+        this.delete = instrumentation.operation(name, "delete");
+        this.stat = instrumentation.operation(name, "stat");
+        this.etag = instrumentation.operation(name, "etag");
+        this.checksum = instrumentation.operation(name, "checksum");
+        this.deleteAll = instrumentation.operation(name, "delete_all");
+        this.uploadAll = instrumentation.operation(name, "upload_all");
+        this.downloadAll = instrumentation.operation(name, "download_all");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        long length = data != null ? data.length : 0;
+        return observe(upload, key, context, () -> delegate.upload(key, data, context), ignored -> length);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return observe(upload, key, context, () -> delegate.upload(key, data, contentLength, context),
+                ignored -> contentLength);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, ReadableByteChannel channel, long contentLength,
+                                          ExecutionContext context) {
+        return observe(upload, key, context, () -> delegate.upload(key, channel, contentLength, context),
+                ignored -> contentLength);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return observe(delete, key, context, () -> delegate.delete(key, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return observe(download, key, context, () -> delegate.download(key, context), data -> data.length);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        StorageObservation observation = download.start(key, context);
+        OutputStream counted = out != null ? new CountingOutputStream(out, observation) : null;
+        return complete(observation, () -> delegate.download(key, counted, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return observe(download, key, context, () -> delegate.download(key, offset, length, context),
+                data -> data.length);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return observe(download, key, context, () -> delegate.download(key, target, context), ignored -> size(target));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return observe(stat, key, context, () -> delegate.stat(key, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return observe(etag, key, context, () -> delegate.getETag(key, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Checksum>> getChecksum(String key, ExecutionContext context) {
+        return observe(checksum, key, context, () -> delegate.getChecksum(key, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return observeBatch(deleteAll, context, () -> delegate.deleteAll(keys, context), ignored -> 0);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return observeBatch(uploadAll, context, () -> delegate.uploadAll(objects, context), result -> {
+            long total = 0;
+            for (String key : result.getSucceededKeys()) {
+                byte[] data = objects.get(key);
+                total += data != null ? data.length : 0;
+            }
+            return total;
+        });
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return observeBatch(downloadAll, context, () -> delegate.downloadAll(keys, context), result -> {
+            long total = 0;
+            for (byte[] data : result.getSucceeded().values()) {
+                total += data.length;
+            }
+            return total;
+        });
+    }
+
+    private static <T> CompletableFuture<T> observe(InstrumentedOperation operation, String key, ExecutionContext context,
+                                                    Supplier<CompletableFuture<T>> call, ToLongFunction<T> transferred) {
+        return complete(operation.start(key, context), call, transferred);
+    }
+
+    private static <T> CompletableFuture<BatchResult<T>> observeBatch(InstrumentedOperation operation,
+                                                                      ExecutionContext context,
+                                                                      Supplier<CompletableFuture<BatchResult<T>>> call,
+                                                                      ToLongFunction<BatchResult<T>> transferred) {
+        StorageObservation observation = operation.start(null, context);
+        return start(observation, call).whenComplete((result, t) -> {
+            if (t == null) {
+                observation.transferred(transferred.applyAsLong(result));
+                observation.succeeded(result);
+            } else {
+                observation.failed(t);
+            }
+        });
+    }
+
+    private static <T> CompletableFuture<T> complete(StorageObservation observation, Supplier<CompletableFuture<T>> call,
+                                                     ToLongFunction<T> transferred) {
+        return start(observation, call).whenComplete((result, t) -> {
+            if (t == null) {
+                observation.transferred(transferred.applyAsLong(result));
+                observation.succeeded();
+            } else {
+                observation.failed(t);
+            }
+        });
+    }
+
+    private static <T> CompletableFuture<T> start(StorageObservation observation, Supplier<CompletableFuture<T>> call) {
+        try (Scope ignored = observation.makeCurrent()) {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    private static long size(Path target) {
+        try {
+            return Files.size(target);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
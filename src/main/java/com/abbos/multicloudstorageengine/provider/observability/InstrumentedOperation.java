@@ -0,0 +1,136 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.context.Pair;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The meters and span settings of one operation of one provider, resolved when the provider is wrapped.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:15
+ **/
+final class InstrumentedOperation {
+
+    static final AttributeKey<String> PROVIDER = AttributeKey.stringKey("storage.provider");
+    static final AttributeKey<String> OPERATION = AttributeKey.stringKey("storage.operation");
+    static final AttributeKey<String> KEY = AttributeKey.stringKey("storage.key");
+    static final AttributeKey<String> TRACE_ID = AttributeKey.stringKey("storage.trace_id");
+    static final AttributeKey<Long> BYTES = AttributeKey.longKey("storage.bytes");
+    static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("storage.outcome");
+    static final AttributeKey<Long> FAILED_KEYS = AttributeKey.longKey("storage.failed_keys");
+
+    private final StorageInstrumentation instrumentation;
+    private final String providerName;
+    private final String operation;
+    private final String spanName;
+    private final Timer success;
+    private final Counter bytes;
+    private final AtomicInteger active;
+
+    InstrumentedOperation(StorageInstrumentation instrumentation, String providerName, String operation,
+                          Timer success, Counter bytes, AtomicInteger active) {
+        this.instrumentation = instrumentation;
+        this.providerName = providerName;
+        this.operation = operation;
+        this.spanName = "storage " + operation;
+        this.success = success;
+        this.bytes = bytes;
+        this.active = active;
+    }
+
+    /**
+     * Starts observing one call.
+     *
+     * @param key     the key of the call, or {@code null} for batches
+     * @param context the context of the call
+     * @return the running observation
+     */
+    StorageObservation start(String key, ExecutionContext context) {
+        if (active != null) {
+            active.incrementAndGet();
+        }
+        Tracer tracer = instrumentation.tracer();
+        Span span = tracer != null ? startSpan(tracer, key, context) : null;
+        return new StorageObservation(this, span, System.nanoTime());
+    }
+
+    void stop(Span span, long startNanos, long transferred, Throwable failure) {
+        long nanos = System.nanoTime() - startNanos;
+        String outcome = failure == null ? "success" : StorageInstrumentation.outcome(failure);
+        if (active != null) {
+            active.decrementAndGet();
+            if (failure == null) {
+                success.record(nanos, TimeUnit.NANOSECONDS);
+            } else {
+                instrumentation.timer(providerName, operation, outcome).record(nanos, TimeUnit.NANOSECONDS);
+                instrumentation.errors(providerName, operation, outcome, failure).increment();
+            }
+            if (transferred > 0) {
+                bytes.increment(transferred);
+            }
+        }
+        if (span != null) {
+            if (transferred > 0) {
+                span.setAttribute(BYTES, transferred);
+            }
+            span.setAttribute(OUTCOME, outcome);
+            if (failure != null) {
+                span.recordException(failure);
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end();
+        }
+    }
+
+    /**
+     * Counts the keys a batch failed, since the batch call itself succeeds when only some keys fail.
+     */
+    void partiallyFailed(Span span, Map<String, Throwable> failed) {
+        if (active != null) {
+            for (Throwable failure : failed.values()) {
+                instrumentation.errors(providerName, operation, StorageInstrumentation.outcome(failure), failure).increment();
+            }
+        }
+        if (span != null) {
+            span.setAttribute(FAILED_KEYS, (long) failed.size());
+        }
+    }
+
+    private Span startSpan(Tracer tracer, String key, ExecutionContext context) {
+        SpanBuilder builder = tracer.spanBuilder(spanName)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(PROVIDER, providerName)
+                .setAttribute(OPERATION, operation);
+        if (key != null && instrumentation.isKeyAttributeEnabled()) {
+            builder.setAttribute(KEY, key);
+        }
+        // only an attribute: the caller's id names no span, so parenting on it would invent one
+        String traceId = traceId(context);
+        if (traceId != null) {
+            builder.setAttribute(TRACE_ID, traceId);
+        }
+        return builder.startSpan();
+    }
+
+    private static String traceId(ExecutionContext context) {
+        for (Pair<MetadataKey, Object> pair : context.getMetadata()) {
+            if (pair.getLeft() == MetadataKey.TRACE_ID && pair.getRight() instanceof String traceId) {
+                return traceId;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,237 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.ReactiveStorageProvider;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Decorator recording the metrics and span of every call to a {@link ReactiveStorageProvider}, see
+ * {@link StorageInstrumentation}. A call is measured per subscription, from subscribe until completion,
+ * error or cancellation; the span is current while the delegate's publisher is subscribed to.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:35
+ **/
+final class InstrumentedReactiveStorageProvider implements ReactiveStorageProvider {
+
+    private final ReactiveStorageProvider delegate;
+    private final InstrumentedOperation upload;
+    private final InstrumentedOperation download;
+    private final InstrumentedOperation delete;
+    private final InstrumentedOperation stat;
+    private final InstrumentedOperation deleteAll;
+    private final InstrumentedOperation uploadAll;
+    private final InstrumentedOperation downloadAll;
+
+    InstrumentedReactiveStorageProvider(ReactiveStorageProvider delegate, StorageInstrumentation instrumentation) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        String name = delegate.getProviderName();
+        this.upload = instrumentation.operation(name, "upload");
+        this.download = instrumentation.operation(name, "download");
+        this.delete = instrumentation.operation(name, "delete");
+        this.stat = instrumentation.operation(name, "stat");
+        this.deleteAll = instrumentation.operation(name, "delete_all");
+        this.uploadAll = instrumentation.operation(name, "upload_all");
+        this.downloadAll = instrumentation.operation(name, "download_all");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        long length = data != null ? data.length : 0;
+        return observe(upload, key, context, delegate.upload(key, data, context), ignored -> length);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return observe(upload, key, context, delegate.upload(key, data, contentLength, context), ignored -> contentLength);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return observe(upload, key, context, delegate.upload(key, channel, contentLength, context),
+                ignored -> contentLength);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        return observe(upload, key, context, delegate.upload(key, data, contentLength, context), ignored -> contentLength);
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        return observe(delete, key, context, delegate.delete(key, context), ignored -> 0);
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        return observe(download, key, context, delegate.download(key, context), data -> data.length);
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        return Mono.defer(() -> {
+            // the counting stream belongs to one subscription, so the call is issued per subscription
+            StorageObservation observation = download.start(key, context);
+            Mono<Void> call;
+            try {
+                call = delegate.download(key, out != null ? new CountingOutputStream(out, observation) : null, context);
+            } catch (RuntimeException | Error e) {
+                observation.failed(e);
+                throw e;
+            }
+            return observe(observation, call, ignored -> 0);
+        });
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return observe(download, key, context, delegate.download(key, offset, length, context), data -> data.length);
+    }
+
+    @Override
+    public Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return observe(download, key, context, delegate.download(key, target, context), ignored -> size(target));
+    }
+
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        Flux<ByteBuffer> stream = delegate.downloadStream(key, context);
+        return Flux.defer(() -> {
+            StorageObservation observation = download.start(key, context);
+            Flux<ByteBuffer> observed = stream
+                    .doOnNext(buffer -> observation.transferred(buffer.remaining()))
+                    .doOnComplete(observation::succeeded)
+                    .doOnError(observation::failed)
+                    .doOnCancel(() -> observation.failed(new CancellationException("Download stream cancelled")));
+            return Flux.from(subscriber -> {
+                try (Scope ignored = observation.makeCurrent()) {
+                    observed.subscribe(subscriber);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return observe(stat, key, context, delegate.stat(key, context), ignored -> 0);
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return observeBatch(deleteAll, context, delegate.deleteAll(keys, context), ignored -> 0);
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return observeBatch(uploadAll, context, delegate.uploadAll(objects, context), result -> {
+            long total = 0;
+            for (String key : result.getSucceededKeys()) {
+                byte[] data = objects.get(key);
+                total += data != null ? data.length : 0;
+            }
+            return total;
+        });
+    }
+
+    @Override
+    public Mono<BatchResult<byte[]>> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return observeBatch(downloadAll, context, delegate.downloadAll(keys, context), result -> {
+            long total = 0;
+            for (byte[] data : result.getSucceeded().values()) {
+                total += data.length;
+            }
+            return total;
+        });
+    }
+
+    private static <T> Mono<T> observe(InstrumentedOperation operation, String key, ExecutionContext context,
+                                       Mono<T> call, ToLongFunction<T> transferred) {
+        return Mono.defer(() -> observe(operation.start(key, context), call, transferred));
+    }
+
+    private static <T> Mono<BatchResult<T>> observeBatch(InstrumentedOperation operation, ExecutionContext context,
+                                                         Mono<BatchResult<T>> call,
+                                                         ToLongFunction<BatchResult<T>> transferred) {
+        return Mono.defer(() -> {
+            StorageObservation observation = operation.start(null, context);
+            return subscribe(observation, call, result -> {
+                observation.transferred(transferred.applyAsLong(result));
+                observation.succeeded(result);
+            });
+        });
+    }
+
+    private static <T> Mono<T> observe(StorageObservation observation, Mono<T> call, ToLongFunction<T> transferred) {
+        return subscribe(observation, call, result -> {
+            if (result != null) {
+                observation.transferred(transferred.applyAsLong(result));
+            }
+            observation.succeeded();
+        });
+    }
+
+    /**
+     * Subscribes to {@code call} with the span current, so that a delegate starting its request on
+     * subscription starts it inside the span.
+     */
+    private static <T> Mono<T> subscribe(StorageObservation observation, Mono<T> call,
+                                         Consumer<T> succeeded) {
+        Mono<T> observed = call
+                .doOnSuccess(succeeded)
+                .doOnError(observation::failed)
+                .doOnCancel(() -> observation.failed(new CancellationException("Operation cancelled")));
+        return Mono.from(subscriber -> {
+            try (Scope ignored = observation.makeCurrent()) {
+                observed.subscribe(subscriber);
+            }
+        });
+    }
+
+    private static long size(Path target) {
+        try {
+            return Files.size(target);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decorator recording the metrics and span of every call to a {@link StorageProvider}, see
+ * {@link StorageInstrumentation}. The span is current while the delegate runs, so spans of the
+ * underlying cloud client become its children.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:25
+ **/
+final class InstrumentedStorageProvider implements StorageProvider {
+
+    private final StorageProvider delegate;
+    private final InstrumentedOperation upload;
+    private final InstrumentedOperation download;
+    private final InstrumentedOperation delete;
+    private final InstrumentedOperation stat;
+    private final InstrumentedOperation etag;
+    private final InstrumentedOperation checksum;
+    private final InstrumentedOperation deleteAll;
+    private final InstrumentedOperation uploadAll;
+    private final InstrumentedOperation downloadAll;
+
+    InstrumentedStorageProvider(StorageProvider delegate, StorageInstrumentation instrumentation) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider cannot be null");
+        String name = delegate.getProviderName();
+        this.upload = instrumentation.operation(name, "upload");
+        this.download = instrumentation.operation(name, "download");
+        this.delete = instrumentation.operation(name, "delete");
+        this.stat = instrumentation.operation(name, "stat");
+        this.etag = instrumentation.operation(name, "etag");
+        this.checksum = instrumentation.operation(name, "checksum");
+        this.deleteAll = instrumentation.operation(name, "delete_all");
+        this.uploadAll = instrumentation.operation(name, "upload_all");
+        this.downloadAll = instrumentation.operation(name, "download_all");
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return delegate.isLogEnabled();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return delegate.getLogger();
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        observe(upload, key, context, data != null ? data.length : 0, () -> {
+            delegate.upload(key, data, context);
+            return null;
+        });
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        observe(upload, key, context, contentLength, () -> {
+            delegate.upload(key, data, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        observe(upload, key, context, contentLength, () -> {
+            delegate.upload(key, channel, contentLength, context);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        observe(delete, key, context, 0, () -> {
+            delegate.delete(key, context);
+            return null;
+        });
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        StorageObservation observation = download.start(key, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            byte[] data = delegate.download(key, context);
+            observation.transferred(data.length);
+            observation.succeeded();
+            return data;
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        StorageObservation observation = download.start(key, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            delegate.download(key, out != null ? new CountingOutputStream(out, observation) : null, context);
+            observation.succeeded();
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        StorageObservation observation = download.start(key, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            byte[] data = delegate.download(key, offset, length, context);
+            observation.transferred(data.length);
+            observation.succeeded();
+            return data;
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        StorageObservation observation = download.start(key, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            delegate.download(key, target, context);
+            observation.transferred(size(target));
+            observation.succeeded();
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return observe(stat, key, context, 0, () -> delegate.stat(key, context));
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return observe(etag, key, context, 0, () -> delegate.getETag(key, context));
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return observe(checksum, key, context, 0, () -> delegate.getChecksum(key, context));
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return observeBatch(deleteAll, context, 0, () -> delegate.deleteAll(keys, context));
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        long total = 0;
+        for (byte[] data : objects.values()) {
+            total += data != null ? data.length : 0;
+        }
+        return observeBatch(uploadAll, context, total, () -> delegate.uploadAll(objects, context));
+    }
+
+    @Override
+    public BatchResult<byte[]> downloadAll(Collection<String> keys, ExecutionContext context) {
+        StorageObservation observation = downloadAll.start(null, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            BatchResult<byte[]> result = delegate.downloadAll(keys, context);
+            for (byte[] data : result.getSucceeded().values()) {
+                observation.transferred(data.length);
+            }
+            observation.succeeded(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    private static <T> T observe(InstrumentedOperation operation, String key, ExecutionContext context,
+                                 long transferred, Supplier<T> call) {
+        StorageObservation observation = operation.start(key, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            T result = call.get();
+            observation.transferred(transferred);
+            observation.succeeded();
+            return result;
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    private static <T> BatchResult<T> observeBatch(InstrumentedOperation operation, ExecutionContext context,
+                                                   long transferred, Supplier<BatchResult<T>> call) {
+        StorageObservation observation = operation.start(null, context);
+        try (Scope ignored = observation.makeCurrent()) {
+            BatchResult<T> result = call.get();
+            observation.transferred(transferred);
+            observation.succeeded(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            observation.failed(e);
+            throw e;
+        }
+    }
+
+    private static long size(Path target) {
+        try {
+            return Files.size(target);
+        } catch (IOException e) {
+            // the download itself succeeded, only its size is not recorded
+            return 0;
+        }
+    }
+}
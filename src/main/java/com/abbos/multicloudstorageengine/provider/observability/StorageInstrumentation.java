@@ -0,0 +1,334 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.config.ObservabilityConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext.Priority;
+import com.abbos.multicloudstorageengine.exception.ProviderUnavailableException;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import com.abbos.multicloudstorageengine.provider.ReactiveStorageProvider;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.cache.MetadataCache;
+import com.abbos.multicloudstorageengine.provider.cache.ObjectCache;
+import com.abbos.multicloudstorageengine.scheduler.PriorityScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entry point of provider metrics and tracing.
+ * <p>
+ * Providers are instrumented by wrapping them with {@link #instrument(StorageProvider)} and its async
+ * and reactive overloads; every operation of the wrapped provider then records:
+ * <ul>
+ *     <li>{@code storage.operation}: a timer tagged by {@code provider}, {@code operation} and {@code outcome},
+ *     with a percentile histogram and the configured client-side percentiles.</li>
+ *     <li>{@code storage.operation.bytes}: the bytes uploaded or downloaded, tagged by {@code provider} and {@code operation}.</li>
+ *     <li>{@code storage.operation.active}: a gauge of the operations in flight.</li>
+ *     <li>{@code storage.operation.errors}: failed operations, additionally tagged by {@code exception}.</li>
+ *     <li>a client span named {@code storage <operation>}, a child of the caller's active span, carrying the
+ *     {@link com.abbos.multicloudstorageengine.enums.MetadataKey#TRACE_ID} of the call as {@code storage.trace_id}.</li>
+ * </ul>
+ * Retries happen inside the provider, so they are counted by the providers themselves through
+ * {@link #retryExecutor(String)} as {@code storage.retries}, tagged by {@code provider} and {@code exception}.
+ * </p>
+ * <p>
+ * A {@link PriorityScheduler} passed to {@link #monitor(PriorityScheduler)} publishes its slots in use as
+ * {@code storage.scheduler.running} and, tagged by {@code priority}, its queue as {@code storage.scheduler.queue.depth},
+ * {@code storage.scheduler.dispatched}, {@code storage.scheduler.rejected}, {@code storage.scheduler.queue.wait}
+ * and {@code storage.scheduler.queue.wait.max}. An {@link ObjectCache} passed to {@link #monitor(ObjectCache)}
+ * publishes its counters as {@code storage.cache.hits}, {@code storage.cache.misses}, {@code storage.cache.revalidations},
+ * {@code storage.cache.evictions} and {@code storage.cache.bytes.saved}, tagged {@code cache=object}, and its tiers as
+ * {@code storage.cache.size}, tagged by {@code tier}; a {@link MetadataCache} passed to {@link #monitor(MetadataCache)}
+ * publishes its hits and misses under the same names, tagged {@code cache=metadata}. These meters read the
+ * scheduler and the caches when the registry is scraped.
+ * </p>
+ * <p>
+ * A disabled instance returns providers unwrapped and the shared default {@link RetryExecutor}, so
+ * instrumentation costs nothing unless it is configured. Meters are resolved once per provider and
+ * operation when a provider is wrapped, never on the call path.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:05
+ **/
+public final class StorageInstrumentation {
+
+    private static final StorageInstrumentation DISABLED = new StorageInstrumentation(null, null, false, new double[0], false);
+
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final boolean percentileHistogram;
+    private final double[] percentiles;
+    private final boolean keyAttributeEnabled;
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+
+    /**
+     * @param config   the observability configuration
+     * @param registry the registry receiving metrics, or {@code null} to record none
+     * @param tracer   the tracer creating spans, or {@code null} to create none
+     */
+    public StorageInstrumentation(ObservabilityConfig config, MeterRegistry registry, Tracer tracer) {
+        this(config.isMetricsEnabled() ? registry : null, config.isTracingEnabled() ? tracer : null,
+                config.isPercentileHistogram(), toArray(config.getPercentiles()), config.isKeyAttributeEnabled());
+    }
+
+    private StorageInstrumentation(MeterRegistry registry, Tracer tracer, boolean percentileHistogram,
+                                   double[] percentiles, boolean keyAttributeEnabled) {
+        this.registry = registry;
+        this.tracer = tracer;
+        this.percentileHistogram = percentileHistogram;
+        this.percentiles = percentiles;
+        this.keyAttributeEnabled = keyAttributeEnabled;
+    }
+
+    /**
+     * @return an instance that instruments nothing
+     */
+    public static StorageInstrumentation disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return {@code true} if metrics or spans are recorded
+     */
+    public boolean isEnabled() {
+        return registry != null || tracer != null;
+    }
+
+    /**
+     * @param provider the provider to instrument
+     * @return the instrumented provider, or {@code provider} itself if instrumentation is disabled
+     */
+    public StorageProvider instrument(StorageProvider provider) {
+        return isEnabled() ? new InstrumentedStorageProvider(provider, this) : provider;
+    }
+
+    /**
+     * @param provider the provider to instrument
+     * @return the instrumented provider, or {@code provider} itself if instrumentation is disabled
+     */
+    public AsyncStorageProvider instrument(AsyncStorageProvider provider) {
+        return isEnabled() ? new InstrumentedAsyncStorageProvider(provider, this) : provider;
+    }
+
+    /**
+     * @param provider the provider to instrument
+     * @return the instrumented provider, or {@code provider} itself if instrumentation is disabled
+     */
+    public ReactiveStorageProvider instrument(ReactiveStorageProvider provider) {
+        return isEnabled() ? new InstrumentedReactiveStorageProvider(provider, this) : provider;
+    }
+
+    /**
+     * Creates the retry engine of a provider, counting its retries when metrics are enabled.
+     *
+     * @param providerName the provider, used as the {@code provider} tag
+     * @return the default {@link RetryExecutor}, with a retry listener if metrics are enabled
+     */
+    public RetryExecutor retryExecutor(String providerName) {
+        if (registry == null) {
+            return RetryExecutor.ofDefault();
+        }
+        MeterRegistry meters = registry;
+        return RetryExecutor.ofDefault().withRetryListener(failure -> Counter.builder("storage.retries")
+                .description("Retries of storage provider requests")
+                .tag("provider", providerName)
+                .tag("exception", RetryExecutor.unwrap(failure).getClass().getSimpleName())
+                .register(meters)
+                .increment());
+    }
+
+    /**
+     * Publishes the slots and queues of a scheduler; does nothing unless metrics are enabled.
+     *
+     * @param scheduler the scheduler to monitor
+     */
+    public void monitor(PriorityScheduler scheduler) {
+        if (registry == null) {
+            return;
+        }
+        Gauge.builder("storage.scheduler.running", scheduler, PriorityScheduler::running)
+                .description("Storage operations holding a scheduler slot")
+                .register(registry);
+        Gauge.builder("storage.scheduler.max.concurrency", scheduler, PriorityScheduler::getMaxConcurrency)
+                .description("Scheduler slots")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            Tags tags = Tags.of("priority", priority.name());
+            Gauge.builder("storage.scheduler.queue.depth", scheduler, queue -> queue.stats().get(priority).depth())
+                    .description("Storage operations waiting for a scheduler slot")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("storage.scheduler.dispatched", scheduler, queue -> queue.stats().get(priority).dispatched())
+                    .description("Storage operations given a scheduler slot")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("storage.scheduler.rejected", scheduler, queue -> queue.stats().get(priority).rejected())
+                    .description("Storage operations rejected by a full scheduler queue")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("storage.scheduler.queue.wait", scheduler,
+                            queue -> queue.stats().get(priority).totalWait().toNanos() / 1e9)
+                    .description("Time storage operations spent waiting for a scheduler slot")
+                    .baseUnit("seconds")
+                    .tags(tags)
+                    .register(registry);
+            TimeGauge.builder("storage.scheduler.queue.wait.max", scheduler, TimeUnit.NANOSECONDS,
+                            queue -> queue.stats().get(priority).maxWait().toNanos())
+                    .description("Longest time a storage operation waited for a scheduler slot")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Publishes the counters and tier sizes of an object cache; does nothing unless metrics are enabled.
+     *
+     * @param cache the cache to monitor
+     */
+    public void monitor(ObjectCache cache) {
+        if (registry == null) {
+            return;
+        }
+        Tags tags = Tags.of("cache", "object");
+        FunctionCounter.builder("storage.cache.hits", cache, objects -> objects.stats().getHitCount())
+                .description("Reads served from the cache")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("storage.cache.misses", cache, objects -> objects.stats().getMissCount())
+                .description("Reads passed to the provider")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("storage.cache.revalidations", cache, objects -> objects.stats().getRevalidationCount())
+                .description("Expired entries confirmed unchanged by their entity tag")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("storage.cache.evictions", cache, objects -> objects.stats().getEvictionCount())
+                .description("Entries evicted from the memory tier")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("storage.cache.bytes.saved", cache, objects -> objects.stats().getBytesSaved())
+                .description("Content bytes served from the cache instead of being downloaded")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("storage.cache.size", cache, objects -> objects.stats().getMemorySize())
+                .description("Bytes held by a cache tier")
+                .baseUnit("bytes")
+                .tags(tags.and("tier", "memory"))
+                .register(registry);
+        Gauge.builder("storage.cache.size", cache, objects -> objects.stats().getDiskSize())
+                .description("Bytes held by a cache tier")
+                .baseUnit("bytes")
+                .tags(tags.and("tier", "disk"))
+                .register(registry);
+    }
+
+    /**
+     * Publishes the hits and misses of a metadata cache; does nothing unless metrics are enabled.
+     *
+     * @param cache the cache to monitor
+     */
+    public void monitor(MetadataCache cache) {
+        if (registry == null) {
+            return;
+        }
+        Tags tags = Tags.of("cache", "metadata");
+        FunctionCounter.builder("storage.cache.hits", cache, MetadataCache::getHitCount)
+                .description("Reads served from the cache")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("storage.cache.misses", cache, MetadataCache::getMissCount)
+                .description("Reads passed to the provider")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Resolves the meters of one operation of a provider.
+     */
+    InstrumentedOperation operation(String providerName, String operation) {
+        if (registry == null) {
+            return new InstrumentedOperation(this, providerName, operation, null, null, null);
+        }
+        Counter bytes = Counter.builder("storage.operation.bytes")
+                .description("Bytes transferred by storage operations")
+                .baseUnit("bytes")
+                .tag("provider", providerName)
+                .tag("operation", operation)
+                .register(registry);
+        // shared by every wrapper of the same provider, since the registry keeps the first gauge registered
+        AtomicInteger inFlight = active.computeIfAbsent(providerName + '\0' + operation, ignored -> registry.gauge(
+                "storage.operation.active", Tags.of("provider", providerName, "operation", operation), new AtomicInteger()));
+        return new InstrumentedOperation(this, providerName, operation, timer(providerName, operation, "success"),
+                bytes, inFlight);
+    }
+
+    Timer timer(String providerName, String operation, String outcome) {
+        if (registry == null) {
+            return null;
+        }
+        return Timer.builder("storage.operation")
+                .description("Duration of storage operations")
+                .tag("provider", providerName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(percentileHistogram)
+                .publishPercentiles(percentiles)
+                .register(registry);
+    }
+
+    Counter errors(String providerName, String operation, String outcome, Throwable failure) {
+        return Counter.builder("storage.operation.errors")
+                .description("Failed storage operations")
+                .tag("provider", providerName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", failure.getClass().getSimpleName())
+                .register(registry);
+    }
+
+    Tracer tracer() {
+        return tracer;
+    }
+
+    boolean isKeyAttributeEnabled() {
+        return keyAttributeEnabled;
+    }
+
+    /**
+     * Classifies a failure for the {@code outcome} tag, looking through the exceptions providers wrap
+     * their failures in.
+     */
+    static String outcome(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProviderUnavailableException) {
+                return "unavailable";
+            }
+            if (cause instanceof TimeoutException) {
+                return "timeout";
+            }
+            if (cause instanceof CancellationException) {
+                return "cancelled";
+            }
+        }
+        return "error";
+    }
+
+    private static double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
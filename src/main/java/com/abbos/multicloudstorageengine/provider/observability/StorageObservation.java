@@ -0,0 +1,73 @@
+package com.abbos.multicloudstorageengine.provider.observability;
+
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One observed provider call. It is stopped exactly once, by whichever of completion, failure or
+ * cancellation comes first; later signals are ignored.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  02:20
+ **/
+final class StorageObservation {
+
+    private final InstrumentedOperation operation;
+    private final Span span;
+    private final long startNanos;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private volatile long transferred;
+
+    StorageObservation(InstrumentedOperation operation, Span span, long startNanos) {
+        this.operation = operation;
+        this.span = span;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Makes the span of the call current, so that spans created by the provider's client nest under it.
+     *
+     * @return the scope to close once the call has been started
+     */
+    Scope makeCurrent() {
+        return span != null ? span.makeCurrent() : Scope.noop();
+    }
+
+    /**
+     * Adds to the bytes transferred by the call.
+     *
+     * @param count the number of bytes
+     */
+    void transferred(long count) {
+        transferred += count;
+    }
+
+    /**
+     * Completes a batch call, counting the keys it failed.
+     *
+     * @param result the outcome of the batch
+     */
+    void succeeded(BatchResult<?> result) {
+        if (!result.isSuccessful() && !stopped.get()) {
+            operation.partiallyFailed(span, result.getFailed());
+        }
+        succeeded();
+    }
+
+    void succeeded() {
+        stop(null);
+    }
+
+    void failed(Throwable failure) {
+        stop(failure);
+    }
+
+    private void stop(Throwable failure) {
+        if (stopped.compareAndSet(false, true)) {
+            operation.stop(span, startNanos, transferred, failure);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.abbos.multicloudstorageengine.provider.replication;
+
+import com.abbos.multicloudstorageengine.config.ReplicationConfig;
+import com.abbos.multicloudstorageengine.config.ReplicationConfig.Mode;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.exception.InvalidConfigurationException;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AbstractStorageProvider;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.replication.ReplicationTask.Operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Storage provider that replicates every write from a primary provider to one or more secondaries.
+ * <p>
+ * A write is journaled durably, applied to the primary and then fanned out to the secondaries in
+ * parallel. In {@link Mode#SYNC} and {@link Mode#QUORUM} the call returns once all, or
+ * {@code write-quorum}, secondaries have the change; in {@link Mode#ASYNC} it returns as soon as the
+ * primary does and the secondaries are updated in the background. A failed primary write fails the
+ * call without touching the secondaries. A secondary that misses its acknowledgement fails a
+ * synchronous call, but the change is already on the primary and stays journaled until it has been
+ * applied, so every mode converges; {@link #getReplicationStatus()} reports how far each secondary
+ * lags behind.
+ * </p>
+ * <p>
+ * Byte-array uploads are replicated from the uploaded bytes. Stream and channel uploads are consumed
+ * by the primary, so their secondaries copy the object back from the primary instead. Reads are served
+ * by the primary; with {@code read-failover} a failed byte-array or file download is retried on the
+ * secondaries that have no change pending for the key. Entity tags always come from the primary.
+ * </p>
+ * <p>
+ * Divergence caused outside this provider is repaired by periodic verification of recently written
+ * keys, see {@link #repair(Collection)}. Verification relies on {@link StorageProvider#getETag}, so
+ * repair should be disabled for providers that do not expose entity tags.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:00
+ **/
+public final class ReplicatingStorageProvider extends AbstractStorageProvider implements Closeable {
+
+    private static final String PROVIDER_NAME = "Replicated Storage :: (%s)";
+    private final StorageProvider primary;
+    private final Map<String, StorageProvider> secondaries;
+    private final Mode mode;
+    private final int writeQuorum;
+    private final boolean readFailover;
+    private final Replicator replicator;
+
+    /**
+     * @param primary     the provider receiving writes first and serving reads
+     * @param secondaries the providers receiving copies, keyed by the name used in status reports
+     * @param config      the replication configuration
+     * @param executor    the executor running replication and verification
+     */
+    public ReplicatingStorageProvider(StorageProvider primary, Map<String, StorageProvider> secondaries,
+                                      ReplicationConfig config, Executor executor) {
+        super(PROVIDER_NAME.formatted(primary.getProviderName()), config.isLogEnabled());
+        if (secondaries.isEmpty()) {
+            throw new InvalidConfigurationException("Replication requires at least one secondary provider.");
+        }
+        if (config.getMode() == Mode.QUORUM && config.getWriteQuorum() > secondaries.size()) {
+            throw new InvalidConfigurationException("Replication write quorum " + config.getWriteQuorum()
+                    + " exceeds the " + secondaries.size() + " secondary providers.");
+        }
+        this.primary = primary;
+        this.secondaries = new LinkedHashMap<>(secondaries);
+        this.mode = config.getMode();
+        this.writeQuorum = config.getWriteQuorum();
+        this.readFailover = config.isReadFailover();
+        this.replicator = new Replicator(this, primary, this.secondaries, config, executor);
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        write(Operation.PUT, key, data, context, () -> primary.upload(key, data, context));
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        write(Operation.PUT, key, null, context, () -> primary.upload(key, data, contentLength, context));
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        write(Operation.PUT, key, null, context, () -> primary.upload(key, channel, contentLength, context));
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        write(Operation.DELETE, key, null, context, () -> primary.delete(key, context));
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return read(key, provider -> provider.download(key, context));
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        primary.download(key, out, context);
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        return read(key, provider -> provider.download(key, offset, length, context));
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        read(key, provider -> {
+            provider.download(key, target, context);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return primary.stat(key, context);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return primary.getETag(key, context);
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return primary.getChecksum(key, context);
+    }
+
+    /**
+     * @return the replication state of every secondary, in configuration order
+     */
+    public List<ReplicationStatus> getReplicationStatus() {
+        return replicator.status();
+    }
+
+    /**
+     * @return the largest lag over all secondaries
+     */
+    public Duration getReplicationLag() {
+        return replicator.status().stream()
+                .map(ReplicationStatus::getLag)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Schedules the given keys for verification ahead of the periodic sweep, for example after a
+     * secondary was restored from backup. Divergent replicas are repaired from the primary.
+     *
+     * @param keys the keys to verify
+     */
+    public void repair(Collection<String> keys) {
+        replicator.repair(keys);
+    }
+
+    /**
+     * Stops background replication. Pending changes stay journaled and resume on the next start.
+     */
+    @Override
+    public void close() throws IOException {
+        replicator.close();
+    }
+
+    private void write(Operation operation, String key, byte[] data, ExecutionContext context, Runnable primaryWrite) {
+        List<ReplicationTask> tasks = replicator.prepare(operation, key,
+                getMetadataValue(context, MetadataKey.CONTENT_TYPE, String.class).orElse(null));
+        try {
+            primaryWrite.run();
+        } catch (RuntimeException e) {
+            replicator.cancel(tasks);
+            throw e;
+        }
+        // secondaries may still be writing when this returns: in the background, beyond the quorum, or after
+        // a timeout; the caller is free to reuse its array by then
+        byte[] content = data != null ? data.clone() : null;
+        if (mode == Mode.ASYNC) {
+            replicator.dispatch(tasks, content);
+            return;
+        }
+        int required = mode == Mode.SYNC ? tasks.size() : writeQuorum;
+        await(key, replicator.replicate(tasks, content, context), required, context);
+        if (isDebugEnabled()) {
+            logDebug("Replicated {} of key '{}' to {} of {} secondaries", operation, key, required, tasks.size());
+        }
+    }
+
+    private void await(String key, List<CompletableFuture<Void>> acks, int required, ExecutionContext context) {
+        CompletableFuture<Void> quorum = new CompletableFuture<>();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        for (CompletableFuture<Void> ack : acks) {
+            ack.whenComplete((ignored, t) -> {
+                if (t == null) {
+                    if (succeeded.incrementAndGet() == required) {
+                        quorum.complete(null);
+                    }
+                } else if (failed.incrementAndGet() == acks.size() - required + 1) {
+                    quorum.completeExceptionally(t);
+                }
+            });
+        }
+        try {
+            quorum.get(context.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            logError("Failed to replicate key '{}' to {} secondaries", cause, key, required);
+            throw new FileStorageException("Failed to replicate key: %s :::: %s".formatted(key, cause), cause);
+        } catch (TimeoutException e) {
+            logError("Timed out replicating key '{}' to {} secondaries", e, key, required);
+            throw new FileStorageException("Failed to replicate key: %s :::: %s".formatted(key, e), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Interrupted while replicating key: %s".formatted(key), e);
+        }
+    }
+
+    private <T> T read(String key, Function<StorageProvider, T> read) {
+        try {
+            return read.apply(primary);
+        } catch (RuntimeException e) {
+            if (!readFailover) {
+                throw e;
+            }
+            for (Map.Entry<String, StorageProvider> secondary : secondaries.entrySet()) {
+                if (!replicator.isCurrent(key, secondary.getKey())) {
+                    continue;
+                }
+                try {
+                    T result = read.apply(secondary.getValue());
+                    logWarn("Served key '{}' from secondary '{}' after the primary failed: {}", key, secondary.getKey(), e.toString());
+                    return result;
+                } catch (RuntimeException failover) {
+                    e.addSuppressed(failover);
+                }
+            }
+            throw e;
+        }
+    }
+}
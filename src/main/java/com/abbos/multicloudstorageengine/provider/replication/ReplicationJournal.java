@@ -0,0 +1,313 @@
+package com.abbos.multicloudstorageengine.provider.replication;
+
+import com.abbos.multicloudstorageengine.provider.replication.ReplicationTask.Operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable queue of replication tasks, kept as an append-only log on local disk.
+ * <p>
+ * Each record is length-prefixed and checksummed. Enqueued tasks are forced to disk before
+ * {@link #append} returns, so a change acknowledged to the caller is replicated even if the process
+ * dies right after; completions are written without forcing, since losing one only repeats an
+ * idempotent copy after a restart. On open the log is replayed and a torn tail left by a crash is cut
+ * off. Once enough completions accumulate the log is rewritten to hold just the pending tasks.
+ * </p>
+ * <p>
+ * The newest task of every key and target is remembered for as long as any task of that key and target
+ * is pending, so an older task stays superseded even after the newer one has completed.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  22:20
+ **/
+final class ReplicationJournal implements Closeable {
+
+    private static final String FILE_NAME = "replication.journal";
+    private static final byte ENQUEUED = 1;
+    private static final byte COMPLETED = 2;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int COMPACTION_THRESHOLD = 10_000;
+    private static final Operation[] OPERATIONS = Operation.values();
+    private final Path file;
+    private final ConcurrentSkipListMap<Long, ReplicationTask> pending = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Slot> latest = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private long nextSequence = 1;
+    private int completedSinceCompaction;
+
+    ReplicationJournal(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            channel.truncate(replay());
+            channel.position(channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open replication journal " + file, e);
+        }
+    }
+
+    /**
+     * Durably enqueues one task per target.
+     *
+     * @return the enqueued tasks, in target order
+     */
+    List<ReplicationTask> append(Operation operation, String key, String contentType, Collection<String> targets) {
+        long now = System.currentTimeMillis();
+        List<ReplicationTask> tasks = new ArrayList<>(targets.size());
+        lock.lock();
+        try {
+            if (!channel.isOpen()) {
+                throw new IllegalStateException("Replication journal " + file + " is closed");
+            }
+            List<ByteBuffer> records = new ArrayList<>(targets.size());
+            for (String target : targets) {
+                ReplicationTask task = new ReplicationTask(nextSequence++, operation, target, key, contentType, now);
+                records.add(encode(task));
+                tasks.add(task);
+            }
+            write(records);
+            channel.force(false);
+            tasks.forEach(this::track);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write replication journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+        return tasks;
+    }
+
+    /**
+     * Marks a task done; completing an unknown or already completed task has no effect, and neither has
+     * completing one after the journal was closed, which leaves it to be replayed on the next start.
+     */
+    void complete(ReplicationTask task) {
+        lock.lock();
+        try {
+            if (!channel.isOpen() || pending.remove(task.sequence()) == null) {
+                return;
+            }
+            untrack(task);
+            write(List.of(record(COMPLETED, Long.BYTES).putLong(task.sequence())));
+            if (++completedSinceCompaction >= COMPACTION_THRESHOLD) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write replication journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a live view of the pending tasks in journal order
+     */
+    Collection<ReplicationTask> pending() {
+        return pending.values();
+    }
+
+    /**
+     * @return whether a task newer than the given one was enqueued for the same key and target, pending or
+     * already completed
+     */
+    boolean isSuperseded(ReplicationTask task) {
+        Slot slot = latest.get(id(task.key(), task.target()));
+        return slot != null && slot.newest > task.sequence();
+    }
+
+    /**
+     * @return whether a task that is not yet superseded is pending for the key and target
+     */
+    boolean hasPending(String key, String target) {
+        Slot slot = latest.get(id(key, target));
+        return slot != null && pending.containsKey(slot.newest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the pending tasks from the log.
+     *
+     * @return the length of the valid prefix of the log
+     */
+    private long replay() throws IOException {
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32C crc = new CRC32C();
+        while (log.remaining() >= HEADER_SIZE) {
+            int start = log.position();
+            int length = log.getInt();
+            int checksum = log.getInt();
+            if (length <= 0 || length > log.remaining()) {
+                return start;
+            }
+            ByteBuffer body = log.slice(log.position(), length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            log.position(log.position() + length);
+            if (body.get() == ENQUEUED) {
+                ReplicationTask task = decode(body);
+                track(task);
+                nextSequence = Math.max(nextSequence, task.sequence() + 1);
+            } else {
+                long sequence = body.getLong();
+                ReplicationTask task = pending.remove(sequence);
+                if (task != null) {
+                    untrack(task);
+                }
+                nextSequence = Math.max(nextSequence, sequence + 1);
+            }
+        }
+        return log.position();
+    }
+
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ReplicationTask task : pending.values()) {
+                ByteBuffer record = seal(encode(task));
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(false);
+        }
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        completedSinceCompaction = 0;
+    }
+
+    /**
+     * Registers an enqueued task; callers hold the lock or are replaying the log.
+     */
+    private void track(ReplicationTask task) {
+        pending.put(task.sequence(), task);
+        Slot slot = latest.computeIfAbsent(id(task.key(), task.target()), ignored -> new Slot());
+        slot.newest = Math.max(slot.newest, task.sequence());
+        slot.pending++;
+    }
+
+    /**
+     * Unregisters a task removed from the pending ones; callers hold the lock or are replaying the log.
+     */
+    private void untrack(ReplicationTask task) {
+        String id = id(task.key(), task.target());
+        Slot slot = latest.get(id);
+        if (slot != null && --slot.pending == 0) {
+            latest.remove(id);
+        }
+    }
+
+    private void write(List<ByteBuffer> records) throws IOException {
+        for (ByteBuffer record : records) {
+            seal(record);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        }
+    }
+
+    /**
+     * Fills in the checksum of a fully written record and flips it for reading.
+     */
+    private static ByteBuffer seal(ByteBuffer record) {
+        record.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(record.slice(HEADER_SIZE, record.limit() - HEADER_SIZE));
+        return record.putInt(Integer.BYTES, (int) crc.getValue());
+    }
+
+    static String id(String key, String target) {
+        return target + '\u0000' + key;
+    }
+
+    private static ByteBuffer encode(ReplicationTask task) {
+        byte[] target = task.target().getBytes(StandardCharsets.UTF_8);
+        byte[] key = task.key().getBytes(StandardCharsets.UTF_8);
+        byte[] contentType = task.contentType() != null ? task.contentType().getBytes(StandardCharsets.UTF_8) : null;
+        int length = Long.BYTES * 2 + 1 + 3 * Integer.BYTES + target.length + key.length
+                + (contentType != null ? contentType.length : 0);
+        ByteBuffer record = record(ENQUEUED, length)
+                .putLong(task.sequence())
+                .putLong(task.enqueuedAt())
+                .put((byte) task.operation().ordinal());
+        putBytes(record, target);
+        putBytes(record, key);
+        return putBytes(record, contentType);
+    }
+
+    private static ReplicationTask decode(ByteBuffer body) {
+        long sequence = body.getLong();
+        long enqueuedAt = body.getLong();
+        Operation operation = OPERATIONS[body.get()];
+        String target = getString(body);
+        String key = getString(body);
+        String contentType = getString(body);
+        return new ReplicationTask(sequence, operation, target, key, contentType, enqueuedAt);
+    }
+
+    /**
+     * Allocates a record with its header and type byte; the checksum is filled in by {@link #seal}.
+     */
+    private static ByteBuffer record(byte type, int payloadLength) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + 1 + payloadLength);
+        return record.putInt(1 + payloadLength).putInt(0).put(type);
+    }
+
+    /**
+     * The newest task enqueued for one key and target, and how many of its tasks are still pending.
+     */
+    private static final class Slot {
+        private volatile long newest;
+        private int pending;
+    }
+
+    private static ByteBuffer putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            return buffer.putInt(-1);
+        }
+        return buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package com.abbos.multicloudstorageengine.provider.replication;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the replication state of one secondary. Counters are cumulative since the
+ * provider was created.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  22:30
+ **/
+public final class ReplicationStatus {
+    private final String target;
+    private final int pendingCount;
+    private final Duration lag;
+    private final long replicatedCount;
+    private final long failureCount;
+    private final long abandonedCount;
+    private final long repairCount;
+    private final Instant lastReplicatedAt;
+
+    ReplicationStatus(String target, int pendingCount, Duration lag, long replicatedCount, long failureCount,
+                      long abandonedCount, long repairCount, Instant lastReplicatedAt) {
+        this.target = target;
+        this.pendingCount = pendingCount;
+        this.lag = lag;
+        this.replicatedCount = replicatedCount;
+        this.failureCount = failureCount;
+        this.abandonedCount = abandonedCount;
+        this.repairCount = repairCount;
+        this.lastReplicatedAt = lastReplicatedAt;
+    }
+
+    /**
+     * @return the configuration name of the secondary
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the number of changes journaled for the secondary but not yet applied
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * @return the age of the oldest pending change, or {@link Duration#ZERO} if the secondary is up to date
+     */
+    public Duration getLag() {
+        return lag;
+    }
+
+    /**
+     * @return the number of changes applied to the secondary
+     */
+    public long getReplicatedCount() {
+        return replicatedCount;
+    }
+
+    /**
+     * @return the number of failed attempts, including those retried successfully later
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of changes dropped after exhausting their attempts; repair may still apply them
+     */
+    public long getAbandonedCount() {
+        return abandonedCount;
+    }
+
+    /**
+     * @return the number of changes enqueued by repair after finding the secondary diverged from the primary
+     */
+    public long getRepairCount() {
+        return repairCount;
+    }
+
+    /**
+     * @return when a change was last applied to the secondary, if ever
+     */
+    public Optional<Instant> getLastReplicatedAt() {
+        return Optional.ofNullable(lastReplicatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationStatus{target=" + target + ", pending=" + pendingCount + ", lag=" + lag
+                + ", replicated=" + replicatedCount + ", failures=" + failureCount + ", abandoned=" + abandonedCount
+                + ", repairs=" + repairCount + ", lastReplicatedAt=" + lastReplicatedAt + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.abbos.multicloudstorageengine.provider.replication;
+
+/**
+ * A pending change of one key on one secondary, as recorded in the {@link ReplicationJournal}.
+ *
+ * @param sequence    the journal position; later changes of the same key and target supersede earlier ones
+ * @param operation   the change to apply
+ * @param target      the name of the secondary
+ * @param key         the object key
+ * @param contentType the content type to store the object with, or {@code null}
+ * @param enqueuedAt  the epoch millisecond the change was journaled, from which replication lag is measured
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  22:15
+ **/
+record ReplicationTask(long sequence, Operation operation, String target, String key, String contentType,
+                       long enqueuedAt) {
+
+    enum Operation {
+        /**
+         * Store the primary's content under the key.
+         */
+        PUT,
+        /**
+         * Remove the key.
+         */
+        DELETE
+    }
+}
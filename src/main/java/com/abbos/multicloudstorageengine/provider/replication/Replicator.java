@@ -0,0 +1,503 @@
+package com.abbos.multicloudstorageengine.provider.replication;
+
+import com.abbos.multicloudstorageengine.config.ReplicationConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.context.ExecutionContext.Priority;
+import com.abbos.multicloudstorageengine.enums.MetadataKey;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import com.abbos.multicloudstorageengine.provider.replication.ReplicationTask.Operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies journaled changes to the secondaries of a {@link ReplicatingStorageProvider} and keeps them in
+ * line with the primary.
+ * <p>
+ * Every change is journaled before the primary is written and stays pending until it has been applied
+ * to its secondary. A change is applied from the uploaded bytes when the writer still holds them and is
+ * otherwise copied from the primary through a temporary file, so that replaying the journal after a
+ * restart always converges on the primary's current content. Failed attempts are retried by a drain
+ * loop with capped exponential backoff, at most {@code max-concurrency} at a time; a change superseded
+ * by a later one for the same key is dropped unapplied. Changes of one key on one secondary are applied
+ * one at a time, so an older change that is already being written finishes before a newer one starts and
+ * can never land on top of it.
+ * </p>
+ * <p>
+ * Recently replicated keys are verified periodically by entity tag. A key present on only one side is
+ * copied or deleted, and so is a key whose tag changed on one side only since the last verification,
+ * which catches out-of-band writes to either cloud. Tags of different providers are never compared
+ * with each other.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  22:40
+ **/
+final class Replicator implements Closeable {
+
+    private final ReplicatingStorageProvider owner;
+    private final StorageProvider primary;
+    private final Map<String, StorageProvider> targets;
+    private final ReplicationJournal journal;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final Semaphore permits;
+    private final long retryDelayMillis;
+    private final long maxRetryDelayMillis;
+    private final int maxAttempts;
+    private final Duration taskTimeout;
+    private final int repairBatchSize;
+    private final int repairWindow;
+    private final Map<Long, Attempts> attempts = new ConcurrentHashMap<>();
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Baseline> tracked = new LinkedHashMap<>();
+    private final ReentrantLock trackedLock = new ReentrantLock();
+    private final Queue<String> requested = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    Replicator(ReplicatingStorageProvider owner, StorageProvider primary, Map<String, StorageProvider> targets,
+               ReplicationConfig config, Executor executor) {
+        this.owner = owner;
+        this.primary = primary;
+        this.targets = Map.copyOf(targets);
+        this.executor = executor;
+        this.permits = new Semaphore(config.getMaxConcurrency());
+        this.retryDelayMillis = config.getRetryDelay().toMillis();
+        this.maxRetryDelayMillis = config.getMaxRetryDelay().toMillis();
+        this.maxAttempts = config.getMaxAttempts();
+        this.taskTimeout = config.getTaskTimeout();
+        this.repairBatchSize = config.getRepairBatchSize();
+        this.repairWindow = config.getRepairWindow();
+        targets.keySet().forEach(target -> counters.put(target, new Counters()));
+        this.journal = new ReplicationJournal(Path.of(config.getJournalPath()));
+        journal.pending().forEach(task -> attempts.put(task.sequence(), new Attempts(false)));
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replication-timer").daemon().factory());
+        timer.scheduleWithFixedDelay(this::drain, 0, retryDelayMillis, TimeUnit.MILLISECONDS);
+        if (config.isRepairEnabled()) {
+            long interval = config.getRepairInterval().toMillis();
+            timer.scheduleWithFixedDelay(this::startSweep, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Journals a change for every secondary. The returned tasks are held: the drain loop leaves them
+     * alone until they are passed to {@link #replicate}, {@link #dispatch} or {@link #cancel}.
+     */
+    List<ReplicationTask> prepare(Operation operation, String key, String contentType) {
+        List<ReplicationTask> tasks = journal.append(operation, key, contentType, targets.keySet());
+        tasks.forEach(task -> attempts.put(task.sequence(), new Attempts(true)));
+        return tasks;
+    }
+
+    /**
+     * Drops held tasks whose primary write failed. The key is still verified by the next sweep, since
+     * a failed write may have reached the primary regardless.
+     */
+    void cancel(List<ReplicationTask> tasks) {
+        for (ReplicationTask task : tasks) {
+            attempts.remove(task.sequence());
+            journal.complete(task);
+        }
+        track(tasks.getFirst().key());
+    }
+
+    /**
+     * Applies held tasks right away on the storage executor.
+     *
+     * @param data the uploaded content, which must not change afterwards since tasks the caller stops
+     *             waiting for keep reading it, or {@code null} to copy it from the primary
+     * @return one future per task, failed if its first attempt failed; failed tasks stay queued for retry
+     */
+    List<CompletableFuture<Void>> replicate(List<ReplicationTask> tasks, byte[] data, ExecutionContext context) {
+        List<CompletableFuture<Void>> acks = new ArrayList<>(tasks.size());
+        for (ReplicationTask task : tasks) {
+            Attempts state = attempts.get(task.sequence());
+            acks.add(CompletableFuture.runAsync(() -> attempt(task, state, data, context), executor));
+        }
+        return acks;
+    }
+
+    /**
+     * Hands held tasks to the background, starting them immediately while the concurrency limit allows.
+     *
+     * @param data the uploaded content, which must not change afterwards, or {@code null} to copy it
+     *             from the primary
+     */
+    void dispatch(List<ReplicationTask> tasks, byte[] data) {
+        for (ReplicationTask task : tasks) {
+            Attempts state = attempts.get(task.sequence());
+            if (state == null) {
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                state.running.set(false);
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    attempt(task, state, data, backgroundContext(task));
+                } catch (RuntimeException ignored) {
+                    // recorded by attempt and retried by the drain loop
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return whether no change of the key is pending for the secondary
+     */
+    boolean isCurrent(String key, String target) {
+        return !journal.hasPending(key, target);
+    }
+
+    /**
+     * Queues keys for verification ahead of the recently replicated ones.
+     */
+    void repair(Iterable<String> keys) {
+        keys.forEach(requested::add);
+        startSweep();
+    }
+
+    List<ReplicationStatus> status() {
+        Map<String, Integer> pendingCounts = new HashMap<>();
+        Map<String, Long> oldest = new HashMap<>();
+        for (ReplicationTask task : journal.pending()) {
+            pendingCounts.merge(task.target(), 1, Integer::sum);
+            oldest.putIfAbsent(task.target(), task.enqueuedAt());
+        }
+        long now = System.currentTimeMillis();
+        List<ReplicationStatus> status = new ArrayList<>(counters.size());
+        counters.forEach((target, counter) -> {
+            Long since = oldest.get(target);
+            long last = counter.lastReplicatedAt;
+            status.add(new ReplicationStatus(target, pendingCounts.getOrDefault(target, 0),
+                    since != null ? Duration.ofMillis(Math.max(0, now - since)) : Duration.ZERO,
+                    counter.replicated.sum(), counter.failures.sum(), counter.abandoned.sum(), counter.repairs.sum(),
+                    last != 0 ? Instant.ofEpochMilli(last) : null));
+        });
+        return status;
+    }
+
+    @Override
+    public void close() throws IOException {
+        timer.shutdownNow();
+        journal.close();
+    }
+
+    private void attempt(ReplicationTask task, Attempts state, byte[] data, ExecutionContext context) {
+        Counters counter = counters.get(task.target());
+        try {
+            apply(task, data, context);
+        } catch (RuntimeException e) {
+            counter.failures.increment();
+            if (++state.count >= maxAttempts) {
+                finish(task);
+                counter.abandoned.increment();
+                owner.logError("Abandoned replication of key '{}' to '{}' after {} attempts", e,
+                        task.key(), task.target(), state.count);
+            } else {
+                state.nextAttemptAt = System.currentTimeMillis() + backoff(state.count);
+                state.running.set(false);
+                owner.logWarn("Replication of key '{}' to '{}' failed, attempt {} of {}: {}",
+                        task.key(), task.target(), state.count, maxAttempts, e.toString());
+            }
+            throw e;
+        }
+        finish(task);
+        counter.replicated.increment();
+        counter.lastReplicatedAt = System.currentTimeMillis();
+        owner.logDebug("Replicated {} of key '{}' to '{}'", task.operation(), task.key(), task.target());
+    }
+
+    private void apply(ReplicationTask task, byte[] data, ExecutionContext context) {
+        StorageProvider target = targets.get(task.target());
+        if (target == null) {
+            return;
+        }
+        String id = ReplicationJournal.id(task.key(), task.target());
+        Lane lane = lanes.compute(id, (ignored, current) -> {
+            Lane joined = current != null ? current : new Lane();
+            joined.users++;
+            return joined;
+        });
+        lane.lock.lock();
+        try {
+            if (journal.isSuperseded(task)) {
+                return;
+            }
+            if (task.operation() == Operation.DELETE) {
+                target.delete(task.key(), context);
+            } else if (data != null) {
+                target.upload(task.key(), data, context);
+            } else {
+                copy(task.key(), target, context);
+            }
+        } finally {
+            lane.lock.unlock();
+            lanes.computeIfPresent(id, (ignored, current) -> --current.users == 0 ? null : current);
+        }
+    }
+
+    private void copy(String key, StorageProvider target, ExecutionContext context) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("replication-", ".tmp");
+            primary.download(key, temp, context);
+            try (InputStream in = Files.newInputStream(temp)) {
+                target.upload(key, in, Files.size(temp), context);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // the temporary directory is cleaned up by the operating system
+                }
+            }
+        }
+    }
+
+    private void finish(ReplicationTask task) {
+        attempts.remove(task.sequence());
+        journal.complete(task);
+        track(task.key());
+    }
+
+    private void drain() {
+        try {
+            long now = System.currentTimeMillis();
+            for (ReplicationTask task : journal.pending()) {
+                Attempts state = attempts.get(task.sequence());
+                if (state == null || state.nextAttemptAt > now || state.running.get()) {
+                    continue;
+                }
+                if (!permits.tryAcquire()) {
+                    return;
+                }
+                if (!state.running.compareAndSet(false, true)) {
+                    permits.release();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        attempt(task, state, null, backgroundContext(task));
+                    } catch (RuntimeException ignored) {
+                        // recorded by attempt and retried on a later pass
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            owner.logError("Replication drain pass failed", e);
+        }
+    }
+
+    private void startSweep() {
+        if (sweeping.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    sweep();
+                } catch (RuntimeException e) {
+                    owner.logError("Replication repair sweep failed", e);
+                } finally {
+                    sweeping.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Verifies up to {@code repair-batch-size} keys: explicitly requested ones first, then the least
+     * recently verified tracked ones, which are rotated to the back of the window afterwards.
+     */
+    private void sweep() {
+        List<String> keys = new ArrayList<>(repairBatchSize);
+        for (String key; keys.size() < repairBatchSize && (key = requested.poll()) != null; ) {
+            keys.add(key);
+        }
+        trackedLock.lock();
+        try {
+            Iterator<String> eldest = tracked.keySet().iterator();
+            while (keys.size() < repairBatchSize && eldest.hasNext()) {
+                keys.add(eldest.next());
+            }
+        } finally {
+            trackedLock.unlock();
+        }
+        for (String key : keys) {
+            try {
+                verify(key);
+            } catch (RuntimeException e) {
+                owner.logError("Failed to verify replicas of key '{}'", e, key);
+            }
+        }
+    }
+
+    private void verify(String key) {
+        Baseline baseline = baseline(key);
+        ExecutionContext context = backgroundContext(null);
+        Optional<String> source = primary.getETag(key, context);
+        Map<String, String> seen = new HashMap<>();
+        Map<String, Operation> repairs = new LinkedHashMap<>();
+        boolean exists = source.isPresent();
+        for (Map.Entry<String, StorageProvider> target : targets.entrySet()) {
+            String name = target.getKey();
+            if (!isCurrent(key, name)) {
+                continue;
+            }
+            Optional<String> replica = target.getValue().getETag(key, context);
+            exists |= replica.isPresent();
+            Operation repair = diverged(source, replica, baseline, name);
+            if (repair != null) {
+                repairs.put(name, repair);
+            } else {
+                replica.ifPresent(tag -> seen.put(name, tag));
+            }
+        }
+        trackedLock.lock();
+        try {
+            if (tracked.get(key) != baseline) {
+                return;
+            }
+            tracked.remove(key);
+            if (exists) {
+                tracked.put(key, new Baseline(source.orElse(null), Map.copyOf(seen)));
+            }
+        } finally {
+            trackedLock.unlock();
+        }
+        repairs.forEach((target, operation) -> {
+            counters.get(target).repairs.increment();
+            owner.logWarn("Replica of key '{}' on '{}' diverged from the primary, enqueuing {}", key, target, operation);
+            List<ReplicationTask> tasks = journal.append(operation, key, null, List.of(target));
+            tasks.forEach(task -> attempts.put(task.sequence(), new Attempts(true)));
+            dispatch(tasks, null);
+        });
+    }
+
+    private static Operation diverged(Optional<String> source, Optional<String> replica, Baseline baseline, String target) {
+        if (source.isEmpty()) {
+            return replica.isPresent() ? Operation.DELETE : null;
+        }
+        if (replica.isEmpty()) {
+            return Operation.PUT;
+        }
+        String recorded = baseline != null ? baseline.targetTags().get(target) : null;
+        if (recorded == null || baseline.primaryTag() == null) {
+            return null;
+        }
+        return source.get().equals(baseline.primaryTag()) && replica.get().equals(recorded) ? null : Operation.PUT;
+    }
+
+    private Baseline baseline(String key) {
+        trackedLock.lock();
+        try {
+            return tracked.get(key);
+        } finally {
+            trackedLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the key to the verification window with an unknown baseline, since its content just changed.
+     */
+    private void track(String key) {
+        trackedLock.lock();
+        try {
+            tracked.remove(key);
+            tracked.put(key, new Baseline(null, Map.of()));
+            Iterator<String> eldest = tracked.keySet().iterator();
+            while (tracked.size() > repairWindow) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            trackedLock.unlock();
+        }
+    }
+
+    private ExecutionContext backgroundContext(ReplicationTask task) {
+        ExecutionContext.Builder builder = new ExecutionContext.Builder()
+                .timeout(taskTimeout)
+                .maxRetries(3)
+                .priority(Priority.LOW);
+        if (task != null && task.contentType() != null) {
+            builder.addPair(MetadataKey.CONTENT_TYPE, task.contentType());
+        }
+        return builder.build();
+    }
+
+    private long backoff(int attempt) {
+        long delay = Math.min(maxRetryDelayMillis, retryDelayMillis << Math.min(attempt - 1, 30));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /**
+     * Runtime state of a pending task; it is not journaled, so a restart resets the attempt count.
+     */
+    private static final class Attempts {
+        private final AtomicBoolean running;
+        private volatile int count;
+        private volatile long nextAttemptAt;
+
+        private Attempts(boolean held) {
+            this.running = new AtomicBoolean(held);
+        }
+    }
+
+    /**
+     * Serializes the changes of one key on one secondary; dropped once no change is waiting for it.
+     */
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+
+    private static final class Counters {
+        private final LongAdder replicated = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder abandoned = new LongAdder();
+        private final LongAdder repairs = new LongAdder();
+        private volatile long lastReplicatedAt;
+    }
+
+    /**
+     * Entity tags observed on the primary and on each secondary at the last verification of a key.
+     * Instances are compared by identity to detect changes made while a verification was running.
+     */
+    private record Baseline(String primaryTag, Map<String, String> targetTags) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceEvent.Type;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Caps the number of calls in flight against one provider, so that a provider that stops answering ties
+ * up a bounded number of threads and connections instead of starving the others.
+ * <p>
+ * The first rejection publishes {@link Type#BULKHEAD_SATURATED}; {@link Type#BULKHEAD_RECOVERED} follows
+ * once a tenth of the permits is free again, which keeps a bulkhead running at its limit from flapping.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:15
+ **/
+public final class Bulkhead {
+
+    private final String providerName;
+    private final int maxConcurrentCalls;
+    private final int recoveryPermits;
+    private final Semaphore permits;
+    private final AtomicBoolean saturated = new AtomicBoolean();
+    private final Consumer<ResilienceEvent> listener;
+
+    Bulkhead(String providerName, int maxConcurrentCalls, Consumer<ResilienceEvent> listener) {
+        this.providerName = providerName;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.recoveryPermits = Math.max(1, maxConcurrentCalls / 10);
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.listener = listener;
+    }
+
+    /**
+     * Takes a permit without waiting.
+     *
+     * @return {@code false} if every permit is taken
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire() || rejected();
+    }
+
+    /**
+     * Takes a permit, waiting at most {@code maxWait} for one to be released.
+     *
+     * @param maxWait the longest time to wait
+     * @return {@code false} if no permit became available in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean acquire(Duration maxWait) throws InterruptedException {
+        if (permits.tryAcquire() || (maxWait.isPositive() && permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS))) {
+            return true;
+        }
+        return rejected();
+    }
+
+    /**
+     * Returns a permit taken by {@link #tryAcquire()} or {@link #acquire(Duration)}.
+     */
+    public void release() {
+        permits.release();
+        if (saturated.get() && permits.availablePermits() >= recoveryPermits && saturated.compareAndSet(true, false)) {
+            listener.accept(new ResilienceEvent(providerName, Type.BULKHEAD_RECOVERED,
+                    permits.availablePermits() + " of " + maxConcurrentCalls + " permits free"));
+        }
+    }
+
+    /**
+     * @return the number of calls that may start right now
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    private boolean rejected() {
+        if (saturated.compareAndSet(false, true)) {
+            listener.accept(new ResilienceEvent(providerName, Type.BULKHEAD_SATURATED,
+                    "all " + maxConcurrentCalls + " permits taken"));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,286 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import com.abbos.multicloudstorageengine.config.ResilienceConfig;
+import com.abbos.multicloudstorageengine.provider.resilience.ResilienceEvent.Type;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker over a sliding time window of call outcomes.
+ * <p>
+ * The window is split into buckets of calls, failures and slow calls that are recycled as time moves on,
+ * so recording an outcome in the closed state takes a few atomic increments and no lock; only recycling a
+ * bucket and state transitions synchronize. Every permission carries the generation of the state it was
+ * granted in, and each transition starts a new generation: results of calls started before the circuit last
+ * changed state are ignored, so in the half-open state only the probes admitted there are counted, and each
+ * probe decides alone: one failed or slow probe opens the circuit again.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:05
+ **/
+public final class CircuitBreaker {
+
+    /**
+     * The permission returned for a call that must be rejected.
+     */
+    public static final long REJECTED = -1;
+
+    /**
+     * The state of a circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int BUCKETS = 10;
+    private static final int CALLS = 0;
+    private static final int FAILURES = 1;
+    private static final int SLOW = 2;
+
+    private final String providerName;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Consumer<ResilienceEvent> listener;
+    private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS * 3);
+    private volatile State state = State.CLOSED;
+    private volatile long generation;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    CircuitBreaker(String providerName, ResilienceConfig config, Consumer<ResilienceEvent> listener) {
+        this.providerName = providerName;
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.minimumCalls = config.getMinimumCalls();
+        this.bucketNanos = Math.max(1, config.getWindow().toNanos() / BUCKETS);
+        this.openNanos = config.getOpenDuration().toNanos();
+        this.halfOpenProbes = config.getHalfOpenProbes();
+        this.listener = listener;
+        for (int i = 0; i < BUCKETS; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Asks for permission to make a call. A permitted call must be reported through exactly one of
+     * {@link #onSuccess}, {@link #onFailure} or {@link #onIgnored}, passing the returned permission.
+     *
+     * @return the permission, or {@link #REJECTED} if the call must be rejected without contacting the provider
+     */
+    public long tryAcquirePermission() {
+        long granted = generation;
+        if (state == State.CLOSED) {
+            return granted;
+        }
+        ResilienceEvent event = null;
+        long permission = REJECTED;
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                event = transition(State.HALF_OPEN, "open for " + openNanos / 1_000_000 + " ms");
+            }
+            if (state == State.CLOSED) {
+                permission = generation;
+            } else if (state == State.HALF_OPEN && probesStarted < halfOpenProbes) {
+                probesStarted++;
+                permission = generation;
+            }
+        }
+        publish(event);
+        return permission;
+    }
+
+    /**
+     * Reports a permitted call that completed, possibly with a failure that does not indicate an
+     * unhealthy provider.
+     *
+     * @param permission the permission the call was made with
+     * @param nanos      the duration of the call
+     */
+    public void onSuccess(long permission, long nanos) {
+        record(permission, false, nanos >= slowCallNanos);
+    }
+
+    /**
+     * Reports a permitted call that failed transiently.
+     *
+     * @param permission the permission the call was made with
+     * @param nanos      the duration of the call
+     */
+    public void onFailure(long permission, long nanos) {
+        record(permission, true, nanos >= slowCallNanos);
+    }
+
+    /**
+     * Reports a permitted call that ended without an outcome, for example because it was cancelled.
+     *
+     * @param permission the permission the call was made with
+     */
+    public void onIgnored(long permission) {
+        synchronized (this) {
+            if (permission == generation && state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+                probesStarted--;
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return the share of failed calls in the current window, or {@code 0} without calls
+     */
+    public double getFailureRate() {
+        long[] totals = totals(System.nanoTime() / bucketNanos);
+        return totals[CALLS] == 0 ? 0 : (double) totals[FAILURES] / totals[CALLS];
+    }
+
+    /**
+     * @return the share of slow calls in the current window, or {@code 0} without calls
+     */
+    public double getSlowCallRate() {
+        long[] totals = totals(System.nanoTime() / bucketNanos);
+        return totals[CALLS] == 0 ? 0 : (double) totals[SLOW] / totals[CALLS];
+    }
+
+    private void record(long permission, boolean failure, boolean slow) {
+        if (permission != generation) {
+            return;
+        }
+        State current = state;
+        if (current == State.HALF_OPEN) {
+            probed(permission, failure, slow);
+            return;
+        }
+        if (current == State.OPEN) {
+            return;
+        }
+        long epoch = System.nanoTime() / bucketNanos;
+        int bucket = (int) Math.floorMod(epoch, (long) BUCKETS);
+        if (epochs.get(bucket) != epoch && !recycle(bucket, epoch)) {
+            return;
+        }
+        counts.incrementAndGet(bucket * 3 + CALLS);
+        if (failure) {
+            counts.incrementAndGet(bucket * 3 + FAILURES);
+        }
+        if (slow) {
+            counts.incrementAndGet(bucket * 3 + SLOW);
+        }
+        if (!failure && !slow) {
+            return;
+        }
+        long[] totals = totals(epoch);
+        if (totals[CALLS] < minimumCalls) {
+            return;
+        }
+        double failureRate = (double) totals[FAILURES] / totals[CALLS];
+        double slowRate = (double) totals[SLOW] / totals[CALLS];
+        if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+            ResilienceEvent event;
+            synchronized (this) {
+                if (state != State.CLOSED) {
+                    return;
+                }
+                event = transition(State.OPEN, "failure rate %.2f, slow call rate %.2f over %d calls"
+                        .formatted(failureRate, slowRate, totals[CALLS]));
+            }
+            publish(event);
+        }
+    }
+
+    /**
+     * Moves a bucket on to {@code epoch}, clearing its counts before the new epoch is published so that no
+     * increment made for the new epoch is wiped out.
+     *
+     * @return {@code false} if the bucket already holds a later epoch and the outcome is too old to count
+     */
+    private boolean recycle(int bucket, long epoch) {
+        synchronized (epochs) {
+            long seen = epochs.get(bucket);
+            if (seen > epoch) {
+                return false;
+            }
+            if (seen != epoch) {
+                counts.set(bucket * 3 + CALLS, 0);
+                counts.set(bucket * 3 + FAILURES, 0);
+                counts.set(bucket * 3 + SLOW, 0);
+                epochs.set(bucket, epoch);
+            }
+            return true;
+        }
+    }
+
+    private void probed(long permission, boolean failure, boolean slow) {
+        ResilienceEvent event = null;
+        synchronized (this) {
+            if (permission != generation || state != State.HALF_OPEN) {
+                return;
+            }
+            if (failure || slow) {
+                event = transition(State.OPEN, failure ? "probe failed" : "probe was slow");
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                event = transition(State.CLOSED, probesSucceeded + " probes succeeded");
+            }
+        }
+        publish(event);
+    }
+
+    /**
+     * Sums the buckets that still belong to the window ending at {@code epoch}.
+     */
+    private long[] totals(long epoch) {
+        long[] totals = new long[3];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long age = epoch - epochs.get(bucket);
+            if (age >= 0 && age < BUCKETS) {
+                totals[CALLS] += counts.get(bucket * 3 + CALLS);
+                totals[FAILURES] += counts.get(bucket * 3 + FAILURES);
+                totals[SLOW] += counts.get(bucket * 3 + SLOW);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Moves to {@code next}; callers hold the monitor and publish the returned event after releasing it.
+     */
+    private ResilienceEvent transition(State next, String reason) {
+        generation++;
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next != State.HALF_OPEN) {
+            synchronized (epochs) {
+                for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                    epochs.set(bucket, Long.MIN_VALUE);
+                }
+            }
+        }
+        Type type = switch (next) {
+            case OPEN -> Type.CIRCUIT_OPENED;
+            case HALF_OPEN -> Type.CIRCUIT_HALF_OPENED;
+            case CLOSED -> Type.CIRCUIT_CLOSED;
+        };
+        return new ResilienceEvent(providerName, type, reason);
+    }
+
+    private void publish(ResilienceEvent event) {
+        if (event != null) {
+            listener.accept(event);
+        }
+    }
+}
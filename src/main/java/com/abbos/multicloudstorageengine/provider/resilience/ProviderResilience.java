@@ -0,0 +1,169 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.ProviderUnavailableException;
+import com.abbos.multicloudstorageengine.provider.RetryExecutor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The circuit breaker and bulkhead guarding the calls of one provider. Each guarded call is a single attempt;
+ * retries happen outside, so every attempt is admitted and measured on its own and a retry against an open
+ * circuit fails fast with {@link ProviderUnavailableException}, which is never retried.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:20
+ **/
+public final class ProviderResilience {
+
+    private static final ProviderResilience NONE = new ProviderResilience("none", null, null, Duration.ZERO);
+
+    private final String providerName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration maxWait;
+
+    ProviderResilience(String providerName, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Duration maxWait) {
+        this.providerName = providerName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * @return a guard that lets every call through
+     */
+    public static ProviderResilience none() {
+        return NONE;
+    }
+
+    /**
+     * Runs one blocking attempt. A full bulkhead is waited on for at most the configured maximum, and never
+     * longer than the attempt timeout of the context.
+     *
+     * @param context the {@link ExecutionContext} bounding the wait for a permit
+     * @param failure decides which failures count against the health of the provider
+     * @param action  the attempt
+     * @param <T>     the type of the result
+     * @return the result of the attempt
+     * @throws ProviderUnavailableException if the attempt is rejected
+     * @throws Exception                    the failure of the attempt
+     */
+    public <T> T call(ExecutionContext context, Predicate<Throwable> failure, Callable<T> action) throws Exception {
+        if (this == NONE) {
+            return action.call();
+        }
+        Duration wait = maxWait.compareTo(context.getAttemptTimeout()) < 0 ? maxWait : context.getAttemptTimeout();
+        if (bulkhead != null && !bulkhead.acquire(wait)) {
+            throw new ProviderUnavailableException(providerName, "concurrency limit reached");
+        }
+        try {
+            long permission = circuitBreaker == null ? 0 : circuitBreaker.tryAcquirePermission();
+            if (permission == CircuitBreaker.REJECTED) {
+                throw new ProviderUnavailableException(providerName, "circuit " + circuitBreaker.getState());
+            }
+            long start = System.nanoTime();
+            try {
+                T result = action.call();
+                onSuccess(permission, start);
+                return result;
+            } catch (Throwable t) {
+                onFailure(permission, start, t, failure);
+                throw t;
+            }
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * Starts one asynchronous attempt. Bulkhead permits are not waited for, since the caller must not block.
+     *
+     * @param failure decides which failures count against the health of the provider
+     * @param start   starts the attempt
+     * @param <T>     the type of the result
+     * @return the future of the attempt, or a future failed with {@link ProviderUnavailableException}
+     */
+    public <T> CompletableFuture<T> callAsync(Predicate<Throwable> failure, Supplier<CompletableFuture<T>> start) {
+        if (this == NONE) {
+            return start.get();
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ProviderUnavailableException(providerName, "concurrency limit reached"));
+        }
+        long permission = circuitBreaker == null ? 0 : circuitBreaker.tryAcquirePermission();
+        if (permission == CircuitBreaker.REJECTED) {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            return CompletableFuture.failedFuture(new ProviderUnavailableException(providerName, "circuit " + circuitBreaker.getState()));
+        }
+        long begin = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = start.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((ignored, t) -> {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (t == null) {
+                onSuccess(permission, begin);
+            } else {
+                onFailure(permission, begin, t, failure);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return the circuit state, or an empty {@link Optional} if the circuit breaker is disabled
+     */
+    public Optional<CircuitBreaker.State> getCircuitState() {
+        return Optional.ofNullable(circuitBreaker).map(CircuitBreaker::getState);
+    }
+
+    /**
+     * @return the circuit breaker, or {@code null} if it is disabled
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return the bulkhead, or {@code null} if it is disabled
+     */
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    private void onSuccess(long permission, long start) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess(permission, System.nanoTime() - start);
+        }
+    }
+
+    private void onFailure(long permission, long start, Throwable t, Predicate<Throwable> failure) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        Throwable cause = RetryExecutor.unwrap(t);
+        if (cause instanceof CancellationException || cause instanceof InterruptedException) {
+            circuitBreaker.onIgnored(permission);
+        } else if (failure.test(cause)) {
+            circuitBreaker.onFailure(permission, System.nanoTime() - start);
+        } else {
+            circuitBreaker.onSuccess(permission, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import com.abbos.multicloudstorageengine.exception.ProviderUnavailableException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Client-side adaptive rate limiter of one provider, keyed by key prefix and operation class.
+ * <p>
+ * Object stores limit request rates per key prefix, with separate limits for reads and writes; S3 for
+ * example accepts about 5,500 GET and 3,500 PUT requests per second per prefix. Every combination of prefix
+ * and {@link Operation} gets its own {@link TokenBucket} starting at the configured maximum and backing
+ * off on throttling responses, so a hot prefix slows down alone while the others keep their rate. The
+ * prefix of a key is its first {@code prefixDepth} {@code /}-separated segments. Buckets idle for
+ * {@link #IDLE_NANOS} are dropped once more than {@link #MAX_PREFIXES} are tracked.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:50
+ **/
+public final class RateLimiter {
+
+    /**
+     * The class of request, limited separately.
+     */
+    public enum Operation {
+        READ, WRITE
+    }
+
+    private static final RateLimiter UNLIMITED = new RateLimiter("unlimited", 0, 0, 0);
+    private static final int MAX_PREFIXES = 10_000;
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final double MIN_RATE_FRACTION = 0.01;
+
+    private final String providerName;
+    private final double readRate;
+    private final double writeRate;
+    private final int prefixDepth;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param providerName the provider, named in rejections
+     * @param readRate     the highest read rate per prefix in requests per second
+     * @param writeRate    the highest write rate per prefix in requests per second
+     * @param prefixDepth  the number of leading key segments forming a prefix; {@code 0} limits the whole provider
+     */
+    public RateLimiter(String providerName, double readRate, double writeRate, int prefixDepth) {
+        this.providerName = providerName;
+        this.readRate = readRate;
+        this.writeRate = writeRate;
+        this.prefixDepth = prefixDepth;
+    }
+
+    /**
+     * @return a limiter that never delays
+     */
+    public static RateLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Waits for a slot for a request on {@code key}.
+     *
+     * @param key       the key of the request, or {@code null} for requests spanning several keys, which are not limited
+     * @param operation the class of the request
+     * @param maxWait   the longest acceptable wait
+     * @throws ProviderUnavailableException if the wait would exceed {@code maxWait}
+     * @throws InterruptedException         if interrupted while waiting
+     */
+    public void acquire(String key, Operation operation, Duration maxWait) throws InterruptedException {
+        long wait = reserve(key, operation, maxWait);
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Starts a request on {@code key} once a slot is free, without blocking the caller.
+     *
+     * @param key       the key of the request, or {@code null} for requests spanning several keys, which are not limited
+     * @param operation the class of the request
+     * @param maxWait   the longest acceptable wait
+     * @param executor  the executor starting delayed requests
+     * @param start     starts the request
+     * @param <T>       the type of the result
+     * @return the future of the request, or a future failed with {@link ProviderUnavailableException} if the
+     * wait would exceed {@code maxWait}
+     */
+    public <T> CompletableFuture<T> acquireAsync(String key, Operation operation, Duration maxWait, Executor executor,
+                                                 Supplier<CompletableFuture<T>> start) {
+        long wait;
+        try {
+            wait = reserve(key, operation, maxWait);
+        } catch (ProviderUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (wait <= 0) {
+            return start.get();
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS, executor)).thenCompose(ignored -> start.get());
+    }
+
+    /**
+     * Reports a throttling response to a request on {@code key}.
+     *
+     * @param key       the key of the request, or {@code null}
+     * @param operation the class of the request
+     */
+    public void onThrottled(String key, Operation operation) {
+        if (this == UNLIMITED || key == null) {
+            return;
+        }
+        TokenBucket bucket = buckets.get(bucketKey(key, operation));
+        if (bucket != null) {
+            bucket.throttled(System.nanoTime());
+        }
+    }
+
+    /**
+     * @param key       a key within the prefix
+     * @param operation the class of request
+     * @return the current rate of the prefix in requests per second, or the configured maximum if it has not been used
+     */
+    public double getRate(String key, Operation operation) {
+        TokenBucket bucket = buckets.get(bucketKey(key, operation));
+        return bucket != null ? bucket.rate() : maxRate(operation);
+    }
+
+    /**
+     * @param key a key
+     * @return the prefix the key is limited under
+     */
+    public String prefix(String key) {
+        int end = -1;
+        for (int i = 0; i < prefixDepth; i++) {
+            int next = key.indexOf('/', end + 1);
+            if (next < 0) {
+                return i == 0 ? "" : key.substring(0, end + 1);
+            }
+            end = next;
+        }
+        return key.substring(0, end + 1);
+    }
+
+    private long reserve(String key, Operation operation, Duration maxWait) {
+        if (this == UNLIMITED || key == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        String bucketKey = bucketKey(key, operation);
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_PREFIXES) {
+                buckets.values().removeIf(idle -> now - idle.lastUsed() > IDLE_NANOS);
+            }
+            double max = maxRate(operation);
+            bucket = buckets.computeIfAbsent(bucketKey, ignored -> new TokenBucket(max, max * MIN_RATE_FRACTION, now));
+        }
+        long wait = bucket.reserve(now, maxWait.toNanos());
+        if (wait < 0) {
+            throw new ProviderUnavailableException(providerName, "rate limit of prefix '%s' at %.0f %s requests/s"
+                    .formatted(prefix(key), bucket.rate(), operation));
+        }
+        return wait;
+    }
+
+    private String bucketKey(String key, Operation operation) {
+        return operation.ordinal() + prefix(key);
+    }
+
+    private double maxRate(Operation operation) {
+        return operation == Operation.READ ? readRate : writeRate;
+    }
+}
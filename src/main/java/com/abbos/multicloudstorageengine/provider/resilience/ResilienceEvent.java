@@ -0,0 +1,76 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import java.time.Instant;
+
+/**
+ * A state change of the circuit breaker or bulkhead of a provider. Published through the consumer given
+ * to {@link ResilienceRegistry}, which in a Spring context is the application event publisher, so it can be
+ * received with {@code @EventListener}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:00
+ **/
+public final class ResilienceEvent {
+
+    /**
+     * The kind of state change.
+     */
+    public enum Type {
+        /**
+         * Calls are rejected until the open duration has passed.
+         */
+        CIRCUIT_OPENED,
+        /**
+         * A limited number of probe calls is let through.
+         */
+        CIRCUIT_HALF_OPENED,
+        /**
+         * Calls flow normally again.
+         */
+        CIRCUIT_CLOSED,
+        /**
+         * A call was rejected because every concurrency permit was taken.
+         */
+        BULKHEAD_SATURATED,
+        /**
+         * Permits are available again after a saturation.
+         */
+        BULKHEAD_RECOVERED
+    }
+
+    private final String providerName;
+    private final Type type;
+    private final String reason;
+    private final Instant timestamp;
+
+    ResilienceEvent(String providerName, Type type, String reason) {
+        this.providerName = providerName;
+        this.type = type;
+        this.reason = reason;
+        this.timestamp = Instant.now();
+    }
+
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return a human-readable explanation, such as the failure rate that opened the circuit
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ResilienceEvent{provider=" + providerName + ", type=" + type + ", reason=" + reason + ", at=" + timestamp + "}";
+    }
+}
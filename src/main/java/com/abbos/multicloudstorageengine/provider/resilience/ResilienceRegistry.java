@@ -0,0 +1,84 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import com.abbos.multicloudstorageengine.config.ResilienceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Hands out one {@link ProviderResilience} per provider name, all configured from the same
+ * {@link ResilienceConfig}. Providers look theirs up at construction, so differently tuned instances of the
+ * same provider share its circuit and concurrency limit.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:25
+ **/
+public final class ResilienceRegistry {
+
+    private static final ResilienceRegistry DISABLED = new ResilienceRegistry(null, event -> {
+    });
+
+    private final Logger logger = LoggerFactory.getLogger(ResilienceRegistry.class);
+    private final ResilienceConfig config;
+    private final Consumer<ResilienceEvent> publisher;
+    private final Map<String, ProviderResilience> providers = new ConcurrentHashMap<>();
+
+    /**
+     * @param config    the settings applied to every provider
+     * @param publisher receives every state change, after it has been logged
+     */
+    public ResilienceRegistry(ResilienceConfig config, Consumer<ResilienceEvent> publisher) {
+        this.config = config;
+        this.publisher = Objects.requireNonNull(publisher, "Publisher cannot be null");
+    }
+
+    /**
+     * @return a registry whose guards let every call through
+     */
+    public static ResilienceRegistry disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @param providerName the name of the provider
+     * @return the guard of the provider, created on first use
+     */
+    public ProviderResilience forProvider(String providerName) {
+        if (config == null) {
+            return ProviderResilience.none();
+        }
+        return providers.computeIfAbsent(providerName, name -> new ProviderResilience(name,
+                config.isCircuitBreakerEnabled() ? new CircuitBreaker(name, config, this::publish) : null,
+                config.isBulkheadEnabled() ? new Bulkhead(name, config.getMaxConcurrentCalls(), this::publish) : null,
+                config.getMaxWait()));
+    }
+
+    /**
+     * @return the circuit state of every provider with an enabled circuit breaker, by provider name
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        providers.forEach((name, resilience) -> resilience.getCircuitState().ifPresent(state -> states.put(name, state)));
+        return states;
+    }
+
+    private void publish(ResilienceEvent event) {
+        if (config.isLogEnabled()) {
+            switch (event.getType()) {
+                case CIRCUIT_OPENED, BULKHEAD_SATURATED -> logger.warn("Provider '{}': {} ({})",
+                        event.getProviderName(), event.getType(), event.getReason());
+                default -> logger.info("Provider '{}': {} ({})", event.getProviderName(), event.getType(), event.getReason());
+            }
+        }
+        try {
+            publisher.accept(event);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.abbos.multicloudstorageengine.provider.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket whose rate adapts to throttling responses.
+ * <p>
+ * Requests reserve the next free slot, so waiting callers are served in arrival order at exactly the
+ * current rate, with up to {@link #BURST_NANOS} of unused capacity available as a burst. A throttling
+ * response cuts the rate multiplicatively, at most once per {@link #COOLDOWN_NANOS} so that one burst of
+ * rejected requests in flight counts as one signal, and remembers the rate that was throttled as the
+ * ceiling. While callers are being delayed the rate then grows back by half the remaining distance to the
+ * ceiling per interval and only creeps past it by one percent per interval. Being throttled again near the
+ * ceiling lowers the ceiling slightly and backs off gently, since the limit is known to be close. The rate
+ * therefore settles just below the highest throughput the service accepts instead of sawtoothing around
+ * it, and still follows the service upward when it scales out.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  01:40
+ **/
+final class TokenBucket {
+
+    private static final long BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long INCREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long COOLDOWN_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final double DECREASE_FACTOR = 0.7;
+    private static final double NEAR_CEILING_DECREASE_FACTOR = 0.9;
+    private static final double CEILING_FACTOR = 0.97;
+    private static final double NEAR_CEILING_MARGIN = 1.1;
+    private static final double PROBE_FRACTION = 0.01;
+
+    private final double maxRate;
+    private final double minRate;
+    private double rate;
+    private double ceiling;
+    private long nextFree;
+    private long lastIncrease;
+    private long lastDecrease;
+    private boolean saturated;
+    private volatile long lastUsed;
+
+    /**
+     * @param maxRate the highest rate in requests per second, also the initial one
+     * @param minRate the rate below which throttling no longer reduces it
+     */
+    TokenBucket(double maxRate, double minRate, long now) {
+        this.maxRate = maxRate;
+        this.minRate = Math.min(minRate, maxRate);
+        this.rate = maxRate;
+        this.ceiling = maxRate;
+        this.nextFree = now;
+        this.lastIncrease = now;
+        this.lastDecrease = now - COOLDOWN_NANOS;
+        this.lastUsed = now;
+    }
+
+    /**
+     * Reserves the next slot.
+     *
+     * @param now     the current {@link System#nanoTime()}
+     * @param maxWait the longest acceptable wait in nanoseconds
+     * @return the nanoseconds to wait before sending the request, or {@code -1} if that would exceed
+     * {@code maxWait}; nothing is reserved in that case
+     */
+    synchronized long reserve(long now, long maxWait) {
+        lastUsed = now;
+        grow(now);
+        if (nextFree - (now - BURST_NANOS) < 0) {
+            nextFree = now - BURST_NANOS;
+        }
+        long wait = Math.max(0, nextFree - now);
+        if (wait > maxWait) {
+            saturated = true;
+            return -1;
+        }
+        if (wait > 0) {
+            saturated = true;
+        }
+        nextFree += (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        return wait;
+    }
+
+    /**
+     * Reacts to a throttling response.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    synchronized void throttled(long now) {
+        if (now - lastDecrease < COOLDOWN_NANOS) {
+            return;
+        }
+        if (ceiling < maxRate && rate <= ceiling * NEAR_CEILING_MARGIN) {
+            // throttled again near the remembered limit, which therefore lies just below the current rate
+            ceiling = rate * CEILING_FACTOR;
+            rate = Math.max(minRate, rate * NEAR_CEILING_DECREASE_FACTOR);
+        } else {
+            ceiling = rate;
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+        }
+        lastDecrease = now;
+        lastIncrease = now;
+        saturated = false;
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+
+    long lastUsed() {
+        return lastUsed;
+    }
+
+    private void grow(long now) {
+        if (now - lastIncrease < INCREASE_INTERVAL_NANOS) {
+            return;
+        }
+        if (saturated && rate < maxRate) {
+            double probe = Math.max(1, rate * PROBE_FRACTION);
+            rate = rate < ceiling
+                    ? Math.min(ceiling, rate + Math.max(probe, (ceiling - rate) / 2))
+                    : Math.min(maxRate, rate + probe);
+        }
+        lastIncrease = now;
+        saturated = false;
+    }
+}
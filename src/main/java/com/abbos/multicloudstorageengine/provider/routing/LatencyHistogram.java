@@ -0,0 +1,117 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram over a moving time window.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into eight sub-buckets, so a
+ * percentile is reported within 12.5% of the true value from nanoseconds to hours in under 500
+ * counters. The window is kept as two halves; recording always goes to the current half and the older
+ * half is cleared when it falls out of the window, so percentiles cover between one half and one full
+ * window of recent samples. Concurrent rotation may drop a few samples, which is acceptable for routing.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:25
+ **/
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private final long halfWindowNanos;
+    private final AtomicLongArray[] halves = {new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS)};
+    private final AtomicLong epoch;
+
+    LatencyHistogram(long windowNanos) {
+        this.halfWindowNanos = Math.max(1, windowNanos / 2);
+        this.epoch = new AtomicLong(System.nanoTime() / halfWindowNanos);
+    }
+
+    void record(long nanos) {
+        long current = rotate();
+        halves[(int) (current & 1)].incrementAndGet(index(Math.max(0, nanos)));
+    }
+
+    /**
+     * @return the number of samples in the window
+     */
+    long count() {
+        rotate();
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += halves[0].get(i) + halves[1].get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @param quantile the quantile between 0 and 1
+     * @return the upper bound of the bucket holding the quantile, in nanoseconds, or {@code -1} if the
+     * window holds fewer than {@code minSamples} samples
+     */
+    long percentile(double quantile, long minSamples) {
+        rotate();
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = halves[0].get(i) + halves[1].get(i);
+            total += counts[i];
+        }
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Advances the window to the current half, clearing the half that fell out of it.
+     *
+     * @return the current half-window number
+     */
+    private long rotate() {
+        long current = System.nanoTime() / halfWindowNanos;
+        long seen = epoch.get();
+        if (current != seen && epoch.compareAndSet(seen, current)) {
+            clear(halves[(int) (current & 1)]);
+            if (current - seen > 1) {
+                clear(halves[(int) ((current + 1) & 1)]);
+            }
+        }
+        return current;
+    }
+
+    private static void clear(AtomicLongArray half) {
+        for (int i = 0; i < BUCKETS; i++) {
+            half.set(i, 0);
+        }
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS | index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
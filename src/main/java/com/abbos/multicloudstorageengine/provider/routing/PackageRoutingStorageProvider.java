@@ -0,0 +1,222 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Storage facade that sends every key to the provider owning its package.
+ * <p>
+ * Packages are key prefixes; a key belongs to the longest package it starts with and to the fallback
+ * provider when it starts with none, so {@code archive/} and {@code archive/hot/} may live on different
+ * clouds. Packages are compiled into a {@link PrefixTrie} once, which keeps routing cost independent of
+ * the number of packages. Several packages may map to the same provider, or to differently tuned
+ * instances of it. Batch operations are split by provider and their results merged in request order.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider storage = new PackageRoutingStorageProvider(
+ *         Map.of("media/", s3StorageProvider, "archive/", azureBlobStorageProvider), gcsStorageProvider, false);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:35
+ **/
+public final class PackageRoutingStorageProvider implements StorageProvider {
+
+    private static final String PROVIDER_NAME = "Package Routed Storage :: (%d packages)";
+    private final PrefixTrie<StorageProvider> packages;
+    private final StorageProvider fallback;
+    private final String providerName;
+    private final boolean logEnabled;
+    private final Logger logger = LoggerFactory.getLogger(PackageRoutingStorageProvider.class);
+
+    /**
+     * @param packages   the provider serving each package
+     * @param fallback   the provider serving keys outside every package, or {@code null} to reject them
+     * @param logEnabled whether routing failures are logged
+     */
+    public PackageRoutingStorageProvider(Map<String, StorageProvider> packages, StorageProvider fallback, boolean logEnabled) {
+        this.packages = new PrefixTrie<>(packages);
+        this.fallback = fallback;
+        this.providerName = PROVIDER_NAME.formatted(packages.size());
+        this.logEnabled = logEnabled;
+    }
+
+    /**
+     * Resolves the provider storing a key.
+     *
+     * @param key the key
+     * @return the provider of the longest matching package, or the fallback
+     * @throws FileStorageException if no package matches and there is no fallback
+     */
+    public StorageProvider route(String key) {
+        StorageProvider provider = packages.longestPrefix(key);
+        if (provider != null) {
+            return provider;
+        }
+        if (fallback != null) {
+            return fallback;
+        }
+        logWarn("Rejected key '{}' outside all {} packages", key, packages.size());
+        throw new FileStorageException("No storage package matches key: %s".formatted(key));
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return Capabilities.none();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        route(key).upload(key, data, context);
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        route(key).upload(key, data, contentLength, context);
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        route(key).upload(key, channel, contentLength, context);
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        route(key).delete(key, context);
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return route(key).download(key, context);
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        route(key).download(key, out, context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        route(key).download(key, channel, context);
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        return route(key).download(key, offset, length, context);
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        route(key).download(key, target, context);
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return route(key).stat(key, context);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return route(key).getETag(key, context);
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return route(key).getChecksum(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return split(keys, (provider, group) -> provider.deleteAll(group, context));
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return split(objects.keySet(), (provider, group) -> {
+            Map<String, byte[]> payloads = new LinkedHashMap<>();
+            group.forEach(key -> payloads.put(key, objects.get(key)));
+            return provider.uploadAll(payloads, context);
+        });
+    }
+
+    @Override
+    public BatchResult<byte[]> downloadAll(Collection<String> keys, ExecutionContext context) {
+        return split(keys, (provider, group) -> provider.downloadAll(group, context));
+    }
+
+    /**
+     * Groups the keys by provider, runs one batch per provider and merges the outcomes in request order.
+     * Keys without a provider fail without being sent anywhere, and a batch that throws fails all of its keys.
+     */
+    private <T> BatchResult<T> split(Collection<String> keys,
+                                     BiFunction<StorageProvider, Collection<String>, BatchResult<T>> batch) {
+        Collection<String> distinct = new LinkedHashSet<>(keys);
+        Map<StorageProvider, Collection<String>> groups = new IdentityHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (String key : distinct) {
+            try {
+                groups.computeIfAbsent(route(key), ignored -> new LinkedHashSet<>()).add(key);
+            } catch (FileStorageException e) {
+                failures.put(key, e);
+            }
+        }
+        Map<String, BatchResult<T>> outcomes = new LinkedHashMap<>();
+        groups.forEach((provider, group) -> {
+            try {
+                BatchResult<T> result = batch.apply(provider, group);
+                group.forEach(key -> outcomes.put(key, result));
+            } catch (RuntimeException e) {
+                logError("Batch of {} keys failed on provider '{}'", e, group.size(), provider.getProviderName());
+                group.forEach(key -> failures.put(key, e));
+            }
+        });
+        BatchResult.Builder<T> merged = BatchResult.builder();
+        for (String key : distinct) {
+            BatchResult<T> result = outcomes.get(key);
+            if (result == null) {
+                merged.failure(key, failures.get(key));
+            } else if (result.getFailed().containsKey(key)) {
+                merged.failure(key, result.getFailed().get(key));
+            } else {
+                merged.success(key, result.getSucceeded().get(key));
+            }
+        }
+        return merged.build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable longest-prefix lookup over a fixed set of string prefixes.
+ * <p>
+ * Prefixes are compiled into a character trie whose nodes keep their edges in sorted arrays, so a
+ * lookup walks the key once with a binary search per character and never looks at more characters
+ * than the longest prefix has. Its cost depends on the key, not on the number of prefixes.
+ * </p>
+ *
+ * @param <V> the type of the value mapped to a prefix
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:25
+ **/
+final class PrefixTrie<V> {
+
+    private final Node<V> root;
+    private final int size;
+
+    /**
+     * @param prefixes the prefixes and their values; the empty prefix matches every key
+     */
+    PrefixTrie(Map<String, V> prefixes) {
+        this.root = compile(new TreeMap<>(prefixes), "");
+        this.size = prefixes.size();
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the value of the longest prefix of {@code key}, or {@code null} if no prefix matches
+     */
+    V longestPrefix(String key) {
+        Node<V> node = root;
+        V match = node.value;
+        for (int i = 0, n = key.length(); i < n; i++) {
+            int index = Arrays.binarySearch(node.labels, key.charAt(i));
+            if (index < 0) {
+                break;
+            }
+            node = node.children[index];
+            if (node.value != null) {
+                match = node.value;
+            }
+        }
+        return match;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Builds the node for {@code path} from the sorted prefixes that start with it.
+     */
+    private static <V> Node<V> compile(TreeMap<String, V> sorted, String path) {
+        V value = sorted.get(path);
+        int depth = path.length();
+        StringBuilder labels = new StringBuilder();
+        for (String prefix : sorted.tailMap(path, false).keySet()) {
+            if (!prefix.startsWith(path)) {
+                break;
+            }
+            char label = prefix.charAt(depth);
+            if (labels.isEmpty() || labels.charAt(labels.length() - 1) != label) {
+                labels.append(label);
+            }
+        }
+        char[] edges = labels.toString().toCharArray();
+        @SuppressWarnings("unchecked")
+        Node<V>[] children = new Node[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            children[i] = compile(sorted, path + edges[i]);
+        }
+        return new Node<>(edges, children, value);
+    }
+
+    private record Node<V>(char[] labels, Node<V>[] children, V value) {
+    }
+}
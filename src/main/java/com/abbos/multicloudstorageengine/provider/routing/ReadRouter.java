@@ -0,0 +1,328 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import com.abbos.multicloudstorageengine.config.RoutingConfig;
+import com.abbos.multicloudstorageengine.exception.ChecksumMismatchException;
+import com.abbos.multicloudstorageengine.exception.ProviderUnavailableException;
+import com.azure.core.exception.HttpResponseException;
+import com.google.cloud.BaseServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Chooses the replica serving a read and hedges slow reads, independently of the execution model.
+ * <p>
+ * Every replica keeps a {@link LatencyHistogram} of its successful reads. A read is sent to the
+ * healthy replica with the lowest latency at the rank percentile; replicas without enough recent
+ * samples rank first so that they are measured again, and ejected replicas rank last. If the read
+ * has not completed once the chosen replica's hedge-percentile latency has passed, a duplicate is
+ * sent to the next replica and the first successful answer wins; the other is cancelled. A read that
+ * failed because of the replica moves on to the next replica immediately. Hedges are limited to the
+ * configured share of all reads so that a slow provider cannot double the load on the others.
+ * </p>
+ * <p>
+ * Only failures of the replica count against it: unavailability, corrupt content, I/O errors, timeouts,
+ * throttling and server errors. A replica is ejected for the configured duration after a run of consecutive
+ * such failures, and takes traffic again as a last resort or once the ejection expires. Not-found and other
+ * client errors are the answer to the read itself, so they complete it without failing over.
+ * </p>
+ *
+ * @param <P> the provider type
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:35
+ **/
+final class ReadRouter<P> {
+
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private final List<Route> routes;
+    private final double rankPercentile;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final long defaultHedgeDelayNanos;
+    private final long minHedgeDelayNanos;
+    private final double hedgeBudget;
+    private final int minSamples;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    ReadRouter(Map<String, P> replicas, RoutingConfig config) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Routing requires at least one replica");
+        }
+        long windowNanos = config.getWindow().toNanos();
+        List<Route> list = new ArrayList<>(replicas.size());
+        replicas.forEach((name, provider) -> list.add(new Route(name, provider, new LatencyHistogram(windowNanos))));
+        this.routes = List.copyOf(list);
+        this.rankPercentile = config.getRankPercentile();
+        this.hedgeEnabled = config.isHedgeEnabled();
+        this.hedgePercentile = config.getHedgePercentile();
+        this.defaultHedgeDelayNanos = config.getDefaultHedgeDelay().toNanos();
+        this.minHedgeDelayNanos = config.getMinHedgeDelay().toNanos();
+        this.hedgeBudget = config.getHedgeBudget();
+        this.minSamples = config.getMinSamples();
+        this.failureThreshold = config.getFailureThreshold();
+        this.ejectionNanos = config.getEjectionDuration().toNanos();
+    }
+
+    /**
+     * @return the replica that would serve a read now
+     */
+    P first() {
+        return rank().getFirst().provider;
+    }
+
+    /**
+     * Runs a read on the best replica, hedging and failing over as described above.
+     *
+     * @param read starts the read against a replica
+     * @param <T>  the type of the result
+     * @return a {@link CompletableFuture} with the first successful result, or the last failure with the
+     * earlier ones suppressed; cancelling it cancels every attempt in flight
+     */
+    <T> CompletableFuture<T> execute(Function<P, CompletableFuture<T>> read) {
+        reads.increment();
+        List<Route> ranked = rank();
+        Hedge<T> hedge = new Hedge<>(ranked, read);
+        hedge.launch();
+        long delay = hedgeDelayNanos(ranked.getFirst());
+        if (delay >= 0 && ranked.size() > 1) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(hedge::hedge);
+        }
+        return hedge.result;
+    }
+
+    List<RouteStatus> status() {
+        List<RouteStatus> status = new ArrayList<>(routes.size());
+        long now = System.nanoTime();
+        for (Route route : routes) {
+            route.refresh(now, true);
+            status.add(new RouteStatus(route.name, !route.isEjected(now), route.latency.count(),
+                    route.rankNanos, route.hedgeNanos, route.requests.sum(), route.failures.sum(),
+                    route.hedges.sum(), route.hedgeWins.sum()));
+        }
+        return status;
+    }
+
+    private List<Route> rank() {
+        long now = System.nanoTime();
+        List<Route> ranked = new ArrayList<>(routes);
+        for (Route route : ranked) {
+            route.refresh(now, false);
+        }
+        ranked.sort(Comparator.comparing((Route route) -> route.isEjected(now))
+                .thenComparingLong(route -> route.rankNanos));
+        return ranked;
+    }
+
+    private long hedgeDelayNanos(Route first) {
+        if (!hedgeEnabled || hedges.sum() >= hedgeBudget * reads.sum()) {
+            return -1;
+        }
+        long delay = first.hedgeNanos >= 0 ? first.hedgeNanos : defaultHedgeDelayNanos;
+        return Math.max(minHedgeDelayNanos, delay);
+    }
+
+    private void succeeded(Route route, long nanos) {
+        route.latency.record(nanos);
+        route.consecutiveFailures.set(0);
+    }
+
+    private void failed(Route route) {
+        route.failures.increment();
+        if (route.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            route.ejectedUntil = System.nanoTime() + ejectionNanos;
+            route.consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Tells a failure of the replica from the answer of a healthy one. Service errors are classified by
+     * their status, missing and inaccessible files are answers, and any other I/O error or timeout in the
+     * cause chain is a fault.
+     *
+     * @param t the failure of a read
+     * @return {@code true} if the failure should count against the replica and move the read on
+     */
+    static boolean isReplicaFault(Throwable t) {
+        boolean transientCause = false;
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProviderUnavailableException || cause instanceof ChecksumMismatchException) {
+                return true;
+            }
+            if (cause instanceof SdkServiceException e) {
+                return e.retryable() || isServerError(e.statusCode());
+            }
+            if (cause instanceof SdkClientException) {
+                return true;
+            }
+            if (cause instanceof BaseServiceException e) {
+                return e.isRetryable() || isServerError(e.getCode());
+            }
+            if (cause instanceof HttpResponseException e) {
+                return e.getResponse() == null || isServerError(e.getResponse().getStatusCode());
+            }
+            if (cause instanceof NoSuchFileException || cause instanceof FileNotFoundException
+                    || cause instanceof AccessDeniedException) {
+                return false;
+            }
+            transientCause |= cause instanceof IOException || cause instanceof TimeoutException;
+        }
+        return transientCause;
+    }
+
+    private static boolean isServerError(int status) {
+        return status == 408 || status == 429 || status >= 500;
+    }
+
+    /**
+     * One replica with its latency window and health.
+     */
+    private final class Route {
+        private final String name;
+        private final P provider;
+        private final LatencyHistogram latency;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private volatile long ejectedUntil;
+        private volatile long refreshedAt;
+        private volatile long rankNanos = -1;
+        private volatile long hedgeNanos = -1;
+
+        private Route(String name, P provider, LatencyHistogram latency) {
+            this.name = name;
+            this.provider = provider;
+            this.latency = latency;
+            this.ejectedUntil = System.nanoTime();
+            this.refreshedAt = ejectedUntil - REFRESH_NANOS;
+        }
+
+        /**
+         * Recomputes the cached percentiles at most every {@link #REFRESH_NANOS}; an unsampled replica
+         * ranks at {@code -1}, ahead of every measured one.
+         */
+        private void refresh(long now, boolean force) {
+            if (!force && now - refreshedAt < REFRESH_NANOS) {
+                return;
+            }
+            refreshedAt = now;
+            rankNanos = latency.percentile(rankPercentile, minSamples);
+            hedgeNanos = latency.percentile(hedgePercentile, minSamples);
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntil - now > 0;
+        }
+    }
+
+    /**
+     * The attempts of a single read.
+     */
+    private final class Hedge<T> {
+        private final List<Route> ranked;
+        private final Function<P, CompletableFuture<T>> read;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile Throwable failure;
+
+        private Hedge(List<Route> ranked, Function<P, CompletableFuture<T>> read) {
+            this.ranked = ranked;
+            this.read = read;
+            result.whenComplete((ignored, t) -> attempts.forEach(attempt -> attempt.cancel(false)));
+        }
+
+        private void hedge() {
+            if (!result.isDone() && launch(true)) {
+                hedges.increment();
+            }
+        }
+
+        private boolean launch() {
+            return launch(false);
+        }
+
+        private boolean launch(boolean hedged) {
+            int index = next.getAndIncrement();
+            if (index >= ranked.size() || result.isDone()) {
+                return false;
+            }
+            Route route = ranked.get(index);
+            route.requests.increment();
+            if (hedged) {
+                route.hedges.increment();
+            }
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = read.apply(route.provider);
+            } catch (Throwable t) {
+                attempt = CompletableFuture.failedFuture(t);
+            }
+            attempts.add(attempt);
+            if (result.isDone()) {
+                attempt.cancel(false);
+            }
+            attempt.whenComplete((value, t) -> completed(route, hedged, System.nanoTime() - start, value, t));
+            return true;
+        }
+
+        private void completed(Route route, boolean hedged, long nanos, T value, Throwable t) {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (cause == null) {
+                succeeded(route, nanos);
+                if (result.complete(value) && hedged) {
+                    route.hedgeWins.increment();
+                }
+                return;
+            }
+            if (cause instanceof CancellationException) {
+                if (!hedged) {
+                    // the first choice lost to a hedge, so it takes at least this long
+                    route.latency.record(nanos);
+                }
+                return;
+            }
+            if (!isReplicaFault(cause)) {
+                // the replica answered; any other would give the same answer
+                route.consecutiveFailures.set(0);
+                result.completeExceptionally(cause);
+                return;
+            }
+            failed(route);
+            synchronized (this) {
+                if (failure != null) {
+                    cause.addSuppressed(failure);
+                }
+                failure = cause;
+            }
+            inFlight.decrementAndGet();
+            if (!launch() && inFlight.get() == 0) {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the routing state of one replica. Latencies cover the configured window;
+ * counters are cumulative since the router was created.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:45
+ **/
+public final class RouteStatus {
+    private final String name;
+    private final boolean healthy;
+    private final long sampleCount;
+    private final long rankLatencyNanos;
+    private final long hedgeLatencyNanos;
+    private final long requestCount;
+    private final long failureCount;
+    private final long hedgeCount;
+    private final long hedgeWinCount;
+
+    RouteStatus(String name, boolean healthy, long sampleCount, long rankLatencyNanos, long hedgeLatencyNanos,
+                long requestCount, long failureCount, long hedgeCount, long hedgeWinCount) {
+        this.name = name;
+        this.healthy = healthy;
+        this.sampleCount = sampleCount;
+        this.rankLatencyNanos = rankLatencyNanos;
+        this.hedgeLatencyNanos = hedgeLatencyNanos;
+        this.requestCount = requestCount;
+        this.failureCount = failureCount;
+        this.hedgeCount = hedgeCount;
+        this.hedgeWinCount = hedgeWinCount;
+    }
+
+    /**
+     * @return the name the replica was registered under
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code false} while the replica is ejected after consecutive failures
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return the number of latency samples in the window
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return the latency at the rank percentile, or empty until the window holds enough samples
+     */
+    public Optional<Duration> getRankLatency() {
+        return rankLatencyNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(rankLatencyNanos));
+    }
+
+    /**
+     * @return the latency at the hedge percentile, or empty until the window holds enough samples
+     */
+    public Optional<Duration> getHedgeLatency() {
+        return hedgeLatencyNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(hedgeLatencyNanos));
+    }
+
+    /**
+     * @return the number of reads sent to the replica, hedges included
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of reads the replica failed
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of hedged duplicates sent to the replica
+     */
+    public long getHedgeCount() {
+        return hedgeCount;
+    }
+
+    /**
+     * @return the number of hedged duplicates that answered before the original read
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteStatus{name=" + name + ", healthy=" + healthy + ", samples=" + sampleCount
+                + ", rankLatency=" + getRankLatency().orElse(null) + ", hedgeLatency=" + getHedgeLatency().orElse(null)
+                + ", requests=" + requestCount + ", failures=" + failureCount + ", hedges=" + hedgeCount
+                + ", hedgeWins=" + hedgeWinCount + "}";
+    }
+}
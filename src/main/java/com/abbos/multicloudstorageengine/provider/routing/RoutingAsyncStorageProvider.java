@@ -0,0 +1,151 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import com.abbos.multicloudstorageengine.config.RoutingConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.AsyncStorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Latency-aware read routing over replicas of the same objects for an {@link AsyncStorageProvider},
+ * with the same semantics as {@link RoutingStorageProvider}. Losing attempts are cancelled, and so is
+ * every attempt in flight when the returned future is cancelled.
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:55
+ **/
+public final class RoutingAsyncStorageProvider implements AsyncStorageProvider {
+
+    private static final String PROVIDER_NAME = "Routed Storage :: (%s Async)";
+    private final AsyncStorageProvider writer;
+    private final ReadRouter<AsyncStorageProvider> router;
+    private final String providerName;
+    private final boolean logEnabled;
+    private final Logger logger = LoggerFactory.getLogger(RoutingAsyncStorageProvider.class);
+
+    /**
+     * @param writer   the provider receiving writes and serving entity tags
+     * @param replicas the providers serving reads, keyed by the name used in status reports
+     * @param config   the routing configuration
+     */
+    public RoutingAsyncStorageProvider(AsyncStorageProvider writer, Map<String, AsyncStorageProvider> replicas,
+                                       RoutingConfig config) {
+        this.writer = Objects.requireNonNull(writer, "Writer provider cannot be null");
+        this.router = new ReadRouter<>(replicas, config);
+        this.providerName = PROVIDER_NAME.formatted(String.join(", ", replicas.keySet()));
+        this.logEnabled = config.isLogEnabled();
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return writer.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return writer.upload(key, data, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return writer.upload(key, data, contentLength, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return writer.upload(key, channel, contentLength, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key, ExecutionContext context) {
+        return writer.delete(key, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, ExecutionContext context) {
+        return router.execute(provider -> provider.download(key, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, OutputStream out, ExecutionContext context) {
+        return router.first().download(key, out, context);
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return router.first().download(key, channel, context);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return router.execute(provider -> provider.download(key, offset, length, context));
+    }
+
+    @Override
+    public CompletableFuture<Void> download(String key, Path target, ExecutionContext context) {
+        return router.first().download(key, target, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectMetadata>> stat(String key, ExecutionContext context) {
+        return writer.stat(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> getETag(String key, ExecutionContext context) {
+        return writer.getETag(key, context);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Checksum>> getChecksum(String key, ExecutionContext context) {
+        return writer.getChecksum(key, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return writer.deleteAll(keys, context);
+    }
+
+    @Override
+    public CompletableFuture<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return writer.uploadAll(objects, context);
+    }
+
+    /**
+     * @return the routing state of every replica, in registration order
+     */
+    public List<RouteStatus> getRouteStatus() {
+        return router.status();
+    }
+}
@@ -0,0 +1,152 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import com.abbos.multicloudstorageengine.config.RoutingConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.ReactiveStorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Latency-aware read routing over replicas of the same objects for a {@link ReactiveStorageProvider},
+ * with the same semantics as {@link RoutingStorageProvider}. Routing happens on subscription; cancelling
+ * the subscription cancels every attempt in flight. {@link #downloadStream} goes to the currently
+ * fastest replica without hedging.
+ *
+ * @author Aliabbos Ashurov
+ * @since 18/October/2026  00:00
+ **/
+public final class RoutingReactiveStorageProvider implements ReactiveStorageProvider {
+
+    private static final String PROVIDER_NAME = "Routed Storage :: (%s Reactive)";
+    private final ReactiveStorageProvider writer;
+    private final ReadRouter<ReactiveStorageProvider> router;
+    private final String providerName;
+    private final boolean logEnabled;
+    private final Logger logger = LoggerFactory.getLogger(RoutingReactiveStorageProvider.class);
+
+    /**
+     * @param writer   the provider receiving writes
+     * @param replicas the providers serving reads, keyed by the name used in status reports
+     * @param config   the routing configuration
+     */
+    public RoutingReactiveStorageProvider(ReactiveStorageProvider writer, Map<String, ReactiveStorageProvider> replicas,
+                                          RoutingConfig config) {
+        this.writer = Objects.requireNonNull(writer, "Writer provider cannot be null");
+        this.router = new ReadRouter<>(replicas, config);
+        this.providerName = PROVIDER_NAME.formatted(String.join(", ", replicas.keySet()));
+        this.logEnabled = config.isLogEnabled();
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return writer.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public Mono<Void> upload(String key, byte[] data, ExecutionContext context) {
+        return writer.upload(key, data, context);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        return writer.upload(key, data, contentLength, context);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        return writer.upload(key, channel, contentLength, context);
+    }
+
+    @Override
+    public Mono<Void> upload(String key, Flux<ByteBuffer> data, long contentLength, ExecutionContext context) {
+        return writer.upload(key, data, contentLength, context);
+    }
+
+    @Override
+    public Mono<Void> delete(String key, ExecutionContext context) {
+        return writer.delete(key, context);
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, ExecutionContext context) {
+        return Mono.fromFuture(() -> router.execute(provider -> provider.download(key, context).toFuture()), false);
+    }
+
+    @Override
+    public Mono<Void> download(String key, OutputStream out, ExecutionContext context) {
+        return Mono.defer(() -> router.first().download(key, out, context));
+    }
+
+    @Override
+    public Mono<Void> download(String key, WritableByteChannel channel, ExecutionContext context) {
+        return Mono.defer(() -> router.first().download(key, channel, context));
+    }
+
+    @Override
+    public Mono<byte[]> download(String key, long offset, long length, ExecutionContext context) {
+        return Mono.fromFuture(() -> router.execute(provider -> provider.download(key, offset, length, context).toFuture()), false);
+    }
+
+    @Override
+    public Mono<Void> download(String key, Path target, ExecutionContext context) {
+        return Mono.defer(() -> router.first().download(key, target, context));
+    }
+
+    @Override
+    public Flux<ByteBuffer> downloadStream(String key, ExecutionContext context) {
+        return Flux.defer(() -> router.first().downloadStream(key, context));
+    }
+
+    @Override
+    public Mono<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return writer.stat(key, context);
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return writer.deleteAll(keys, context);
+    }
+
+    @Override
+    public Mono<BatchResult<Void>> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return writer.uploadAll(objects, context);
+    }
+
+    /**
+     * @return the routing state of every replica, in registration order
+     */
+    public List<RouteStatus> getRouteStatus() {
+        return router.status();
+    }
+}
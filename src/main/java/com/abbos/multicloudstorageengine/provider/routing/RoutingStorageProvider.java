@@ -0,0 +1,195 @@
+package com.abbos.multicloudstorageengine.provider.routing;
+
+import com.abbos.multicloudstorageengine.config.RoutingConfig;
+import com.abbos.multicloudstorageengine.context.ExecutionContext;
+import com.abbos.multicloudstorageengine.exception.FileStorageException;
+import com.abbos.multicloudstorageengine.model.BatchResult;
+import com.abbos.multicloudstorageengine.model.Capabilities;
+import com.abbos.multicloudstorageengine.model.Checksum;
+import com.abbos.multicloudstorageengine.model.ObjectMetadata;
+import com.abbos.multicloudstorageengine.provider.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Latency-aware read routing over replicas of the same objects, for blocking callers.
+ * <p>
+ * Byte-array and range downloads are routed and hedged by a {@link ReadRouter}: each attempt runs on
+ * the storage executor while the caller waits at most {@link ExecutionContext#getTimeout()} for the
+ * first successful one. Stream, channel and file downloads go to the currently fastest replica without
+ * hedging, since two attempts cannot share one output. Writes, deletes and entity tag lookups go to the
+ * writer, typically a {@code ReplicatingStorageProvider} keeping the replicas in sync; tags are never
+ * taken from a replica because they are not comparable across providers.
+ * </p>
+ * <p>
+ * Replicas updated asynchronously may serve a previous version of an object for as long as they lag.
+ * </p>
+ *
+ * <pre>{@code
+ * StorageProvider storage = new RoutingStorageProvider(replicating,
+ *         Map.of("aws", s3StorageProvider, "gcs", gcsStorageProvider), routingConfig, storageExecutor);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  23:50
+ **/
+public final class RoutingStorageProvider implements StorageProvider {
+
+    private static final String PROVIDER_NAME = "Routed Storage :: (%s)";
+    private final StorageProvider writer;
+    private final ReadRouter<StorageProvider> router;
+    private final Executor executor;
+    private final String providerName;
+    private final boolean logEnabled;
+    private final Logger logger = LoggerFactory.getLogger(RoutingStorageProvider.class);
+
+    /**
+     * @param writer   the provider receiving writes and serving entity tags
+     * @param replicas the providers serving reads, keyed by the name used in status reports
+     * @param config   the routing configuration
+     * @param executor the executor running read attempts
+     */
+    public RoutingStorageProvider(StorageProvider writer, Map<String, StorageProvider> replicas,
+                                  RoutingConfig config, Executor executor) {
+        this.writer = Objects.requireNonNull(writer, "Writer provider cannot be null");
+        this.router = new ReadRouter<>(replicas, config);
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.providerName = PROVIDER_NAME.formatted(String.join(", ", replicas.keySet()));
+        this.logEnabled = config.isLogEnabled();
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return writer.getCapabilities();
+    }
+
+    @Override
+    public boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public void upload(String key, byte[] data, ExecutionContext context) {
+        writer.upload(key, data, context);
+    }
+
+    @Override
+    public void upload(String key, InputStream data, long contentLength, ExecutionContext context) {
+        writer.upload(key, data, contentLength, context);
+    }
+
+    @Override
+    public void upload(String key, ReadableByteChannel channel, long contentLength, ExecutionContext context) {
+        writer.upload(key, channel, contentLength, context);
+    }
+
+    @Override
+    public void delete(String key, ExecutionContext context) {
+        writer.delete(key, context);
+    }
+
+    @Override
+    public byte[] download(String key, ExecutionContext context) {
+        return read(key, context, provider -> provider.download(key, context));
+    }
+
+    @Override
+    public void download(String key, OutputStream out, ExecutionContext context) {
+        router.first().download(key, out, context);
+    }
+
+    @Override
+    public void download(String key, WritableByteChannel channel, ExecutionContext context) {
+        router.first().download(key, channel, context);
+    }
+
+    @Override
+    public byte[] download(String key, long offset, long length, ExecutionContext context) {
+        return read(key, context, provider -> provider.download(key, offset, length, context));
+    }
+
+    @Override
+    public void download(String key, Path target, ExecutionContext context) {
+        router.first().download(key, target, context);
+    }
+
+    @Override
+    public Optional<ObjectMetadata> stat(String key, ExecutionContext context) {
+        return writer.stat(key, context);
+    }
+
+    @Override
+    public Optional<String> getETag(String key, ExecutionContext context) {
+        return writer.getETag(key, context);
+    }
+
+    @Override
+    public Optional<Checksum> getChecksum(String key, ExecutionContext context) {
+        return writer.getChecksum(key, context);
+    }
+
+    @Override
+    public BatchResult<Void> deleteAll(Collection<String> keys, ExecutionContext context) {
+        return writer.deleteAll(keys, context);
+    }
+
+    @Override
+    public BatchResult<Void> uploadAll(Map<String, byte[]> objects, ExecutionContext context) {
+        return writer.uploadAll(objects, context);
+    }
+
+    /**
+     * @return the routing state of every replica, in registration order
+     */
+    public List<RouteStatus> getRouteStatus() {
+        return router.status();
+    }
+
+    private <T> T read(String key, ExecutionContext context, Function<StorageProvider, T> read) {
+        CompletableFuture<T> result = router.execute(
+                provider -> CompletableFuture.supplyAsync(() -> read.apply(provider), executor));
+        try {
+            return result.get(context.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e.getCause()), e.getCause());
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            logError("Timed out reading key '{}' from any replica", e, key);
+            throw new FileStorageException("Failed to download key: %s :::: %s".formatted(key, e), e);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Interrupted while downloading key: %s".formatted(key), e);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.abbos.multicloudstorageengine.scheduler;
+
+import com.abbos.multicloudstorageengine.context.ExecutionContext.Priority;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded scheduler that admits at most {@code maxConcurrency} storage operations at a time and
+ * queues the rest per {@link Priority}.
+ * <p>
+ * Queued operations are dispatched with smooth weighted round-robin across the non-empty priority
+ * queues, so HIGH requests overtake bulk LOW traffic without starving it completely. A slot stays
+ * occupied until the operation's {@link CompletionStage} completes, which lets the concurrency limit
+ * mirror the size of the upstream connection pool for both blocking and natively asynchronous work.
+ * </p>
+ * <p>
+ * An operation submitted while a slot is free and nothing is queued takes the slot right away, in the same
+ * critical section that checks the limit, so concurrent submissions can neither exceed the concurrency
+ * limit nor overfill a queue. Queue depth and queueing delay are tracked per priority and exposed through
+ * {@link #stats()}.
+ * </p>
+ * <p>
+ * An operation whose future completes before it is dispatched, because it was cancelled or waited longer
+ * than it may, is removed from its queue and never started. Time limits of an operation start when it
+ * is dispatched, so queueing does not count against them.
+ * </p>
+ *
+ * @author Aliabbos Ashurov
+ * @since 17/October/2026  14:10
+ **/
+public final class PriorityScheduler {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final Map<Priority, Lane> lanes = new EnumMap<>(Priority.class);
+    private final Object lock = new Object();
+    private int running;
+
+    /**
+     * Constructs a {@code PriorityScheduler}.
+     *
+     * @param executor       the executor running dispatched operations
+     * @param maxConcurrency the maximum number of operations in flight
+     * @param queueCapacity  the maximum number of queued operations per priority
+     * @param weights        the dispatch weight of every priority
+     */
+    public PriorityScheduler(Executor executor, int maxConcurrency, int queueCapacity, Map<Priority, Integer> weights) {
+        if (maxConcurrency < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive and queue capacity non-negative");
+        }
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        for (Priority priority : Priority.values()) {
+            int weight = weights.getOrDefault(priority, 1);
+            if (weight < 1) {
+                throw new IllegalArgumentException("Weight of " + priority + " must be positive");
+            }
+            lanes.put(priority, new Lane(weight));
+        }
+    }
+
+    /**
+     * Queues an operation and starts it once a slot is free and its priority is selected.
+     *
+     * @param priority the priority of the operation
+     * @param task     starts the operation on an executor thread and returns its completion stage
+     * @param <T>      the type of the result
+     * @return a {@link CompletableFuture} completing with the operation, or failing with
+     * {@link RejectedExecutionException} if the priority queue is full
+     */
+    public <T> CompletableFuture<T> schedule(Priority priority, Supplier<? extends CompletionStage<T>> task) {
+        return schedule(priority, null, null, task);
+    }
+
+    /**
+     * Queues an operation with time limits. An operation not dispatched within {@code maxWait} is removed
+     * from the queue without being started; once dispatched, its future fails after {@code timeout}. A timed
+     * out operation keeps its slot until its completion stage completes.
+     *
+     * @param priority the priority of the operation
+     * @param maxWait  the longest time the operation may wait in the queue, or {@code null} for no limit
+     * @param timeout  the longest time the operation may run once dispatched, or {@code null} for no limit
+     * @param task     starts the operation on an executor thread and returns its completion stage
+     * @param <T>      the type of the result
+     * @return a {@link CompletableFuture} completing with the operation, or failing with
+     * {@link RejectedExecutionException} if the priority queue is full and with {@link TimeoutException}
+     * if a time limit elapses
+     */
+    public <T> CompletableFuture<T> schedule(Priority priority, Duration maxWait, Duration timeout,
+                                             Supplier<? extends CompletionStage<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Lane lane = lanes.get(Objects.requireNonNull(priority, "Priority cannot be null"));
+        Task queued = new Task(() -> start(task, timeout, result), result::completeExceptionally, System.nanoTime());
+        boolean reserved = false;
+        synchronized (lock) {
+            if (running < maxConcurrency && isIdle()) {
+                // nothing waits that this task would overtake, so it takes the slot without queueing
+                running++;
+                lane.dispatched++;
+                reserved = true;
+            } else if (lane.queue.size() >= queueCapacity) {
+                lane.rejected++;
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Scheduler queue for priority " + priority + " is full (" + queueCapacity + ")"));
+            } else {
+                lane.queue.add(queued);
+            }
+        }
+        if (reserved) {
+            launch(queued);
+            return result;
+        }
+        // a future completed while queued, by cancellation or by the caller's own timeout, withdraws the task
+        result.whenComplete((ignored, t) -> {
+            if (t != null) {
+                withdraw(lane, queued);
+            }
+        });
+        if (maxWait != null) {
+            CompletableFuture.delayedExecutor(maxWait.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                if (withdraw(lane, queued)) {
+                    result.completeExceptionally(new TimeoutException(
+                            "Operation of priority " + priority + " was not dispatched within " + maxWait));
+                }
+            });
+        }
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Returns a point-in-time snapshot of the queue depth and queueing delay of every priority.
+     *
+     * @return the statistics keyed by priority
+     */
+    public Map<Priority, QueueStats> stats() {
+        Map<Priority, QueueStats> stats = new EnumMap<>(Priority.class);
+        synchronized (lock) {
+            lanes.forEach((priority, lane) -> stats.put(priority, new QueueStats(
+                    lane.queue.size(),
+                    lane.dispatched,
+                    lane.rejected,
+                    Duration.ofNanos(lane.totalWaitNanos),
+                    Duration.ofNanos(lane.maxWaitNanos))));
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * @return the number of operations currently holding a slot
+     */
+    public int running() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    /**
+     * @return the maximum number of operations in flight
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    private <T> void start(Supplier<? extends CompletionStage<T>> task, Duration timeout, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            release();
+            return;
+        }
+        if (timeout != null) {
+            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        CompletionStage<T> stage;
+        try {
+            stage = task.get();
+        } catch (Throwable t) {
+            stage = CompletableFuture.failedFuture(t);
+        }
+        stage.whenComplete((value, t) -> {
+            release();
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Removes a task that has not been dispatched yet.
+     *
+     * @return {@code true} if the task was still queued
+     */
+    private boolean withdraw(Lane lane, Task task) {
+        synchronized (lock) {
+            return lane.queue.remove(task);
+        }
+    }
+
+    private void release() {
+        synchronized (lock) {
+            running--;
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        while (true) {
+            Task next;
+            synchronized (lock) {
+                if (running >= maxConcurrency) {
+                    return;
+                }
+                next = poll();
+                if (next == null) {
+                    return;
+                }
+                running++;
+            }
+            launch(next);
+        }
+    }
+
+    /**
+     * Runs a task holding a reserved slot, giving the slot back if the executor refuses it.
+     */
+    private void launch(Task task) {
+        try {
+            executor.execute(task.body);
+        } catch (RejectedExecutionException e) {
+            synchronized (lock) {
+                running--;
+            }
+            task.onRejected.accept(e);
+        }
+    }
+
+    /**
+     * @return {@code true} if no lane has queued tasks; must be called while holding {@link #lock}
+     */
+    private boolean isIdle() {
+        for (Lane lane : lanes.values()) {
+            if (!lane.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Smooth weighted round-robin over the non-empty lanes; must be called while holding {@link #lock}.
+     */
+    private Task poll() {
+        Lane selected = null;
+        int total = 0;
+        for (Lane lane : lanes.values()) {
+            if (lane.queue.isEmpty()) {
+                continue;
+            }
+            lane.current += lane.weight;
+            total += lane.weight;
+            if (selected == null || lane.current > selected.current) {
+                selected = lane;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.current -= total;
+        Task task = selected.queue.poll();
+        long waited = System.nanoTime() - task.enqueuedAt;
+        selected.dispatched++;
+        selected.totalWaitNanos += waited;
+        selected.maxWaitNanos = Math.max(selected.maxWaitNanos, waited);
+        if (selected.queue.isEmpty()) {
+            selected.current = 0;
+        }
+        return task;
+    }
+
+    /**
+     * Queue depth and queueing delay of one priority.
+     *
+     * @param depth      the number of operations currently waiting
+     * @param dispatched the number of operations dispatched so far
+     * @param rejected   the number of operations rejected because the queue was full
+     * @param totalWait  the accumulated time dispatched operations spent queued
+     * @param maxWait    the longest time a dispatched operation spent queued
+     */
+    public record QueueStats(int depth, long dispatched, long rejected, Duration totalWait, Duration maxWait) {
+
+        /**
+         * @return the mean time dispatched operations spent queued
+         */
+        public Duration averageWait() {
+            return dispatched == 0 ? Duration.ZERO : totalWait.dividedBy(dispatched);
+        }
+    }
+
+    private record Task(Runnable body, Consumer<Throwable> onRejected, long enqueuedAt) {
+    }
+
+    private static final class Lane {
+        private final int weight;
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+        private int current;
+        private long dispatched;
+        private long rejected;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+
+        private Lane(int weight) {
+            this.weight = weight;
+        }
+    }
+}